@@ -0,0 +1,42 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.spi.workflows;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Collects the pieces of state a transaction is expected to read and write when it is handled, as declared by its
+ * {@link TransactionHandler} during pre-handle. Transactions whose declarations don't overlap may be scheduled
+ * independently of each other.
+ *
+ * <p>Declarations are a prediction, not a guarantee. They are made before consensus, against state that may be
+ * stale by the time the transaction is handled, so anything relying on them must still validate the accesses that
+ * actually occur. Fee payments to the node, funding and staking reward accounts are not declared, since they are
+ * made by every transaction and commute with each other.
+ */
+public interface StateAccessDeclarations {
+
+    /**
+     * Declares that the transaction reads a piece of state.
+     *
+     * @param serviceName the name of the service that owns the state
+     * @param stateKey the key of the state within the service
+     * @param key the key within a key/value state, or null for singleton and queue states
+     */
+    void declareRead(@NonNull String serviceName, @NonNull String stateKey, @Nullable Object key);
+
+    /**
+     * Declares that the transaction writes a piece of state.
+     *
+     * @param serviceName the name of the service that owns the state
+     * @param stateKey the key of the state within the service
+     * @param key the key within a key/value state, or null for singleton and queue states
+     */
+    void declareWrite(@NonNull String serviceName, @NonNull String stateKey, @Nullable Object key);
+
+    /**
+     * Declares that the state accessed by the transaction can't be predicted, so it must be ordered with respect to
+     * every other transaction. Any other declarations are ignored.
+     */
+    void declareUnbounded();
+}
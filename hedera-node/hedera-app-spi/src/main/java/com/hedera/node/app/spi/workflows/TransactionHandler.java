@@ -43,6 +43,21 @@ public interface TransactionHandler {
      */
     default void warm(@NonNull final WarmupContext context) {}
 
+    /**
+     * Declares the state the transaction is expected to read and write when it is handled, so it can be scheduled
+     * alongside transactions that don't touch the same state. This is called after {@link #preHandle} succeeded.
+     * Providing an implementation is optional; by default a transaction's accesses are unbounded, so it is ordered
+     * with respect to every other transaction.
+     *
+     * @param context the {@link PreHandleContext} of the transaction
+     * @param declarations the {@link StateAccessDeclarations} to declare the accesses to
+     * @throws NullPointerException if one of the arguments is {@code null}
+     */
+    default void declareStateAccesses(
+            @NonNull final PreHandleContext context, @NonNull final StateAccessDeclarations declarations) {
+        declarations.declareUnbounded();
+    }
+
     /**
      * Calculates the fees for a transaction
      *
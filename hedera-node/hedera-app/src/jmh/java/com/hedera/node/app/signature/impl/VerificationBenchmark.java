@@ -7,9 +7,18 @@ import com.hedera.node.app.fixtures.AppTestBase;
 import com.hedera.node.app.signature.ExpandedSignaturePair;
 import com.hedera.node.app.spi.fixtures.Scenarios;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.security.GeneralSecurityException;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import org.hiero.base.crypto.Cryptography;
+import org.hiero.base.crypto.CryptographyProvider;
+import org.hiero.base.crypto.SignatureType;
+import org.hiero.base.crypto.TransactionSignature;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
@@ -22,7 +31,10 @@ import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.infra.Blackhole;
 
-/** Measures the amount of time to prepare expanded signatures and call the crypto engine */
+/**
+ * Measures the amount of time to prepare expanded signatures and call the crypto engine, and compares verifying real
+ * Ed25519 signatures over one message one call at a time with verifying them all in a single call.
+ */
 @State(Scope.Benchmark)
 @Fork(value = 1, warmups = 1)
 @BenchmarkMode(Mode.AverageTime)
@@ -35,6 +47,10 @@ public class VerificationBenchmark extends AppTestBase implements Scenarios {
     private Bytes fakeSignedBytes;
     private SignatureVerifierImpl subject;
 
+    /** Real Ed25519 signatures over a single message, as when a transaction has several signers. */
+    private List<TransactionSignature> realSigs;
+    private Cryptography cryptoEngine;
+
     @Setup(Level.Invocation)
     public void setUp() {
         sigPairs = createSigPairs(numSigPairs);
@@ -43,11 +59,42 @@ public class VerificationBenchmark extends AppTestBase implements Scenarios {
         subject = new SignatureVerifierImpl(fakeCryptoEngine);
     }
 
+    @Setup(Level.Trial)
+    public void setUpRealSignatures() throws GeneralSecurityException {
+        cryptoEngine = CryptographyProvider.getInstance();
+        final var message = randomBytes(1024);
+        final var generator = KeyPairGenerator.getInstance("Ed25519");
+        realSigs = new ArrayList<>(numSigPairs);
+        for (int i = 0; i < numSigPairs; i++) {
+            final var keyPair = generator.generateKeyPair();
+            final var signer = Signature.getInstance("Ed25519");
+            signer.initSign(keyPair.getPrivate());
+            signer.update(message.toByteArray());
+            // The raw public key is the last 32 bytes of its X.509 encoding
+            final var encodedKey = keyPair.getPublic().getEncoded();
+            final var publicKey = Bytes.wrap(encodedKey).slice(encodedKey.length - 32, 32);
+            realSigs.add(
+                    new TransactionSignature(message, publicKey, Bytes.wrap(signer.sign()), SignatureType.ED25519));
+        }
+    }
+
     @Benchmark
     public void verifyBench(Blackhole blackhole) {
         blackhole.consume(subject.verify(fakeSignedBytes, sigPairs));
     }
 
+    @Benchmark
+    public void verifyEachEd25519Bench(Blackhole blackhole) {
+        for (final var sig : realSigs) {
+            blackhole.consume(cryptoEngine.verifySync(sig));
+        }
+    }
+
+    @Benchmark
+    public void verifyAllEd25519Bench(Blackhole blackhole) {
+        blackhole.consume(cryptoEngine.verifySync(realSigs));
+    }
+
     private Set<ExpandedSignaturePair> createSigPairs(int numSigPairs) {
         final var pairs = new HashSet<ExpandedSignaturePair>();
         for (int i = 0; i < numSigPairs; i++) {
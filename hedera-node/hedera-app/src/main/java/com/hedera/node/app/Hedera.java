@@ -905,6 +905,9 @@ public final class Hedera implements SwirldMain<MerkleNodeState>, PlatformStatus
 
             logger.debug("Shutting down the block manager");
             daggerApp.blockRecordManager().close();
+
+            logger.debug("Shutting down the pre-handle pool");
+            daggerApp.preHandleExecutor().shutdown();
         }
 
         platform = null;
@@ -1114,6 +1117,8 @@ public final class Hedera implements SwirldMain<MerkleNodeState>, PlatformStatus
         // as well as unregister listeners from the last time this method ran
         if (daggerApp != null) {
             shutdownGrpcServer();
+            // Batches already queued on the old pre-handle pool still run, new ones are pre-handled by their caller
+            daggerApp.preHandleExecutor().shutdown();
             notifications.unregister(PlatformStatusChangeListener.class, this);
             notifications.unregister(ReconnectCompleteListener.class, daggerApp.reconnectListener());
             notifications.unregister(StateWriteToDiskCompleteListener.class, daggerApp.stateWriteToDiskListener());
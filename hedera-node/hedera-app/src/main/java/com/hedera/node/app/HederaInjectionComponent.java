@@ -67,8 +67,10 @@ import edu.umd.cs.findbugs.annotations.Nullable;
 import java.nio.charset.Charset;
 import java.time.InstantSource;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
+import javax.inject.Named;
 import javax.inject.Provider;
 import javax.inject.Singleton;
 
@@ -117,6 +119,9 @@ public interface HederaInjectionComponent {
 
     PreHandleWorkflow preHandleWorkflow();
 
+    @Named("PreHandle")
+    ExecutorService preHandleExecutor();
+
     HandleWorkflow handleWorkflow();
 
     IngestWorkflow ingestWorkflow();
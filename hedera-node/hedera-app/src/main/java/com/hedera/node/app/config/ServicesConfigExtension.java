@@ -39,6 +39,7 @@ import com.hedera.node.config.data.FeesConfig;
 import com.hedera.node.config.data.FilesConfig;
 import com.hedera.node.config.data.GrpcConfig;
 import com.hedera.node.config.data.GrpcUsageTrackerConfig;
+import com.hedera.node.config.data.HandleConfig;
 import com.hedera.node.config.data.HederaConfig;
 import com.hedera.node.config.data.JumboTransactionsConfig;
 import com.hedera.node.config.data.LedgerConfig;
@@ -46,6 +47,7 @@ import com.hedera.node.config.data.NettyConfig;
 import com.hedera.node.config.data.NetworkAdminConfig;
 import com.hedera.node.config.data.NodesConfig;
 import com.hedera.node.config.data.OpsDurationConfig;
+import com.hedera.node.config.data.PreHandleConfig;
 import com.hedera.node.config.data.RatesConfig;
 import com.hedera.node.config.data.SchedulingConfig;
 import com.hedera.node.config.data.StakingConfig;
@@ -97,6 +99,8 @@ public class ServicesConfigExtension implements ConfigurationExtension {
                 FeesConfig.class,
                 FilesConfig.class,
                 GrpcConfig.class,
+                HandleConfig.class,
+                PreHandleConfig.class,
                 HederaConfig.class,
                 LedgerConfig.class,
                 NettyConfig.class,
@@ -117,7 +117,8 @@ public abstract class MethodBase implements ServerCalls.UnaryMethod<BufferedData
             final var responseBuffer = BUFFER_THREAD_LOCAL.get();
             responseBuffer.reset();
 
-            // Convert the request BufferedData to a Bytes instance without copying the bytes
+            // Copy the request out of the marshaller's reused thread-local buffer. This is the only copy made after
+            // reading from the network; the same bytes are parsed, checked, and finally embedded in an event
             final var requestBytes = requestBuffer.getBytes(0, requestBuffer.length());
 
             // Call the workflow
@@ -0,0 +1,160 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.signature.impl;
+
+import static java.util.Objects.requireNonNull;
+import static org.hiero.base.crypto.VerificationStatus.INVALID;
+import static org.hiero.base.crypto.VerificationStatus.VALID;
+
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.data.CacheConfig;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.Metrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.hiero.base.crypto.SignatureType;
+import org.hiero.base.crypto.TransactionSignature;
+import org.hiero.base.crypto.VerificationStatus;
+
+/**
+ * A bounded cache of the results of verifying signatures, so the same signature over the same message with the same
+ * key is not verified again. This happens when a transaction is re-verified during handle because its pre-handle
+ * result is stale, when an identical signed transaction is submitted again, and when the signatures of a scheduled
+ * transaction are re-verified on each schedule sign.
+ *
+ * <p>The cache is a fixed-size table indexed by the hash of the key and signature, where each slot holds the most
+ * recent entry to land on it. A lookup only hits if the key, signature, and message of the entry all equal those being
+ * verified, so a collision can only cause a miss, never a wrong result. The message is only compared once the key and
+ * signature match, and it is never hashed, so a miss costs little more than hashing the key and signature bytes.
+ * Entries hold a copy of the message, so messages longer than a configured limit are not cached, which bounds the
+ * memory held by the cache.
+ *
+ * <p>This class is thread-safe.
+ */
+@Singleton
+public class SignatureVerificationCache {
+    private static final Counter.Config HITS_CONFIG = new Counter.Config("app", "sigVerificationCacheHits")
+            .withDescription("number of signature verifications answered from the cache");
+    private static final Counter.Config MISSES_CONFIG = new Counter.Config("app", "sigVerificationCacheMisses")
+            .withDescription("number of signature verifications not found in the cache");
+
+    /**
+     * A cached verification result.
+     *
+     * @param message the signed message
+     * @param publicKey the public key
+     * @param signature the signature
+     * @param signatureType the type of the signature
+     * @param status the result of verifying the signature
+     */
+    private record Entry(
+            @NonNull Bytes message,
+            @NonNull Bytes publicKey,
+            @NonNull Bytes signature,
+            @NonNull SignatureType signatureType,
+            @NonNull VerificationStatus status) {}
+
+    /** The table of entries, or null if the cache is disabled. Its length is a power of two. */
+    @Nullable
+    private final AtomicReferenceArray<Entry> entries;
+
+    /** Signatures over longer messages are neither looked up nor recorded. */
+    private final int maxMessageLength;
+
+    @Nullable
+    private final Counter hits;
+
+    @Nullable
+    private final Counter misses;
+
+    /**
+     * Constructor.
+     *
+     * @param metrics the metrics to report hits and misses to
+     * @param configProvider the configuration provider
+     */
+    @Inject
+    public SignatureVerificationCache(@NonNull final Metrics metrics, @NonNull final ConfigProvider configProvider) {
+        requireNonNull(metrics);
+        final var cacheConfig = configProvider.getConfiguration().getConfigData(CacheConfig.class);
+        final int size = cacheConfig.signaturesSize();
+        maxMessageLength = cacheConfig.signaturesMaxMessageLength();
+        if (size > 0) {
+            entries = new AtomicReferenceArray<>(size == 1 ? 1 : Integer.highestOneBit(size - 1) << 1);
+            hits = metrics.getOrCreate(HITS_CONFIG);
+            misses = metrics.getOrCreate(MISSES_CONFIG);
+        } else {
+            entries = null;
+            hits = null;
+            misses = null;
+        }
+    }
+
+    /**
+     * Returns whether the cache is enabled.
+     *
+     * @return whether the cache is enabled
+     */
+    public boolean isEnabled() {
+        return entries != null;
+    }
+
+    /**
+     * Looks up the result of verifying the given signature, and if found sets it as the status of the signature.
+     *
+     * @param txSig the signature
+     * @return whether the result was found
+     */
+    public boolean lookup(@NonNull final TransactionSignature txSig) {
+        if (entries == null || txSig.getMessage().length() > maxMessageLength) {
+            return false;
+        }
+        final var entry = entries.get(indexOf(txSig));
+        if (entry != null
+                && entry.signatureType() == txSig.getSignatureType()
+                && entry.signature().equals(txSig.getSignature())
+                && entry.publicKey().equals(txSig.getPublicKey())
+                && entry.message().equals(txSig.getMessage())) {
+            txSig.setSignatureStatus(entry.status());
+            requireNonNull(hits).increment();
+            return true;
+        }
+        requireNonNull(misses).increment();
+        return false;
+    }
+
+    /**
+     * Records the result of verifying the given signature. Signatures that have not been verified yet, and signatures
+     * over messages that are too long to cache, are ignored.
+     *
+     * @param txSig the verified signature
+     */
+    public void record(@NonNull final TransactionSignature txSig) {
+        final var status = txSig.getSignatureStatus();
+        if (entries == null
+                || (status != VALID && status != INVALID)
+                || txSig.getMessage().length() > maxMessageLength) {
+            return;
+        }
+        // Copy the bytes, since they may be slices of a much larger transaction buffer we don't want to retain
+        final var entry = new Entry(
+                copyOf(txSig.getMessage()),
+                copyOf(txSig.getPublicKey()),
+                copyOf(txSig.getSignature()),
+                txSig.getSignatureType(),
+                status);
+        entries.set(indexOf(txSig), entry);
+    }
+
+    private int indexOf(@NonNull final TransactionSignature txSig) {
+        final int h = 31 * txSig.getPublicKey().hashCode() + txSig.getSignature().hashCode();
+        return (h ^ (h >>> 16)) & (requireNonNull(entries).length() - 1);
+    }
+
+    private static Bytes copyOf(@NonNull final Bytes bytes) {
+        return Bytes.wrap(bytes.toByteArray());
+    }
+}
@@ -15,6 +15,8 @@ import com.hedera.node.app.signature.SignatureVerifier;
 import com.hedera.node.app.spi.signatures.SignatureVerifier.MessageType;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -27,7 +29,7 @@ import org.hiero.base.crypto.TransactionSignature;
 
 /**
  * A concrete implementation of {@link SignatureVerifier} that uses the {@link Cryptography} engine to verify the
- * signatures.
+ * signatures, consulting a {@link SignatureVerificationCache} first when one is given.
  */
 @Singleton
 public final class SignatureVerifierImpl implements SignatureVerifier {
@@ -35,15 +37,30 @@ public final class SignatureVerifierImpl implements SignatureVerifier {
     /** The {@link Cryptography} engine to use for signature verification. */
     private final Cryptography cryptoEngine;
 
-    /** Create a new instance with new {@link Cryptography} engine. */
+    /** The cache of previous verification results, if any. */
+    @Nullable
+    private final SignatureVerificationCache cache;
+
+    /** Create a new instance with new {@link Cryptography} engine and the given cache. */
     @Inject
+    public SignatureVerifierImpl(@NonNull final SignatureVerificationCache cache) {
+        this(CryptographyProvider.getInstance(), requireNonNull(cache));
+    }
+
+    /** Create a new instance with new {@link Cryptography} engine and no cache. */
     public SignatureVerifierImpl() {
-        this(CryptographyProvider.getInstance());
+        this(CryptographyProvider.getInstance(), null);
     }
 
-    /** Create a new instance with the given {@link Cryptography} engine. */
+    /** Create a new instance with the given {@link Cryptography} engine and no cache. */
     SignatureVerifierImpl(@NonNull final Cryptography cryptoEngine) {
+        this(cryptoEngine, null);
+    }
+
+    /** Create a new instance with the given {@link Cryptography} engine and cache. */
+    SignatureVerifierImpl(@NonNull final Cryptography cryptoEngine, @Nullable final SignatureVerificationCache cache) {
         this.cryptoEngine = requireNonNull(cryptoEngine);
+        this.cache = cache != null && cache.isEnabled() ? cache : null;
     }
 
     @NonNull
@@ -62,6 +79,8 @@ public final class SignatureVerifierImpl implements SignatureVerifier {
 
         // Gather each TransactionSignature to send to the platform and the resulting SignatureVerificationFutures
         final var futures = HashMap.<Key, SignatureVerificationFuture>newHashMap(sigs.size());
+        // The signatures not found in the cache, which are verified together in one call
+        final var toVerify = new ArrayList<TransactionSignature>(sigs.size());
         for (ExpandedSignaturePair sigPair : sigs) {
             final TransactionSignature txSig;
             final var kind = sigPair.sigPair().signature().kind();
@@ -78,12 +97,21 @@ public final class SignatureVerifierImpl implements SignatureVerifier {
             } else {
                 throw new IllegalArgumentException("Unsupported signature type: " + kind);
             }
-            cryptoEngine.verifySync(txSig);
+            if (cache == null || !cache.lookup(txSig)) {
+                toVerify.add(txSig);
+            }
             final SignatureVerificationFuture future =
                     new SignatureVerificationFutureImpl(sigPair.key(), sigPair.evmAlias(), txSig);
             futures.put(sigPair.key(), future);
         }
 
+        if (!toVerify.isEmpty()) {
+            cryptoEngine.verifySync(toVerify);
+            if (cache != null) {
+                toVerify.forEach(cache::record);
+            }
+        }
+
         return futures;
     }
 }
@@ -3,6 +3,7 @@ package com.hedera.node.app.state;
 
 import static java.util.Objects.requireNonNull;
 
+import com.hedera.node.app.workflows.handle.conflict.StateAccessSet;
 import com.swirlds.base.time.Time;
 import com.swirlds.common.merkle.crypto.MerkleCryptography;
 import com.swirlds.metrics.api.Metrics;
@@ -86,6 +87,18 @@ public class WrappedState implements State, Hashable {
                 serviceName, s -> new WrappedWritableStates(delegate.getWritableStates(s)));
     }
 
+    /**
+     * Adds the states read and written through this {@link WrappedState} since it was created or last committed to
+     * the given access set.
+     *
+     * @param accesses the access set to add to
+     */
+    public void collectAccesses(@NonNull final StateAccessSet accesses) {
+        requireNonNull(accesses);
+        writableStatesMap.forEach(
+                (serviceName, writableStates) -> writableStates.collectAccesses(serviceName, accesses));
+    }
+
     /**
      * Writes all modifications to the underlying {@link State}.
      */
@@ -3,6 +3,7 @@ package com.hedera.node.app.state;
 
 import static java.util.Objects.requireNonNull;
 
+import com.hedera.node.app.workflows.handle.conflict.StateAccessSet;
 import com.swirlds.state.spi.CommittableWritableStates;
 import com.swirlds.state.spi.WrappedWritableKVState;
 import com.swirlds.state.spi.WrappedWritableQueueState;
@@ -96,6 +97,38 @@ public class WrappedWritableStates implements WritableStates {
         return false;
     }
 
+    /**
+     * Adds the states read and written through this {@link WrappedWritableStates} to the given access set. Queue
+     * states are only recorded when they are modified.
+     *
+     * @param serviceName the name of the service the states belong to
+     * @param accesses the access set to add to
+     */
+    public void collectAccesses(@NonNull final String serviceName, @NonNull final StateAccessSet accesses) {
+        requireNonNull(serviceName);
+        requireNonNull(accesses);
+        for (WrappedWritableKVState<?, ?> kvState : writableKVStateMap.values()) {
+            for (final var key : kvState.readKeys()) {
+                accesses.addRead(serviceName, kvState.getStateKey(), key);
+            }
+            for (final var key : kvState.modifiedKeys()) {
+                accesses.addWrite(serviceName, kvState.getStateKey(), key);
+            }
+        }
+        for (WrappedWritableQueueState<?> queueState : writableQueueStateMap.values()) {
+            if (queueState.isModified()) {
+                accesses.addWrite(serviceName, queueState.getStateKey(), null);
+            }
+        }
+        for (WrappedWritableSingletonState<?> singletonState : writableSingletonStateMap.values()) {
+            if (singletonState.isModified()) {
+                accesses.addWrite(serviceName, singletonState.getStateKey(), null);
+            } else if (singletonState.isRead()) {
+                accesses.addRead(serviceName, singletonState.getStateKey(), null);
+            }
+        }
+    }
+
     /**
      * Writes all modifications to the underlying {@link WritableStates}.
      */
@@ -1,8 +1,6 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.hedera.node.app.state.recordcache;
 
-import static com.hedera.hapi.util.HapiUtils.ACCOUNT_ID_COMPARATOR;
-import static com.hedera.hapi.util.HapiUtils.TIMESTAMP_COMPARATOR;
 import static com.hedera.hapi.util.HapiUtils.asTimestamp;
 import static com.hedera.hapi.util.HapiUtils.minus;
 import static java.util.Objects.requireNonNull;
@@ -14,30 +12,34 @@ import com.hedera.node.app.state.DeduplicationCache;
 import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.config.data.HederaConfig;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.time.InstantSource;
-import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Set;
-import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
-/** An implementation of {@link DeduplicationCache}. */
+/**
+ * An implementation of {@link DeduplicationCache}.
+ * <p>
+ * The {@link TransactionID}s are grouped into buckets by the second of their valid start time, so expired IDs are
+ * removed a whole bucket at a time. Within a bucket, an ID whose payer is a plain account number in this node's shard
+ * and realm is stored as a 128-bit fingerprint in a primitive hash table instead of as an object. The fingerprint is
+ * an exact encoding of the remaining fields of the ID, so two IDs have the same fingerprint only if they are equal.
+ * Any other ID, such as one with an aliased payer, is stored as is.
+ */
 @Singleton
 public final class DeduplicationCacheImpl implements DeduplicationCache {
     /**
-     * The {@link TransactionID}s that this node has already submitted to the platform, sorted by transaction start
-     * time, such that earlier start times come first.
+     * The IDs that this node has already submitted to the platform, bucketed by the second of their valid start time.
      * <p>
      * Note that an ID with scheduled set is different from the same ID without scheduled set.
      * In fact, an ID with scheduled set will always match the ID of the ScheduleCreate transaction that created
      * the schedule, except scheduled is set.
      */
-    private final Set<TransactionID> submittedTxns =
-            new ConcurrentSkipListSet<>(Comparator.<TransactionID, Timestamp>comparing(
-                            txnId -> txnId.transactionValidStartOrElse(Timestamp.DEFAULT), TIMESTAMP_COMPARATOR)
-                    .thenComparing(txnId -> txnId.accountIDOrElse(AccountID.DEFAULT), ACCOUNT_ID_COMPARATOR)
-                    .thenComparing(TransactionID::scheduled)
-                    .thenComparing(TransactionID::nonce));
+    private final ConcurrentNavigableMap<Long, Bucket> buckets = new ConcurrentSkipListMap<>();
 
     /** Used for looking up the max transaction duration window. */
     private final ConfigProvider configProvider;
@@ -58,61 +60,168 @@ public final class DeduplicationCacheImpl implements DeduplicationCache {
     /** {@inheritDoc} */
     @Override
     public void add(@NonNull final TransactionID transactionID) {
-        // We don't want to use another thread to prune the set, so we will take the opportunity here to do so.
+        // We don't want to use another thread to prune the buckets, so we will take the opportunity here to do so.
         // Remember that at this point we have passed through all the throttles, so this method is only called
         // at most 10,000 / (Number of nodes) times per second, which is not a lot.
-        final var epochSeconds = approxEarliestValidStartSecond();
+        final var config = configProvider.getConfiguration().getConfigData(HederaConfig.class);
+        final var epochSeconds = approxEarliestValidStartSecond(config);
         removeTransactionsOlderThan(epochSeconds);
 
-        // If the transaction is within the max transaction duration window, then add it to the set.
-        if (transactionID.transactionValidStartOrThrow().seconds() >= epochSeconds) {
-            submittedTxns.add(transactionID);
+        // If the transaction is within the max transaction duration window, then add it to its bucket.
+        final var validStart = transactionID.transactionValidStartOrThrow();
+        if (validStart.seconds() >= epochSeconds) {
+            final var bucket = buckets.computeIfAbsent(validStart.seconds(), ignore -> new Bucket());
+            if (hasFingerprint(transactionID, config)) {
+                bucket.add(payerNumOf(transactionID), fingerprintOf(transactionID));
+            } else {
+                bucket.addOther(transactionID);
+            }
         }
     }
 
     /** {@inheritDoc} */
     @Override
     public boolean contains(@NonNull final TransactionID transactionID) {
-        // We will prune the set here as well. By pruning before looking up, we are sure that we only return true
+        // We will prune the buckets here as well. By pruning before looking up, we are sure that we only return true
         // if the transactionID is still valid
-        final var epochSeconds = approxEarliestValidStartSecond();
-        removeTransactionsOlderThan(epochSeconds);
-        return submittedTxns.contains(transactionID);
+        final var config = configProvider.getConfiguration().getConfigData(HederaConfig.class);
+        removeTransactionsOlderThan(approxEarliestValidStartSecond(config));
+        final var bucket = buckets.get(transactionID.transactionValidStartOrElse(Timestamp.DEFAULT).seconds());
+        if (bucket == null) {
+            return false;
+        }
+        return hasFingerprint(transactionID, config)
+                ? bucket.contains(payerNumOf(transactionID), fingerprintOf(transactionID))
+                : bucket.containsOther(transactionID);
     }
 
     /** {@inheritDoc} */
     @Override
     public void clear() {
-        submittedTxns.clear();
+        buckets.clear();
     }
 
     /**
      * Gets the earliest valid start timestamp that is still within the max transaction duration window based on
      * wall-clock time.
      */
-    private long approxEarliestValidStartSecond() {
+    private long approxEarliestValidStartSecond(@NonNull final HederaConfig config) {
         // Compute the earliest valid start timestamp that is still within the max transaction duration window.
         final var now = asTimestamp(instantSource.instant());
-        final var config = configProvider.getConfiguration().getConfigData(HederaConfig.class);
         final var earliestValidState = minus(now, config.transactionMaxValidDuration());
         return earliestValidState.seconds();
     }
 
     /**
-     * Removes all expired {@link TransactionID}s from the cache. This method is not threadsafe and should only be
-     * called from within a block synchronized on {@link #submittedTxns}.
+     * Removes the buckets of all expired {@link TransactionID}s from the cache.
      *
      * @param earliestEpochSecond The earliest epoch second that should be kept in the cache.
      */
     private void removeTransactionsOlderThan(final long earliestEpochSecond) {
-        final var itr = submittedTxns.iterator();
-        while (itr.hasNext()) {
-            final var txId = itr.next();
-            if (txId.transactionValidStartOrThrow().seconds() < earliestEpochSecond) {
-                itr.remove();
-            } else {
+        buckets.headMap(earliestEpochSecond).clear();
+    }
+
+    /**
+     * Whether the given ID can be stored as a fingerprint; i.e., its payer is an account number in this node's shard
+     * and realm, and its valid start nanos are in range.
+     */
+    private static boolean hasFingerprint(
+            @NonNull final TransactionID transactionID, @NonNull final HederaConfig config) {
+        final var payer = transactionID.accountIDOrElse(AccountID.DEFAULT);
+        final int nanos = transactionID.transactionValidStartOrElse(Timestamp.DEFAULT).nanos();
+        return payer.hasAccountNum()
+                && payer.shardNum() == config.shard()
+                && payer.realmNum() == config.realm()
+                && nanos >= 0
+                && nanos < 1 << 30;
+    }
+
+    private static long payerNumOf(@NonNull final TransactionID transactionID) {
+        return transactionID.accountIDOrThrow().accountNumOrThrow();
+    }
+
+    /**
+     * Packs the valid start nanos (30 bits), nonce (32 bits), and scheduled flag (1 bit) of the given ID into a long.
+     * The top bit is always set, so the fingerprint is never zero.
+     */
+    private static long fingerprintOf(@NonNull final TransactionID transactionID) {
+        final long nanos = transactionID.transactionValidStartOrElse(Timestamp.DEFAULT).nanos();
+        return Long.MIN_VALUE
+                | nanos << 33
+                | (transactionID.nonce() & 0xFFFF_FFFFL) << 1
+                | (transactionID.scheduled() ? 1 : 0);
+    }
+
+    /**
+     * The IDs with valid start times in one second. Fingerprinted IDs are stored as (payer number, fingerprint) pairs
+     * in an open-addressing table of longs, where a zero fingerprint marks an empty slot.
+     */
+    private static final class Bucket {
+        private static final int INITIAL_CAPACITY = 16;
+
+        /** Pairs of payer number and fingerprint. The number of pairs is a power of two. */
+        private long[] table = new long[2 * INITIAL_CAPACITY];
+
+        private int size;
+
+        /** The IDs that can't be fingerprinted, if any. */
+        @Nullable
+        private Set<TransactionID> others;
+
+        synchronized void add(final long payerNum, final long fingerprint) {
+            final int slot = slotOf(table, payerNum, fingerprint);
+            if (table[slot + 1] != 0) {
                 return;
             }
+            table[slot] = payerNum;
+            table[slot + 1] = fingerprint;
+            // Keep the table at most half full
+            if (++size > table.length / 4) {
+                grow();
+            }
+        }
+
+        synchronized boolean contains(final long payerNum, final long fingerprint) {
+            return table[slotOf(table, payerNum, fingerprint) + 1] != 0;
+        }
+
+        synchronized void addOther(@NonNull final TransactionID transactionID) {
+            if (others == null) {
+                others = new HashSet<>();
+            }
+            others.add(transactionID);
+        }
+
+        synchronized boolean containsOther(@NonNull final TransactionID transactionID) {
+            return others != null && others.contains(transactionID);
+        }
+
+        private void grow() {
+            final long[] oldTable = table;
+            table = new long[oldTable.length * 2];
+            for (int i = 0; i < oldTable.length; i += 2) {
+                if (oldTable[i + 1] != 0) {
+                    final int slot = slotOf(table, oldTable[i], oldTable[i + 1]);
+                    table[slot] = oldTable[i];
+                    table[slot + 1] = oldTable[i + 1];
+                }
+            }
+        }
+
+        /**
+         * Returns the index of the slot holding the given pair, or of the empty slot where it belongs.
+         */
+        private static int slotOf(@NonNull final long[] table, final long payerNum, final long fingerprint) {
+            final int mask = table.length / 2 - 1;
+            final long h = (payerNum * 0x9E37_79B9_7F4A_7C15L) ^ fingerprint;
+            int pair = (int) (h ^ (h >>> 32)) & mask;
+            while (true) {
+                final int slot = pair * 2;
+                if (table[slot + 1] == 0 || (table[slot] == payerNum && table[slot + 1] == fingerprint)) {
+                    return slot;
+                }
+                pair = (pair + 1) & mask;
+            }
         }
     }
 }
@@ -0,0 +1,136 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.state.recordcache;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.nio.ByteBuffer;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * A fixed-size, append-only ring of bytes held outside the Java heap. Each append returns the position of the
+ * appended bytes in the (unbounded) sequence of all bytes ever appended. The ring never overwrites bytes that have not
+ * been released; once appending more bytes would do so, appends are refused until the oldest bytes are released with
+ * {@link #release(long)}.
+ *
+ * <p>Appends and releases must be made from a single thread, the "handle" thread. Reads may be made from any thread,
+ * and are optimistic; i.e., they only fall back to a read lock if an append happened while they were copying. Bytes
+ * that were released and then overwritten can no longer be read.
+ */
+final class OffHeapRecordRing {
+    private final ByteBuffer buffer;
+    private final int capacity;
+    private final StampedLock lock = new StampedLock();
+
+    /**
+     * The number of bytes ever appended. Only written under the write lock.
+     */
+    private long end;
+
+    /**
+     * The position before which all bytes have been released, and may be overwritten. Only used by the appending
+     * thread.
+     */
+    private long start;
+
+    /**
+     * Creates a ring with the given capacity.
+     *
+     * @param capacity the number of bytes the ring can hold
+     */
+    OffHeapRecordRing(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive, not " + capacity);
+        }
+        this.buffer = ByteBuffer.allocateDirect(capacity);
+        this.capacity = capacity;
+    }
+
+    /**
+     * Appends the given bytes to the ring, if they fit without overwriting any bytes not yet released.
+     *
+     * @param bytes the bytes to append
+     * @return the position of the appended bytes, or -1 if they do not fit
+     */
+    long append(@NonNull final Bytes bytes) {
+        final long length = bytes.length();
+        if (end + length - start > capacity) {
+            return -1;
+        }
+        final long stamp = lock.writeLock();
+        try {
+            final long position = end;
+            final int offset = (int) (position % capacity);
+            final int firstPart = (int) Math.min(length, capacity - offset);
+            bytes.getBytes(0, buffer.slice(offset, firstPart));
+            if (firstPart < length) {
+                bytes.getBytes(firstPart, buffer.slice(0, (int) length - firstPart));
+            }
+            end = position + length;
+            return position;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Copies the given range of previously appended bytes out of the ring.
+     *
+     * @param position the position returned by {@link #append(Bytes)}, plus any offset into the appended bytes
+     * @param length the number of bytes to read
+     * @return the bytes, or null if they have been overwritten
+     */
+    @Nullable
+    Bytes read(final long position, final int length) {
+        if (position < 0) {
+            return null;
+        }
+        final byte[] bytes = new byte[length];
+        long stamp = lock.tryOptimisticRead();
+        boolean readable = copy(position, bytes, end);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                readable = copy(position, bytes, end);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return readable ? Bytes.wrap(bytes) : null;
+    }
+
+    /**
+     * Releases all bytes before the given position, so later appends may overwrite them. Must be called from the
+     * thread that appends.
+     *
+     * @param position the position before which no bytes will be read again
+     */
+    void release(final long position) {
+        start = Math.max(start, Math.min(position, end));
+    }
+
+    /**
+     * Gets the number of bytes the ring can hold.
+     *
+     * @return the capacity
+     */
+    int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Copies bytes out of the ring, if they are still held given the number of bytes appended so far.
+     */
+    private boolean copy(final long position, @NonNull final byte[] bytes, final long end) {
+        if (position < end - capacity || position + bytes.length > end) {
+            return false;
+        }
+        final int offset = (int) (position % capacity);
+        final int firstPart = Math.min(bytes.length, capacity - offset);
+        buffer.get(offset, bytes, 0, firstPart);
+        if (firstPart < bytes.length) {
+            buffer.get(0, bytes, firstPart, bytes.length - firstPart);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,243 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.state.recordcache;
+
+import static com.hedera.node.app.spi.records.RecordCache.isChild;
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.hapi.node.base.ResponseCodeEnum;
+import com.hedera.hapi.node.base.TransactionID;
+import com.hedera.hapi.node.transaction.TransactionReceipt;
+import com.hedera.hapi.node.transaction.TransactionRecord;
+import com.hedera.node.app.spi.records.RecordSource;
+import com.hedera.pbj.runtime.ParseException;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A {@link RecordSource} whose records and receipts are serialized into an {@link OffHeapRecordRing}, and only
+ * parsed back into {@link TransactionRecord}s and {@link TransactionReceipt}s when a query asks for them.
+ *
+ * <p>Each transaction is appended to the ring as its serialized receipt, followed by its serialized record with the
+ * receipt cleared; so a receipt query never parses the rest of the record. Only the transaction ids, the positions
+ * and lengths of the serialized bytes, and the receipt statuses stay on the heap. If the ring is too full to take a
+ * transaction without overwriting records that have not expired, its full record is kept on the heap instead; so no
+ * query ever loses part of a record while its transaction is still cached.
+ *
+ * <p>The bytes of this source must not be released from the ring until it is no longer part of any history in the
+ * cache; the cache tracks this with {@link #addHistory()} and {@link #removeHistory()}. A query that raced the
+ * removal of this source may still find its bytes overwritten, and is then answered from the status alone, just
+ * like a {@link PartialRecordSource} does after reconnect or restart.
+ */
+public class OffHeapRecordSource implements RecordSource {
+    private final OffHeapRecordRing ring;
+    private final TransactionID[] txnIds;
+    private final ResponseCodeEnum[] statuses;
+    private final long[] positions;
+    private final int[] receiptLengths;
+    private final int[] recordLengths;
+
+    /**
+     * If any transaction did not fit in the ring, its full record at the same index; null otherwise.
+     */
+    @Nullable
+    private final TransactionRecord[] onHeapRecords;
+
+    /**
+     * The position just past the last bytes of this source in the ring, or -1 if none were appended.
+     */
+    private final long end;
+
+    /**
+     * The number of histories in the cache that include this source. Only used by the handle thread.
+     */
+    private int histories;
+
+    /**
+     * Appends all the records of the given source to the given ring, and returns a source that reads them back.
+     *
+     * @param source the source whose records to append
+     * @param ring the ring to append to
+     * @return the new source
+     */
+    static OffHeapRecordSource appending(@NonNull final RecordSource source, @NonNull final OffHeapRecordRing ring) {
+        requireNonNull(source);
+        requireNonNull(ring);
+        final List<TransactionRecord> records = new ArrayList<>();
+        source.forEachTxnRecord(records::add);
+        return new OffHeapRecordSource(records, ring);
+    }
+
+    private OffHeapRecordSource(@NonNull final List<TransactionRecord> records, @NonNull final OffHeapRecordRing ring) {
+        this.ring = ring;
+        final int n = records.size();
+        txnIds = new TransactionID[n];
+        statuses = new ResponseCodeEnum[n];
+        positions = new long[n];
+        receiptLengths = new int[n];
+        recordLengths = new int[n];
+        TransactionRecord[] kept = null;
+        long lastEnd = -1;
+        for (int i = 0; i < n; i++) {
+            final var txnRecord = records.get(i);
+            final var receipt = txnRecord.receiptOrThrow();
+            txnIds[i] = txnRecord.transactionIDOrThrow();
+            statuses[i] = receipt.status();
+            final var receiptBytes = TransactionReceipt.PROTOBUF.toBytes(receipt);
+            final var recordBytes = TransactionRecord.PROTOBUF.toBytes(
+                    txnRecord.copyBuilder().receipt((TransactionReceipt) null).build());
+            receiptLengths[i] = (int) receiptBytes.length();
+            recordLengths[i] = (int) recordBytes.length();
+            final byte[] entry = new byte[receiptLengths[i] + recordLengths[i]];
+            receiptBytes.getBytes(0, entry, 0, receiptLengths[i]);
+            recordBytes.getBytes(0, entry, receiptLengths[i], recordLengths[i]);
+            positions[i] = ring.append(Bytes.wrap(entry));
+            if (positions[i] < 0) {
+                if (kept == null) {
+                    kept = new TransactionRecord[n];
+                }
+                kept[i] = txnRecord;
+            } else {
+                lastEnd = positions[i] + entry.length;
+            }
+        }
+        onHeapRecords = kept;
+        end = lastEnd;
+    }
+
+    @Override
+    public List<IdentifiedReceipt> identifiedReceipts() {
+        final List<IdentifiedReceipt> receipts = new ArrayList<>(txnIds.length);
+        for (int i = 0; i < txnIds.length; i++) {
+            receipts.add(new IdentifiedReceipt(txnIds[i], receiptAt(i)));
+        }
+        return receipts;
+    }
+
+    @Override
+    public void forEachTxnRecord(@NonNull final Consumer<TransactionRecord> action) {
+        requireNonNull(action);
+        for (int i = 0; i < txnIds.length; i++) {
+            action.accept(recordAt(i));
+        }
+    }
+
+    @Override
+    public TransactionReceipt receiptOf(@NonNull final TransactionID txnId) {
+        requireNonNull(txnId);
+        for (int i = 0; i < txnIds.length; i++) {
+            if (txnId.equals(txnIds[i])) {
+                return receiptAt(i);
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    @Override
+    public List<TransactionReceipt> childReceiptsOf(@NonNull final TransactionID txnId) {
+        requireNonNull(txnId);
+        final List<TransactionReceipt> receipts = new ArrayList<>();
+        for (int i = 0; i < txnIds.length; i++) {
+            if (isChild(txnId, txnIds[i])) {
+                receipts.add(receiptAt(i));
+            }
+        }
+        return receipts;
+    }
+
+    /**
+     * Gets the number of transactions of this source whose records did not fit in the ring, and are kept on the heap.
+     *
+     * @return the number of records kept on the heap
+     */
+    int onHeapCount() {
+        if (onHeapRecords == null) {
+            return 0;
+        }
+        int count = 0;
+        for (final var txnRecord : onHeapRecords) {
+            if (txnRecord != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Gets the position just past the last bytes of this source in the ring; the ring may release all bytes before it
+     * once neither this source nor any source appended before it is part of a history.
+     *
+     * @return the end position, or -1 if no bytes of this source are in the ring
+     */
+    long end() {
+        return end;
+    }
+
+    /**
+     * Records that this source was added to another history in the cache. Must be called from the handle thread.
+     */
+    void addHistory() {
+        histories++;
+    }
+
+    /**
+     * Records that a history including this source was removed from the cache. Must be called from the handle thread.
+     */
+    void removeHistory() {
+        histories--;
+    }
+
+    /**
+     * Returns whether this source is no longer part of any history in the cache. Must be called from the handle thread.
+     *
+     * @return whether this source has expired
+     */
+    boolean isExpired() {
+        return histories <= 0;
+    }
+
+    private TransactionReceipt receiptAt(final int i) {
+        if (onHeapRecords != null && onHeapRecords[i] != null) {
+            return onHeapRecords[i].receiptOrThrow();
+        }
+        final var receiptBytes = ring.read(positions[i], receiptLengths[i]);
+        if (receiptBytes == null) {
+            return partialReceiptAt(i);
+        }
+        try {
+            return TransactionReceipt.PROTOBUF.parse(receiptBytes);
+        } catch (ParseException e) {
+            throw new IllegalStateException("Unparseable receipt for " + txnIds[i], e);
+        }
+    }
+
+    private TransactionRecord recordAt(final int i) {
+        if (onHeapRecords != null && onHeapRecords[i] != null) {
+            return onHeapRecords[i];
+        }
+        final var bytes = ring.read(positions[i], receiptLengths[i] + recordLengths[i]);
+        if (bytes == null) {
+            return TransactionRecord.newBuilder()
+                    .transactionID(txnIds[i])
+                    .receipt(partialReceiptAt(i))
+                    .build();
+        }
+        try {
+            final var receipt = TransactionReceipt.PROTOBUF.parse(bytes.slice(0, receiptLengths[i]));
+            return TransactionRecord.PROTOBUF
+                    .parse(bytes.slice(receiptLengths[i], recordLengths[i]))
+                    .copyBuilder()
+                    .receipt(receipt)
+                    .build();
+        } catch (ParseException e) {
+            throw new IllegalStateException("Unparseable record for " + txnIds[i], e);
+        }
+    }
+
+    private TransactionReceipt partialReceiptAt(final int i) {
+        return TransactionReceipt.newBuilder().status(statuses[i]).build();
+    }
+}
@@ -25,8 +25,13 @@ import com.hedera.node.app.state.DeduplicationCache;
 import com.hedera.node.app.state.HederaRecordCache;
 import com.hedera.node.app.state.WorkingStateAccessor;
 import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.data.CacheConfig;
 import com.hedera.node.config.data.HederaConfig;
 import com.hedera.node.config.data.LedgerConfig;
+import com.hedera.node.config.data.StatsConfig;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.Metrics;
 import com.swirlds.state.State;
 import com.swirlds.state.lifecycle.info.NetworkInfo;
 import com.swirlds.state.spi.CommittableWritableStates;
@@ -35,9 +40,11 @@ import com.swirlds.state.spi.WritableQueueState;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.ConcurrentModificationException;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -70,12 +77,32 @@ import org.apache.logging.log4j.Logger;
  * transaction that triggered them, because they need to be available to the user when querying for all records for a
  * given transaction ID, or for a given payer.
  *
+ * <p>If {@link CacheConfig#recordsOffHeapSize()} is positive, each record source added to the cache is replaced by an
+ * {@link OffHeapRecordSource} whose records and receipts are serialized into an {@link OffHeapRecordRing} of that many
+ * bytes, so that only the indexes above and the serialized positions stay on the heap for the lifetime of the records.
+ * The bytes of a source are only released for reuse once it, and every source appended before it, has expired; so the
+ * ring never overwrites records that can still be queried. Records that do not fit in the ring without doing so are
+ * kept on the heap in full, and counted; and a warning is logged when this starts, since the ring is then too small.
+ * The average time the handle thread spends serializing and appending each source is reported as well.
+ *
  * <p>Mutation methods must be called during startup, reconnect, or on the "handle" thread. Getters may be called from
  * any thread.
  */
 @Singleton
 public class RecordCacheImpl implements HederaRecordCache {
     private static final Logger logger = LogManager.getLogger(RecordCacheImpl.class);
+
+    private static final double NANOS_PER_MICRO = 1_000.0;
+
+    private static final Counter.Config OFF_HEAP_OVERFLOWS_CONFIG = new Counter.Config(
+                    "app", "recordCacheOffHeapOverflows")
+            .withDescription("number of records kept on the heap because the off-heap record ring was full of "
+                    + "unexpired records");
+    private static final RunningAverageMetric.Config OFF_HEAP_APPEND_TIME_CONFIG = new RunningAverageMetric.Config(
+                    "app", "recordCacheOffHeapAppendMicros")
+            .withDescription("average time to serialize and append a record source to the off-heap record ring in "
+                    + "microseconds")
+            .withFormat("%,13.6f");
     /**
      * Comparator for sorting {@link TransactionReceiptEntry} by the transaction valid start timestamp.
      */
@@ -125,6 +152,31 @@ public class RecordCacheImpl implements HederaRecordCache {
      * The list of transaction receipts for the current round.
      */
     private final List<TransactionReceiptEntry> transactionReceipts = new ArrayList<>();
+    /**
+     * If not null, the ring that the records of each added record source are serialized into.
+     */
+    @Nullable
+    private final OffHeapRecordRing recordRing;
+    /**
+     * The record sources whose bytes may still be in the ring, in the order they were appended; the bytes of the
+     * source at the head are released once it has expired.
+     */
+    private final Deque<OffHeapRecordSource> offHeapSources = new ArrayDeque<>();
+    /**
+     * If the ring is not null, counts the records kept on the heap because the ring was full.
+     */
+    @Nullable
+    private final Counter offHeapOverflows;
+    /**
+     * If the ring is not null, the average time to serialize and append a record source to it.
+     */
+    @Nullable
+    private final RunningAverageMetric offHeapAppendTime;
+    /**
+     * Whether the last record source added had records that did not fit in the ring; used to warn only when the ring
+     * starts overflowing, rather than on every transaction.
+     */
+    private boolean offHeapOverflowing;
 
     /**
      * Contains history of transactions submitted with the same "base" {@link TransactionID};
@@ -237,16 +289,31 @@ public class RecordCacheImpl implements HederaRecordCache {
      * @param workingStateAccessor Gives access to the current working state to use in rebuilding the cache
      * @param configProvider Used for looking up the max valid duration window for a transaction dynamically
      * @param networkInfo the network information
+     * @param metrics the metrics to report off-heap ring usage to
      */
     @Inject
     public RecordCacheImpl(
             @NonNull final DeduplicationCache deduplicationCache,
             @NonNull final WorkingStateAccessor workingStateAccessor,
             @NonNull final ConfigProvider configProvider,
-            @NonNull final NetworkInfo networkInfo) {
+            @NonNull final NetworkInfo networkInfo,
+            @NonNull final Metrics metrics) {
         this.deduplicationCache = requireNonNull(deduplicationCache);
         this.configProvider = requireNonNull(configProvider);
         this.networkInfo = requireNonNull(networkInfo);
+        requireNonNull(metrics);
+        final var config = configProvider.getConfiguration();
+        final int offHeapSize = config.getConfigData(CacheConfig.class).recordsOffHeapSize();
+        if (offHeapSize > 0) {
+            this.recordRing = new OffHeapRecordRing(offHeapSize);
+            this.offHeapOverflows = metrics.getOrCreate(OFF_HEAP_OVERFLOWS_CONFIG);
+            this.offHeapAppendTime = metrics.getOrCreate(OFF_HEAP_APPEND_TIME_CONFIG.withHalfLife(
+                    config.getConfigData(StatsConfig.class).runningAvgHalfLifeSecs()));
+        } else {
+            this.recordRing = null;
+            this.offHeapOverflows = null;
+            this.offHeapAppendTime = null;
+        }
 
         deduplicationCache.clear();
         final var iter = getReadableQueue(workingStateAccessor).iterator();
@@ -292,6 +359,7 @@ public class RecordCacheImpl implements HederaRecordCache {
             @NonNull final RecordSource recordSource) {
         requireNonNull(userTxnId);
         requireNonNull(recordSource);
+        final var cachedRecordSource = recordRing == null ? recordSource : appendOffHeap(recordSource);
         for (final var identifiedReceipt : recordSource.identifiedReceipts()) {
             final var txnId = identifiedReceipt.txnId();
             final var status = identifiedReceipt.receipt().status();
@@ -306,8 +374,11 @@ public class RecordCacheImpl implements HederaRecordCache {
             // Only add each record source once per history; since very few record sources contain more than one
             // transaction id, and few transaction ids have duplicates, this is almost always an existence check
             // in an empty list
-            if (!historySource.recordSources().contains(recordSource)) {
-                historySource.recordSources.add(recordSource);
+            if (!historySource.recordSources().contains(cachedRecordSource)) {
+                historySource.recordSources.add(cachedRecordSource);
+                if (cachedRecordSource instanceof OffHeapRecordSource offHeapSource) {
+                    offHeapSource.addHistory();
+                }
             }
             final AccountID effectivePayerId;
             if (dueDiligenceFailure == DueDiligenceFailure.YES && matchesExceptNonce(txnId, userTxnId)) {
@@ -386,10 +457,17 @@ public class RecordCacheImpl implements HederaRecordCache {
                 // and "child" transaction records associated with that ID.
                 for (final var receipt : roundReceipts.entries()) {
                     final var txnId = receipt.transactionIdOrThrow();
-                    historySources.remove(
+                    final var historySource = historySources.remove(
                             txnId.nonce() == 0
                                     ? txnId
                                     : txnId.copyBuilder().nonce(0).build());
+                    if (recordRing != null && historySource != null) {
+                        for (final var recordSource : historySource.recordSources()) {
+                            if (recordSource instanceof OffHeapRecordSource offHeapSource) {
+                                offHeapSource.removeHistory();
+                            }
+                        }
+                    }
                     // Remove from the payer to transaction index
                     var payerId = txnId.accountIDOrThrow();
                     var txnIds = payerTxnIds.computeIfAbsent(payerId, ignored -> new HashSet<>());
@@ -415,6 +493,46 @@ public class RecordCacheImpl implements HederaRecordCache {
                 break;
             }
         }
+        if (recordRing != null) {
+            releaseExpiredOffHeapSources();
+        }
+    }
+
+    /**
+     * Appends the records of the given source to the off-heap ring, counting any that did not fit, and warning when
+     * records start not fitting.
+     */
+    private OffHeapRecordSource appendOffHeap(@NonNull final RecordSource recordSource) {
+        final var ring = requireNonNull(recordRing);
+        final long start = System.nanoTime();
+        final var offHeapSource = OffHeapRecordSource.appending(recordSource, ring);
+        requireNonNull(offHeapAppendTime).update((System.nanoTime() - start) / NANOS_PER_MICRO);
+        offHeapSources.addLast(offHeapSource);
+        final int overflows = offHeapSource.onHeapCount();
+        if (overflows > 0) {
+            requireNonNull(offHeapOverflows).add(overflows);
+            if (!offHeapOverflowing) {
+                logger.warn(
+                        "The off-heap record ring is full of unexpired records, so new records are kept on the heap "
+                                + "until it has room; consider increasing cache.records.offHeapSize beyond {} bytes",
+                        ring.capacity());
+            }
+        }
+        offHeapOverflowing = overflows > 0;
+        return offHeapSource;
+    }
+
+    /**
+     * Releases the ring bytes of the oldest off-heap record sources, as long as they have expired. A source that
+     * expires before an older one keeps its bytes until the older one expires too, since the ring can only release
+     * bytes in the order they were appended.
+     */
+    private void releaseExpiredOffHeapSources() {
+        OffHeapRecordSource oldest;
+        while ((oldest = offHeapSources.peekFirst()) != null && oldest.isExpired()) {
+            requireNonNull(recordRing).release(oldest.end());
+            offHeapSources.pollFirst();
+        }
     }
     // ---------------------------------------------------------------------------------------------------------------
     // Implementation methods of RecordCache
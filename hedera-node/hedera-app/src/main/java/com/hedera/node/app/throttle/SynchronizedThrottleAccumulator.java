@@ -21,6 +21,10 @@ import javax.inject.Singleton;
  * Keeps track of the amount of usage of different TPS throttle categories and gas, and returns whether a given
  * transaction or query should be throttled based on that.
  * Meant to be used in multithreaded context
+ * <p>
+ * Only the updates to the throttle buckets are serialized. The parts of each decision that depend only on the
+ * transaction or query and the state, like counting the implicit creations of a crypto transfer, are computed
+ * by the calling thread before taking the lock; see {@link ThrottleAccumulator.StateUsage}.
  */
 @Singleton
 public class SynchronizedThrottleAccumulator {
@@ -48,15 +52,19 @@ public class SynchronizedThrottleAccumulator {
      * @param throttleUsages a list to accumulate throttle usages during the decision
      * @return whether the transaction should be throttled
      */
-    public synchronized boolean shouldThrottle(
+    public boolean shouldThrottle(
             @NonNull final TransactionInfo txnInfo,
             @NonNull final State state,
             @NonNull final List<ThrottleUsage> throttleUsages) {
         requireNonNull(txnInfo);
         requireNonNull(state);
         requireNonNull(throttleUsages);
-        setDecisionTime(instantSource.instant());
-        return frontendThrottle.checkAndEnforceThrottle(txnInfo, lastDecisionTime, state, throttleUsages);
+        final var stateUsage = frontendThrottle.stateUsageOf(txnInfo, state);
+        synchronized (this) {
+            setDecisionTime(instantSource.instant());
+            return frontendThrottle.checkAndEnforceThrottle(
+                    txnInfo, lastDecisionTime, state, throttleUsages, stateUsage);
+        }
     }
 
     /**
@@ -69,15 +77,19 @@ public class SynchronizedThrottleAccumulator {
      * @param queryPayerId the payer id of the query
      * @return whether the query should be throttled
      */
-    public synchronized boolean shouldThrottle(
+    public boolean shouldThrottle(
             @NonNull final HederaFunctionality queryFunction,
             @NonNull final Query query,
             @NonNull final State state,
             @Nullable AccountID queryPayerId) {
         requireNonNull(query);
         requireNonNull(queryFunction);
-        setDecisionTime(instantSource.instant());
-        return frontendThrottle.checkAndEnforceThrottle(queryFunction, lastDecisionTime, query, state, queryPayerId);
+        final var stateUsage = frontendThrottle.stateUsageOf(queryFunction, query, state);
+        synchronized (this) {
+            setDecisionTime(instantSource.instant());
+            return frontendThrottle.checkAndEnforceThrottle(
+                    queryFunction, lastDecisionTime, query, state, queryPayerId, stateUsage);
+        }
     }
 
     private void setDecisionTime(@NonNull final Instant time) {
@@ -120,6 +120,20 @@ public class ThrottleAccumulator {
         NO
     }
 
+    /**
+     * The counts that scale the throttle usage of a transaction or query, but that depend only on it and the state
+     * it is checked against, not on the throttle buckets. Computing them can mean decoding an Ethereum transaction or
+     * reading several entities from state; so a caller that serializes access to the buckets, like
+     * {@link SynchronizedThrottleAccumulator}, can compute them first with
+     * {@link #stateUsageOf(TransactionInfo, State)} or {@link #stateUsageOf(HederaFunctionality, Query, State)}
+     * without holding its lock. Unlike the other methods of this class, those two may be called from any thread.
+     *
+     * @param implicitCreations the number of accounts a transaction would implicitly create
+     * @param autoAssociations the number of token associations a crypto transfer would automatically create
+     * @param associations the number of token associations of the account a balance query is for
+     */
+    public record StateUsage(int implicitCreations, int autoAssociations, int associations) {}
+
     public ThrottleAccumulator(
             @NonNull final Supplier<Configuration> configSupplier,
             @NonNull final IntSupplier capacitySplitSource,
@@ -180,12 +194,33 @@ public class ThrottleAccumulator {
             @NonNull final Instant now,
             @NonNull final State state,
             @Nullable final List<ThrottleUsage> throttleUsages) {
+        return checkAndEnforceThrottle(txnInfo, now, state, throttleUsages, null);
+    }
+
+    /**
+     * Tries to claim throttle capacity for the given transaction and returns whether the transaction
+     * should be throttled if there is no capacity.
+     *
+     * @param txnInfo the transaction to update the throttle requirements for
+     * @param now the instant of time the transaction throttling should be checked for
+     * @param state the current state of the node
+     * @param throttleUsages if not null, a list to accumulate throttle usages into
+     * @param stateUsage if not null, the result of {@link #stateUsageOf(TransactionInfo, State)} for the same
+     * transaction and state
+     * @return whether the transaction should be throttled
+     */
+    public boolean checkAndEnforceThrottle(
+            @NonNull final TransactionInfo txnInfo,
+            @NonNull final Instant now,
+            @NonNull final State state,
+            @Nullable final List<ThrottleUsage> throttleUsages,
+            @Nullable final StateUsage stateUsage) {
         if (throttleType == NOOP_THROTTLE) {
             return false;
         }
         resetLastAllowedUse();
         lastTxnWasGasThrottled = false;
-        if (shouldThrottleTxn(false, txnInfo, now, state, throttleUsages)) {
+        if (shouldThrottleTxn(false, txnInfo, now, state, throttleUsages, stateUsage)) {
             reclaimLastAllowedUse();
             return true;
         }
@@ -231,6 +266,28 @@ public class ThrottleAccumulator {
             @NonNull final Query query,
             @NonNull final State state,
             @Nullable final AccountID queryPayerId) {
+        return checkAndEnforceThrottle(queryFunction, now, query, state, queryPayerId, null);
+    }
+
+    /**
+     * Updates the throttle requirements for the given query and returns whether the query should be throttled.
+     *
+     * @param queryFunction the functionality of the query
+     * @param now the time at which the query is being processed
+     * @param query the query to update the throttle requirements for
+     * @param state the current state of the node
+     * @param queryPayerId the payer id of the query
+     * @param stateUsage if not null, the result of {@link #stateUsageOf(HederaFunctionality, Query, State)} for the
+     * same query and state
+     * @return whether the query should be throttled
+     */
+    public boolean checkAndEnforceThrottle(
+            @NonNull final HederaFunctionality queryFunction,
+            @NonNull final Instant now,
+            @NonNull final Query query,
+            @NonNull final State state,
+            @Nullable final AccountID queryPayerId,
+            @Nullable final StateUsage stateUsage) {
         if (throttleType == NOOP_THROTTLE) {
             return false;
         }
@@ -256,10 +313,11 @@ public class ThrottleAccumulator {
         final boolean allReqMet;
         if (queryFunction == CRYPTO_GET_ACCOUNT_BALANCE
                 && configuration.getConfigData(TokensConfig.class).countingGetBalanceThrottleEnabled()) {
-            final var accountStore = new ReadableStoreFactory(state).getStore(ReadableAccountStore.class);
             final var tokenConfig = configuration.getConfigData(TokensConfig.class);
-            final int associationCount =
-                    Math.clamp(getAssociationCount(query, accountStore), 1, tokenConfig.maxRelsPerInfoQuery());
+            final int associations = stateUsage != null
+                    ? stateUsage.associations()
+                    : getAssociationCount(query, new ReadableStoreFactory(state).getStore(ReadableAccountStore.class));
+            final int associationCount = Math.clamp(associations, 1, tokenConfig.maxRelsPerInfoQuery());
             allReqMet = manager.allReqsMetAt(now, associationCount, ONE_TO_ONE, null);
         } else {
             allReqMet = manager.allReqsMetAt(now, null);
@@ -272,6 +330,58 @@ public class ThrottleAccumulator {
         return false;
     }
 
+    /**
+     * Computes the state-dependent counts that scale the throttle usage of the given transaction, if there are any.
+     *
+     * @param txnInfo the transaction
+     * @param state the state the transaction will be checked against
+     * @return the counts, or null if the transaction's throttle usage doesn't depend on the state
+     */
+    public @Nullable StateUsage stateUsageOf(@NonNull final TransactionInfo txnInfo, @NonNull final State state) {
+        requireNonNull(txnInfo);
+        requireNonNull(state);
+        if (throttleType == NOOP_THROTTLE) {
+            return null;
+        }
+        return switch (txnInfo.functionality()) {
+            case CRYPTO_TRANSFER, ETHEREUM_TRANSACTION -> computeStateUsage(txnInfo, state);
+            default -> null;
+        };
+    }
+
+    /**
+     * Computes the state-dependent counts that scale the throttle usage of the given query, if there are any.
+     *
+     * @param queryFunction the functionality of the query
+     * @param query the query
+     * @param state the state the query will be checked against
+     * @return the counts, or null if the query's throttle usage doesn't depend on the state
+     */
+    public @Nullable StateUsage stateUsageOf(
+            @NonNull final HederaFunctionality queryFunction, @NonNull final Query query, @NonNull final State state) {
+        requireNonNull(queryFunction);
+        requireNonNull(query);
+        requireNonNull(state);
+        if (throttleType == NOOP_THROTTLE
+                || queryFunction != CRYPTO_GET_ACCOUNT_BALANCE
+                || !configSupplier.get().getConfigData(TokensConfig.class).countingGetBalanceThrottleEnabled()) {
+            return null;
+        }
+        final var accountStore = new ReadableStoreFactory(state).getStore(ReadableAccountStore.class);
+        return new StateUsage(0, 0, getAssociationCount(query, accountStore));
+    }
+
+    private StateUsage computeStateUsage(@NonNull final TransactionInfo txnInfo, @NonNull final State state) {
+        final var storeFactory = new ReadableStoreFactory(state);
+        final var txnBody = txnInfo.txBody();
+        final int implicitCreations =
+                getImplicitCreationsCount(txnBody, storeFactory.getStore(ReadableAccountStore.class));
+        final int autoAssociations = txnInfo.functionality() == CRYPTO_TRANSFER
+                ? getAutoAssociationsCount(txnBody, storeFactory.getStore(ReadableTokenRelationStore.class))
+                : 0;
+        return new StateUsage(implicitCreations, autoAssociations, 0);
+    }
+
     private int getAssociationCount(@NonNull final Query query, @NonNull final ReadableAccountStore accountStore) {
         final var accountID = query.cryptogetAccountBalanceOrThrow().accountID();
         if (accountID != null) {
@@ -408,7 +518,8 @@ public class ThrottleAccumulator {
             @NonNull final TransactionInfo txnInfo,
             @NonNull final Instant now,
             @NonNull final State state,
-            List<ThrottleUsage> throttleUsages) {
+            List<ThrottleUsage> throttleUsages,
+            @Nullable final StateUsage stateUsage) {
         final var function = txnInfo.functionality();
         final var configuration = configSupplier.get();
         final boolean isJumboTransactionsEnabled =
@@ -461,20 +572,18 @@ public class ThrottleAccumulator {
             case TOKEN_MINT ->
                 shouldThrottleMint(manager, txnInfo.txBody().tokenMint(), now, configuration, throttleUsages);
             case CRYPTO_TRANSFER -> {
-                final var accountStore = new ReadableStoreFactory(state).getStore(ReadableAccountStore.class);
-                final var relationStore = new ReadableStoreFactory(state).getStore(ReadableTokenRelationStore.class);
+                final var usage = stateUsage != null ? stateUsage : computeStateUsage(txnInfo, state);
                 yield shouldThrottleCryptoTransfer(
                         manager,
                         now,
                         configuration,
-                        getImplicitCreationsCount(txnInfo.txBody(), accountStore),
-                        getAutoAssociationsCount(txnInfo.txBody(), relationStore),
+                        usage.implicitCreations(),
+                        usage.autoAssociations(),
                         throttleUsages);
             }
             case ETHEREUM_TRANSACTION -> {
-                final var accountStore = new ReadableStoreFactory(state).getStore(ReadableAccountStore.class);
-                yield shouldThrottleEthTxn(
-                        manager, now, getImplicitCreationsCount(txnInfo.txBody(), accountStore), throttleUsages);
+                final var usage = stateUsage != null ? stateUsage : computeStateUsage(txnInfo, state);
+                yield shouldThrottleEthTxn(manager, now, usage.implicitCreations(), throttleUsages);
             }
             default -> !manager.allReqsMetAt(now, throttleUsages);
         };
@@ -12,6 +12,7 @@ import com.hedera.node.app.spi.workflows.HandleException;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.spi.workflows.PreHandleContext;
 import com.hedera.node.app.spi.workflows.PureChecksContext;
+import com.hedera.node.app.spi.workflows.StateAccessDeclarations;
 import com.hedera.node.app.spi.workflows.TransactionHandler;
 import com.hedera.node.app.spi.workflows.WarmupContext;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -97,6 +98,27 @@ public class TransactionDispatcher {
         }
     }
 
+    /**
+     * Dispatch a request to declare the state accesses of a transaction. It is forwarded to the correct handler,
+     * which takes care of the specific functionality
+     *
+     * @param context the context of the pre-handle workflow
+     * @param declarations the declarations to collect the accesses in
+     * @throws NullPointerException if one of the arguments is {@code null}
+     */
+    public void dispatchDeclareStateAccesses(
+            @NonNull final PreHandleContext context, @NonNull final StateAccessDeclarations declarations) {
+        requireNonNull(context, "The supplied argument 'context' cannot be null!");
+        requireNonNull(declarations, "The supplied argument 'declarations' cannot be null!");
+
+        try {
+            final var handler = getHandler(context.body());
+            handler.declareStateAccesses(context, declarations);
+        } catch (UnsupportedOperationException ex) {
+            declarations.declareUnbounded();
+        }
+    }
+
     /**
      * Dispatch a compute fees request. It is forwarded to the correct handler, which takes care of the specific
      * calculation and returns the resulting {@link Fees}.
@@ -71,6 +71,7 @@ import com.hedera.node.app.throttle.ThrottleServiceManager;
 import com.hedera.node.app.workflows.OpWorkflowMetrics;
 import com.hedera.node.app.workflows.TransactionInfo;
 import com.hedera.node.app.workflows.handle.cache.CacheWarmer;
+import com.hedera.node.app.workflows.handle.conflict.RoundConflictAnalyzer;
 import com.hedera.node.app.workflows.handle.record.SystemTransactions;
 import com.hedera.node.app.workflows.handle.steps.HollowAccountCompletions;
 import com.hedera.node.app.workflows.handle.steps.ParentTxn;
@@ -156,6 +157,7 @@ public class HandleWorkflow {
     // The last second for which this workflow has confirmed all scheduled transactions are executed
     private long lastExecutedSecond;
     private final NodeRewardManager nodeRewardManager;
+    private final RoundConflictAnalyzer roundConflictAnalyzer;
 
     @Inject
     public HandleWorkflow(
@@ -187,7 +189,8 @@ public class HandleWorkflow {
             @NonNull final CurrentPlatformStatus currentPlatformStatus,
             @NonNull final BlockHashSigner blockHashSigner,
             @Nullable final AtomicBoolean systemEntitiesCreatedFlag,
-            @NonNull final NodeRewardManager nodeRewardManager) {
+            @NonNull final NodeRewardManager nodeRewardManager,
+            @NonNull final RoundConflictAnalyzer roundConflictAnalyzer) {
         this.networkInfo = requireNonNull(networkInfo);
         this.stakePeriodChanges = requireNonNull(stakePeriodChanges);
         this.dispatchProcessor = requireNonNull(dispatchProcessor);
@@ -220,6 +223,7 @@ public class HandleWorkflow {
         this.blockHashSigner = requireNonNull(blockHashSigner);
         this.currentPlatformStatus = requireNonNull(currentPlatformStatus);
         this.nodeRewardManager = requireNonNull(nodeRewardManager);
+        this.roundConflictAnalyzer = requireNonNull(roundConflictAnalyzer);
         this.systemEntitiesCreatedFlag = systemEntitiesCreatedFlag;
     }
 
@@ -371,6 +375,7 @@ public class HandleWorkflow {
         }
         // Update all throttle metrics once per round
         throttleServiceManager.updateAllMetrics();
+        roundConflictAnalyzer.endRound();
         return transactionsDispatched;
     }
 
@@ -455,7 +460,9 @@ public class HandleWorkflow {
         }
 
         var lastRecordManagerTime = streamMode == RECORDS ? blockRecordManager.consTimeOfLastHandledTxn() : null;
+        userTxn.stack().trackStateAccesses(roundConflictAnalyzer.startTransaction());
         final var handleOutput = executeSubmittedParent(userTxn, txnVersion, state);
+        roundConflictAnalyzer.endTransaction(userTxn.preHandleResult().declaredAccesses());
         if (streamMode != BLOCKS) {
             final var records = ((LegacyListRecordSource) handleOutput.recordSourceOrThrow()).precomputedRecords();
             blockRecordManager.endUserTransaction(records.stream(), state);
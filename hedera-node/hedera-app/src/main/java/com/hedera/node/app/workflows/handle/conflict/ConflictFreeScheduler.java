@@ -0,0 +1,147 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.workflows.handle.conflict;
+
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Partitions an ordered sequence of transactions into levels of transactions that don't conflict with each other.
+ * <p>
+ * Each transaction is assigned a level one higher than the highest level of any earlier transaction it conflicts
+ * with; i.e., that wrote a state it reads or writes, or read a state it writes. Handling the levels in order, and the
+ * transactions within a level in any order or concurrently, gives the same result as handling the transactions in
+ * their original order. The number of levels is the length of the longest chain of conflicting transactions.
+ * <p>
+ * A transaction whose accesses are unknown (a {@code null} access set) is a barrier: it is placed alone on a level
+ * above every earlier transaction, and every later transaction is placed above it.
+ */
+public class ConflictFreeScheduler {
+    /**
+     * The level of the last transaction that wrote each state.
+     */
+    private final Map<StateAccess, Integer> lastWriteLevels = new HashMap<>();
+
+    /**
+     * The highest level of any transaction that read each state.
+     */
+    private final Map<StateAccess, Integer> lastReadLevels = new HashMap<>();
+
+    /**
+     * The level of the last barrier, which every later transaction must be placed above.
+     */
+    private int barrierLevel;
+
+    private int levelCount;
+
+    @Nullable
+    private StateAccess lastConflict;
+
+    /**
+     * Partitions the given transactions into levels of transactions that don't conflict with each other. The order
+     * of the transactions within each level is their original order.
+     *
+     * @param transactions the transactions, in the order they must appear to be handled in
+     * @param accessesOf returns the accesses of a transaction, or null if they are unknown
+     * @param <T> the type of the transactions
+     * @return the levels, in the order they must be handled in
+     */
+    @NonNull
+    public static <T> List<List<T>> partition(
+            @NonNull final List<T> transactions, @NonNull final Function<T, StateAccessSet> accessesOf) {
+        requireNonNull(transactions);
+        requireNonNull(accessesOf);
+        final var scheduler = new ConflictFreeScheduler();
+        final List<List<T>> levels = new ArrayList<>();
+        for (final var transaction : transactions) {
+            final int level = scheduler.schedule(accessesOf.apply(transaction));
+            if (level > levels.size()) {
+                levels.add(new ArrayList<>());
+            }
+            levels.get(level - 1).add(transaction);
+        }
+        return levels;
+    }
+
+    /**
+     * Assigns the next transaction to a level.
+     *
+     * @param accesses the accesses of the transaction, or null if they are unknown
+     * @return the level of the transaction, starting from 1
+     */
+    public int schedule(@Nullable final StateAccessSet accesses) {
+        lastConflict = null;
+        if (accesses == null) {
+            barrierLevel = ++levelCount;
+            return barrierLevel;
+        }
+
+        int level = barrierLevel;
+        for (final var access : accesses.reads()) {
+            final var writeLevel = lastWriteLevels.get(access);
+            if (writeLevel != null && writeLevel > level) {
+                level = writeLevel;
+                lastConflict = access;
+            }
+        }
+        for (final var access : accesses.writes()) {
+            final var writeLevel = lastWriteLevels.get(access);
+            if (writeLevel != null && writeLevel > level) {
+                level = writeLevel;
+                lastConflict = access;
+            }
+            final var readLevel = lastReadLevels.get(access);
+            if (readLevel != null && readLevel > level) {
+                level = readLevel;
+                lastConflict = access;
+            }
+        }
+        level++;
+
+        for (final var access : accesses.reads()) {
+            lastReadLevels.merge(access, level, Math::max);
+        }
+        for (final var access : accesses.writes()) {
+            // Any later writer conflicts with this one, so the last writer always has the highest level
+            lastWriteLevels.put(access, level);
+        }
+        levelCount = Math.max(levelCount, level);
+        return level;
+    }
+
+    /**
+     * Returns the access that determined the level of the last scheduled transaction.
+     *
+     * @return the conflicting access, or null if the transaction was only ordered after a barrier, or was a barrier
+     */
+    @Nullable
+    public StateAccess lastConflict() {
+        return lastConflict;
+    }
+
+    /**
+     * Returns the number of levels used so far.
+     *
+     * @return the number of levels
+     */
+    public int levelCount() {
+        return levelCount;
+    }
+
+    /**
+     * Forgets all scheduled transactions.
+     */
+    public void clear() {
+        lastWriteLevels.clear();
+        lastReadLevels.clear();
+        barrierLevel = 0;
+        levelCount = 0;
+        lastConflict = null;
+    }
+}
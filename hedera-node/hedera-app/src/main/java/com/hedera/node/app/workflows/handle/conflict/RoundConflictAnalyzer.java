@@ -0,0 +1,210 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.workflows.handle.conflict;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.data.HandleConfig;
+import com.hedera.node.config.data.StatsConfig;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.metrics.api.Metrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Measures how much of each round could be handled in parallel without changing its outcome, based on the states
+ * read and written by each user transaction.
+ * <p>
+ * The user transactions of a round are partitioned into levels by a {@link ConflictFreeScheduler}. A deterministic
+ * parallel execution of the round can't take less time than handling the longest chain of conflicting transactions
+ * in order, and the ratio of transactions to levels is the speedup it could achieve with unlimited threads. This is
+ * measured twice: once for the accesses that actually happened, and once for the accesses the transaction handlers
+ * declared during pre-handle, which is what a scheduler would have to work with before handling the round.
+ * <p>
+ * Only the states accessed through the savepoint stack of each user transaction are considered. Round-level work, like
+ * updating running hashes or committing receipts, is not.
+ * <p>
+ * This is analysis only, transactions are still handled one at a time in consensus order whether or not it is enabled.
+ */
+@Singleton
+public class RoundConflictAnalyzer {
+    private static final Logger log = LogManager.getLogger(RoundConflictAnalyzer.class);
+
+    private static final RunningAverageMetric.Config SPEEDUP_CONFIG = new RunningAverageMetric.Config(
+                    "app", "handleConflictFreeSpeedup")
+            .withDescription("average ratio of user transactions per round to the longest chain of conflicting "
+                    + "user transactions in the round")
+            .withFormat("%,13.6f");
+    private static final RunningAverageMetric.Config CHAIN_LENGTH_CONFIG = new RunningAverageMetric.Config(
+                    "app", "handleConflictChainLength")
+            .withDescription("average length of the longest chain of conflicting user transactions in a round")
+            .withFormat("%,13.6f");
+    private static final RunningAverageMetric.Config DECLARED_SPEEDUP_CONFIG = new RunningAverageMetric.Config(
+                    "app", "handleDeclaredConflictFreeSpeedup")
+            .withDescription("average ratio of user transactions per round to the longest chain of user "
+                    + "transactions in the round that conflict by their declared accesses")
+            .withFormat("%,13.6f");
+
+    private final boolean enabled;
+
+    @Nullable
+    private final RunningAverageMetric speedup;
+
+    @Nullable
+    private final RunningAverageMetric chainLength;
+
+    @Nullable
+    private final RunningAverageMetric declaredSpeedup;
+
+    /**
+     * Collects the accesses of the transaction being handled.
+     */
+    private final StateAccessSet transactionAccesses = new StateAccessSet();
+
+    /**
+     * Schedules the transactions of the round by the accesses that actually happened.
+     */
+    private final ConflictFreeScheduler scheduler = new ConflictFreeScheduler();
+
+    /**
+     * Schedules the transactions of the round by the accesses declared during pre-handle.
+     */
+    private final ConflictFreeScheduler declaredScheduler = new ConflictFreeScheduler();
+
+    /**
+     * For each state, the number of transactions in the round whose level was determined by a conflict on it.
+     */
+    private final Map<StateAccess, Integer> conflictCounts = new HashMap<>();
+
+    private int transactionCount;
+
+    /**
+     * Constructor.
+     *
+     * @param metrics the metrics to report to
+     * @param configProvider the configuration provider
+     */
+    @Inject
+    public RoundConflictAnalyzer(@NonNull final Metrics metrics, @NonNull final ConfigProvider configProvider) {
+        requireNonNull(metrics);
+        final var config = configProvider.getConfiguration();
+        enabled = config.getConfigData(HandleConfig.class).conflictAnalysisEnabled();
+        if (enabled) {
+            final double halfLife = config.getConfigData(StatsConfig.class).runningAvgHalfLifeSecs();
+            speedup = metrics.getOrCreate(SPEEDUP_CONFIG.withHalfLife(halfLife));
+            chainLength = metrics.getOrCreate(CHAIN_LENGTH_CONFIG.withHalfLife(halfLife));
+            declaredSpeedup = metrics.getOrCreate(DECLARED_SPEEDUP_CONFIG.withHalfLife(halfLife));
+        } else {
+            speedup = null;
+            chainLength = null;
+            declaredSpeedup = null;
+        }
+    }
+
+    /**
+     * Returns whether conflict analysis is enabled.
+     *
+     * @return whether conflict analysis is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts analyzing a user transaction.
+     *
+     * @return the set that the accesses of the transaction should be collected into, or null if analysis is disabled
+     */
+    @Nullable
+    public StateAccessSet startTransaction() {
+        if (!enabled) {
+            return null;
+        }
+        transactionAccesses.clear();
+        return transactionAccesses;
+    }
+
+    /**
+     * Finishes analyzing the user transaction whose accesses were collected into the set returned by
+     * {@link #startTransaction()}, and assigns it a level.
+     *
+     * @param declaredAccesses the accesses declared for the transaction during pre-handle, or null if they are
+     * unbounded
+     */
+    public void endTransaction(@Nullable final StateAccessSet declaredAccesses) {
+        if (!enabled) {
+            return;
+        }
+        scheduler.schedule(transactionAccesses);
+        final var conflict = scheduler.lastConflict();
+        if (conflict != null) {
+            conflictCounts.merge(conflict, 1, Integer::sum);
+        }
+        declaredScheduler.schedule(declaredAccesses);
+        transactionCount++;
+        transactionAccesses.clear();
+    }
+
+    /**
+     * Reports the results for the current round and resets for the next one.
+     */
+    public void endRound() {
+        if (!enabled) {
+            return;
+        }
+        if (transactionCount > 0) {
+            final int levelCount = scheduler.levelCount();
+            requireNonNull(speedup).update((double) transactionCount / levelCount);
+            requireNonNull(chainLength).update(levelCount);
+            requireNonNull(declaredSpeedup).update((double) transactionCount / declaredScheduler.levelCount());
+            if (log.isDebugEnabled()) {
+                conflictCounts.entrySet().stream()
+                        .max(Map.Entry.comparingByValue())
+                        .ifPresent(mostFrequent -> log.debug(
+                                "{} user transactions in {} levels, {} was the most frequent conflict ({} times)",
+                                transactionCount,
+                                levelCount,
+                                mostFrequent.getKey(),
+                                mostFrequent.getValue()));
+            }
+        }
+        scheduler.clear();
+        declaredScheduler.clear();
+        conflictCounts.clear();
+        transactionCount = 0;
+    }
+
+    /**
+     * Returns the number of user transactions analyzed in the current round.
+     *
+     * @return the number of transactions
+     */
+    public int transactionCount() {
+        return transactionCount;
+    }
+
+    /**
+     * Returns the length of the longest chain of conflicting user transactions in the current round.
+     *
+     * @return the number of levels
+     */
+    public int levelCount() {
+        return scheduler.levelCount();
+    }
+
+    /**
+     * Returns the length of the longest chain of user transactions in the current round that conflict by their
+     * declared accesses.
+     *
+     * @return the number of levels
+     */
+    public int declaredLevelCount() {
+        return declaredScheduler.levelCount();
+    }
+}
@@ -0,0 +1,22 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.workflows.handle.conflict;
+
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Identifies a piece of state that a transaction reads or writes: a single key of a key/value state, or a whole
+ * singleton or queue state.
+ *
+ * @param serviceName the name of the service that owns the state
+ * @param stateKey    the key of the state within the service
+ * @param key         the key within a key/value state, or null for singleton and queue states
+ */
+public record StateAccess(@NonNull String serviceName, @NonNull String stateKey, @Nullable Object key) {
+    public StateAccess {
+        requireNonNull(serviceName);
+        requireNonNull(stateKey);
+    }
+}
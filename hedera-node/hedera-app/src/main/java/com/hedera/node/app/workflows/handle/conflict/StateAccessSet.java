@@ -0,0 +1,128 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.workflows.handle.conflict;
+
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * The pieces of state read and written by a transaction. A piece of state that is written is not also recorded as
+ * read, since a write already conflicts with every other access to the same piece of state.
+ */
+public class StateAccessSet {
+    private final Set<StateAccess> reads = new HashSet<>();
+    private final Set<StateAccess> writes = new HashSet<>();
+
+    /**
+     * Records that a piece of state was read.
+     *
+     * @param serviceName the name of the service that owns the state
+     * @param stateKey    the key of the state within the service
+     * @param key         the key within a key/value state, or null for singleton and queue states
+     */
+    public void addRead(@NonNull final String serviceName, @NonNull final String stateKey, @Nullable final Object key) {
+        final var access = new StateAccess(serviceName, stateKey, key);
+        if (!writes.contains(access)) {
+            reads.add(access);
+        }
+    }
+
+    /**
+     * Records that a piece of state was written.
+     *
+     * @param serviceName the name of the service that owns the state
+     * @param stateKey    the key of the state within the service
+     * @param key         the key within a key/value state, or null for singleton and queue states
+     */
+    public void addWrite(
+            @NonNull final String serviceName, @NonNull final String stateKey, @Nullable final Object key) {
+        final var access = new StateAccess(serviceName, stateKey, key);
+        reads.remove(access);
+        writes.add(access);
+    }
+
+    /**
+     * Adds all accesses of another set to this set.
+     *
+     * @param other the other set
+     */
+    public void addAll(@NonNull final StateAccessSet other) {
+        requireNonNull(other);
+        writes.addAll(other.writes);
+        reads.removeAll(other.writes);
+        for (final var access : other.reads) {
+            if (!writes.contains(access)) {
+                reads.add(access);
+            }
+        }
+    }
+
+    /**
+     * Returns whether a transaction with this access set must be ordered with respect to a transaction with the
+     * other access set, because one of them writes a piece of state the other one reads or writes.
+     *
+     * @param other the other access set
+     * @return whether the two sets conflict
+     */
+    public boolean conflictsWith(@NonNull final StateAccessSet other) {
+        requireNonNull(other);
+        return writesAnyOf(other.writes) || writesAnyOf(other.reads) || other.writesAnyOf(reads);
+    }
+
+    private boolean writesAnyOf(@NonNull final Set<StateAccess> accesses) {
+        final Set<StateAccess> smaller = writes.size() <= accesses.size() ? writes : accesses;
+        final Set<StateAccess> larger = smaller == writes ? accesses : writes;
+        for (final var access : smaller) {
+            if (larger.contains(access)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the pieces of state read, but not written.
+     *
+     * @return the reads
+     */
+    @NonNull
+    public Set<StateAccess> reads() {
+        return Collections.unmodifiableSet(reads);
+    }
+
+    /**
+     * Returns the pieces of state written.
+     *
+     * @return the writes
+     */
+    @NonNull
+    public Set<StateAccess> writes() {
+        return Collections.unmodifiableSet(writes);
+    }
+
+    /**
+     * Returns whether no accesses have been recorded.
+     *
+     * @return whether the set is empty
+     */
+    public boolean isEmpty() {
+        return reads.isEmpty() && writes.isEmpty();
+    }
+
+    /**
+     * Removes all recorded accesses, so the set can be reused for another transaction.
+     */
+    public void clear() {
+        reads.clear();
+        writes.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "StateAccessSet{reads=" + reads + ", writes=" + writes + '}';
+    }
+}
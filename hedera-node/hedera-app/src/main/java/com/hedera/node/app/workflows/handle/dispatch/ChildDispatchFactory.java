@@ -355,6 +355,7 @@ public class ChildDispatchFactory {
                     preHandleContext.requiredHollowAccounts(),
                     null,
                     null,
+                    null,
                     0);
         } catch (final PreCheckException e) {
             return new PreHandleResult(
@@ -368,6 +369,7 @@ public class ChildDispatchFactory {
                     Collections.emptySet(),
                     null,
                     null,
+                    null,
                     0);
         }
     }
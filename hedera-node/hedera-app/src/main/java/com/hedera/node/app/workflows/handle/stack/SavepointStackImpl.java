@@ -41,6 +41,7 @@ import com.hedera.node.app.state.WrappedState;
 import com.hedera.node.app.state.recordcache.BlockRecordSource;
 import com.hedera.node.app.state.recordcache.LegacyListRecordSource;
 import com.hedera.node.app.workflows.handle.HandleOutput;
+import com.hedera.node.app.workflows.handle.conflict.StateAccessSet;
 import com.hedera.node.app.workflows.handle.record.RecordStreamBuilder;
 import com.hedera.node.app.workflows.handle.stack.savepoints.BuilderSinkImpl;
 import com.hedera.node.app.workflows.handle.stack.savepoints.FirstChildSavepoint;
@@ -97,6 +98,11 @@ public class SavepointStackImpl implements HandleContext.SavepointStack, State {
     private int noncesToSkipPerPresetId;
     private boolean presetIdsAllowed;
 
+    // If the state accesses of this stack are being analyzed, the set that collects them each time the stack is
+    // committed or rolled back; otherwise null
+    @Nullable
+    private StateAccessSet accessSet;
+
     /**
      * Constructs the root {@link SavepointStackImpl} for the given state at the start of handling a user transaction.
      *
@@ -224,7 +230,9 @@ public class SavepointStackImpl implements HandleContext.SavepointStack, State {
         if (stack.size() <= 1) {
             throw new IllegalStateException("The savepoint stack is empty");
         }
-        stack.pop().rollback();
+        final var savepoint = stack.pop();
+        collectAccesses(savepoint);
+        savepoint.rollback();
     }
 
     @Override
@@ -259,6 +267,9 @@ public class SavepointStackImpl implements HandleContext.SavepointStack, State {
             if (boundaryStateChangeListener != null && stack.isEmpty()) {
                 boundaryStateChangeListener.trackCollectedNodeFees(savepoint.getNodeFeesCollected());
             }
+            if (stack.isEmpty()) {
+                collectAccesses(savepoint);
+            }
             savepoint.commit();
         }
         if (streamMode != RECORDS && kvStateChangeListener != null) {
@@ -272,11 +283,32 @@ public class SavepointStackImpl implements HandleContext.SavepointStack, State {
      */
     public void rollbackFullStack() {
         while (!stack.isEmpty()) {
-            stack.pop().rollback();
+            final var savepoint = stack.pop();
+            collectAccesses(savepoint);
+            savepoint.rollback();
         }
         setupFirstSavepoint(baseBuilder.category());
     }
 
+    /**
+     * Collects the states read and written through this stack into the given set from now on. Reads pass through to
+     * the first savepoint of the stack, and so do the writes of committed savepoints, so the accesses of the first
+     * savepoint are added to the set when the full stack is committed. The writes of a savepoint that is rolled back
+     * never reach the savepoint below it, so the accesses of every savepoint are also added to the set when it is
+     * rolled back. The set may therefore over-approximate the writes of the transaction.
+     *
+     * @param accessSet the set to collect the accesses into, or null to stop collecting
+     */
+    public void trackStateAccesses(@Nullable final StateAccessSet accessSet) {
+        this.accessSet = accessSet;
+    }
+
+    private void collectAccesses(@NonNull final Savepoint savepoint) {
+        if (accessSet != null && savepoint.state() instanceof WrappedState wrappedState) {
+            wrappedState.collectAccesses(accessSet);
+        }
+    }
+
     /**
      * Returns true when this stack's base builder should be finalized with staking rewards. There are
      * two qualifying cases:
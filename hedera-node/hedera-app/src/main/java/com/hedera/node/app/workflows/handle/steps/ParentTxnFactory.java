@@ -443,6 +443,7 @@ public class ParentTxnFactory {
                     Set.of(),
                     Map.of(),
                     null,
+                    null,
                     0);
         }
         try {
@@ -463,6 +464,7 @@ public class ParentTxnFactory {
                     preHandleContext.requiredHollowAccounts(),
                     null,
                     null,
+                    null,
                     0);
         } catch (final PreCheckException e) {
             return new PreHandleResult(
@@ -476,6 +478,7 @@ public class ParentTxnFactory {
                     emptySet(),
                     null,
                     null,
+                    null,
                     0);
         }
     }
@@ -0,0 +1,66 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.workflows.prehandle;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.data.StatsConfig;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.metrics.api.Metrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Metrics for the pre-handle workflow. All durations are reported in microseconds, and may be updated concurrently
+ * from any thread.
+ */
+@Singleton
+public class PreHandleMetrics {
+    private static final double NANOS_PER_MICRO = 1_000.0;
+
+    private static final RunningAverageMetric.Config QUEUE_TIME_CONFIG = new RunningAverageMetric.Config(
+                    "app", "preHandleQueueTimeMicros")
+            .withDescription("average time a batch of transactions waited for a pre-handle thread in microseconds")
+            .withFormat("%,13.6f");
+    private static final RunningAverageMetric.Config TRANSACTION_TIME_CONFIG = new RunningAverageMetric.Config(
+                    "app", "preHandleTxnTimeMicros")
+            .withDescription("average time to pre-handle a single transaction in microseconds")
+            .withFormat("%,13.6f");
+
+    private final RunningAverageMetric queueTime;
+    private final RunningAverageMetric transactionTime;
+
+    /**
+     * Constructor.
+     *
+     * @param metrics the metrics to report to
+     * @param configProvider the configuration provider
+     */
+    @Inject
+    public PreHandleMetrics(@NonNull final Metrics metrics, @NonNull final ConfigProvider configProvider) {
+        requireNonNull(metrics);
+        final double halfLife =
+                configProvider.getConfiguration().getConfigData(StatsConfig.class).runningAvgHalfLifeSecs();
+        queueTime = metrics.getOrCreate(QUEUE_TIME_CONFIG.withHalfLife(halfLife));
+        transactionTime = metrics.getOrCreate(TRANSACTION_TIME_CONFIG.withHalfLife(halfLife));
+    }
+
+    /**
+     * Records the time between submitting a batch of transactions to the pre-handle pool and a thread starting on it.
+     *
+     * @param nanos the queue time in nanoseconds
+     */
+    public void updateQueueTime(final long nanos) {
+        queueTime.update(nanos / NANOS_PER_MICRO);
+    }
+
+    /**
+     * Records the time taken to pre-handle a single transaction.
+     *
+     * @param nanos the duration in nanoseconds
+     */
+    public void updateTransactionTime(final long nanos) {
+        transactionTime.update(nanos / NANOS_PER_MICRO);
+    }
+}
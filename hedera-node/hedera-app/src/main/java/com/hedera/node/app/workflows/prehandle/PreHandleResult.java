@@ -14,6 +14,7 @@ import com.hedera.node.app.signature.SignatureVerificationFuture;
 import com.hedera.node.app.spi.workflows.PreHandleContext;
 import com.hedera.node.app.state.HederaRecordCache;
 import com.hedera.node.app.workflows.TransactionInfo;
+import com.hedera.node.app.workflows.handle.conflict.StateAccessSet;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.Collections;
@@ -43,6 +44,9 @@ import java.util.concurrent.Future;
  *                            {@link SignatureVerificationFuture} for a given cryptographic key. Ony cryptographic keys
  *                            are used as the key of this map.
  * @param innerResults {@link PreHandleResult}s of the inner transactions if this is an atomic batch transaction.
+ * @param declaredAccesses The state the transaction's handler declared it will access, or {@code null} if the
+ *                         accesses were not declared or are unbounded. See
+ *                         {@link com.hedera.node.app.spi.workflows.StateAccessDeclarations}.
  * @param configVersion The version of the configuration that was used during pre-handle
  */
 public record PreHandleResult(
@@ -56,6 +60,7 @@ public record PreHandleResult(
         @Nullable Set<Account> hollowAccounts,
         @Nullable Map<Key, SignatureVerificationFuture> verificationResults,
         @Nullable List<PreHandleResult> innerResults,
+        @Nullable StateAccessSet declaredAccesses,
         long configVersion) {
 
     /**
@@ -160,7 +165,7 @@ public record PreHandleResult(
     @NonNull
     public static PreHandleResult unknownFailure() {
         return new PreHandleResult(
-                null, null, Status.UNKNOWN_FAILURE, UNKNOWN, null, null, null, null, null, null, UNKNOWN_VERSION);
+                null, null, Status.UNKNOWN_FAILURE, UNKNOWN, null, null, null, null, null, null, null, UNKNOWN_VERSION);
     }
 
     /**
@@ -192,6 +197,7 @@ public record PreHandleResult(
                 null,
                 null,
                 null,
+                null,
                 configVersion);
     }
 
@@ -227,6 +233,7 @@ public record PreHandleResult(
                 hollowAccounts,
                 verificationResults,
                 null,
+                null,
                 UNKNOWN_VERSION);
     }
 
@@ -236,6 +243,17 @@ public record PreHandleResult(
     @NonNull
     public static PreHandleResult stateSignatureTransactionEncountered(@NonNull final TransactionInfo txInfo) {
         return new PreHandleResult(
-                null, null, Status.SO_FAR_SO_GOOD, UNKNOWN, txInfo, null, null, null, null, null, UNKNOWN_VERSION);
+                null,
+                null,
+                Status.SO_FAR_SO_GOOD,
+                UNKNOWN,
+                txInfo,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                UNKNOWN_VERSION);
     }
 }
@@ -7,6 +7,7 @@ import static com.hedera.hapi.node.base.ResponseCodeEnum.OK;
 import static com.hedera.hapi.node.base.ResponseCodeEnum.PAYER_ACCOUNT_DELETED;
 import static com.hedera.hapi.node.base.ResponseCodeEnum.PAYER_ACCOUNT_NOT_FOUND;
 import static com.hedera.hapi.util.HapiUtils.isHollow;
+import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.ACCOUNTS_KEY;
 import static com.hedera.node.app.workflows.prehandle.PreHandleResult.Status.SO_FAR_SO_GOOD;
 import static com.hedera.node.app.workflows.prehandle.PreHandleResult.nodeDueDiligenceFailure;
 import static com.hedera.node.app.workflows.prehandle.PreHandleResult.preHandleFailure;
@@ -21,6 +22,7 @@ import com.hedera.hapi.node.state.token.Account;
 import com.hedera.hapi.node.transaction.TransactionBody;
 import com.hedera.hapi.platform.event.StateSignatureTransaction;
 import com.hedera.node.app.service.token.ReadableAccountStore;
+import com.hedera.node.app.service.token.TokenService;
 import com.hedera.node.app.signature.ExpandedSignaturePair;
 import com.hedera.node.app.signature.SignatureExpander;
 import com.hedera.node.app.signature.SignatureVerificationFuture;
@@ -33,21 +35,30 @@ import com.hedera.node.app.store.ReadableStoreFactory;
 import com.hedera.node.app.workflows.TransactionChecker;
 import com.hedera.node.app.workflows.TransactionInfo;
 import com.hedera.node.app.workflows.dispatcher.TransactionDispatcher;
+import com.hedera.node.app.workflows.handle.conflict.StateAccessSet;
 import com.hedera.node.app.workflows.purechecks.PureChecksContextImpl;
 import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.config.VersionedConfiguration;
+import com.hedera.node.config.data.HandleConfig;
 import com.hedera.node.config.data.HederaConfig;
+import com.hedera.node.config.data.PreHandleConfig;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.state.lifecycle.info.NodeInfo;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 import javax.inject.Inject;
+import javax.inject.Named;
 import javax.inject.Singleton;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -89,6 +100,23 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
      * Used for registering notice of transactionIDs seen by this node
      */
     private final DeduplicationCache deduplicationCache;
+    /**
+     * Runs batches of the transactions of each event
+     */
+    private final ExecutorService executor;
+    /**
+     * Records queue times and per-transaction costs
+     */
+    private final PreHandleMetrics metrics;
+    /**
+     * The number of transactions of an event pre-handled together in one task
+     */
+    private final int transactionsPerTask;
+    /**
+     * Bounds the number of tasks queued or running on the pre-handle pool. Callers never wait for a permit, they
+     * pre-handle the batch themselves instead.
+     */
+    private final Semaphore taskPermits;
 
     /**
      * Creates a new instance of {@code PreHandleWorkflowImpl}.
@@ -97,6 +125,8 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
      *                           transaction.
      * @param transactionChecker the {@link TransactionChecker} for parsing and verifying the transaction
      * @param signatureVerifier  the {@link SignatureVerifier} to verify signatures
+     * @param executor           the {@link ExecutorService} to pre-handle batches of transactions on
+     * @param metrics            the {@link PreHandleMetrics} to record queue times and per-transaction costs
      * @throws NullPointerException if any of the parameters is {@code null}
      */
     @Inject
@@ -106,13 +136,20 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
             @NonNull final SignatureVerifier signatureVerifier,
             @NonNull final SignatureExpander signatureExpander,
             @NonNull final ConfigProvider configProvider,
-            @NonNull final DeduplicationCache deduplicationCache) {
+            @NonNull final DeduplicationCache deduplicationCache,
+            @NonNull @Named("PreHandle") final ExecutorService executor,
+            @NonNull final PreHandleMetrics metrics) {
         this.dispatcher = requireNonNull(dispatcher);
         this.transactionChecker = requireNonNull(transactionChecker);
         this.signatureVerifier = requireNonNull(signatureVerifier);
         this.signatureExpander = requireNonNull(signatureExpander);
         this.configProvider = requireNonNull(configProvider);
         this.deduplicationCache = requireNonNull(deduplicationCache);
+        this.executor = requireNonNull(executor);
+        this.metrics = requireNonNull(metrics);
+        final var preHandleConfig = configProvider.getConfiguration().getConfigData(PreHandleConfig.class);
+        this.transactionsPerTask = preHandleConfig.transactionsPerTask();
+        this.taskPermits = new Semaphore(preHandleConfig.maxQueuedTasks());
     }
 
     /**
@@ -130,11 +167,81 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
         requireNonNull(transactions);
         requireNonNull(stateSignatureTxnCallback);
 
+        final List<Transaction> txs = transactions.toList();
+        if (txs.isEmpty()) {
+            return;
+        }
+
         // Used for looking up payer account information.
         final var accountStore = readableStoreFactory.getStore(ReadableAccountStore.class);
 
-        // In parallel, we will pre-handle each transaction.
-        transactions.parallel().forEach(tx -> {
+        // We split the transactions of the event into batches, and pre-handle all but the first batch on the
+        // pre-handle pool, while this thread pre-handles the first batch itself. A batch only goes to the pool if it
+        // has fewer than maxQueuedTasks tasks queued or running. Otherwise, this thread pre-handles it too, so the
+        // next event to be handled never waits behind an unbounded backlog of newer events, and no thread blocks
+        // waiting for room on the pool.
+        final int numTasks = (txs.size() + transactionsPerTask - 1) / transactionsPerTask;
+        final List<CompletableFuture<Void>> futures = new ArrayList<>(numTasks - 1);
+        final List<List<Transaction>> ownBatches = new ArrayList<>();
+        ownBatches.add(txs.subList(0, Math.min(txs.size(), transactionsPerTask)));
+        for (int i = 1; i < numTasks; i++) {
+            final var batch = txs.subList(i * transactionsPerTask, Math.min(txs.size(), (i + 1) * transactionsPerTask));
+            if (taskPermits.tryAcquire()) {
+                try {
+                    futures.add(submitBatch(
+                            creatorInfo, readableStoreFactory, accountStore, batch, stateSignatureTxnCallback));
+                } catch (final RejectedExecutionException e) {
+                    // The pool has been shut down
+                    taskPermits.release();
+                    ownBatches.add(batch);
+                }
+            } else {
+                ownBatches.add(batch);
+            }
+        }
+        for (final var batch : ownBatches) {
+            preHandleBatch(creatorInfo, readableStoreFactory, accountStore, batch, stateSignatureTxnCallback);
+        }
+        // When called on a ForkJoin worker, join() waits through ForkJoinPool.managedBlock, so the platform's pool
+        // can compensate for this thread while the other batches finish
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+    }
+
+    /**
+     * Submits a batch of transactions to the pre-handle pool. The caller must hold a task permit, which is released
+     * when the batch is done.
+     */
+    private CompletableFuture<Void> submitBatch(
+            @NonNull final NodeInfo creatorInfo,
+            @NonNull final ReadableStoreFactory readableStoreFactory,
+            @NonNull final ReadableAccountStore accountStore,
+            @NonNull final List<Transaction> batch,
+            @NonNull final Consumer<StateSignatureTransaction> stateSignatureTxnCallback) {
+        final long submitted = System.nanoTime();
+        return CompletableFuture.runAsync(
+                () -> {
+                    try {
+                        metrics.updateQueueTime(System.nanoTime() - submitted);
+                        preHandleBatch(
+                                creatorInfo, readableStoreFactory, accountStore, batch, stateSignatureTxnCallback);
+                    } finally {
+                        taskPermits.release();
+                    }
+                },
+                executor);
+    }
+
+    /**
+     * Pre-handles the given transactions one after the other, setting the result as the metadata of each.
+     */
+    private void preHandleBatch(
+            @NonNull final NodeInfo creatorInfo,
+            @NonNull final ReadableStoreFactory readableStoreFactory,
+            @NonNull final ReadableAccountStore accountStore,
+            @NonNull final List<Transaction> batch,
+            @NonNull final Consumer<StateSignatureTransaction> stateSignatureTxnCallback) {
+        for (final var tx : batch) {
+            final long start = System.nanoTime();
             try {
                 final var result = preHandleAllTransactions(
                         creatorInfo,
@@ -151,7 +258,8 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
                 logger.error("Unexpected Exception while running the pre-handle workflow", unexpectedException);
                 tx.setMetadata(unknownFailure());
             }
-        });
+            metrics.updateTransactionTime(System.nanoTime() - start);
+        }
     }
 
     // For each transaction, we will use a background thread to parse the transaction, validate it, lookup the
@@ -336,6 +444,18 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
                     payer, payerKey, preCheck.responseCode(), txInfo, Set.of(), Set.of(), Set.of(), results);
         }
 
+        // 2c. Collect the state accesses declared by the transaction handler, which are only used to analyze the
+        // conflicts between the transactions of a round
+        final StateAccessSet declaredAccesses;
+        if (configuration.getConfigData(HandleConfig.class).conflictAnalysisEnabled()) {
+            final var declarations = new StateAccessDeclarationsImpl();
+            declarations.declareWrite(TokenService.NAME, ACCOUNTS_KEY, payer);
+            dispatcher.dispatchDeclareStateAccesses(context, declarations);
+            declaredAccesses = declarations.accesses();
+        } else {
+            declaredAccesses = null;
+        }
+
         // 3. Get the verification results
         final var results = verifySignatures(txInfo, context, VerifyOnlyPayerKey.NO, payerIsHollow, previousResult);
 
@@ -351,6 +471,7 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
                 context.requiredHollowAccounts(),
                 results,
                 isAtomicBatch(txInfo) ? new ArrayList<>() : null,
+                declaredAccesses,
                 configuration.getVersion());
     }
 
@@ -5,11 +5,17 @@ import com.hedera.node.app.signature.SignatureExpander;
 import com.hedera.node.app.signature.SignatureVerifier;
 import com.hedera.node.app.signature.impl.SignatureExpanderImpl;
 import com.hedera.node.app.signature.impl.SignatureVerifierImpl;
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.data.PreHandleConfig;
 import dagger.Binds;
 import dagger.Module;
 import dagger.Provides;
+import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
+import javax.inject.Named;
+import javax.inject.Singleton;
 
 @Module
 public interface PreHandleWorkflowInjectionModule {
@@ -26,4 +32,24 @@ public interface PreHandleWorkflowInjectionModule {
     static ExecutorService provideExecutorService() {
         return ForkJoinPool.commonPool();
     }
+
+    /**
+     * Provides the pool that pre-handles the transactions of each event, kept apart from the common pool so that
+     * pre-handle doesn't compete with hashing and other work that uses the common pool. It is shut down by
+     * {@code Hedera} when the component is replaced or the node shuts down.
+     */
+    @Provides
+    @Singleton
+    @Named("PreHandle")
+    static ExecutorService providePreHandleExecutor(@NonNull final ConfigProvider configProvider) {
+        final int threads =
+                configProvider.getConfiguration().getConfigData(PreHandleConfig.class).threads();
+        final int parallelism = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        final ForkJoinWorkerThreadFactory threadFactory = pool -> {
+            final var thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("pre-handle-" + thread.getPoolIndex());
+            return thread;
+        };
+        return new ForkJoinPool(parallelism, threadFactory, Thread.getDefaultUncaughtExceptionHandler(), false);
+    }
 }
@@ -0,0 +1,48 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.workflows.prehandle;
+
+import com.hedera.node.app.spi.workflows.StateAccessDeclarations;
+import com.hedera.node.app.workflows.handle.conflict.StateAccessSet;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * The implementation of {@link StateAccessDeclarations} used during pre-handle, which collects the declared accesses
+ * into a {@link StateAccessSet}.
+ */
+public class StateAccessDeclarationsImpl implements StateAccessDeclarations {
+    private final StateAccessSet accesses = new StateAccessSet();
+    private boolean unbounded;
+
+    @Override
+    public void declareRead(
+            @NonNull final String serviceName, @NonNull final String stateKey, @Nullable final Object key) {
+        if (!unbounded) {
+            accesses.addRead(serviceName, stateKey, key);
+        }
+    }
+
+    @Override
+    public void declareWrite(
+            @NonNull final String serviceName, @NonNull final String stateKey, @Nullable final Object key) {
+        if (!unbounded) {
+            accesses.addWrite(serviceName, stateKey, key);
+        }
+    }
+
+    @Override
+    public void declareUnbounded() {
+        unbounded = true;
+        accesses.clear();
+    }
+
+    /**
+     * Returns the declared accesses.
+     *
+     * @return the declared accesses, or null if they are unbounded
+     */
+    @Nullable
+    public StateAccessSet accesses() {
+        return unbounded ? null : accesses;
+    }
+}
@@ -226,6 +226,6 @@ public class StandaloneDispatchFactory {
     }
 
     private PreHandleResult temporaryPreHandleResult() {
-        return new PreHandleResult(null, null, UNKNOWN_FAILURE, OK, null, null, null, null, null, null, -1);
+        return new PreHandleResult(null, null, UNKNOWN_FAILURE, OK, null, null, null, null, null, null, null, -1);
     }
 }
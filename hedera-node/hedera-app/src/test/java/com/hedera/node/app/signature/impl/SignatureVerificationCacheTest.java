@@ -0,0 +1,93 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.signature.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hiero.base.crypto.VerificationStatus.INVALID;
+import static org.hiero.base.crypto.VerificationStatus.UNKNOWN;
+import static org.hiero.base.crypto.VerificationStatus.VALID;
+
+import com.hedera.node.app.utils.TestUtils;
+import com.hedera.node.config.VersionedConfigImpl;
+import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import org.hiero.base.crypto.SignatureType;
+import org.hiero.base.crypto.TransactionSignature;
+import org.hiero.base.crypto.VerificationStatus;
+import org.junit.jupiter.api.Test;
+
+class SignatureVerificationCacheTest {
+    private static final Bytes MESSAGE = Bytes.wrap(new byte[1024]);
+    private static final Bytes PUBLIC_KEY = Bytes.wrap(new byte[32]);
+    private static final Bytes SIGNATURE = Bytes.wrap(new byte[64]);
+
+    private final SignatureVerificationCache subject = cacheOfSize(1024);
+
+    @Test
+    void disabledWhenSizeIsZero() {
+        final var disabled = cacheOfSize(0);
+        disabled.record(verified(MESSAGE, SIGNATURE, VALID));
+
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(disabled.lookup(unverified(MESSAGE, SIGNATURE))).isFalse();
+    }
+
+    @Test
+    void recordedResultsAreFound() {
+        subject.record(verified(MESSAGE, SIGNATURE, INVALID));
+
+        final var txSig = unverified(MESSAGE, SIGNATURE);
+        assertThat(subject.lookup(txSig)).isTrue();
+        assertThat(txSig.getSignatureStatus()).isEqualTo(INVALID);
+    }
+
+    @Test
+    void unverifiedSignaturesAreNotRecorded() {
+        subject.record(unverified(MESSAGE, SIGNATURE));
+
+        assertThat(subject.lookup(unverified(MESSAGE, SIGNATURE))).isFalse();
+    }
+
+    @Test
+    void messagesLongerThanTheLimitAreNotCached() {
+        final var longMessage = Bytes.wrap(new byte[1025]);
+        subject.record(verified(longMessage, SIGNATURE, VALID));
+
+        assertThat(subject.lookup(unverified(longMessage, SIGNATURE))).isFalse();
+    }
+
+    @Test
+    void differentSignaturesAreNotFound() {
+        subject.record(verified(MESSAGE, SIGNATURE, VALID));
+
+        final var txSig = unverified(MESSAGE, Bytes.wrap(new byte[] {1, 2, 3}));
+        assertThat(subject.lookup(txSig)).isFalse();
+        assertThat(txSig.getSignatureStatus()).isEqualTo(UNKNOWN);
+    }
+
+    @Test
+    void sameSignatureOverADifferentMessageIsNotFound() {
+        subject.record(verified(MESSAGE, SIGNATURE, VALID));
+
+        final var txSig = unverified(Bytes.wrap(new byte[] {1}), SIGNATURE);
+        assertThat(subject.lookup(txSig)).isFalse();
+        assertThat(txSig.getSignatureStatus()).isEqualTo(UNKNOWN);
+    }
+
+    private static SignatureVerificationCache cacheOfSize(final int size) {
+        final var config = HederaTestConfigBuilder.create()
+                .withValue("cache.signatures.size", size)
+                .getOrCreateConfig();
+        return new SignatureVerificationCache(TestUtils.metrics(), () -> new VersionedConfigImpl(config, 1));
+    }
+
+    private static TransactionSignature unverified(final Bytes message, final Bytes signature) {
+        return new TransactionSignature(message, PUBLIC_KEY, signature, SignatureType.ED25519);
+    }
+
+    private static TransactionSignature verified(
+            final Bytes message, final Bytes signature, final VerificationStatus status) {
+        final var txSig = unverified(message, signature);
+        txSig.setSignatureStatus(status);
+        return txSig;
+    }
+}
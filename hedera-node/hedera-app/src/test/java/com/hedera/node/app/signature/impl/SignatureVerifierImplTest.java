@@ -9,7 +9,7 @@ import static com.hedera.node.app.spi.signatures.SignatureVerifier.MessageType.R
 import static java.util.Collections.emptySet;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -19,8 +19,12 @@ import com.hedera.node.app.hapi.utils.MiscCryptoUtils;
 import com.hedera.node.app.signature.ExpandedSignaturePair;
 import com.hedera.node.app.signature.SignatureVerifier;
 import com.hedera.node.app.spi.fixtures.Scenarios;
+import com.hedera.node.app.utils.TestUtils;
+import com.hedera.node.config.VersionedConfigImpl;
+import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import org.hiero.base.crypto.Cryptography;
@@ -50,7 +54,7 @@ final class SignatureVerifierImplTest extends AppTestBase implements Scenarios {
     private Cryptography cryptoEngine;
     /** Captures the args sent to the crypto engine. */
     @Captor
-    ArgumentCaptor<TransactionSignature> sigsCaptor;
+    ArgumentCaptor<List<TransactionSignature>> sigsCaptor;
     /** The verifier under test. */
     private SignatureVerifierImpl verifier;
 
@@ -64,7 +68,8 @@ final class SignatureVerifierImplTest extends AppTestBase implements Scenarios {
     @DisplayName("Null Args are not permitted")
     void failIfConstructorArgsAreNull() {
         //noinspection DataFlowIssue
-        assertThatThrownBy(() -> new SignatureVerifierImpl(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new SignatureVerifierImpl((Cryptography) null))
+                .isInstanceOf(NullPointerException.class);
     }
 
     @Test
@@ -110,13 +115,13 @@ final class SignatureVerifierImplTest extends AppTestBase implements Scenarios {
                 hollowPair(ERIN.keyInfo().publicKey(), ERIN.account()));
 
         //noinspection unchecked
-        doAnswer((Answer<Void>) invocation -> {
-                    final TransactionSignature signature = invocation.getArgument(0);
-                    signature.setSignatureStatus(VerificationStatus.VALID);
-                    return null;
+        doAnswer((Answer<Boolean>) invocation -> {
+                    final List<TransactionSignature> signatures = invocation.getArgument(0);
+                    signatures.forEach(signature -> signature.setSignatureStatus(VerificationStatus.VALID));
+                    return true;
                 })
                 .when(cryptoEngine)
-                .verifySync(any(TransactionSignature.class));
+                .verifySync(anyList());
 
         // When we verify them
         final var map = verifier.verify(signedBytes, sigs);
@@ -132,6 +137,39 @@ final class SignatureVerifierImplTest extends AppTestBase implements Scenarios {
                 .isEqualTo(true);
     }
 
+    /**
+     * A signature verified once is not given to the crypto engine again when the verifier has a cache.
+     */
+    @Test
+    @DisplayName("Repeated signatures are answered from the cache")
+    void repeatedSignaturesAreAnsweredFromTheCache() {
+        // Given a verifier with a cache, and a crypto engine that passes every signature
+        final var cache = new SignatureVerificationCache(
+                TestUtils.metrics(), () -> new VersionedConfigImpl(HederaTestConfigBuilder.createConfig(), 1));
+        final var cachingVerifier = new SignatureVerifierImpl(cryptoEngine, cache);
+        final var sigs = Set.of(ecdsaPair(ALICE.keyInfo().publicKey()), ed25519Pair(BOB.keyInfo().publicKey()));
+        //noinspection unchecked
+        doAnswer((Answer<Boolean>) invocation -> {
+                    final List<TransactionSignature> signatures = invocation.getArgument(0);
+                    signatures.forEach(signature -> signature.setSignatureStatus(VerificationStatus.VALID));
+                    return true;
+                })
+                .when(cryptoEngine)
+                .verifySync(anyList());
+
+        // When we verify the same signatures twice
+        cachingVerifier.verify(signedBytes, sigs);
+        final var map = cachingVerifier.verify(signedBytes, sigs);
+
+        // Then the crypto engine only verified the signatures once, and both still pass
+        verify(cryptoEngine, times(1)).verifySync(anyList());
+        assertThat(map.values())
+                .allSatisfy(future -> assertThat(future)
+                        .succeedsWithin(1, TimeUnit.SECONDS)
+                        .extracting("passed")
+                        .isEqualTo(true));
+    }
+
     @ParameterizedTest
     @CsvSource({"RAW", "KECCAK_256_HASH"})
     @DisplayName("Crypto Engine is given array with all the required data")
@@ -151,8 +189,9 @@ final class SignatureVerifierImplTest extends AppTestBase implements Scenarios {
         verifier.verify(signedBytes, sigs, messageType);
 
         // Then we find the crypto engine was given an array with all the data
-        verify(cryptoEngine, times(3)).verifySync(sigsCaptor.capture());
-        final var txSigs = sigsCaptor.getAllValues();
+        verify(cryptoEngine).verifySync(sigsCaptor.capture());
+        final var txSigs = sigsCaptor.getValue();
+        assertThat(txSigs).hasSize(3);
 
         final var itr = sigs.iterator();
         for (int i = 0; i < 3; i++) {
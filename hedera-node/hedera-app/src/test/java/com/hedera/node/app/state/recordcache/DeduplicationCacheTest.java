@@ -5,15 +5,19 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.lenient;
 
+import com.hedera.hapi.node.base.AccountID;
 import com.hedera.hapi.node.base.Timestamp;
 import com.hedera.hapi.node.base.TransactionID;
 import com.hedera.node.app.state.DeduplicationCache;
 import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.config.VersionedConfiguration;
 import com.hedera.node.config.data.HederaConfig;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import java.time.Instant;
 import java.time.InstantSource;
-import java.util.Set;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -31,7 +35,9 @@ final class DeduplicationCacheTest {
     @Mock
     private ConfigProvider props;
 
-    private final InstantSource instantSource = InstantSource.system();
+    private Instant now = Instant.now();
+
+    private final InstantSource instantSource = () -> now;
 
     @BeforeEach
     void setUp(@Mock final VersionedConfiguration versionedConfig, @Mock final HederaConfig hederaConfig) {
@@ -54,7 +60,6 @@ final class DeduplicationCacheTest {
     @DisplayName("Add a transaction ID that has expired")
     void addTransactionIDThatHasExpired() {
         // Given a transaction ID that has expired
-        final var now = Instant.now();
         final var txId = TransactionID.newBuilder()
                 .transactionValidStart(Timestamp.newBuilder()
                         .seconds(now.getEpochSecond() - MAX_TXN_DURATION - 1)
@@ -65,7 +70,7 @@ final class DeduplicationCacheTest {
         cache.add(txId);
 
         // Then it is not added!
-        assertThat(internalSet()).isEmpty();
+        assertThat(internalBuckets()).isEmpty();
         assertThat(cache.contains(txId)).isFalse();
     }
 
@@ -73,7 +78,6 @@ final class DeduplicationCacheTest {
     @DisplayName("Add a transaction ID that is far in the future")
     void addTransactionIDInTheFuture() {
         // Given a transaction ID that is far in the future
-        final var now = Instant.now();
         final var txId = TransactionID.newBuilder()
                 .transactionValidStart(Timestamp.newBuilder()
                         .seconds(now.getEpochSecond() + MAX_TXN_DURATION + 1)
@@ -85,7 +89,7 @@ final class DeduplicationCacheTest {
 
         // We allow it to be added. The TransactionChecker is responsible for filtering out future transactions,
         // not this cache.
-        assertThat(internalSet()).containsExactly(txId);
+        assertThat(internalBuckets()).containsOnlyKeys(txId.transactionValidStartOrThrow().seconds());
         assertThat(cache.contains(txId)).isTrue();
     }
 
@@ -93,7 +97,6 @@ final class DeduplicationCacheTest {
     @DisplayName("Add a transaction ID that is in the right time window")
     void addTransactionIDInTheRightTimeWindow() {
         // Given a transaction ID that is in the right time window
-        final var now = Instant.now();
         final var txId = TransactionID.newBuilder()
                 .transactionValidStart(Timestamp.newBuilder()
                         .seconds(now.getEpochSecond() + MAX_TXN_DURATION / 2)
@@ -104,15 +107,14 @@ final class DeduplicationCacheTest {
         cache.add(txId);
 
         // Then it is added
-        assertThat(internalSet()).containsExactly(txId);
+        assertThat(internalBuckets()).containsOnlyKeys(txId.transactionValidStartOrThrow().seconds());
         assertThat(cache.contains(txId)).isTrue();
     }
 
     @Test
-    @DisplayName("TransactionIDs are sorted by earliest date first")
-    void transactionIDsAreSortedByEarliestDateFirst() {
+    @DisplayName("TransactionIDs are bucketed by valid start second, earliest first")
+    void transactionIDsAreBucketedByValidStartSecond() {
         // Given some transaction IDs with different valid start times
-        final var now = Instant.now();
         final var txIds = Stream.of(17, 16, 10, 13, 19, 14, 11, 18, 12, 15)
                 .map(i -> TransactionID.newBuilder()
                         .transactionValidStart(Timestamp.newBuilder()
@@ -124,32 +126,110 @@ final class DeduplicationCacheTest {
         // When we add them to the cache
         txIds.forEach(cache::add);
 
-        // Then they are added in order
-        assertThat(internalSet())
+        // Then there is one bucket per second, in order
+        assertThat(internalBuckets().keySet())
                 .containsExactly(
-                        txIds.get(2),
-                        txIds.get(6),
-                        txIds.get(8),
-                        txIds.get(3),
-                        txIds.get(5),
-                        txIds.get(9),
-                        txIds.get(1),
-                        txIds.get(0),
-                        txIds.get(7),
-                        txIds.get(4));
+                        now.getEpochSecond() + 10,
+                        now.getEpochSecond() + 11,
+                        now.getEpochSecond() + 12,
+                        now.getEpochSecond() + 13,
+                        now.getEpochSecond() + 14,
+                        now.getEpochSecond() + 15,
+                        now.getEpochSecond() + 16,
+                        now.getEpochSecond() + 17,
+                        now.getEpochSecond() + 18,
+                        now.getEpochSecond() + 19);
+        assertThat(txIds).allMatch(cache::contains);
+    }
+
+    @Test
+    @DisplayName("TransactionIDs that differ in any field are distinct")
+    void transactionIDsThatDifferInAnyFieldAreDistinct() {
+        // Given a transaction ID, and variations of it that differ in a single field
+        final var txId = TransactionID.newBuilder()
+                .accountID(AccountID.newBuilder().accountNum(1001).build())
+                .transactionValidStart(Timestamp.newBuilder()
+                        .seconds(now.getEpochSecond())
+                        .nanos(123)
+                        .build())
+                .build();
+        final var variations = List.of(
+                txId.copyBuilder()
+                        .accountID(AccountID.newBuilder().accountNum(1002).build())
+                        .build(),
+                txId.copyBuilder()
+                        .accountID(AccountID.newBuilder()
+                                .realmNum(1)
+                                .accountNum(1001)
+                                .build())
+                        .build(),
+                txId.copyBuilder()
+                        .accountID(AccountID.newBuilder()
+                                .alias(Bytes.wrap(new byte[] {1, 2, 3}))
+                                .build())
+                        .build(),
+                txId.copyBuilder()
+                        .transactionValidStart(Timestamp.newBuilder()
+                                .seconds(now.getEpochSecond())
+                                .nanos(124)
+                                .build())
+                        .build(),
+                txId.copyBuilder()
+                        .transactionValidStart(Timestamp.newBuilder()
+                                .seconds(now.getEpochSecond() + 1)
+                                .nanos(123)
+                                .build())
+                        .build(),
+                txId.copyBuilder().nonce(1).build(),
+                txId.copyBuilder().scheduled(true).build());
+
+        // When we add only the original to the cache
+        cache.add(txId);
+
+        // Then none of the variations are found
+        assertThat(cache.contains(txId)).isTrue();
+        assertThat(variations).noneMatch(cache::contains);
+
+        // And each of them is found once added
+        variations.forEach(cache::add);
+        assertThat(variations).allMatch(cache::contains);
+    }
+
+    @Test
+    @DisplayName("Many TransactionIDs in the same second are all found")
+    void manyTransactionIDsInTheSameSecond() {
+        // Given many transaction IDs with the same valid start second
+        final var txIds = IntStream.range(0, 10_000)
+                .mapToObj(i -> TransactionID.newBuilder()
+                        .accountID(AccountID.newBuilder().accountNum(1000 + i % 100).build())
+                        .transactionValidStart(Timestamp.newBuilder()
+                                .seconds(now.getEpochSecond())
+                                .nanos(i)
+                                .build())
+                        .build())
+                .toList();
+
+        // When we add them to the cache
+        txIds.forEach(cache::add);
+
+        // Then they are all found, but an ID that was never added is not
+        assertThat(internalBuckets()).hasSize(1);
+        assertThat(txIds).allMatch(cache::contains);
+        assertThat(cache.contains(txIds.getFirst().copyBuilder().nonce(7).build()))
+                .isFalse();
     }
 
     @Test
     @DisplayName("TransactionIDs that expire are removed during add")
     void expungeDuringAdd() {
         // Given a transaction ID that has expired but is still in the cache
-        final var now = Instant.now();
         final var txId = TransactionID.newBuilder()
                 .transactionValidStart(Timestamp.newBuilder()
-                        .seconds(now.getEpochSecond() - MAX_TXN_DURATION - 1)
+                        .seconds(now.getEpochSecond())
                         .build())
                 .build();
-        internalSet().add(txId);
+        cache.add(txId);
+        now = now.plusSeconds(MAX_TXN_DURATION + 1);
 
         // When we add a new transaction ID that is in the right time window
         final var txId2 = TransactionID.newBuilder()
@@ -160,34 +240,33 @@ final class DeduplicationCacheTest {
         cache.add(txId2);
 
         // Then we find that the expired transaction ID is gone
-        assertThat(internalSet()).containsExactly(txId2);
+        assertThat(internalBuckets()).containsOnlyKeys(txId2.transactionValidStartOrThrow().seconds());
     }
 
     @Test
     @DisplayName("TransactionIDs that expire are not returned by `contains`")
     void expiredNotContained() {
         // Given a transaction ID that has expired but is still in the cache
-        final var now = Instant.now();
         final var txId = TransactionID.newBuilder()
                 .transactionValidStart(Timestamp.newBuilder()
-                        .seconds(now.getEpochSecond() - MAX_TXN_DURATION - 1)
+                        .seconds(now.getEpochSecond())
                         .build())
                 .build();
-        internalSet().add(txId);
+        cache.add(txId);
+        now = now.plusSeconds(MAX_TXN_DURATION + 1);
 
         // When we check to see if it is in the cache
         final var result = cache.contains(txId);
 
         // Then we find that the expired transaction ID is gone
         assertThat(result).isFalse();
-        assertThat(internalSet()).isEmpty();
+        assertThat(internalBuckets()).isEmpty();
     }
 
     @Test
     @DisplayName("Duplicates are ignored")
     void duplicatesAreIgnored() {
         // Given a transaction ID that is in the right time window
-        final var now = Instant.now();
         final var txId = TransactionID.newBuilder()
                 .transactionValidStart(Timestamp.newBuilder()
                         .seconds(now.getEpochSecond() + MAX_TXN_DURATION / 2)
@@ -199,22 +278,22 @@ final class DeduplicationCacheTest {
         cache.add(txId);
 
         // Then it is added only once
-        assertThat(internalSet()).containsExactly(txId);
+        assertThat(internalBuckets()).hasSize(1);
         assertThat(cache.contains(txId)).isTrue();
     }
 
     /**
-     * Utility method for testing purposes that gets at the internal Set used by the cache. This makes it possible to
-     * test more completely without having to open the access permissions on the cache itself.
+     * Utility method for testing purposes that gets at the internal buckets used by the cache. This makes it possible
+     * to test more completely without having to open the access permissions on the cache itself.
      *
-     * @return The internal Set of the cache.
+     * @return The internal buckets of the cache, by valid start second.
      */
-    private Set<TransactionID> internalSet() {
+    private Map<Long, ?> internalBuckets() {
         try {
-            final var field = DeduplicationCacheImpl.class.getDeclaredField("submittedTxns");
+            final var field = DeduplicationCacheImpl.class.getDeclaredField("buckets");
             field.setAccessible(true);
             //noinspection unchecked
-            return (Set<TransactionID>) field.get(cache);
+            return (Map<Long, ?>) field.get(cache);
         } catch (NoSuchFieldException | IllegalAccessException e) {
             throw new RuntimeException(e);
         }
@@ -0,0 +1,150 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.state.recordcache;
+
+import static com.hedera.hapi.node.base.ResponseCodeEnum.SCHEDULE_ALREADY_DELETED;
+import static com.hedera.hapi.node.base.ResponseCodeEnum.SUCCESS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.hapi.node.base.TransactionID;
+import com.hedera.hapi.node.transaction.TransactionReceipt;
+import com.hedera.hapi.node.transaction.TransactionRecord;
+import com.hedera.node.app.spi.records.RecordSource;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class OffHeapRecordSourceTest {
+    private static final TransactionRecord FIRST_RECORD = TransactionRecord.newBuilder()
+            .receipt(TransactionReceipt.newBuilder()
+                    .status(SCHEDULE_ALREADY_DELETED)
+                    .build())
+            .transactionID(TransactionID.newBuilder().nonce(1).build())
+            .memo("FIRST")
+            .build();
+    private static final TransactionRecord SECOND_RECORD = TransactionRecord.newBuilder()
+            .receipt(TransactionReceipt.newBuilder().status(SUCCESS).build())
+            .transactionID(TransactionID.newBuilder().nonce(2).build())
+            .memo("SECOND")
+            .build();
+    private static final List<TransactionRecord> RECORDS = List.of(FIRST_RECORD, SECOND_RECORD);
+
+    private final OffHeapRecordRing ring = new OffHeapRecordRing(64);
+    private final OffHeapRecordSource subject = OffHeapRecordSource.appending(new PartialRecordSource(RECORDS), ring);
+
+    @Test
+    void consumerGetsAllRecords() {
+        assertThat(recordsOf(subject)).containsExactlyElementsOf(RECORDS);
+        assertThat(subject.onHeapCount()).isZero();
+        assertThat(subject.identifiedReceipts())
+                .containsExactly(
+                        new RecordSource.IdentifiedReceipt(
+                                FIRST_RECORD.transactionIDOrThrow(), FIRST_RECORD.receiptOrThrow()),
+                        new RecordSource.IdentifiedReceipt(
+                                SECOND_RECORD.transactionIDOrThrow(), SECOND_RECORD.receiptOrThrow()));
+    }
+
+    @Test
+    void getsPresentReceiptsAndThrowsOtherwise() {
+        assertThat(subject.receiptOf(FIRST_RECORD.transactionIDOrThrow())).isEqualTo(FIRST_RECORD.receiptOrThrow());
+        assertThat(subject.receiptOf(SECOND_RECORD.transactionIDOrThrow())).isEqualTo(SECOND_RECORD.receiptOrThrow());
+        assertThatThrownBy(() -> subject.receiptOf(TransactionID.newBuilder().nonce(3).build()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void getsChildReceipts() {
+        assertThat(subject.childReceiptsOf(TransactionID.DEFAULT))
+                .containsExactly(FIRST_RECORD.receiptOrThrow(), SECOND_RECORD.receiptOrThrow());
+        assertThat(subject.childReceiptsOf(TransactionID.newBuilder().nonce(3).build()))
+                .isEmpty();
+    }
+
+    @Test
+    void readsRecordsThatWrapAroundTheRing() {
+        for (int i = 0; i < 10; i++) {
+            final var wrapped = OffHeapRecordSource.appending(new PartialRecordSource(FIRST_RECORD), ring);
+
+            assertThat(wrapped.onHeapCount()).isZero();
+            assertThat(recordsOf(wrapped)).containsExactly(FIRST_RECORD);
+            ring.release(wrapped.end());
+        }
+    }
+
+    @Test
+    void keepsRecordsOnHeapUntilTheRingHasRoom() {
+        final var full = OffHeapRecordSource.appending(new PartialRecordSource(RECORDS), ring);
+        final var overflowing = OffHeapRecordSource.appending(new PartialRecordSource(RECORDS), ring);
+
+        assertThat(full.onHeapCount()).isZero();
+        assertThat(overflowing.onHeapCount()).isEqualTo(2);
+        assertThat(overflowing.end()).isEqualTo(-1L);
+        assertThat(recordsOf(overflowing)).containsExactlyElementsOf(RECORDS);
+        assertThat(overflowing.receiptOf(FIRST_RECORD.transactionIDOrThrow()))
+                .isEqualTo(FIRST_RECORD.receiptOrThrow());
+        assertThat(recordsOf(subject)).containsExactlyElementsOf(RECORDS);
+
+        ring.release(full.end());
+        final var appended = OffHeapRecordSource.appending(new PartialRecordSource(RECORDS), ring);
+
+        assertThat(appended.onHeapCount()).isZero();
+        assertThat(recordsOf(appended)).containsExactlyElementsOf(RECORDS);
+    }
+
+    @Test
+    void fallsBackToPartialRecordsOnceReleasedAndOverwritten() {
+        ring.release(subject.end());
+        for (int i = 0; i < 2; i++) {
+            final var later = OffHeapRecordSource.appending(new PartialRecordSource(RECORDS), ring);
+            ring.release(later.end());
+        }
+
+        assertThat(subject.receiptOf(FIRST_RECORD.transactionIDOrThrow()))
+                .isEqualTo(TransactionReceipt.newBuilder()
+                        .status(SCHEDULE_ALREADY_DELETED)
+                        .build());
+        assertThat(recordsOf(subject))
+                .containsExactly(
+                        TransactionRecord.newBuilder()
+                                .transactionID(FIRST_RECORD.transactionIDOrThrow())
+                                .receipt(FIRST_RECORD.receiptOrThrow())
+                                .build(),
+                        TransactionRecord.newBuilder()
+                                .transactionID(SECOND_RECORD.transactionIDOrThrow())
+                                .receipt(SECOND_RECORD.receiptOrThrow())
+                                .build());
+    }
+
+    @Test
+    void tracksTheHistoriesIncludingTheSource() {
+        assertThat(subject.isExpired()).isTrue();
+        subject.addHistory();
+        subject.addHistory();
+        subject.removeHistory();
+        assertThat(subject.isExpired()).isFalse();
+        subject.removeHistory();
+        assertThat(subject.isExpired()).isTrue();
+    }
+
+    @Test
+    void ringRefusesToOverwriteUnreleasedBytes() {
+        assertThat(ring.append(Bytes.wrap(new byte[ring.capacity() + 1]))).isEqualTo(-1L);
+        assertThat(ring.read(-1L, 1)).isNull();
+
+        final var smallRing = new OffHeapRecordRing(8);
+        final var bytes = Bytes.wrap(new byte[] {1, 2, 3});
+        assertThat(smallRing.append(Bytes.wrap(new byte[6]))).isZero();
+        assertThat(smallRing.append(bytes)).isEqualTo(-1L);
+        smallRing.release(6);
+        assertThat(smallRing.append(bytes)).isEqualTo(6L);
+        assertThat(smallRing.read(6L, 3)).isEqualTo(bytes);
+        assertThatThrownBy(() -> new OffHeapRecordRing(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<TransactionRecord> recordsOf(final RecordSource source) {
+        final List<TransactionRecord> records = new ArrayList<>();
+        source.forEachTxnRecord(records::add);
+        return records;
+    }
+}
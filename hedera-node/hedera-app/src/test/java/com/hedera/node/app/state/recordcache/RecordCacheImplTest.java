@@ -33,8 +33,10 @@ import com.hedera.node.app.state.HederaRecordCache.DueDiligenceFailure;
 import com.hedera.node.app.state.WorkingStateAccessor;
 import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.config.VersionedConfiguration;
+import com.hedera.node.config.data.CacheConfig;
 import com.hedera.node.config.data.HederaConfig;
 import com.hedera.node.config.data.LedgerConfig;
+import com.hedera.node.config.data.StatsConfig;
 import com.swirlds.state.lifecycle.StartupNetworks;
 import com.swirlds.state.lifecycle.info.NetworkInfo;
 import com.swirlds.state.lifecycle.info.NodeInfo;
@@ -44,6 +46,7 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import java.time.Instant;
 import java.time.InstantSource;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -91,11 +94,15 @@ final class RecordCacheImplTest extends AppTestBase {
     @Mock
     private NodeInfo nodeInfo;
 
+    @Mock
+    private CacheConfig cacheConfig;
+
     @BeforeEach
     void setUp(
             @Mock final VersionedConfiguration versionedConfig,
             @Mock final HederaConfig hederaConfig,
             @Mock final LedgerConfig ledgerConfig,
+            @Mock final StatsConfig statsConfig,
             @Mock final NetworkInfo networkInfo) {
         dedupeCache = new DeduplicationCacheImpl(props, instantSource);
         final var registry = new FakeSchemaRegistry();
@@ -107,8 +114,11 @@ final class RecordCacheImplTest extends AppTestBase {
         lenient().when(props.getConfiguration()).thenReturn(versionedConfig);
         lenient().when(versionedConfig.getConfigData(HederaConfig.class)).thenReturn(hederaConfig);
         lenient().when(hederaConfig.transactionMaxValidDuration()).thenReturn(180L);
+        lenient().when(versionedConfig.getConfigData(CacheConfig.class)).thenReturn(cacheConfig);
         lenient().when(versionedConfig.getConfigData(LedgerConfig.class)).thenReturn(ledgerConfig);
         lenient().when(ledgerConfig.recordsMaxQueryableByAccount()).thenReturn(MAX_QUERYABLE_PER_ACCOUNT);
+        lenient().when(versionedConfig.getConfigData(StatsConfig.class)).thenReturn(statsConfig);
+        lenient().when(statsConfig.runningAvgHalfLifeSecs()).thenReturn(10.0);
     }
 
     private TransactionID transactionID() {
@@ -128,11 +138,13 @@ final class RecordCacheImplTest extends AppTestBase {
     @DisplayName("Null args to constructor throw NPE")
     @SuppressWarnings("DataFlowIssue")
     void nullArgsToConstructorThrowNPE() {
-        assertThatThrownBy(() -> new RecordCacheImpl(null, wsa, props, networkInfo))
+        assertThatThrownBy(() -> new RecordCacheImpl(null, wsa, props, networkInfo, metrics))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new RecordCacheImpl(dedupeCache, null, props, networkInfo, metrics))
                 .isInstanceOf(NullPointerException.class);
-        assertThatThrownBy(() -> new RecordCacheImpl(dedupeCache, null, props, networkInfo))
+        assertThatThrownBy(() -> new RecordCacheImpl(dedupeCache, wsa, null, networkInfo, metrics))
                 .isInstanceOf(NullPointerException.class);
-        assertThatThrownBy(() -> new RecordCacheImpl(dedupeCache, wsa, null, networkInfo))
+        assertThatThrownBy(() -> new RecordCacheImpl(dedupeCache, wsa, props, networkInfo, null))
                 .isInstanceOf(NullPointerException.class);
     }
 
@@ -202,7 +214,7 @@ final class RecordCacheImplTest extends AppTestBase {
             ((ListWritableQueueState<?>) queue).commit();
 
             // When we create the cache
-            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo);
+            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo, metrics);
 
             final var entry0Record = asRecord(entries.get(0));
             final var entry1Record = asRecord(entries.get(1));
@@ -264,7 +276,7 @@ final class RecordCacheImplTest extends AppTestBase {
             queue.add(entry);
             ((ListWritableQueueState<?>) queue).commit();
 
-            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo);
+            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo, metrics);
 
             final var entry0Record = asRecord(entries.get(0));
             final var entry1Record = asRecord(entries.get(1));
@@ -306,7 +318,7 @@ final class RecordCacheImplTest extends AppTestBase {
         @DisplayName("Query for receipt for no such txn returns null")
         void queryForReceiptForNoSuchTxnReturnsNull() {
             // Given a transaction unknown to the record cache and de-duplication cache
-            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo);
+            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo, metrics);
             final var missingTxId = transactionID();
 
             // When we look up the receipt, then we get null
@@ -317,7 +329,7 @@ final class RecordCacheImplTest extends AppTestBase {
         @DisplayName("Query for receipts for no such txn returns EMPTY LIST")
         void queryForReceiptsForNoSuchTxnReturnsNull() {
             // Given a transaction unknown to the record cache and de-duplication cache
-            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo);
+            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo, metrics);
             final var missingTxId = transactionID();
 
             // When we look up the receipts, then we get an empty list
@@ -328,7 +340,7 @@ final class RecordCacheImplTest extends AppTestBase {
         @DisplayName("Query for receipts for an account ID with no receipts returns EMPTY LIST")
         void queryForReceiptsForAccountWithNoRecords() {
             // Given a transaction unknown to the record cache and de-duplication cache
-            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo);
+            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo, metrics);
 
             // When we look up the receipts, then we get an empty list
             assertThat(getReceipts(cache, PAYER_ACCOUNT_ID)).isEmpty();
@@ -338,7 +350,7 @@ final class RecordCacheImplTest extends AppTestBase {
         @DisplayName("Query for receipt for txn in UNKNOWN state returns UNKNOWN")
         void queryForReceiptForUnhandledTxnReturnsNull() {
             // Given a transaction known to the de-duplication cache but not the record cache
-            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo);
+            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo, metrics);
             final var unhandledTxId = transactionID();
             dedupeCache.add(unhandledTxId);
 
@@ -350,7 +362,7 @@ final class RecordCacheImplTest extends AppTestBase {
         @DisplayName("Query for receipts by account ID for txn in UNKNOWN state returns EMPTY LIST")
         void queryForReceiptsForUnhandledTxnByAccountID() {
             // Given a transaction known to the de-duplication cache but not the record cache
-            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo);
+            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo, metrics);
             final var unhandledTxId = transactionID();
             dedupeCache.add(unhandledTxId);
 
@@ -366,7 +378,7 @@ final class RecordCacheImplTest extends AppTestBase {
         @DisplayName("Query for receipt for a txn with a proper record")
         void queryForReceiptForTxnWithRecord(@NonNull final ResponseCodeEnum status) {
             // Given a transaction known to the de-duplication cache but not the record cache
-            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo);
+            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo, metrics);
             final var txId = transactionID();
             final var receipt = TransactionReceipt.newBuilder().status(status).build();
             final var record = TransactionRecord.newBuilder()
@@ -381,12 +393,87 @@ final class RecordCacheImplTest extends AppTestBase {
             assertThat(getReceipt(cache, txId)).isEqualTo(receipt);
         }
 
+        @Test
+        @DisplayName("Query for receipts and records of txns kept off-heap")
+        void queryForReceiptsAndRecordsKeptOffHeap() {
+            // Given a cache that keeps records in an off-heap ring
+            given(cacheConfig.recordsOffHeapSize()).willReturn(1024);
+            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo, metrics);
+            final var txId = transactionID();
+            final var childTxId = txId.copyBuilder().nonce(1).build();
+            final var receipt = TransactionReceipt.newBuilder().status(SUCCESS).build();
+            final var childReceipt =
+                    TransactionReceipt.newBuilder().status(ACCOUNT_IS_IMMUTABLE).build();
+            final var record = TransactionRecord.newBuilder()
+                    .transactionID(txId)
+                    .receipt(receipt)
+                    .memo("PARENT")
+                    .build();
+            final var childRecord = TransactionRecord.newBuilder()
+                    .transactionID(childTxId)
+                    .receipt(childReceipt)
+                    .memo("CHILD")
+                    .build();
+
+            // When the records are added to the cache
+            cache.addRecordSource(
+                    0, txId, DueDiligenceFailure.NO, new PartialRecordSource(List.of(record, childRecord)));
+
+            // Then the receipts and records are parsed back from the ring
+            final var receipts = cache.getReceipts(txId);
+            assertThat(receipts).isNotNull();
+            assertThat(receipts.priorityReceipt(txId)).isEqualTo(receipt);
+            assertThat(receipts.childReceipts(txId)).containsExactly(childReceipt);
+            assertThat(getRecords(cache, txId)).containsExactly(record, childRecord);
+            assertThat(cache.hasDuplicate(txId, 0L)).isEqualTo(SAME_NODE);
+        }
+
+        @Test
+        @DisplayName("Records that do not fit off-heap until older ones expire are kept on the heap")
+        void keepsRecordsOnHeapUntilOlderOffHeapRecordsExpire() {
+            // Given records that each fit in the off-heap ring, but no two of which fit together
+            final List<TransactionRecord> records = new ArrayList<>();
+            for (int i = 1; i <= 5; i++) {
+                records.add(TransactionRecord.newBuilder()
+                        .transactionID(transactionID(i))
+                        .receipt(TransactionReceipt.newBuilder().status(SUCCESS).build())
+                        .memo("MEMO")
+                        .build());
+            }
+            final int recordSize = (int) TransactionRecord.PROTOBUF.toBytes(records.getFirst()).length();
+            given(cacheConfig.recordsOffHeapSize()).willReturn(recordSize + 8);
+            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo, metrics);
+            final var state = wsa.getState();
+            assertThat(state).isNotNull();
+            final var now = Instant.now();
+
+            // When all but the last record are added and committed in a round
+            for (final var record : records.subList(0, 4)) {
+                cache.addRecordSource(
+                        0, record.transactionIDOrThrow(), DueDiligenceFailure.NO, new PartialRecordSource(record));
+            }
+            cache.commitRoundReceipts(state, now);
+            // Then the records that did not fit in the ring are still queryable in full, and counted
+            for (final var record : records.subList(0, 4)) {
+                assertThat(getRecord(cache, record.transactionIDOrThrow())).isEqualTo(record);
+            }
+            assertThat(counterMetric("recordCacheOffHeapOverflows").get()).isEqualTo(3L);
+
+            // And once the records expire, the ring has room for the next record again
+            cache.commitRoundReceipts(state, now.plusSeconds(200));
+            final var last = records.getLast();
+            cache.addRecordSource(
+                    0, last.transactionIDOrThrow(), DueDiligenceFailure.NO, new PartialRecordSource(last));
+            assertThat(getRecord(cache, last.transactionIDOrThrow())).isEqualTo(last);
+            assertThat(counterMetric("recordCacheOffHeapOverflows").get()).isEqualTo(3L);
+        }
+
         @ParameterizedTest
         @MethodSource("receiptStatusCodes")
         @DisplayName("Query for receipts for a txn with a proper record")
         void queryForReceiptsForTxnWithRecord(@NonNull final ResponseCodeEnum status) {
             // Given a transaction known to the de-duplication cache but not the record cache
-            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo);
+            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo, metrics);
             final var txId = transactionID();
             final var receipt = TransactionReceipt.newBuilder().status(status).build();
             final var record = TransactionRecord.newBuilder()
@@ -406,7 +493,7 @@ final class RecordCacheImplTest extends AppTestBase {
         @DisplayName("Query for receipts for an account ID with a proper record")
         void queryForReceiptsForAccountIdWithRecord(@NonNull final ResponseCodeEnum status) {
             // Given a transaction known to the de-duplication cache but not the record cache
-            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo);
+            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo, metrics);
             final var txId = transactionID();
             final var receipt = TransactionReceipt.newBuilder().status(status).build();
             final var record = TransactionRecord.newBuilder()
@@ -427,7 +514,7 @@ final class RecordCacheImplTest extends AppTestBase {
                 "Only up to recordsMaxQueryableByAccount receipts are returned for an account ID with multiple records")
         void queryForManyReceiptsForAccountID(final int numRecords) {
             // Given a number of transactions with several records each, all for the same payer
-            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo);
+            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo, metrics);
             // Normally consensus time is AFTER the transaction ID time by a couple of seconds
             var consensusTime = Instant.now().plusSeconds(2);
             for (int i = 0; i < numRecords; i++) {
@@ -466,7 +553,7 @@ final class RecordCacheImplTest extends AppTestBase {
         @Test
         @DisplayName("Query for record for unknown txn returns null")
         void queryForRecordForUnknownTxnReturnsNull() {
-            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo);
+            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo, metrics);
             final var missingTxId = transactionID();
 
             assertThat(getRecord(cache, missingTxId)).isNull();
@@ -475,7 +562,7 @@ final class RecordCacheImplTest extends AppTestBase {
         @Test
         @DisplayName("Query for records for unknown txn returns EMPTY LIST")
         void queryForRecordsForUnknownTxnReturnsNull() {
-            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo);
+            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo, metrics);
             final var missingTxId = transactionID();
 
             assertThat(getRecords(cache, missingTxId)).isEmpty();
@@ -484,7 +571,7 @@ final class RecordCacheImplTest extends AppTestBase {
         @Test
         @DisplayName("Query for record for account ID with no receipts returns EMPTY LIST")
         void queryForRecordByAccountForUnknownTxn() {
-            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo);
+            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo, metrics);
 
             assertThat(cache.getRecords(PAYER_ACCOUNT_ID)).isEmpty();
         }
@@ -492,7 +579,7 @@ final class RecordCacheImplTest extends AppTestBase {
         @Test
         @DisplayName("Query for record for tx with receipt in UNKNOWN state returns null")
         void queryForRecordForUnknownTxn() {
-            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo);
+            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo, metrics);
             final var txId = transactionID();
             dedupeCache.add(txId);
 
@@ -502,7 +589,7 @@ final class RecordCacheImplTest extends AppTestBase {
         @Test
         @DisplayName("Query for records for tx with receipt in UNKNOWN state returns EMPTY LIST")
         void queryForRecordsForUnknownTxn() {
-            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo);
+            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo, metrics);
             final var txId = transactionID();
             dedupeCache.add(txId);
 
@@ -512,7 +599,7 @@ final class RecordCacheImplTest extends AppTestBase {
         @Test
         @DisplayName("Query for records for tx by account ID with receipt in UNKNOWN state returns EMPTY LIST")
         void queryForRecordsByAccountForUnknownTxn() {
-            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo);
+            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo, metrics);
             final var txId = transactionID();
             dedupeCache.add(txId);
 
@@ -524,7 +611,7 @@ final class RecordCacheImplTest extends AppTestBase {
         @DisplayName("Query for record for a txn with a proper record")
         void queryForRecordForTxnWithRecord(@NonNull final ResponseCodeEnum status) {
             // Given a transaction known to the de-duplication cache but not the record cache
-            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo);
+            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo, metrics);
             final var txId = transactionID();
             final var receipt = TransactionReceipt.newBuilder().status(status).build();
             final var record = TransactionRecord.newBuilder()
@@ -544,7 +631,7 @@ final class RecordCacheImplTest extends AppTestBase {
         @DisplayName("Query for records for a txn with a proper record")
         void queryForRecordsForTxnWithRecord(@NonNull final ResponseCodeEnum status) {
             // Given a transaction known to the de-duplication cache but not the record cache
-            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo);
+            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo, metrics);
             final var txId = transactionID();
             final var tx = simpleCryptoTransfer(txId);
             final var receipt = TransactionReceipt.newBuilder().status(status).build();
@@ -563,7 +650,7 @@ final class RecordCacheImplTest extends AppTestBase {
         @Test
         void unclassifiableStatusIsNotPriority() {
             // Given a transaction known to the de-duplication cache but not the record cache
-            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo);
+            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo, metrics);
             final var txId = transactionID();
             final var unclassifiableReceipt =
                     TransactionReceipt.newBuilder().status(INVALID_NODE_ACCOUNT).build();
@@ -598,7 +685,7 @@ final class RecordCacheImplTest extends AppTestBase {
         @DisplayName("Query for records for an account ID with a proper record")
         void queryForRecordsForAccountIdWithRecord(@NonNull final ResponseCodeEnum status) {
             // Given a transaction known to the de-duplication cache but not the record cache
-            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo);
+            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo, metrics);
             final var txId = transactionID();
             final var tx = simpleCryptoTransfer(txId);
             final var receipt = TransactionReceipt.newBuilder().status(status).build();
@@ -630,14 +717,14 @@ final class RecordCacheImplTest extends AppTestBase {
         @DisplayName("Null args to hasDuplicate throw NPE")
         @SuppressWarnings("DataFlowIssue")
         void duplicateCheckWithIllegalParameters() {
-            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo);
+            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo, metrics);
             assertThatThrownBy(() -> cache.hasDuplicate(null, 1L)).isInstanceOf(NullPointerException.class);
         }
 
         @Test
         @DisplayName("Check duplicate for unknown txn returns NO_DUPLICATE")
         void duplicateCheckForUnknownTxn() {
-            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo);
+            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo, metrics);
             final var missingTxId = transactionID();
 
             assertThat(cache.hasDuplicate(missingTxId, 1L)).isEqualTo(NO_DUPLICATE);
@@ -646,7 +733,7 @@ final class RecordCacheImplTest extends AppTestBase {
         @Test
         @DisplayName("Check duplicate for tx with receipt in UNKNOWN state returns NO_DUPLICATE")
         void duplicateCheckForUnknownState() {
-            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo);
+            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo, metrics);
             final var txId = transactionID();
             dedupeCache.add(txId);
 
@@ -657,7 +744,7 @@ final class RecordCacheImplTest extends AppTestBase {
         @DisplayName("Check duplicate for txn with a proper record from other node")
         void duplicateCheckForTxnFromOtherNode() {
             // Given a transaction known to the de-duplication cache but not the record cache
-            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo);
+            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo, metrics);
             final var txId = transactionID();
             final var tx = simpleCryptoTransfer(txId);
             final var receipt = TransactionReceipt.newBuilder().status(OK).build();
@@ -677,7 +764,7 @@ final class RecordCacheImplTest extends AppTestBase {
         @DisplayName("Check duplicate for txn with a proper record from same node")
         void duplicateCheckForTxnFromSameNode() {
             // Given a transaction known to the de-duplication cache but not the record cache
-            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo);
+            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo, metrics);
             final var txId = transactionID();
             final var tx = simpleCryptoTransfer(txId);
             final var receipt = TransactionReceipt.newBuilder().status(OK).build();
@@ -697,7 +784,7 @@ final class RecordCacheImplTest extends AppTestBase {
         @DisplayName("Check duplicate for txn with a proper record from several other nodes")
         void duplicateCheckForTxnFromMultipleOtherNodes() {
             // Given a transaction known to the de-duplication cache but not the record cache
-            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo);
+            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo, metrics);
             final var txId = transactionID();
             final var receipt = TransactionReceipt.newBuilder().status(OK).build();
             final var record = TransactionRecord.newBuilder()
@@ -719,7 +806,7 @@ final class RecordCacheImplTest extends AppTestBase {
         @DisplayName("Check duplicate for txn with a proper record from several nodes including the current")
         void duplicateCheckForTxnFromMultipleNodesIncludingCurrent(final long currentNodeId) {
             // Given a transaction known to the de-duplication cache but not the record cache
-            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo);
+            final var cache = new RecordCacheImpl(dedupeCache, wsa, props, networkInfo, metrics);
             final var txId = transactionID();
             final var receipt = TransactionReceipt.newBuilder().status(OK).build();
             final var record = TransactionRecord.newBuilder()
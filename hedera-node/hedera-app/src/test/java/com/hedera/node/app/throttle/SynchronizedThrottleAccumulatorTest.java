@@ -3,6 +3,7 @@ package com.hedera.node.app.throttle;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -45,12 +46,15 @@ class SynchronizedThrottleAccumulatorTest {
         final var state = mock(State.class);
         final List<ThrottleUsage> usages = new ArrayList<>();
 
+        final var stateUsage = new ThrottleAccumulator.StateUsage(1, 2, 0);
+        given(throttleAccumulator.stateUsageOf(transactionInfo, state)).willReturn(stateUsage);
+
         // when
         subject.shouldThrottle(transactionInfo, state, usages);
 
         // then
         verify(throttleAccumulator, times(1))
-                .checkAndEnforceThrottle(eq(transactionInfo), any(), eq(state), eq(usages));
+                .checkAndEnforceThrottle(eq(transactionInfo), any(), eq(state), eq(usages), eq(stateUsage));
     }
 
     @Test
@@ -66,6 +70,6 @@ class SynchronizedThrottleAccumulatorTest {
         // then
         verify(throttleAccumulator, times(1))
                 .checkAndEnforceThrottle(
-                        eq(HederaFunctionality.CONTRACT_CREATE), any(), eq(query), eq(state), eq(accountID));
+                        eq(HederaFunctionality.CONTRACT_CREATE), any(), eq(query), eq(state), eq(accountID), eq(null));
     }
 }
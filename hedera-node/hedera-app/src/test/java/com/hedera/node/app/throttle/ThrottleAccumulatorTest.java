@@ -30,6 +30,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.protobuf.ByteString;
@@ -665,6 +666,66 @@ class ThrottleAccumulatorTest {
         assertFalse(ans);
     }
 
+    @ParameterizedTest
+    @EnumSource(value = ThrottleAccumulator.ThrottleType.class, mode = EnumSource.Mode.EXCLUDE, names = "NOOP_THROTTLE")
+    void usesPrecomputedStateUsageWithoutReadingState(ThrottleAccumulator.ThrottleType throttleType)
+            throws IOException, ParseException {
+        // given
+        subject = new ThrottleAccumulator(
+                () -> CAPACITY_SPLIT,
+                configProvider::getConfiguration,
+                throttleType,
+                throttleMetrics,
+                gasThrottle,
+                bytesThrottle,
+                opsDurationThrottle);
+        given(configProvider.getConfiguration()).willReturn(configuration);
+        given(configuration.getConfigData(JumboTransactionsConfig.class)).willReturn(jumboTransactionsConfig);
+        given(configuration.getConfigData(AccountsConfig.class)).willReturn(accountsConfig);
+        given(accountsConfig.lastThrottleExempt()).willReturn(100L);
+        given(configuration.getConfigData(ContractsConfig.class)).willReturn(contractsConfig);
+        given(contractsConfig.throttleThrottleByGas()).willReturn(false);
+        given(jumboTransactionsConfig.isEnabled()).willReturn(false);
+        given(transactionInfo.payerID())
+                .willReturn(AccountID.newBuilder().accountNum(1234L).build());
+        given(transactionInfo.functionality()).willReturn(CRYPTO_TRANSFER);
+        given(configuration.getConfigData(EntitiesConfig.class)).willReturn(entitiesConfig);
+        given(entitiesConfig.unlimitedAutoAssociationsEnabled()).willReturn(true);
+
+        final var defs = getThrottleDefs("bootstrap/throttles.json");
+
+        // when
+        subject.rebuildFor(defs);
+        final var noCreations = new ThrottleAccumulator.StateUsage(0, 0, 0);
+        final var tooManyCreations = new ThrottleAccumulator.StateUsage(100_000, 0, 0);
+        final var allowedAns = subject.checkAndEnforceThrottle(transactionInfo, TIME_INSTANT, state, null, noCreations);
+        final var throttledAns =
+                subject.checkAndEnforceThrottle(transactionInfo, TIME_INSTANT, state, null, tooManyCreations);
+
+        // then
+        assertFalse(allowedAns);
+        assertTrue(throttledAns);
+        verifyNoInteractions(state);
+    }
+
+    @Test
+    void onlyTransfersAndEthereumTransactionsHaveStateUsage() {
+        subject = new ThrottleAccumulator(
+                () -> CAPACITY_SPLIT,
+                configProvider::getConfiguration,
+                FRONTEND_THROTTLE,
+                throttleMetrics,
+                gasThrottle,
+                bytesThrottle,
+                opsDurationThrottle);
+        given(transactionInfo.functionality()).willReturn(TOKEN_MINT);
+
+        assertThat(subject.stateUsageOf(transactionInfo, state)).isNull();
+        assertThat(subject.stateUsageOf(TRANSACTION_GET_RECEIPT, Query.DEFAULT, state))
+                .isNull();
+        verifyNoInteractions(state);
+    }
+
     @ParameterizedTest
     @EnumSource(value = ThrottleAccumulator.ThrottleType.class, mode = EnumSource.Mode.EXCLUDE, names = "NOOP_THROTTLE")
     void ifLazyCreationEnabledComputesNumImplicitCreationsIfNotAlreadyKnown(
@@ -0,0 +1,60 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.workflows.handle.conflict;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ConflictFreeSchedulerTest {
+    private static final String SERVICE = "TokenService";
+    private static final String ACCOUNTS = "ACCOUNTS";
+
+    @Test
+    void partitionsIntoConflictFreeLevelsInOriginalOrder() {
+        final Map<String, StateAccessSet> accesses = Map.of(
+                "a", accesses(List.of(), List.of(1L)),
+                "b", accesses(List.of(), List.of(2L)),
+                "c", accesses(List.of(1L), List.of(3L)),
+                "d", accesses(List.of(4L), List.of()),
+                "e", accesses(List.of(), List.of(3L)));
+
+        final var levels = ConflictFreeScheduler.partition(List.of("a", "b", "c", "d", "e"), accesses::get);
+
+        assertThat(levels).containsExactly(List.of("a", "b", "d"), List.of("c"), List.of("e"));
+    }
+
+    @Test
+    void unknownAccessesAreBarriers() {
+        final Map<String, StateAccessSet> accesses = Map.of(
+                "a", accesses(List.of(), List.of(1L)),
+                "b", accesses(List.of(), List.of(1L)),
+                "d", accesses(List.of(), List.of(2L)));
+
+        final var levels = ConflictFreeScheduler.partition(List.of("a", "b", "c", "d"), accesses::get);
+
+        assertThat(levels).containsExactly(List.of("a"), List.of("b"), List.of("c"), List.of("d"));
+    }
+
+    @Test
+    void reportsTheConflictThatDeterminedTheLevel() {
+        final var subject = new ConflictFreeScheduler();
+
+        assertThat(subject.schedule(accesses(List.of(), List.of(1L)))).isEqualTo(1);
+        assertThat(subject.lastConflict()).isNull();
+        assertThat(subject.schedule(accesses(List.of(1L), List.of()))).isEqualTo(2);
+        assertThat(subject.lastConflict()).isEqualTo(new StateAccess(SERVICE, ACCOUNTS, 1L));
+
+        subject.clear();
+        assertThat(subject.levelCount()).isZero();
+        assertThat(subject.schedule(accesses(List.of(1L), List.of()))).isEqualTo(1);
+    }
+
+    private static StateAccessSet accesses(final List<Long> reads, final List<Long> writes) {
+        final var accesses = new StateAccessSet();
+        reads.forEach(key -> accesses.addRead(SERVICE, ACCOUNTS, key));
+        writes.forEach(key -> accesses.addWrite(SERVICE, ACCOUNTS, key));
+        return accesses;
+    }
+}
@@ -0,0 +1,128 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.workflows.handle.conflict;
+
+import static com.swirlds.metrics.api.Metric.ValueType.VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.node.app.utils.TestUtils;
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.VersionedConfigImpl;
+import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
+import com.swirlds.metrics.api.Metrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RoundConflictAnalyzerTest {
+    private static final String SERVICE = "TokenService";
+    private static final String ACCOUNTS = "ACCOUNTS";
+
+    private final Metrics metrics = TestUtils.metrics();
+    private RoundConflictAnalyzer subject;
+
+    @BeforeEach
+    void setUp() {
+        final var config = HederaTestConfigBuilder.create()
+                .withValue("handle.conflictAnalysisEnabled", true)
+                .getOrCreateConfig();
+        final ConfigProvider configProvider = () -> new VersionedConfigImpl(config, 1);
+        subject = new RoundConflictAnalyzer(metrics, configProvider);
+    }
+
+    @Test
+    void disabledByDefault() {
+        final ConfigProvider configProvider =
+                () -> new VersionedConfigImpl(HederaTestConfigBuilder.createConfig(), 1);
+        final var disabled = new RoundConflictAnalyzer(TestUtils.metrics(), configProvider);
+
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(disabled.startTransaction()).isNull();
+        disabled.endTransaction(null);
+        assertThat(disabled.transactionCount()).isZero();
+    }
+
+    @Test
+    void independentTransactionsShareALevel() {
+        write(1L);
+        write(2L);
+        read(3L);
+        read(3L);
+
+        assertThat(subject.transactionCount()).isEqualTo(4);
+        assertThat(subject.levelCount()).isEqualTo(1);
+    }
+
+    @Test
+    void conflictingTransactionsFormAChain() {
+        // read after write
+        write(1L);
+        read(1L);
+        // write after read
+        write(1L);
+        // write after write
+        write(1L);
+        // unrelated
+        write(2L);
+
+        assertThat(subject.transactionCount()).isEqualTo(5);
+        assertThat(subject.levelCount()).isEqualTo(4);
+    }
+
+    @Test
+    void readsDoNotConflictWithEachOther() {
+        write(1L);
+        read(1L);
+        read(1L);
+        write(1L);
+
+        assertThat(subject.levelCount()).isEqualTo(3);
+    }
+
+    @Test
+    void undeclaredAccessesAreBarriers() {
+        write(1L);
+        final var accesses = subject.startTransaction();
+        assertThat(accesses).isNotNull();
+        accesses.addWrite(SERVICE, ACCOUNTS, 2L);
+        subject.endTransaction(null);
+        write(3L);
+
+        assertThat(subject.levelCount()).isEqualTo(1);
+        assertThat(subject.declaredLevelCount()).isEqualTo(3);
+    }
+
+    @Test
+    void endRoundReportsAndResets() {
+        write(1L);
+        write(1L);
+        write(2L);
+        write(3L);
+        subject.endRound();
+
+        assertThat((double) metrics.getMetric("app", "handleConflictChainLength").get(VALUE))
+                .isGreaterThan(0.0);
+        assertThat((double) metrics.getMetric("app", "handleConflictFreeSpeedup").get(VALUE))
+                .isGreaterThan(0.0);
+        assertThat((double) metrics.getMetric("app", "handleDeclaredConflictFreeSpeedup").get(VALUE))
+                .isGreaterThan(0.0);
+        assertThat(subject.transactionCount()).isZero();
+        assertThat(subject.levelCount()).isZero();
+
+        // the writes of the previous round no longer conflict
+        read(1L);
+        assertThat(subject.levelCount()).isEqualTo(1);
+    }
+
+    private void read(final long key) {
+        final var accesses = subject.startTransaction();
+        assertThat(accesses).isNotNull();
+        accesses.addRead(SERVICE, ACCOUNTS, key);
+        subject.endTransaction(accesses);
+    }
+
+    private void write(final long key) {
+        final var accesses = subject.startTransaction();
+        assertThat(accesses).isNotNull();
+        accesses.addWrite(SERVICE, ACCOUNTS, key);
+        subject.endTransaction(accesses);
+    }
+}
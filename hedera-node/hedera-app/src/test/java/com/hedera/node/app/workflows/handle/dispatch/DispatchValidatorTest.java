@@ -490,6 +490,7 @@ class DispatchValidatorTest {
             Collections.emptySet(),
             null,
             null,
+            null,
             0);
     private static final PreHandleResult SUCCESSFUL_PREHANDLE = new PreHandleResult(
             null,
@@ -502,6 +503,7 @@ class DispatchValidatorTest {
             Collections.emptySet(),
             null,
             null,
+            null,
             0);
     private static final PreHandleResult UNSUCCESSFUL_PREHANDLE = new PreHandleResult(
             null,
@@ -514,6 +516,7 @@ class DispatchValidatorTest {
             Collections.emptySet(),
             null,
             null,
+            null,
             0);
 
     private static final TransactionBody TXN_BODY = TransactionBody.newBuilder()
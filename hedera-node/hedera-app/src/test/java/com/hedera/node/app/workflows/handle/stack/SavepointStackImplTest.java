@@ -21,6 +21,8 @@ import com.hedera.node.app.blocks.impl.KVStateChangeListener;
 import com.hedera.node.app.spi.workflows.HandleContext;
 import com.hedera.node.app.spi.workflows.HandleException;
 import com.hedera.node.app.spi.workflows.record.StreamBuilder;
+import com.hedera.node.app.workflows.handle.conflict.StateAccess;
+import com.hedera.node.app.workflows.handle.conflict.StateAccessSet;
 import com.hedera.node.config.VersionedConfigImpl;
 import com.hedera.node.config.data.BlockStreamConfig;
 import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
@@ -762,6 +764,76 @@ class SavepointStackImplTest extends StateTestBase {
         }
     }
 
+    @Nested
+    @DisplayName("Tests for tracking state accesses")
+    class StateAccessTests {
+        @Test
+        void testCommittedAccessesAreTracked() {
+            // given
+            final var accesses = new StateAccessSet();
+            final var stack = SavepointStackImpl.newRootStack(
+                    baseState, 3, 50, roundStateChangeListener, kvStateChangeListener, streamMode);
+            stack.trackStateAccesses(accesses);
+            stack.createSavepoint();
+            stack.getWritableStates(FOOD_SERVICE).get(FRUIT_STATE_KEY).put(A_KEY, ACAI);
+            stack.commit();
+            stack.getWritableStates(FOOD_SERVICE).get(FRUIT_STATE_KEY).get(C_KEY);
+
+            // when
+            stack.commitFullStack();
+
+            // then
+            assertThat(accesses.writes()).containsExactly(new StateAccess(FOOD_SERVICE, FRUIT_STATE_KEY, A_KEY));
+            assertThat(accesses.reads()).contains(new StateAccess(FOOD_SERVICE, FRUIT_STATE_KEY, C_KEY));
+        }
+
+        @Test
+        void testRolledBackWritesAreTracked() {
+            // given
+            final var accesses = new StateAccessSet();
+            final var stack = SavepointStackImpl.newRootStack(
+                    baseState, 3, 50, roundStateChangeListener, kvStateChangeListener, streamMode);
+            stack.trackStateAccesses(accesses);
+            stack.createSavepoint();
+            stack.getWritableStates(FOOD_SERVICE).get(FRUIT_STATE_KEY).put(A_KEY, ACAI);
+            stack.rollback();
+            stack.getWritableStates(FOOD_SERVICE).get(FRUIT_STATE_KEY).put(B_KEY, BLUEBERRY);
+
+            // when
+            stack.commitFullStack();
+
+            // then
+            assertThat(baseState.getReadableStates(FOOD_SERVICE).get(FRUIT_STATE_KEY).get(A_KEY))
+                    .isEqualTo(APPLE);
+            assertThat(accesses.writes())
+                    .containsExactlyInAnyOrder(
+                            new StateAccess(FOOD_SERVICE, FRUIT_STATE_KEY, A_KEY),
+                            new StateAccess(FOOD_SERVICE, FRUIT_STATE_KEY, B_KEY));
+        }
+
+        @Test
+        void testAccessesOfRolledBackFullStackAreTracked() {
+            // given
+            final var accesses = new StateAccessSet();
+            final var stack = SavepointStackImpl.newRootStack(
+                    baseState, 3, 50, roundStateChangeListener, kvStateChangeListener, streamMode);
+            stack.trackStateAccesses(accesses);
+            stack.getWritableStates(FOOD_SERVICE).get(FRUIT_STATE_KEY).put(A_KEY, ACAI);
+            stack.createSavepoint();
+            stack.getWritableStates(FOOD_SERVICE).get(FRUIT_STATE_KEY).put(B_KEY, BLUEBERRY);
+
+            // when
+            stack.rollbackFullStack();
+
+            // then
+            assertThat(baseState.getReadableStates(FOOD_SERVICE)).has(content(BASE_DATA));
+            assertThat(accesses.writes())
+                    .containsExactlyInAnyOrder(
+                            new StateAccess(FOOD_SERVICE, FRUIT_STATE_KEY, A_KEY),
+                            new StateAccess(FOOD_SERVICE, FRUIT_STATE_KEY, B_KEY));
+        }
+    }
+
     private static Condition<ReadableStates> content(Map<String, String> expected) {
         return new Condition<>(contentCheck(expected), "state " + expected);
     }
@@ -111,13 +111,13 @@ final class SubmissionManagerTest extends AppTestBase {
         @DisplayName("Submission of the transaction to the platform is a success")
         void submittingToPlatformSucceeds() throws PreCheckException {
             // Given a platform that will succeed in taking bytes
-            when(platform.createTransaction(any())).thenReturn(true);
+            when(platform.createTransaction(any(Bytes.class))).thenReturn(true);
 
             // When we submit bytes
             submissionManager.submit(txBody, bytes);
 
             // Then the platform actually receives the bytes
-            verify(platform).createTransaction(bytes.toByteArray());
+            verify(platform).createTransaction(bytes);
             // And the metrics keeping track of errors submitting are NOT touched
             verify(platformTxnRejections, never()).cycle();
             // And the deduplication cache is updated
@@ -128,7 +128,7 @@ final class SubmissionManagerTest extends AppTestBase {
         @DisplayName("If the platform fails to onConsensusRound the bytes, a PreCheckException is thrown")
         void testSubmittingToPlatformFails() {
             // Given a platform that will **fail** in taking bytes
-            when(platform.createTransaction(any())).thenReturn(false);
+            when(platform.createTransaction(any(Bytes.class))).thenReturn(false);
 
             // When we submit bytes, then we fail by exception
             assertThatThrownBy(() -> submissionManager.submit(txBody, bytes))
@@ -145,7 +145,7 @@ final class SubmissionManagerTest extends AppTestBase {
         @DisplayName("Submitting the same transaction twice in close succession rejects the duplicate")
         void testSubmittingDuplicateTransactionsCloseTogether() throws PreCheckException {
             // Given a platform that will succeed in taking bytes
-            when(platform.createTransaction(any())).thenReturn(true);
+            when(platform.createTransaction(any(Bytes.class))).thenReturn(true);
             when(deduplicationCache.contains(txBody.transactionIDOrThrow()))
                     .thenReturn(false)
                     .thenReturn(true);
@@ -209,13 +209,13 @@ final class SubmissionManagerTest extends AppTestBase {
         @DisplayName("An unchecked transaction not in PROD mode can be submitted")
         void testSuccessWithUncheckedSubmit() throws PreCheckException {
             // Given a platform that will succeed in taking the *unchecked* bytes
-            when(platform.createTransaction(uncheckedBytes)).thenReturn(true);
+            when(platform.createTransaction(Bytes.wrap(uncheckedBytes))).thenReturn(true);
 
             // When we submit an unchecked transaction, and separate bytes
             submissionManager.submit(txBody, bytes);
 
             // Then the platform actually sees the unchecked bytes
-            verify(platform).createTransaction(uncheckedBytes);
+            verify(platform).createTransaction(Bytes.wrap(uncheckedBytes));
             // And the metrics keeping track of errors submitting are NOT touched
             verify(platformTxnRejections, never()).cycle();
             // And the deduplication cache is updated
@@ -241,7 +241,7 @@ final class SubmissionManagerTest extends AppTestBase {
                     .hasFieldOrPropertyWithValue("responseCode", PLATFORM_TRANSACTION_NOT_CREATED);
 
             // Then the platform NEVER sees the unchecked bytes
-            verify(platform, never()).createTransaction(uncheckedBytes);
+            verify(platform, never()).createTransaction(Bytes.wrap(uncheckedBytes));
             // We never attempted to submit this tx to the platform, so we don't increase the metric
             verify(platformTxnRejections, never()).cycle();
             // And the deduplication cache is not updated
@@ -267,7 +267,7 @@ final class SubmissionManagerTest extends AppTestBase {
                     .hasFieldOrPropertyWithValue("responseCode", PLATFORM_TRANSACTION_NOT_CREATED);
 
             // Then the platform NEVER sees the unchecked bytes
-            verify(platform, never()).createTransaction(uncheckedBytes);
+            verify(platform, never()).createTransaction(Bytes.wrap(uncheckedBytes));
             // We never attempted to submit this tx to the platform, so we don't increase the metric
             verify(platformTxnRejections, never()).cycle();
             // And the deduplication cache is not updated
@@ -293,7 +293,7 @@ final class SubmissionManagerTest extends AppTestBase {
                     .hasFieldOrPropertyWithValue("responseCode", PLATFORM_TRANSACTION_NOT_CREATED);
 
             // Then the platform NEVER sees the unchecked bytes
-            verify(platform, never()).createTransaction(uncheckedBytes);
+            verify(platform, never()).createTransaction(Bytes.wrap(uncheckedBytes));
             // We never attempted to submit this tx to the platform, so we don't increase the metric
             verify(platformTxnRejections, never()).cycle();
             // And the deduplication cache is not updated
@@ -319,7 +319,7 @@ final class SubmissionManagerTest extends AppTestBase {
                     .hasFieldOrPropertyWithValue("responseCode", PLATFORM_TRANSACTION_NOT_CREATED);
 
             // Then the platform NEVER sees the unchecked bytes
-            verify(platform, never()).createTransaction(uncheckedBytes);
+            verify(platform, never()).createTransaction(Bytes.wrap(uncheckedBytes));
             // We never attempted to submit this tx to the platform, so we don't increase the metric
             verify(platformTxnRejections, never()).cycle();
             // And the deduplication cache is not updated
@@ -354,7 +354,7 @@ final class SubmissionManagerTest extends AppTestBase {
                     .hasFieldOrPropertyWithValue("responseCode", PLATFORM_TRANSACTION_NOT_CREATED);
 
             // Then the platform NEVER sees the unchecked bytes
-            verify(platform, never()).createTransaction(uncheckedBytes);
+            verify(platform, never()).createTransaction(Bytes.wrap(uncheckedBytes));
             // And the deduplication cache is not updated
             verify(deduplicationCache, never()).add(any());
         }
@@ -47,6 +47,7 @@ final class PreHandleResultTest implements Scenarios {
             Set.of(ERIN.account()),
             Map.of(),
             null,
+            null,
             1L);
 
     @Mock
@@ -118,6 +119,7 @@ final class PreHandleResultTest implements Scenarios {
                             Set.of(),
                             DEFAULT_VERIFICATION_RESULTS,
                             List.of(innerResult),
+                            null,
                             DEFAULT_CONFIG_VERSION))
                     .isInstanceOf(NullPointerException.class);
         }
@@ -141,6 +143,7 @@ final class PreHandleResultTest implements Scenarios {
                             Set.of(),
                             DEFAULT_VERIFICATION_RESULTS,
                             List.of(innerResult),
+                            null,
                             DEFAULT_CONFIG_VERSION))
                     .isInstanceOf(NullPointerException.class);
         }
@@ -11,6 +11,8 @@ import static com.hedera.hapi.node.base.ResponseCodeEnum.PAYER_ACCOUNT_NOT_FOUND
 import static com.hedera.hapi.node.base.ResponseCodeEnum.UNKNOWN;
 import static com.hedera.node.app.ids.schemas.V0490EntityIdSchema.ENTITY_ID_STATE_KEY;
 import static com.hedera.node.app.ids.schemas.V0590EntityIdSchema.ENTITY_COUNTS_KEY;
+import static com.hedera.node.app.service.consensus.impl.ConsensusServiceImpl.TOPICS_KEY;
+import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.ACCOUNTS_KEY;
 import static com.hedera.node.app.workflows.TransactionScenarioBuilder.scenario;
 import static com.hedera.node.app.workflows.prehandle.PreHandleResult.Status.SO_FAR_SO_GOOD;
 import static com.hedera.node.app.workflows.prehandle.PreHandleResult.Status.UNKNOWN_FAILURE;
@@ -22,17 +24,20 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.hedera.hapi.node.base.ResponseCodeEnum;
+import com.hedera.hapi.node.base.TopicID;
 import com.hedera.hapi.node.state.common.EntityNumber;
 import com.hedera.hapi.node.state.entity.EntityCounts;
 import com.hedera.node.app.fixtures.AppTestBase;
 import com.hedera.node.app.fixtures.state.FakeState;
 import com.hedera.node.app.ids.EntityIdService;
+import com.hedera.node.app.service.consensus.ConsensusService;
 import com.hedera.node.app.service.token.ReadableAccountStore;
 import com.hedera.node.app.service.token.TokenService;
 import com.hedera.node.app.signature.AppKeyVerifier;
@@ -44,11 +49,14 @@ import com.hedera.node.app.signature.impl.SignatureVerificationImpl;
 import com.hedera.node.app.spi.fixtures.Scenarios;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.spi.workflows.PreHandleContext;
+import com.hedera.node.app.spi.workflows.StateAccessDeclarations;
 import com.hedera.node.app.state.DeduplicationCache;
 import com.hedera.node.app.store.ReadableStoreFactory;
+import com.hedera.node.app.utils.TestUtils;
 import com.hedera.node.app.workflows.TransactionChecker;
 import com.hedera.node.app.workflows.TransactionScenarioBuilder;
 import com.hedera.node.app.workflows.dispatcher.TransactionDispatcher;
+import com.hedera.node.app.workflows.handle.conflict.StateAccess;
 import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.config.VersionedConfigImpl;
 import com.hedera.node.config.data.HederaConfig;
@@ -59,7 +67,12 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 import org.hiero.consensus.model.transaction.Transaction;
@@ -154,7 +167,36 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
                 signatureVerifier,
                 signatureExpander,
                 configProvider,
-                deduplicationCache);
+                deduplicationCache,
+                ForkJoinPool.commonPool(),
+                new PreHandleMetrics(TestUtils.metrics(), configProvider));
+    }
+
+    private PreHandleWorkflow workflowWithPool(final int maxQueuedTasks, final ExecutorService executor) {
+        final var config = new VersionedConfigImpl(
+                HederaTestConfigBuilder.create()
+                        .withValue("preHandle.maxQueuedTasks", maxQueuedTasks)
+                        .getOrCreateConfig(),
+                DEFAULT_CONFIG_VERSION);
+        when(configProvider.getConfiguration()).thenReturn(config);
+        return new PreHandleWorkflowImpl(
+                dispatcher,
+                transactionChecker,
+                signatureVerifier,
+                signatureExpander,
+                configProvider,
+                deduplicationCache,
+                executor,
+                new PreHandleMetrics(TestUtils.metrics(), configProvider));
+    }
+
+    private void givenConflictAnalysisEnabled() {
+        final var config = new VersionedConfigImpl(
+                HederaTestConfigBuilder.create()
+                        .withValue("handle.conflictAnalysisEnabled", true)
+                        .getOrCreateConfig(),
+                DEFAULT_CONFIG_VERSION);
+        when(configProvider.getConfiguration()).thenReturn(config);
     }
 
     /**
@@ -239,6 +281,102 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
             assertThat(result.payer()).isEqualTo(NODE_1.nodeAccountID());
         }
 
+        /**
+         * The transactions of a large event are pre-handled in several batches, and every one of them must still get
+         * its own result.
+         */
+        @Test
+        @DisplayName("Every transaction of an event spanning several batches is pre-handled")
+        void preHandleEveryTransactionOfALargeEvent() throws PreCheckException {
+            // Given an event with many more transactions than fit in one batch
+            final List<Transaction> platformTxs = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                platformTxs.add(createAppPayloadWrapper(randomByteArray(123)));
+            }
+            when(transactionChecker.parseAndCheck(any(Bytes.class), anyInt()))
+                    .thenThrow(new PreCheckException(INVALID_TRANSACTION));
+
+            // When we pre-handle the event
+            workflow.preHandle(storeFactory, NODE_1.asInfo(), platformTxs.stream(), txns -> {});
+
+            // Then every transaction has a result
+            for (final var platformTx : platformTxs) {
+                final PreHandleResult result = platformTx.getMetadata();
+                assertThat(result.responseCode()).isEqualTo(INVALID_TRANSACTION);
+                assertThat(result.payer()).isEqualTo(NODE_1.nodeAccountID());
+            }
+        }
+
+        /**
+         * The pre-handle pool never has more tasks queued or running than configured. The calling thread pre-handles
+         * any other batch itself instead of waiting for room on the pool.
+         */
+        @Test
+        @DisplayName("Batches beyond the task bound are pre-handled by the calling thread")
+        void preHandleBoundsTasksOnThePool() throws PreCheckException, InterruptedException {
+            // Given a pool with room for a single task, and an event with many more transactions than fit in one batch
+            final ExecutorService pool = Executors.newFixedThreadPool(4);
+            final PreHandleWorkflow boundedWorkflow = workflowWithPool(1, pool);
+            final List<Transaction> platformTxs = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                platformTxs.add(createAppPayloadWrapper(randomByteArray(123)));
+            }
+            final Thread caller = Thread.currentThread();
+            final AtomicInteger poolTransactions = new AtomicInteger();
+            final AtomicInteger maxPoolTransactions = new AtomicInteger();
+            when(transactionChecker.parseAndCheck(any(Bytes.class), anyInt())).thenAnswer(invocation -> {
+                if (Thread.currentThread() != caller) {
+                    maxPoolTransactions.accumulateAndGet(poolTransactions.incrementAndGet(), Math::max);
+                    Thread.sleep(1);
+                    poolTransactions.decrementAndGet();
+                }
+                throw new PreCheckException(INVALID_TRANSACTION);
+            });
+
+            try {
+                // When we pre-handle the event
+                boundedWorkflow.preHandle(storeFactory, NODE_1.asInfo(), platformTxs.stream(), txns -> {});
+            } finally {
+                pool.shutdown();
+                assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+            }
+
+            // Then the pool never pre-handled more than one batch at a time, and every transaction has a result
+            assertThat(maxPoolTransactions.get()).isLessThanOrEqualTo(1);
+            for (final var platformTx : platformTxs) {
+                final PreHandleResult result = platformTx.getMetadata();
+                assertThat(result.responseCode()).isEqualTo(INVALID_TRANSACTION);
+            }
+        }
+
+        /**
+         * The pre-handle pool is shut down when the node shuts down or its components are replaced. An event that is
+         * still being pre-handled at that point is pre-handled entirely by the calling thread.
+         */
+        @Test
+        @DisplayName("Every transaction is pre-handled after the pool is shut down")
+        void preHandleAfterThePoolIsShutDown() throws PreCheckException {
+            // Given a pool that has been shut down, and an event with many more transactions than fit in one batch
+            final ExecutorService pool = Executors.newFixedThreadPool(1);
+            pool.shutdown();
+            final PreHandleWorkflow shutDownWorkflow = workflowWithPool(4, pool);
+            final List<Transaction> platformTxs = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                platformTxs.add(createAppPayloadWrapper(randomByteArray(123)));
+            }
+            when(transactionChecker.parseAndCheck(any(Bytes.class), anyInt()))
+                    .thenThrow(new PreCheckException(INVALID_TRANSACTION));
+
+            // When we pre-handle the event
+            shutDownWorkflow.preHandle(storeFactory, NODE_1.asInfo(), platformTxs.stream(), txns -> {});
+
+            // Then every transaction has a result
+            for (final var platformTx : platformTxs) {
+                final PreHandleResult result = platformTx.getMetadata();
+                assertThat(result.responseCode()).isEqualTo(INVALID_TRANSACTION);
+            }
+        }
+
         /**
          * It may be that while performing syntactics check we encounter some random {@link Throwable}. If that happens,
          * then the {@link PreHandleResult} will have a status of {@link ResponseCodeEnum#UNKNOWN} and the payer will be
@@ -568,10 +706,82 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
             assertThat(result.txInfo()).isNotNull();
             assertThat(result.txInfo()).isSameAs(txInfo);
             assertThat(result.configVersion()).isEqualTo(DEFAULT_CONFIG_VERSION);
+            // And no accesses are declared, since conflict analysis is disabled
+            assertThat(result.declaredAccesses()).isNull();
+            verify(dispatcher, never()).dispatchDeclareStateAccesses(any(), any());
             // And we do see this transaction registered with the deduplication cache
             verify(deduplicationCache).add(txInfo.txBody().transactionIDOrThrow());
         }
 
+        @Test
+        @DisplayName("Happy path with conflict analysis collects the declared state accesses")
+        void happyPathWithConflictAnalysis(@Mock SignatureVerificationFuture sigFuture) throws Exception {
+            // Given conflict analysis is enabled
+            givenConflictAnalysisEnabled();
+            // And a transaction whose handler declares a write to a topic
+            final var payerAccount = ALICE.accountID();
+            final var payerKey = ALICE.keyInfo().publicKey();
+            final var topicId = TopicID.newBuilder().topicNum(1234L).build();
+            final var txInfo = scenario().withPayer(payerAccount).txInfo();
+            final var txBytes = asByteArray(txInfo.transaction());
+            final Transaction platformTx = createAppPayloadWrapper(txBytes);
+            when(sigFuture.get(anyLong(), any())).thenReturn(new SignatureVerificationImpl(payerKey, null, true));
+            when(transactionChecker.parseAndCheck(any(Bytes.class), anyInt())).thenReturn(txInfo);
+            when(signatureVerifier.verify(any(), any())).thenReturn(Map.of(payerKey, sigFuture));
+            doAnswer(invocation -> {
+                        final var declarations = invocation.getArgument(1, StateAccessDeclarations.class);
+                        declarations.declareRead(TokenService.NAME, ACCOUNTS_KEY, payerAccount);
+                        declarations.declareWrite(ConsensusService.NAME, TOPICS_KEY, topicId);
+                        return null;
+                    })
+                    .when(dispatcher)
+                    .dispatchDeclareStateAccesses(any(), any());
+
+            // When we pre-handle the transaction
+            workflow.preHandle(storeFactory, NODE_1.asInfo(), Stream.of(platformTx), txns -> {});
+
+            // Then the result has the declared accesses, including the write to the payer account
+            final PreHandleResult result = platformTx.getMetadata();
+            assertThat(result.status()).isEqualTo(SO_FAR_SO_GOOD);
+            assertThat(result.declaredAccesses()).isNotNull();
+            assertThat(result.declaredAccesses().reads()).isEmpty();
+            assertThat(result.declaredAccesses().writes())
+                    .containsExactlyInAnyOrder(
+                            new StateAccess(TokenService.NAME, ACCOUNTS_KEY, payerAccount),
+                            new StateAccess(ConsensusService.NAME, TOPICS_KEY, topicId));
+        }
+
+        @Test
+        @DisplayName("Happy path with conflict analysis and unbounded accesses has no declared accesses")
+        void happyPathWithConflictAnalysisAndUnboundedAccesses(@Mock SignatureVerificationFuture sigFuture)
+                throws Exception {
+            // Given conflict analysis is enabled
+            givenConflictAnalysisEnabled();
+            // And a transaction whose handler can't predict its accesses
+            final var payerAccount = ALICE.accountID();
+            final var payerKey = ALICE.keyInfo().publicKey();
+            final var txInfo = scenario().withPayer(payerAccount).txInfo();
+            final var txBytes = asByteArray(txInfo.transaction());
+            final Transaction platformTx = createAppPayloadWrapper(txBytes);
+            when(sigFuture.get(anyLong(), any())).thenReturn(new SignatureVerificationImpl(payerKey, null, true));
+            when(transactionChecker.parseAndCheck(any(Bytes.class), anyInt())).thenReturn(txInfo);
+            when(signatureVerifier.verify(any(), any())).thenReturn(Map.of(payerKey, sigFuture));
+            doAnswer(invocation -> {
+                        invocation.getArgument(1, StateAccessDeclarations.class).declareUnbounded();
+                        return null;
+                    })
+                    .when(dispatcher)
+                    .dispatchDeclareStateAccesses(any(), any());
+
+            // When we pre-handle the transaction
+            workflow.preHandle(storeFactory, NODE_1.asInfo(), Stream.of(platformTx), txns -> {});
+
+            // Then the transaction succeeds, but has no declared accesses
+            final PreHandleResult result = platformTx.getMetadata();
+            assertThat(result.status()).isEqualTo(SO_FAR_SO_GOOD);
+            assertThat(result.declaredAccesses()).isNull();
+        }
+
         @Test
         @DisplayName(
                 "Happy path with Key-based signature verification and a result derived from different config version")
@@ -596,6 +806,7 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
                     Set.of(),
                     Map.of(payerKey, sigFuture),
                     null,
+                    null,
                     DEFAULT_CONFIG_VERSION + 1);
 
             // When we pre-handle the transaction
@@ -648,6 +859,7 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
                     Set.of(),
                     Map.of(payerKey, sigFuture),
                     new ArrayList<>(),
+                    null,
                     DEFAULT_CONFIG_VERSION + 1);
 
             // When we pre-handle the transaction
@@ -700,6 +912,7 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
                     Set.of(),
                     Map.of(payerKey, sigFuture),
                     null,
+                    null,
                     DEFAULT_CONFIG_VERSION);
 
             // When we pre-handle the transaction
@@ -2,10 +2,17 @@
 package com.hedera.node.config.data;
 
 import com.hedera.node.config.NetworkProperty;
+import com.hedera.node.config.NodeProperty;
 import com.swirlds.config.api.ConfigData;
 import com.swirlds.config.api.ConfigProperty;
+import com.swirlds.config.api.validation.annotation.Min;
 
 @ConfigData("cache")
 public record CacheConfig(
         @ConfigProperty(value = "records.ttl", defaultValue = "180") @NetworkProperty int recordsTtl,
-        @ConfigProperty(value = "warmThreads", defaultValue = "30") @NetworkProperty int warmThreads) {}
+        @ConfigProperty(value = "warmThreads", defaultValue = "30") @NetworkProperty int warmThreads,
+        @ConfigProperty(value = "signatures.size", defaultValue = "16384") @Min(0) @NodeProperty int signaturesSize,
+        @ConfigProperty(value = "signatures.maxMessageLength", defaultValue = "1024") @Min(0) @NodeProperty
+                int signaturesMaxMessageLength,
+        @ConfigProperty(value = "records.offHeapSize", defaultValue = "0") @Min(0) @NodeProperty
+                int recordsOffHeapSize) {}
@@ -0,0 +1,17 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.config.data;
+
+import com.hedera.node.config.NodeProperty;
+import com.swirlds.config.api.ConfigData;
+import com.swirlds.config.api.ConfigProperty;
+
+/**
+ * Configuration for the handle workflow.
+ *
+ * @param conflictAnalysisEnabled whether to capture the state keys read and written by each user transaction, as well
+ *                                as those declared for it during pre-handle, and report how many transactions of a
+ *                                round could have been handled in parallel
+ */
+@ConfigData("handle")
+public record HandleConfig(
+        @ConfigProperty(defaultValue = "false") @NodeProperty boolean conflictAnalysisEnabled) {}
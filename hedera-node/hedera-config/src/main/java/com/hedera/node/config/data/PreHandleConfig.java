@@ -0,0 +1,23 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.config.data;
+
+import com.hedera.node.config.NodeProperty;
+import com.swirlds.config.api.ConfigData;
+import com.swirlds.config.api.ConfigProperty;
+import com.swirlds.config.api.validation.annotation.Min;
+
+/**
+ * Configuration for the pre-handle workflow.
+ *
+ * @param threads the number of threads in the pool dedicated to pre-handle, or 0 to use one per available processor
+ * @param transactionsPerTask the number of transactions of an event that are pre-handled together in one task on the
+ *                            pre-handle pool
+ * @param maxQueuedTasks the maximum number of tasks queued or running on the pre-handle pool; when it is reached,
+ *                       further batches are pre-handled by the thread that pre-handles their event, so the batches of
+ *                       the next event to be handled never wait behind an unbounded backlog of newer events
+ */
+@ConfigData("preHandle")
+public record PreHandleConfig(
+        @ConfigProperty(defaultValue = "0") @Min(0) @NodeProperty int threads,
+        @ConfigProperty(defaultValue = "8") @Min(1) @NodeProperty int transactionsPerTask,
+        @ConfigProperty(defaultValue = "64") @Min(1) @NodeProperty int maxQueuedTasks) {}
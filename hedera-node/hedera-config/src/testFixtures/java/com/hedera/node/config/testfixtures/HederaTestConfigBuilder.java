@@ -40,6 +40,7 @@ import com.hedera.node.config.data.FeesConfig;
 import com.hedera.node.config.data.FilesConfig;
 import com.hedera.node.config.data.GrpcConfig;
 import com.hedera.node.config.data.GrpcUsageTrackerConfig;
+import com.hedera.node.config.data.HandleConfig;
 import com.hedera.node.config.data.HederaConfig;
 import com.hedera.node.config.data.JumboTransactionsConfig;
 import com.hedera.node.config.data.LedgerConfig;
@@ -47,6 +48,7 @@ import com.hedera.node.config.data.NettyConfig;
 import com.hedera.node.config.data.NetworkAdminConfig;
 import com.hedera.node.config.data.NodesConfig;
 import com.hedera.node.config.data.OpsDurationConfig;
+import com.hedera.node.config.data.PreHandleConfig;
 import com.hedera.node.config.data.RatesConfig;
 import com.hedera.node.config.data.SchedulingConfig;
 import com.hedera.node.config.data.StakingConfig;
@@ -155,6 +157,8 @@ public final class HederaTestConfigBuilder {
                 .withConfigDataType(FeesConfig.class)
                 .withConfigDataType(FilesConfig.class)
                 .withConfigDataType(GrpcConfig.class)
+                .withConfigDataType(HandleConfig.class)
+                .withConfigDataType(PreHandleConfig.class)
                 .withConfigDataType(HederaConfig.class)
                 .withConfigDataType(LedgerConfig.class)
                 .withConfigDataType(NettyConfig.class)
@@ -17,6 +17,7 @@ import static com.hedera.node.app.hapi.utils.fee.FeeBuilder.BASIC_ENTITY_ID_SIZE
 import static com.hedera.node.app.hapi.utils.fee.FeeBuilder.LONG_SIZE;
 import static com.hedera.node.app.hapi.utils.fee.FeeBuilder.RECEIPT_STORAGE_TIME_SEC;
 import static com.hedera.node.app.hapi.utils.fee.FeeBuilder.TX_HASH_SIZE;
+import static com.hedera.node.app.service.consensus.impl.ConsensusServiceImpl.TOPICS_KEY;
 import static com.hedera.node.app.spi.validation.Validations.mustExist;
 import static com.hedera.node.app.spi.workflows.DispatchOptions.stepDispatch;
 import static com.hedera.node.app.spi.workflows.HandleContext.DispatchMetadata.Type.TRANSACTION_FIXED_FEE;
@@ -41,6 +42,7 @@ import com.hedera.hapi.node.transaction.FixedCustomFee;
 import com.hedera.hapi.node.transaction.FixedFee;
 import com.hedera.hapi.node.transaction.TransactionBody;
 import com.hedera.node.app.hapi.utils.CommonPbjConverters;
+import com.hedera.node.app.service.consensus.ConsensusService;
 import com.hedera.node.app.service.consensus.ReadableTopicStore;
 import com.hedera.node.app.service.consensus.impl.WritableTopicStore;
 import com.hedera.node.app.service.consensus.impl.handlers.customfee.ConsensusCustomFeeAssessor;
@@ -57,6 +59,7 @@ import com.hedera.node.app.spi.workflows.HandleException;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.spi.workflows.PreHandleContext;
 import com.hedera.node.app.spi.workflows.PureChecksContext;
+import com.hedera.node.app.spi.workflows.StateAccessDeclarations;
 import com.hedera.node.app.spi.workflows.TransactionHandler;
 import com.hedera.node.config.data.ConsensusConfig;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
@@ -132,6 +135,21 @@ public class ConsensusSubmitMessageHandler implements TransactionHandler {
         }
     }
 
+    @Override
+    public void declareStateAccesses(
+            @NonNull final PreHandleContext context, @NonNull final StateAccessDeclarations declarations) {
+        requireNonNull(context);
+        requireNonNull(declarations);
+        final var topicId = context.body().consensusSubmitMessageOrThrow().topicIDOrElse(TopicID.DEFAULT);
+        final var topic = context.createStore(ReadableTopicStore.class).getTopic(topicId);
+        // Custom fees are charged by transfers whose accesses depend on the fees and the fee exemptions
+        if (topic == null || !topic.customFees().isEmpty()) {
+            declarations.declareUnbounded();
+            return;
+        }
+        declarations.declareWrite(ConsensusService.NAME, TOPICS_KEY, topicId);
+    }
+
     /**
      * Given the appropriate context, submits a message to a topic.
      *
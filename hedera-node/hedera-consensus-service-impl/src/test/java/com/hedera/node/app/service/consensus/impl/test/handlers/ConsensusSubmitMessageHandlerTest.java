@@ -26,6 +26,7 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 import com.google.protobuf.ByteString;
 import com.hedera.hapi.node.base.Key;
@@ -38,6 +39,7 @@ import com.hedera.hapi.node.state.consensus.Topic;
 import com.hedera.hapi.node.transaction.CustomFeeLimit;
 import com.hedera.hapi.node.transaction.FixedFee;
 import com.hedera.hapi.node.transaction.TransactionBody;
+import com.hedera.node.app.service.consensus.ConsensusService;
 import com.hedera.node.app.service.consensus.ReadableTopicStore;
 import com.hedera.node.app.service.consensus.impl.ReadableTopicStoreImpl;
 import com.hedera.node.app.service.consensus.impl.WritableTopicStore;
@@ -59,6 +61,7 @@ import com.hedera.node.app.spi.workflows.HandleContext;
 import com.hedera.node.app.spi.workflows.HandleException;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.spi.workflows.PureChecksContext;
+import com.hedera.node.app.spi.workflows.StateAccessDeclarations;
 import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -101,6 +104,9 @@ class ConsensusSubmitMessageHandlerTest extends ConsensusTestBase {
     @Mock
     private CryptoTransferStreamBuilder streamBuilder;
 
+    @Mock
+    private StateAccessDeclarations declarations;
+
     private ConsensusCustomFeeAssessor customFeeAssessor;
 
     private ConsensusSubmitMessageHandler subject;
@@ -206,6 +212,50 @@ class ConsensusSubmitMessageHandlerTest extends ConsensusTestBase {
         assertDoesNotThrow(() -> subject.preHandle(context));
     }
 
+    @Test
+    @DisplayName("Submitting to a topic without custom fees declares a write to the topic")
+    void declaresTopicWrite() throws PreCheckException {
+        readableStore = mock(ReadableTopicStore.class);
+        mockPayerLookup();
+        given(readableStore.getTopic(topicId)).willReturn(topicNoKeys);
+        final var context = new FakePreHandleContext(accountStore, newDefaultSubmitMessageTxn(topicEntityNum));
+        context.registerStore(ReadableTopicStore.class, readableStore);
+
+        subject.declareStateAccesses(context, declarations);
+
+        verify(declarations).declareWrite(ConsensusService.NAME, TOPICS_KEY, topicId);
+        verifyNoMoreInteractions(declarations);
+    }
+
+    @Test
+    @DisplayName("Submitting to a topic with custom fees declares unbounded accesses")
+    void declaresUnboundedAccessesForTopicWithCustomFees() throws PreCheckException {
+        readableStore = mock(ReadableTopicStore.class);
+        mockPayerLookup();
+        given(readableStore.getTopic(topicId)).willReturn(topic);
+        final var context = new FakePreHandleContext(accountStore, newDefaultSubmitMessageTxn(topicEntityNum));
+        context.registerStore(ReadableTopicStore.class, readableStore);
+
+        subject.declareStateAccesses(context, declarations);
+
+        verify(declarations).declareUnbounded();
+        verifyNoMoreInteractions(declarations);
+    }
+
+    @Test
+    @DisplayName("Submitting to a missing topic declares unbounded accesses")
+    void declaresUnboundedAccessesForMissingTopic() throws PreCheckException {
+        readableStore = mock(ReadableTopicStore.class);
+        mockPayerLookup();
+        final var context = new FakePreHandleContext(accountStore, newDefaultSubmitMessageTxn(topicEntityNum));
+        context.registerStore(ReadableTopicStore.class, readableStore);
+
+        subject.declareStateAccesses(context, declarations);
+
+        verify(declarations).declareUnbounded();
+        verifyNoMoreInteractions(declarations);
+    }
+
     @Test
     @DisplayName("Handle works as expected")
     void handleWorksAsExpected() {
@@ -6,6 +6,7 @@ import static com.hedera.hapi.node.base.ResponseCodeEnum.INVALID_FILE_ID;
 import static com.hedera.hapi.node.base.ResponseCodeEnum.UNAUTHORIZED;
 import static com.hedera.node.app.hapi.utils.fee.FeeBuilder.BASIC_ENTITY_ID_SIZE;
 import static com.hedera.node.app.service.file.impl.FileServiceImpl.THREE_MONTHS_IN_SECONDS;
+import static com.hedera.node.app.service.file.impl.schemas.V0490FileSchema.BLOBS_KEY;
 import static com.hedera.node.app.service.file.impl.utils.FileServiceUtils.preValidate;
 import static com.hedera.node.app.service.file.impl.utils.FileServiceUtils.validateAndAddRequiredKeys;
 import static com.hedera.node.app.service.file.impl.utils.FileServiceUtils.validateContent;
@@ -17,6 +18,7 @@ import com.hedera.hapi.node.base.SubType;
 import com.hedera.hapi.node.file.FileAppendTransactionBody;
 import com.hedera.hapi.node.state.file.File;
 import com.hedera.node.app.hapi.utils.CommonPbjConverters;
+import com.hedera.node.app.service.file.FileService;
 import com.hedera.node.app.service.file.FileSignatureWaivers;
 import com.hedera.node.app.service.file.ReadableFileStore;
 import com.hedera.node.app.service.file.impl.WritableFileStore;
@@ -28,6 +30,7 @@ import com.hedera.node.app.spi.workflows.HandleException;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.spi.workflows.PreHandleContext;
 import com.hedera.node.app.spi.workflows.PureChecksContext;
+import com.hedera.node.app.spi.workflows.StateAccessDeclarations;
 import com.hedera.node.app.spi.workflows.TransactionHandler;
 import com.hedera.node.config.data.FilesConfig;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
@@ -94,6 +97,21 @@ public class FileAppendHandler implements TransactionHandler {
         validateAndAddRequiredKeys(file, null, context);
     }
 
+    @Override
+    public void declareStateAccesses(
+            @NonNull final PreHandleContext context, @NonNull final StateAccessDeclarations declarations) {
+        requireNonNull(context);
+        requireNonNull(declarations);
+        final var fileId = context.body().fileAppendOrThrow().fileIDOrThrow();
+        final var softwareUpdateRange = context.configuration().getConfigData(FilesConfig.class).softwareUpdateRange();
+        // Appends to upgrade files are also written to the upgrade file store
+        if (fileId.fileNum() >= softwareUpdateRange.left() && fileId.fileNum() <= softwareUpdateRange.right()) {
+            declarations.declareUnbounded();
+            return;
+        }
+        declarations.declareWrite(FileService.NAME, BLOBS_KEY, fileId);
+    }
+
     @Override
     public void handle(@NonNull final HandleContext handleContext) throws HandleException {
         requireNonNull(handleContext);
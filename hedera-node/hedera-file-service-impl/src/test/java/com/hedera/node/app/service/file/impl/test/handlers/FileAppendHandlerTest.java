@@ -3,6 +3,7 @@ package com.hedera.node.app.service.file.impl.test.handlers;
 
 import static com.hedera.hapi.node.base.ResponseCodeEnum.FILE_DELETED;
 import static com.hedera.hapi.node.base.ResponseCodeEnum.INVALID_FILE_ID;
+import static com.hedera.node.app.service.file.impl.schemas.V0490FileSchema.BLOBS_KEY;
 import static com.hedera.node.app.spi.fixtures.workflows.ExceptionConditions.responseCode;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -15,6 +16,8 @@ import static org.mockito.ArgumentMatchers.notNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import com.hedera.hapi.node.base.FileID;
@@ -26,6 +29,7 @@ import com.hedera.hapi.node.state.file.File;
 import com.hedera.hapi.node.state.primitives.ProtoBytes;
 import com.hedera.hapi.node.state.token.Account;
 import com.hedera.hapi.node.transaction.TransactionBody;
+import com.hedera.node.app.service.file.FileService;
 import com.hedera.node.app.service.file.ReadableFileStore;
 import com.hedera.node.app.service.file.impl.WritableFileStore;
 import com.hedera.node.app.service.file.impl.WritableUpgradeFileStore;
@@ -41,6 +45,7 @@ import com.hedera.node.app.spi.workflows.HandleException;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.spi.workflows.PreHandleContext;
 import com.hedera.node.app.spi.workflows.PureChecksContext;
+import com.hedera.node.app.spi.workflows.StateAccessDeclarations;
 import com.hedera.node.app.store.ReadableStoreFactory;
 import com.hedera.node.app.workflows.TransactionChecker;
 import com.hedera.node.app.workflows.dispatcher.TransactionDispatcher;
@@ -89,6 +94,9 @@ class FileAppendHandlerTest extends FileTestBase {
     @Mock
     private TransactionChecker transactionChecker;
 
+    @Mock
+    private StateAccessDeclarations declarations;
+
     protected Configuration testConfig;
 
     private FileAppendHandler subject;
@@ -181,6 +189,30 @@ class FileAppendHandlerTest extends FileTestBase {
         assertEquals(0, realPreContext.requiredNonPayerKeys().size());
     }
 
+    @Test
+    @DisplayName("Appending to a file declares a write to the file")
+    void declaresFileWrite() {
+        final var txBody = TransactionBody.newBuilder().fileAppend(OP_BUILDER.fileID(fileId)).build();
+        given(preHandleContext.body()).willReturn(txBody);
+
+        subject.declareStateAccesses(preHandleContext, declarations);
+
+        verify(declarations).declareWrite(FileService.NAME, BLOBS_KEY, fileId);
+        verifyNoMoreInteractions(declarations);
+    }
+
+    @Test
+    @DisplayName("Appending to an upgrade file declares unbounded accesses")
+    void declaresUnboundedAccessesForUpgradeFile() {
+        final var txBody = TransactionBody.newBuilder().fileAppend(OP_BUILDER.fileID(fileUpgradeFileId)).build();
+        given(preHandleContext.body()).willReturn(txBody);
+
+        subject.declareStateAccesses(preHandleContext, declarations);
+
+        verify(declarations).declareUnbounded();
+        verifyNoMoreInteractions(declarations);
+    }
+
     @Test
     void rejectsDeletedFile() {
         givenValidFile(true);
@@ -46,10 +46,12 @@ import com.hedera.node.app.state.recordcache.RecordCacheService;
 import com.hedera.node.app.workflows.handle.stack.SavepointStackImpl;
 import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.config.VersionedConfiguration;
+import com.hedera.node.config.data.CacheConfig;
 import com.hedera.node.config.data.HederaConfig;
 import com.hedera.node.config.data.LedgerConfig;
 import com.hedera.pbj.runtime.OneOf;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.metrics.noop.NoOpMetrics;
 import com.swirlds.state.lifecycle.StartupNetworks;
 import com.swirlds.state.lifecycle.info.NetworkInfo;
 import com.swirlds.state.spi.ReadableStates;
@@ -173,6 +175,9 @@ public class NetworkAdminHandlerTestBase {
     @Mock
     private HederaConfig hederaConfig;
 
+    @Mock
+    private CacheConfig cacheConfig;
+
     @Mock
     private LedgerConfig ledgerConfig;
 
@@ -221,6 +226,7 @@ public class NetworkAdminHandlerTestBase {
         lenient().when(props.getConfiguration()).thenReturn(versionedConfig);
         lenient().when(versionedConfig.getConfigData(HederaConfig.class)).thenReturn(hederaConfig);
         lenient().when(hederaConfig.transactionMaxValidDuration()).thenReturn(123456789999L);
+        lenient().when(versionedConfig.getConfigData(CacheConfig.class)).thenReturn(cacheConfig);
         lenient().when(versionedConfig.getConfigData(LedgerConfig.class)).thenReturn(ledgerConfig);
         lenient().when(ledgerConfig.recordsMaxQueryableByAccount()).thenReturn(MAX_QUERYABLE_PER_ACCOUNT);
         givenRecordCacheState();
@@ -346,7 +352,7 @@ public class NetworkAdminHandlerTestBase {
     @NonNull
     protected RecordCacheImpl emptyRecordCacheBuilder() {
         dedupeCache = new DeduplicationCacheImpl(props, instantSource);
-        return new RecordCacheImpl(dedupeCache, wsa, props, networkInfo);
+        return new RecordCacheImpl(dedupeCache, wsa, props, networkInfo, new NoOpMetrics());
     }
 
     @NonNull
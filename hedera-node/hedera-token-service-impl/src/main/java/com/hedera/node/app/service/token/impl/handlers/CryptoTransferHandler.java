@@ -14,6 +14,9 @@ import static com.hedera.node.app.hapi.fees.usage.SingletonUsageProperties.USAGE
 import static com.hedera.node.app.hapi.fees.usage.crypto.CryptoOpsUsage.LONG_ACCOUNT_AMOUNT_BYTES;
 import static com.hedera.node.app.hapi.fees.usage.token.TokenOpsUsage.LONG_BASIC_ENTITY_ID_SIZE;
 import static com.hedera.node.app.hapi.fees.usage.token.entities.TokenEntitySizes.TOKEN_ENTITY_SIZES;
+import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.ACCOUNTS_KEY;
+import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.TOKENS_KEY;
+import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.TOKEN_RELS_KEY;
 import static com.hedera.node.app.spi.workflows.PreCheckException.validateTruePreCheck;
 import static java.util.Objects.requireNonNull;
 
@@ -25,6 +28,7 @@ import com.hedera.hapi.node.base.SubType;
 import com.hedera.hapi.node.base.TokenID;
 import com.hedera.hapi.node.base.TokenTransferList;
 import com.hedera.hapi.node.base.TransferList;
+import com.hedera.hapi.node.state.common.EntityIDPair;
 import com.hedera.hapi.node.state.token.Account;
 import com.hedera.hapi.node.state.token.Nft;
 import com.hedera.hapi.node.state.token.Token;
@@ -34,6 +38,7 @@ import com.hedera.node.app.service.token.ReadableAccountStore;
 import com.hedera.node.app.service.token.ReadableNftStore;
 import com.hedera.node.app.service.token.ReadableTokenRelationStore;
 import com.hedera.node.app.service.token.ReadableTokenStore;
+import com.hedera.node.app.service.token.TokenService;
 import com.hedera.node.app.service.token.impl.handlers.transfer.CustomFeeAssessmentStep;
 import com.hedera.node.app.service.token.impl.handlers.transfer.TransferContextImpl;
 import com.hedera.node.app.service.token.impl.handlers.transfer.TransferExecutor;
@@ -46,6 +51,7 @@ import com.hedera.node.app.spi.workflows.HandleException;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.spi.workflows.PreHandleContext;
 import com.hedera.node.app.spi.workflows.PureChecksContext;
+import com.hedera.node.app.spi.workflows.StateAccessDeclarations;
 import com.hedera.node.app.spi.workflows.TransactionHandler;
 import com.hedera.node.app.spi.workflows.WarmupContext;
 import com.hedera.node.config.data.AccountsConfig;
@@ -143,6 +149,60 @@ public class CryptoTransferHandler extends TransferExecutor implements Transacti
         });
     }
 
+    @Override
+    public void declareStateAccesses(
+            @NonNull final PreHandleContext context, @NonNull final StateAccessDeclarations declarations) {
+        requireNonNull(context);
+        requireNonNull(declarations);
+        final var op = context.body().cryptoTransferOrThrow();
+        // NFT transfers re-link the owners' lists of NFTs, and both aliased accounts and custom fees can bring in
+        // accounts that aren't named in the transaction; none of that can be predicted from the transaction alone
+        final var tokenStore = context.createStore(ReadableTokenStore.class);
+        for (final var tokenTransferList : op.tokenTransfers()) {
+            final var token = tokenStore.get(tokenTransferList.tokenOrElse(TokenID.DEFAULT));
+            if (!tokenTransferList.nftTransfers().isEmpty() || token == null || !token.customFees().isEmpty()) {
+                declarations.declareUnbounded();
+                return;
+            }
+        }
+        for (final var amount : op.transfersOrElse(TransferList.DEFAULT).accountAmounts()) {
+            if (!declareAccountWrite(amount, declarations)) {
+                return;
+            }
+        }
+        for (final var tokenTransferList : op.tokenTransfers()) {
+            final var tokenId = tokenTransferList.tokenOrThrow();
+            declarations.declareRead(TokenService.NAME, TOKENS_KEY, tokenId);
+            for (final var amount : tokenTransferList.transfers()) {
+                if (!declareAccountWrite(amount, declarations)) {
+                    return;
+                }
+                final var relId = EntityIDPair.newBuilder()
+                        .accountId(amount.accountIDOrThrow())
+                        .tokenId(tokenId)
+                        .build();
+                declarations.declareWrite(TokenService.NAME, TOKEN_RELS_KEY, relId);
+            }
+        }
+    }
+
+    /**
+     * Declares a write to the account of the given amount, or declares the accesses unbounded if the account is
+     * referenced by alias.
+     *
+     * @return whether the write was declared
+     */
+    private static boolean declareAccountWrite(
+            @NonNull final AccountAmount amount, @NonNull final StateAccessDeclarations declarations) {
+        final var accountId = amount.accountIDOrElse(AccountID.DEFAULT);
+        if (!accountId.hasAccountNum()) {
+            declarations.declareUnbounded();
+            return false;
+        }
+        declarations.declareWrite(TokenService.NAME, ACCOUNTS_KEY, accountId);
+        return true;
+    }
+
     private void warmNftTransfer(
             @NonNull final ReadableAccountStore accountStore,
             @NonNull final ReadableTokenStore tokenStore,
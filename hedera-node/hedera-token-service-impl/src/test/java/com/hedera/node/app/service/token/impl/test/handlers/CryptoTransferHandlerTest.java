@@ -13,6 +13,9 @@ import static com.hedera.hapi.node.base.ResponseCodeEnum.TRANSFER_LIST_SIZE_LIMI
 import static com.hedera.node.app.hapi.fees.usage.SingletonUsageProperties.USAGE_PROPERTIES;
 import static com.hedera.node.app.service.token.impl.handlers.BaseCryptoHandler.asAccount;
 import static com.hedera.node.app.service.token.impl.handlers.BaseTokenHandler.asToken;
+import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.ACCOUNTS_KEY;
+import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.TOKENS_KEY;
+import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.TOKEN_RELS_KEY;
 import static com.hedera.node.app.service.token.impl.test.handlers.transfer.AccountAmountUtils.aaWith;
 import static com.hedera.node.app.service.token.impl.test.handlers.transfer.AccountAmountUtils.nftTransferWith;
 import static com.hedera.node.app.spi.fixtures.workflows.ExceptionConditions.responseCode;
@@ -29,6 +32,7 @@ import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import com.hedera.hapi.node.base.AccountAmount;
@@ -39,14 +43,19 @@ import com.hedera.hapi.node.base.TokenID;
 import com.hedera.hapi.node.base.TokenTransferList;
 import com.hedera.hapi.node.base.TransactionID;
 import com.hedera.hapi.node.base.TransferList;
+import com.hedera.hapi.node.state.common.EntityIDPair;
 import com.hedera.hapi.node.state.token.Account;
 import com.hedera.hapi.node.state.token.Nft;
+import com.hedera.hapi.node.state.token.Token;
 import com.hedera.hapi.node.token.CryptoTransferTransactionBody;
+import com.hedera.hapi.node.transaction.CustomFee;
+import com.hedera.hapi.node.transaction.FixedFee;
 import com.hedera.hapi.node.transaction.TransactionBody;
 import com.hedera.node.app.service.token.ReadableAccountStore;
 import com.hedera.node.app.service.token.ReadableNftStore;
 import com.hedera.node.app.service.token.ReadableTokenRelationStore;
 import com.hedera.node.app.service.token.ReadableTokenStore;
+import com.hedera.node.app.service.token.TokenService;
 import com.hedera.node.app.service.token.impl.WritableAccountStore;
 import com.hedera.node.app.service.token.impl.WritableTokenRelationStore;
 import com.hedera.node.app.service.token.impl.handlers.CryptoTransferHandler;
@@ -64,6 +73,7 @@ import com.hedera.node.app.spi.workflows.HandleContext.DispatchMetadata;
 import com.hedera.node.app.spi.workflows.HandleException;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.spi.workflows.PreHandleContext;
+import com.hedera.node.app.spi.workflows.StateAccessDeclarations;
 import com.hedera.node.app.spi.workflows.WarmupContext;
 import com.hedera.node.app.spi.workflows.record.StreamBuilder;
 import com.hedera.node.app.store.ReadableStoreFactory;
@@ -705,6 +715,12 @@ class CryptoTransferHandlerTest extends CryptoTransferHandlerTestBase {
     @Mock(strictness = LENIENT)
     protected PreHandleContext preHandleContext;
 
+    @Mock
+    private ReadableTokenStore declarationTokenStore;
+
+    @Mock
+    private StateAccessDeclarations declarations;
+
     @Test
     void testPreHandler() {
         givenStoresAndConfig(handleContext);
@@ -723,6 +739,88 @@ class CryptoTransferHandlerTest extends CryptoTransferHandlerTestBase {
                 .has(responseCode(INVALID_ACCOUNT_ID));
     }
 
+    @Test
+    void declaresAccountWritesForHbarTransfers() {
+        givenDeclarationContext(newCryptoTransfer(ACCT_3333_MINUS_10, ACCT_4444_PLUS_10));
+
+        subject.declareStateAccesses(preHandleContext, declarations);
+
+        verify(declarations).declareWrite(TokenService.NAME, ACCOUNTS_KEY, ACCOUNT_ID_3333);
+        verify(declarations).declareWrite(TokenService.NAME, ACCOUNTS_KEY, ACCOUNT_ID_4444);
+        verifyNoMoreInteractions(declarations);
+    }
+
+    @Test
+    void declaresTokenReadAndAccountAndRelationWritesForFungibleTransfers() {
+        givenDeclarationContext(newCryptoTransfer(TokenTransferList.newBuilder()
+                .token(TOKEN_2468)
+                .transfers(ACCT_3333_MINUS_10, ACCT_4444_PLUS_10)
+                .build()));
+        given(declarationTokenStore.get(TOKEN_2468)).willReturn(Token.newBuilder().tokenId(TOKEN_2468).build());
+
+        subject.declareStateAccesses(preHandleContext, declarations);
+
+        verify(declarations).declareRead(TokenService.NAME, TOKENS_KEY, TOKEN_2468);
+        verify(declarations).declareWrite(TokenService.NAME, ACCOUNTS_KEY, ACCOUNT_ID_3333);
+        verify(declarations).declareWrite(TokenService.NAME, ACCOUNTS_KEY, ACCOUNT_ID_4444);
+        verify(declarations)
+                .declareWrite(TokenService.NAME, TOKEN_RELS_KEY, new EntityIDPair(ACCOUNT_ID_3333, TOKEN_2468));
+        verify(declarations)
+                .declareWrite(TokenService.NAME, TOKEN_RELS_KEY, new EntityIDPair(ACCOUNT_ID_4444, TOKEN_2468));
+        verifyNoMoreInteractions(declarations);
+    }
+
+    @Test
+    void declaresUnboundedAccessesForNftTransfers() {
+        givenDeclarationContext(newCryptoTransfer(TokenTransferList.newBuilder()
+                .token(TOKEN_2469)
+                .nftTransfers(SERIAL_1_FROM_3333_TO_4444)
+                .build()));
+        given(declarationTokenStore.get(TOKEN_2469)).willReturn(Token.newBuilder().tokenId(TOKEN_2469).build());
+
+        subject.declareStateAccesses(preHandleContext, declarations);
+
+        verify(declarations).declareUnbounded();
+        verifyNoMoreInteractions(declarations);
+    }
+
+    @Test
+    void declaresUnboundedAccessesForTokensWithCustomFees() {
+        givenDeclarationContext(newCryptoTransfer(TokenTransferList.newBuilder()
+                .token(TOKEN_2468)
+                .transfers(ACCT_3333_MINUS_10, ACCT_4444_PLUS_10)
+                .build()));
+        given(declarationTokenStore.get(TOKEN_2468))
+                .willReturn(Token.newBuilder()
+                        .tokenId(TOKEN_2468)
+                        .customFees(CustomFee.newBuilder()
+                                .fixedFee(FixedFee.newBuilder().amount(1).build())
+                                .feeCollectorAccountId(ACCOUNT_ID_4444)
+                                .build())
+                        .build());
+
+        subject.declareStateAccesses(preHandleContext, declarations);
+
+        verify(declarations).declareUnbounded();
+        verifyNoMoreInteractions(declarations);
+    }
+
+    @Test
+    void declaresUnboundedAccessesForAliasedAccounts() {
+        givenDeclarationContext(newCryptoTransfer(ACCT_3333_MINUS_10, aaWith(unknownAliasedId, 10)));
+
+        subject.declareStateAccesses(preHandleContext, declarations);
+
+        verify(declarations).declareWrite(TokenService.NAME, ACCOUNTS_KEY, ACCOUNT_ID_3333);
+        verify(declarations).declareUnbounded();
+        verifyNoMoreInteractions(declarations);
+    }
+
+    private void givenDeclarationContext(final TransactionBody txn) {
+        given(preHandleContext.body()).willReturn(txn);
+        given(preHandleContext.createStore(ReadableTokenStore.class)).willReturn(declarationTokenStore);
+    }
+
     private HandleContext mockContext(final TransactionBody txn) {
         final var context = mock(HandleContext.class);
         given(context.configuration()).willReturn(config);
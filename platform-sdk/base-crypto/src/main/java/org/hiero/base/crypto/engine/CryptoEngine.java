@@ -5,6 +5,7 @@ import com.swirlds.logging.legacy.LogMarker;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.security.NoSuchAlgorithmException;
 import java.security.Security;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
@@ -144,18 +145,20 @@ public class CryptoEngine implements Cryptography {
     public boolean verifySync(@NonNull final List<TransactionSignature> signatures) {
         boolean finalOutcome = true;
 
-        OperationProvider<TransactionSignature, Void, Boolean, ?, SignatureType> provider;
+        // Ed25519 signatures are verified by one call, so signatures over the same message can share a copy of it
+        final List<TransactionSignature> ed25519Signatures = new ArrayList<>(signatures.size());
         for (final TransactionSignature signature : signatures) {
             if (signature.getSignatureType() == SignatureType.ECDSA_SECP256K1) {
-                provider = ecdsaSecp256k1VerificationProvider;
+                if (!verifySyncInternal(signature, ecdsaSecp256k1VerificationProvider)) {
+                    finalOutcome = false;
+                }
             } else {
-                provider = ed25519VerificationProvider;
-            }
-
-            if (!verifySyncInternal(signature, provider)) {
-                finalOutcome = false;
+                ed25519Signatures.add(signature);
             }
         }
+        if (!ed25519VerificationProvider.verifyAll(ed25519Signatures)) {
+            finalOutcome = false;
+        }
 
         return finalOutcome;
     }
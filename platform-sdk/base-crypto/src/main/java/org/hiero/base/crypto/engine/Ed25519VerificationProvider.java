@@ -7,10 +7,14 @@ import static org.hiero.base.utility.CommonUtils.hex;
 import com.goterl.lazysodium.LazySodiumJava;
 import com.goterl.lazysodium.SodiumJava;
 import com.goterl.lazysodium.interfaces.Sign;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hiero.base.crypto.SignatureType;
 import org.hiero.base.crypto.TransactionSignature;
+import org.hiero.base.crypto.VerificationStatus;
 
 /**
  * Implementation of an Ed25519 signature verification provider. This implementation only supports
@@ -74,6 +78,37 @@ public class Ed25519VerificationProvider
         return compute(loadedAlgorithm, algorithmType, message, signature, publicKey);
     }
 
+    /**
+     * Verifies each of the given signatures in turn, setting the status of each. This is not batch verification, since
+     * each signature is still verified on its own; but consecutive signatures over the same message instance, as when a
+     * transaction has several signers, share a single copy of the message bytes instead of each copying the message
+     * for itself.
+     *
+     * @param signatures
+     * 		the signatures to be verified
+     * @return true if all the signatures are valid; false otherwise
+     */
+    public boolean verifyAll(@NonNull final List<TransactionSignature> signatures) {
+        boolean allValid = true;
+        Bytes message = null;
+        byte[] messageBytes = null;
+        for (final TransactionSignature sig : signatures) {
+            if (sig.getMessage() != message) {
+                message = sig.getMessage();
+                messageBytes = message.toByteArray();
+            }
+            final boolean isValid = compute(
+                    algorithm,
+                    sig.getSignatureType(),
+                    messageBytes,
+                    sig.getSignature().toByteArray(),
+                    sig.getPublicKey().toByteArray());
+            sig.setSignatureStatus(isValid ? VerificationStatus.VALID : VerificationStatus.INVALID);
+            allValid &= isValid;
+        }
+        return allValid;
+    }
+
     /**
      * {@inheritDoc}
      */
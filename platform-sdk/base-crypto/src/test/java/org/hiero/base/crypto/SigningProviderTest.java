@@ -2,11 +2,15 @@
 package org.hiero.base.crypto;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.config.api.Configuration;
 import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.SplittableRandom;
 import org.hiero.base.crypto.config.CryptoConfig;
 import org.hiero.base.crypto.test.fixtures.ECDSASigningProvider;
@@ -14,6 +18,7 @@ import org.hiero.base.crypto.test.fixtures.ED25519SigningProvider;
 import org.hiero.base.crypto.test.fixtures.EcdsaUtils;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
@@ -77,4 +82,34 @@ public class SigningProviderTest {
                     "check ED25519 result");
         }
     }
+
+    @Test
+    void ED25519VerifyAllTest() throws Exception {
+        final SplittableRandom random = new SplittableRandom();
+        final byte[] msg = new byte[500];
+        random.nextBytes(msg);
+        final Bytes message = Bytes.wrap(msg);
+
+        final List<TransactionSignature> signatures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            final ED25519SigningProvider signingProvider = new ED25519SigningProvider();
+            final byte[] signature = signingProvider.sign(msg);
+            if (i == 3) {
+                signature[0] ^= 1;
+            }
+            signatures.add(new TransactionSignature(
+                    message,
+                    Bytes.wrap(signingProvider.getPublicKeyBytes()),
+                    Bytes.wrap(signature),
+                    SignatureType.ED25519));
+        }
+
+        assertFalse(CRYPTOGRAPHY.verifySync(signatures), "check the result of verifying all with one bad signature");
+        for (int i = 0; i < signatures.size(); i++) {
+            assertEquals(
+                    i == 3 ? VerificationStatus.INVALID : VerificationStatus.VALID,
+                    signatures.get(i).getSignatureStatus(),
+                    "check status of signature " + i);
+        }
+    }
 }
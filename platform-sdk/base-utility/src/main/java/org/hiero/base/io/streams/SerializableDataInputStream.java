@@ -9,6 +9,7 @@ import static org.hiero.base.io.streams.SerializableStreamConstants.SERIALIZATIO
 import com.hedera.pbj.runtime.Codec;
 import com.hedera.pbj.runtime.ParseException;
 import com.hedera.pbj.runtime.io.ReadableSequentialData;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.hedera.pbj.runtime.io.stream.ReadableStreamingData;
 import com.swirlds.base.function.CheckedFunction;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -610,4 +611,24 @@ public class SerializableDataInputStream extends AugmentedDataInputStream {
             throw new IOException(e);
         }
     }
+
+    /**
+     * Reads the raw bytes of a PBJ record written by
+     * {@link SerializableDataOutputStream#writePbjRecord(Object, Codec)} without parsing them. This allows the caller
+     * to parse the record and still retain its serialized form, so it does not need to be re-encoded later.
+     *
+     * @param maxSize the maximum permitted size of the record, in bytes
+     * @return the serialized bytes of the record
+     * @throws IOException if an IO error occurs or if the record size is negative or exceeds {@code maxSize}
+     */
+    @NonNull
+    public Bytes readPbjRecordBytes(final int maxSize) throws IOException {
+        final int size = readInt();
+        if (size < 0 || size > maxSize) {
+            throw new IOException("PBJ record size " + size + " is outside the permitted range [0, " + maxSize + "]");
+        }
+        final byte[] bytes = new byte[size];
+        readFully(bytes);
+        return Bytes.wrap(bytes);
+    }
 }
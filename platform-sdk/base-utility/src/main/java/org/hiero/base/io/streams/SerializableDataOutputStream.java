@@ -11,6 +11,7 @@ import static org.hiero.base.io.streams.SerializableStreamConstants.VERSION_BYTE
 
 import com.hedera.pbj.runtime.Codec;
 import com.hedera.pbj.runtime.io.WritableSequentialData;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.hedera.pbj.runtime.io.stream.WritableStreamingData;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -262,4 +263,19 @@ public class SerializableDataOutputStream extends AugmentedDataOutputStream {
         codec.write(record, writableSequentialData);
         return recordSize + Integer.BYTES;
     }
+
+    /**
+     * Write an already serialized PBJ record to the stream. The output is identical to
+     * {@link #writePbjRecord(Object, Codec)} for the record the bytes were produced from.
+     *
+     * @param serializedRecord the serialized record
+     * @throws IOException thrown if any IO problems occur
+     * @return the length in bytes that were written
+     */
+    public long writePbjRecordBytes(@NonNull final Bytes serializedRecord) throws IOException {
+        final int recordSize = Math.toIntExact(serializedRecord.length());
+        writeInt(recordSize);
+        writableSequentialData.writeBytes(serializedRecord);
+        return recordSize + Integer.BYTES;
+    }
 }
@@ -10,11 +10,13 @@ import com.swirlds.common.utility.throttle.RateLimitedLogger;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hiero.consensus.config.TransactionConfig;
@@ -25,6 +27,9 @@ import org.hiero.consensus.model.status.PlatformStatus;
 /**
  * Store a list of transactions created by self, both system and non-system, for wrapping in the next event to be
  * created.
+ * <p>
+ * Transactions may be submitted concurrently by any number of threads without locking. Transactions are removed from
+ * the pool by a single consumer, the event creator, and removing transactions is serialized with {@link #clear()}.
  */
 public class TransactionPoolNexus implements TransactionSupplier {
 
@@ -34,18 +39,31 @@ public class TransactionPoolNexus implements TransactionSupplier {
     /**
      * A list of transactions created by this node waiting to be put into a self-event.
      */
-    private final Queue<Bytes> bufferedTransactions = new LinkedList<>();
+    private final Queue<Bytes> bufferedTransactions = new ConcurrentLinkedQueue<>();
 
     /**
      * A list of high-priority transactions created by this node waiting to be put into a self-event. Transactions in
      * this queue are always inserted into an event before transactions waiting in {@link #bufferedTransactions}.
      */
-    private final Queue<Bytes> priorityBufferedTransactions = new LinkedList<>();
+    private final Queue<Bytes> priorityBufferedTransactions = new ConcurrentLinkedQueue<>();
 
     /**
-     * The number of buffered signature transactions waiting to be put into events.
+     * The total number of transactions waiting to be put into events, in both queues. Kept separately because the size
+     * of a concurrent queue is expensive to compute. A slot is reserved in this count before a transaction is added to
+     * a queue, and released after a transaction is removed from a queue.
      */
-    private int bufferedSignatureTransactionCount = 0;
+    private final AtomicInteger bufferedTransactionCount = new AtomicInteger();
+
+    /**
+     * The number of buffered signature (priority) transactions waiting to be put into events.
+     */
+    private final AtomicInteger bufferedSignatureTransactionCount = new AtomicInteger();
+
+    /**
+     * Serializes the removal of transactions from the queues, which is only ever done by the event creator and by
+     * {@link #clear()}. Submitting transactions never takes this lock.
+     */
+    private final Object consumerLock = new Object();
 
     /**
      * The maximum number of bytes of transactions that can be put in an event.
@@ -71,7 +89,7 @@ public class TransactionPoolNexus implements TransactionSupplier {
     /**
      * The current status of the platform.
      */
-    private PlatformStatus platformStatus = PlatformStatus.STARTING_UP;
+    private volatile PlatformStatus platformStatus = PlatformStatus.STARTING_UP;
 
     /**
      * The maximum amount of time the platform may be in an unhealthy state before we start rejecting transactions.
@@ -81,7 +99,7 @@ public class TransactionPoolNexus implements TransactionSupplier {
     /**
      * Whether the platform is currently in a healthy state.
      */
-    private boolean healthy = true;
+    private volatile boolean healthy = true;
 
     /**
      * Creates a new transaction pool for transactions waiting to be put in an event.
@@ -119,7 +137,7 @@ public class TransactionPoolNexus implements TransactionSupplier {
      * @param appTransaction the transaction to submit
      * @return true if the transaction passed all validity checks and was accepted by the consumer
      */
-    public synchronized boolean submitApplicationTransaction(@NonNull final Bytes appTransaction) {
+    public boolean submitApplicationTransaction(@NonNull final Bytes appTransaction) {
         if (!healthy || platformStatus != PlatformStatus.ACTIVE) {
             return false;
         }
@@ -152,39 +170,51 @@ public class TransactionPoolNexus implements TransactionSupplier {
      *                    functionalities.
      * @return true if successful
      */
-    public synchronized boolean submitTransaction(@NonNull final Bytes transaction, final boolean priority) {
+    public boolean submitTransaction(@NonNull final Bytes transaction, final boolean priority) {
         Objects.requireNonNull(transaction);
 
-        // Always submit system transactions. If it's not a system transaction, then only submit it if we
-        // don't violate queue size capacity restrictions.
-        if (!priority
-                && (bufferedTransactions.size() + priorityBufferedTransactions.size()) > throttleTransactionQueueSize) {
-            transactionPoolMetrics.recordRejectedAppTransaction();
-            return false;
-        }
-
         if (priority) {
-            bufferedSignatureTransactionCount++;
+            // Always submit system transactions.
+            bufferedTransactionCount.incrementAndGet();
+            bufferedSignatureTransactionCount.incrementAndGet();
+            priorityBufferedTransactions.add(transaction);
             transactionPoolMetrics.recordSubmittedPlatformTransaction();
-        } else {
-            transactionPoolMetrics.recordAcceptedAppTransaction();
+            return true;
         }
 
-        if (priority) {
-            priorityBufferedTransactions.add(transaction);
-        } else {
-            bufferedTransactions.add(transaction);
+        // If it's not a system transaction, then only submit it if we don't violate queue size capacity restrictions.
+        if (!tryReserveApplicationTransactionSlot()) {
+            transactionPoolMetrics.recordRejectedAppTransaction();
+            return false;
         }
-
+        bufferedTransactions.add(transaction);
+        transactionPoolMetrics.recordAcceptedAppTransaction();
         return true;
     }
 
+    /**
+     * Reserve room for an application transaction in the pool, unless the pool is already over capacity.
+     *
+     * @return true if room was reserved, false if the pool is over capacity
+     */
+    private boolean tryReserveApplicationTransactionSlot() {
+        while (true) {
+            final int count = bufferedTransactionCount.get();
+            if (count > throttleTransactionQueueSize) {
+                return false;
+            }
+            if (bufferedTransactionCount.compareAndSet(count, count + 1)) {
+                return true;
+            }
+        }
+    }
+
     /**
      * Update the platform status.
      *
      * @param platformStatus the new platform status
      */
-    public synchronized void updatePlatformStatus(@NonNull final PlatformStatus platformStatus) {
+    public void updatePlatformStatus(@NonNull final PlatformStatus platformStatus) {
         this.platformStatus = platformStatus;
     }
 
@@ -194,7 +224,7 @@ public class TransactionPoolNexus implements TransactionSupplier {
      *
      * @param duration the amount of time that the system has been in an unhealthy state
      */
-    public synchronized void reportUnhealthyDuration(@NonNull final Duration duration) {
+    public void reportUnhealthyDuration(@NonNull final Duration duration) {
         healthy = isLessThan(duration, maximumPermissibleUnhealthyDuration);
     }
 
@@ -213,14 +243,21 @@ public class TransactionPoolNexus implements TransactionSupplier {
             return null;
         }
 
-        if (!priorityBufferedTransactions.isEmpty()
-                && priorityBufferedTransactions.peek().length() <= maxSize) {
-            bufferedSignatureTransactionCount--;
-            return priorityBufferedTransactions.poll();
+        // Only the consumer removes transactions from the queues, so a transaction seen by peek() is the one
+        // returned by the following poll().
+        final Bytes priorityTransaction = priorityBufferedTransactions.peek();
+        if (priorityTransaction != null && priorityTransaction.length() <= maxSize) {
+            priorityBufferedTransactions.poll();
+            bufferedSignatureTransactionCount.decrementAndGet();
+            bufferedTransactionCount.decrementAndGet();
+            return priorityTransaction;
         }
 
-        if (!bufferedTransactions.isEmpty() && bufferedTransactions.peek().length() <= maxSize) {
-            return bufferedTransactions.poll();
+        final Bytes transaction = bufferedTransactions.peek();
+        if (transaction != null && transaction.length() <= maxSize) {
+            bufferedTransactions.poll();
+            bufferedTransactionCount.decrementAndGet();
+            return transaction;
         }
 
         return null;
@@ -233,28 +270,30 @@ public class TransactionPoolNexus implements TransactionSupplier {
      */
     @NonNull
     @Override
-    public synchronized List<Bytes> getTransactions() {
+    public List<Bytes> getTransactions() {
         // Early return due to no transactions waiting
-        if (bufferedTransactions.isEmpty() && priorityBufferedTransactions.isEmpty()) {
+        if (bufferedTransactionCount.get() == 0) {
             return Collections.emptyList();
         }
 
-        final List<Bytes> selectedTrans = new LinkedList<>();
-        long currEventSize = 0;
+        synchronized (consumerLock) {
+            final List<Bytes> selectedTrans = new ArrayList<>();
+            long currEventSize = 0;
 
-        while (true) {
-            final Bytes transaction = getNextTransaction(currEventSize);
+            while (true) {
+                final Bytes transaction = getNextTransaction(currEventSize);
 
-            if (transaction == null) {
-                // No transaction of suitable size is available
-                break;
+                if (transaction == null) {
+                    // No transaction of suitable size is available
+                    break;
+                }
+
+                currEventSize += transaction.length();
+                selectedTrans.add(transaction);
             }
 
-            currEventSize += transaction.length();
-            selectedTrans.add(transaction);
+            return selectedTrans;
         }
-
-        return selectedTrans;
     }
 
     /**
@@ -262,8 +301,8 @@ public class TransactionPoolNexus implements TransactionSupplier {
      *
      * @return true if there are any buffered signature transactions
      */
-    public synchronized boolean hasBufferedSignatureTransactions() {
-        return bufferedSignatureTransactionCount > 0;
+    public boolean hasBufferedSignatureTransactions() {
+        return bufferedSignatureTransactionCount.get() > 0;
     }
 
     /**
@@ -271,8 +310,8 @@ public class TransactionPoolNexus implements TransactionSupplier {
      *
      * @return the number of transactions
      */
-    private synchronized int getBufferedTransactionCount() {
-        return bufferedTransactions.size();
+    private int getBufferedTransactionCount() {
+        return bufferedTransactionCount.get() - bufferedSignatureTransactionCount.get();
     }
 
     /**
@@ -280,16 +319,22 @@ public class TransactionPoolNexus implements TransactionSupplier {
      *
      * @return the number of transactions
      */
-    private synchronized int getPriorityBufferedTransactionCount() {
-        return priorityBufferedTransactions.size();
+    private int getPriorityBufferedTransactionCount() {
+        return bufferedSignatureTransactionCount.get();
     }
 
     /**
-     * Clear all the transactions
+     * Clear all the transactions. Transactions submitted while the pool is being cleared may or may not be removed.
      */
-    synchronized void clear() {
-        bufferedTransactions.clear();
-        priorityBufferedTransactions.clear();
-        bufferedSignatureTransactionCount = 0;
+    void clear() {
+        synchronized (consumerLock) {
+            while (priorityBufferedTransactions.poll() != null) {
+                bufferedSignatureTransactionCount.decrementAndGet();
+                bufferedTransactionCount.decrementAndGet();
+            }
+            while (bufferedTransactions.poll() != null) {
+                bufferedTransactionCount.decrementAndGet();
+            }
+        }
     }
 }
@@ -94,6 +94,16 @@ public class Tipset {
         return tips[index];
     }
 
+    /**
+     * Get the tip generation for the node at a given index in the roster.
+     *
+     * @param index the index of the node in the roster
+     * @return the tip generation for the node
+     */
+    long getTipGenerationForIndex(final int index) {
+        return tips[index];
+    }
+
     /**
      * Get the number of tips currently being tracked.
      *
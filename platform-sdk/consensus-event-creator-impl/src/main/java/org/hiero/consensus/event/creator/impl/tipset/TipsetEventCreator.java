@@ -246,17 +246,12 @@ public class TipsetEventCreator implements EventCreator {
                 new ArrayList<>(childlessOtherEventTracker.getChildlessEvents());
         Collections.shuffle(possibleOtherParents, random);
 
+        final EventDescriptorWrapper selfParent = lastSelfEvent == null ? null : lastSelfEvent.getDescriptor();
         PlatformEvent bestOtherParent = null;
         TipsetAdvancementWeight bestAdvancementWeight = ZERO_ADVANCEMENT_WEIGHT;
         for (final PlatformEvent otherParent : possibleOtherParents) {
-            final List<EventDescriptorWrapper> parents = new ArrayList<>(2);
-            parents.add(otherParent.getDescriptor());
-            if (lastSelfEvent != null) {
-                parents.add(lastSelfEvent.getDescriptor());
-            }
-
             final TipsetAdvancementWeight advancementWeight =
-                    tipsetWeightCalculator.getTheoreticalAdvancementWeight(parents);
+                    tipsetWeightCalculator.getTheoreticalAdvancementWeight(selfParent, otherParent.getDescriptor());
             if (advancementWeight.isGreaterThan(bestAdvancementWeight)) {
                 bestOtherParent = otherParent;
                 bestAdvancementWeight = advancementWeight;
@@ -299,15 +294,12 @@ public class TipsetEventCreator implements EventCreator {
             final int selfishness =
                     tipsetWeightCalculator.getSelfishnessScoreForNode(possibleIgnoredNode.getCreatorId());
 
-            final List<EventDescriptorWrapper> theoreticalParents = new ArrayList<>(2);
-            theoreticalParents.add(possibleIgnoredNode.getDescriptor());
             if (lastSelfEvent == null) {
                 throw new IllegalStateException("lastSelfEvent is null");
             }
-            theoreticalParents.add(lastSelfEvent.getDescriptor());
 
-            final TipsetAdvancementWeight advancementWeight =
-                    tipsetWeightCalculator.getTheoreticalAdvancementWeight(theoreticalParents);
+            final TipsetAdvancementWeight advancementWeight = tipsetWeightCalculator.getTheoreticalAdvancementWeight(
+                    lastSelfEvent.getDescriptor(), possibleIgnoredNode.getDescriptor());
 
             if (selfishness > 1) {
                 if (advancementWeight.isNonZero()) {
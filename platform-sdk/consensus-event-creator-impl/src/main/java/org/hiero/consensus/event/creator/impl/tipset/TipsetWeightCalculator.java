@@ -9,6 +9,7 @@ import com.hedera.hapi.node.state.roster.Roster;
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.utility.throttle.RateLimitedLogger;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Deque;
@@ -90,6 +91,39 @@ public class TipsetWeightCalculator {
 
     private final Roster roster;
 
+    /**
+     * The index of this node in the roster.
+     */
+    private final int selfIndex;
+
+    /**
+     * The weight of each node, indexed by roster index.
+     */
+    private final long[] nodeWeights;
+
+    /**
+     * For each node, the tip generation an other parent must exceed in order to add advancement weight for that node
+     * when combined with the self parent in {@link #thresholdsSelfParentTipset}, or {@link Long#MAX_VALUE} if an other
+     * parent can't add advancement weight for that node. Only valid while the snapshot is {@link #thresholdsSnapshot}.
+     */
+    private final long[] advancementThresholds;
+
+    /**
+     * The snapshot that {@link #advancementThresholds} were computed for, null if they have not been computed.
+     */
+    private Tipset thresholdsSnapshot;
+
+    /**
+     * The tipset of the self parent that {@link #advancementThresholds} were computed for, null if they were computed
+     * without a self parent.
+     */
+    private Tipset thresholdsSelfParentTipset;
+
+    /**
+     * The advancement weight of {@link #thresholdsSelfParentTipset} relative to {@link #thresholdsSnapshot}.
+     */
+    private TipsetAdvancementWeight thresholdsSelfParentAdvancement = ZERO_ADVANCEMENT_WEIGHT;
+
     private final RateLimitedLogger ancientParentLogger;
     private final RateLimitedLogger allParentsAreAncientLogger;
 
@@ -117,6 +151,12 @@ public class TipsetWeightCalculator {
         totalWeight = RosterUtils.computeTotalWeight(roster);
         selfWeight = RosterUtils.getRosterEntry(roster, selfId.id()).weight();
         maximumPossibleAdvancementWeight = totalWeight - selfWeight;
+        selfIndex = RosterUtils.getIndex(roster, selfId.id());
+        nodeWeights = new long[roster.rosterEntries().size()];
+        for (int index = 0; index < nodeWeights.length; index++) {
+            nodeWeights[index] = roster.rosterEntries().get(index).weight();
+        }
+        advancementThresholds = new long[nodeWeights.length];
         maxSnapshotHistorySize = platformContext
                 .getConfiguration()
                 .getConfigData(EventCreationConfig.class)
@@ -243,6 +283,78 @@ public class TipsetWeightCalculator {
         return snapshot.getTipAdvancementWeight(selfId, newTipset).minus(previousAdvancementWeight);
     }
 
+    /**
+     * Figure out what advancement weight we would get if we created an event with a given self parent and other parent.
+     * Equivalent to {@link #getTheoreticalAdvancementWeight(List)}, but the part of the computation that only depends
+     * on the snapshot and the self parent is cached. Evaluating another candidate other parent for the same self
+     * parent then only compares the candidate's tipset with a precomputed array, without allocating a new tipset.
+     *
+     * @param selfParent  the proposed self parent, or null if there is none
+     * @param otherParent the proposed other parent
+     * @return the advancement weight we would get by creating an event with the given parents
+     */
+    public TipsetAdvancementWeight getTheoreticalAdvancementWeight(
+            @Nullable final EventDescriptorWrapper selfParent, @NonNull final EventDescriptorWrapper otherParent) {
+        final Tipset otherParentTipset = tipsetTracker.getTipset(otherParent);
+        if (otherParentTipset == null) {
+            // Unexpected, let the general computation handle and report it
+            return getTheoreticalAdvancementWeight(
+                    selfParent == null ? List.of(otherParent) : List.of(otherParent, selfParent));
+        }
+
+        final Tipset selfParentTipset = selfParent == null ? null : tipsetTracker.getTipset(selfParent);
+        if (thresholdsSnapshot != snapshot || thresholdsSelfParentTipset != selfParentTipset) {
+            computeAdvancementThresholds(selfParentTipset);
+        }
+
+        long advancementWeight = 0;
+        long zeroWeightAdvancementCount = 0;
+        for (int index = 0; index < advancementThresholds.length; index++) {
+            if (otherParentTipset.getTipGenerationForIndex(index) > advancementThresholds[index]) {
+                if (nodeWeights[index] == 0) {
+                    zeroWeightAdvancementCount++;
+                } else {
+                    advancementWeight += nodeWeights[index];
+                }
+            }
+        }
+
+        return thresholdsSelfParentAdvancement
+                .plus(TipsetAdvancementWeight.of(advancementWeight, zeroWeightAdvancementCount))
+                .minus(previousAdvancementWeight);
+    }
+
+    /**
+     * Compute {@link #advancementThresholds} for the current snapshot and a self parent. A node only adds advancement
+     * weight for an other parent if the self parent has not already advanced past the snapshot for that node.
+     *
+     * @param selfParentTipset the tipset of the self parent, or null if there is no self parent
+     */
+    private void computeAdvancementThresholds(@Nullable final Tipset selfParentTipset) {
+        long selfParentWeight = 0;
+        long selfParentZeroWeightCount = 0;
+        for (int index = 0; index < advancementThresholds.length; index++) {
+            final long snapshotGeneration = snapshot.getTipGenerationForIndex(index);
+            if (index == selfIndex) {
+                // Self advancement does not count
+                advancementThresholds[index] = Long.MAX_VALUE;
+            } else if (selfParentTipset != null
+                    && selfParentTipset.getTipGenerationForIndex(index) > snapshotGeneration) {
+                advancementThresholds[index] = Long.MAX_VALUE;
+                if (nodeWeights[index] == 0) {
+                    selfParentZeroWeightCount++;
+                } else {
+                    selfParentWeight += nodeWeights[index];
+                }
+            } else {
+                advancementThresholds[index] = snapshotGeneration;
+            }
+        }
+        thresholdsSnapshot = snapshot;
+        thresholdsSelfParentTipset = selfParentTipset;
+        thresholdsSelfParentAdvancement = TipsetAdvancementWeight.of(selfParentWeight, selfParentZeroWeightCount);
+    }
+
     /**
      * Compute the current maximum selfishness score with respect to all nodes. This is a measure of how well slow
      * nodes' events are being incorporated in the hashgraph by faster nodes. A high score means slow nodes are being
@@ -322,6 +434,8 @@ public class TipsetWeightCalculator {
         snapshotHistory.clear();
         snapshotHistory.add(snapshot);
         previousAdvancementWeight = ZERO_ADVANCEMENT_WEIGHT;
+        thresholdsSnapshot = null;
+        thresholdsSelfParentTipset = null;
     }
 
     @NonNull
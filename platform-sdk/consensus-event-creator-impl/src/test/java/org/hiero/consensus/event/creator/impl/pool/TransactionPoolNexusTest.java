@@ -14,7 +14,10 @@ import com.swirlds.common.metrics.noop.NoOpMetrics;
 import com.swirlds.common.test.fixtures.Randotron;
 import com.swirlds.config.api.Configuration;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.hiero.consensus.config.TransactionConfig;
 import org.hiero.consensus.event.creator.impl.config.EventCreationConfig;
 import org.hiero.consensus.model.status.PlatformStatus;
@@ -110,4 +113,52 @@ class TransactionPoolNexusTest {
         assertNotNull(thirdBatch);
         assertTrue(thirdBatch.isEmpty());
     }
+
+    @Test
+    void testConcurrentSubmitRespectsQueueLimit() throws InterruptedException {
+        final int threadCount = 8;
+        final int transactionsPerThread = 20_000;
+        final Bytes tx = Bytes.wrap(new byte[] {1});
+
+        final AtomicInteger accepted = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            final Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int j = 0; j < transactionsPerThread; j++) {
+                    if (nexus.submitApplicationTransaction(tx)) {
+                        accepted.incrementAndGet();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        // priority transactions are always accepted, even when the queue is full
+        assertTrue(nexus.submitTransaction(tx, true));
+        assertTrue(nexus.hasBufferedSignatureTransactions());
+
+        // the queue limit is exclusive, so one more transaction than the limit is accepted
+        assertEquals(100_001, accepted.get());
+
+        int drained = 0;
+        List<Bytes> batch = nexus.getTransactions();
+        while (!batch.isEmpty()) {
+            drained += batch.size();
+            batch = nexus.getTransactions();
+        }
+        assertEquals(accepted.get() + 1, drained);
+        assertTrue(nexus.submitApplicationTransaction(tx));
+    }
 }
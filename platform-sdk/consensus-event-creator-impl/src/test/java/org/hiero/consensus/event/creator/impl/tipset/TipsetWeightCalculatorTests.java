@@ -153,6 +153,22 @@ class TipsetWeightCalculatorTests {
         Tipset previousSnapshot = calculator.getSnapshot();
 
         for (int eventIndex = 0; eventIndex < 1000; eventIndex++) {
+            // The two parent computation should agree with the general computation for every possible other parent.
+            final PlatformEvent latestSelfEvent = latestEvents.get(selfId);
+            final EventDescriptorWrapper latestSelfDescriptor =
+                    latestSelfEvent == null ? null : latestSelfEvent.getDescriptor();
+            for (final PlatformEvent candidate : latestEvents.values()) {
+                if (candidate.getCreatorId().equals(selfId)) {
+                    continue;
+                }
+                final List<EventDescriptorWrapper> candidateParents = latestSelfDescriptor == null
+                        ? List.of(candidate.getDescriptor())
+                        : List.of(candidate.getDescriptor(), latestSelfDescriptor);
+                assertEquals(
+                        calculator.getTheoreticalAdvancementWeight(candidateParents),
+                        calculator.getTheoreticalAdvancementWeight(latestSelfDescriptor, candidate.getDescriptor()));
+            }
+
             final NodeId creator = NodeId.of(
                     roster.rosterEntries().get(random.nextInt(nodeCount)).nodeId());
             final long nGen;
@@ -36,6 +36,11 @@ public class PlatformEvent implements ConsensusEvent, Hashable {
     private final GossipEvent gossipEvent;
     /** Metadata for an event that can be derived from a GossipEvent */
     private final EventMetadata metadata;
+    /**
+     * The protobuf serialization of {@link #gossipEvent} as it was received, or null if the event was not constructed
+     * from serialized bytes. Retaining this allows the event to be written or forwarded without re-encoding it.
+     */
+    private final Bytes serializedGossipEvent;
     /** The time this event was received via gossip */
     private Instant timeReceived;
 
@@ -89,7 +94,8 @@ public class PlatformEvent implements ConsensusEvent, Hashable {
                         Objects.requireNonNull(signature, "The signature must not be null"),
                         unsignedEvent.getTransactionsBytes(),
                         unsignedEvent.getParents()),
-                unsignedEvent.getMetadata());
+                unsignedEvent.getMetadata(),
+                null);
     }
 
     /**
@@ -99,12 +105,35 @@ public class PlatformEvent implements ConsensusEvent, Hashable {
      * @throws NullPointerException if gossipEvent or any of its fields are null
      */
     public PlatformEvent(@NonNull final GossipEvent gossipEvent) {
-        this(Objects.requireNonNull(gossipEvent, "The gossipEvent must not be null"), new EventMetadata(gossipEvent));
+        this(
+                Objects.requireNonNull(gossipEvent, "The gossipEvent must not be null"),
+                new EventMetadata(gossipEvent),
+                null);
     }
 
-    private PlatformEvent(@NonNull final GossipEvent gossipEvent, @NonNull final EventMetadata metadata) {
+    /**
+     * Construct a new instance from a gossip event and the bytes it was parsed from. The bytes are retained so that
+     * the event can be written to disk or sent to peers without being serialized again.
+     *
+     * @param gossipEvent           the gossip event
+     * @param serializedGossipEvent the protobuf serialization of the gossip event, must be exactly the bytes the gossip
+     *                              event was parsed from
+     * @throws NullPointerException if any of the parameters or any of the gossip event fields are null
+     */
+    public PlatformEvent(@NonNull final GossipEvent gossipEvent, @NonNull final Bytes serializedGossipEvent) {
+        this(
+                Objects.requireNonNull(gossipEvent, "The gossipEvent must not be null"),
+                new EventMetadata(gossipEvent),
+                Objects.requireNonNull(serializedGossipEvent, "The serializedGossipEvent must not be null"));
+    }
+
+    private PlatformEvent(
+            @NonNull final GossipEvent gossipEvent,
+            @NonNull final EventMetadata metadata,
+            @Nullable final Bytes serializedGossipEvent) {
         this.gossipEvent = gossipEvent;
         this.metadata = metadata;
+        this.serializedGossipEvent = serializedGossipEvent;
         this.timeReceived = Instant.now();
         this.senderId = null;
         this.consensusData = NO_CONSENSUS;
@@ -118,7 +147,8 @@ public class PlatformEvent implements ConsensusEvent, Hashable {
      * @return a copy of this event
      */
     public @NonNull PlatformEvent copyGossipedData() {
-        final PlatformEvent platformEvent = new PlatformEvent(gossipEvent);
+        final PlatformEvent platformEvent =
+                new PlatformEvent(gossipEvent, new EventMetadata(gossipEvent), serializedGossipEvent);
         platformEvent.setHash(getHash());
         return platformEvent;
     }
@@ -130,6 +160,16 @@ public class PlatformEvent implements ConsensusEvent, Hashable {
         return gossipEvent;
     }
 
+    /**
+     * Get the protobuf serialization of the gossip event, if it was retained when the event was parsed.
+     *
+     * @return the serialized gossip event, or null if the event was not constructed from serialized bytes
+     */
+    @Nullable
+    public Bytes getSerializedGossipEvent() {
+        return serializedGossipEvent;
+    }
+
     /**
      * {{ @inheritDoc }}
      */
@@ -0,0 +1,490 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.consensus.model.sequence.map;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import org.hiero.consensus.model.event.EventDescriptorWrapper;
+
+/**
+ * A {@link SequenceMap} specialized for {@link EventDescriptorWrapper} keys, where the sequence number is the birth
+ * round of the event. This map is not thread safe.
+ * <p>
+ * Entries are stored in parallel arrays using open addressing with linear probing, so inserting and removing entries
+ * does not allocate any objects unless the table needs to grow. The slot of a key is derived from its creator, its
+ * birth round and a prefix of its hash, and the birth round of each entry is stored next to it so that the window can
+ * be shifted without dereferencing any keys. Removal shifts subsequent entries of the same cluster backwards, so the
+ * table never contains tombstones.
+ * <p>
+ * The window of allowed birth rounds only has a lower bound, keys with a birth round lower than the first sequence
+ * number in the window are rejected. Operations that concern a single sequence number, and shifting the window, scan
+ * the entire table. This is cheap compared to the per entry overhead of {@link StandardSequenceMap} as long as the
+ * window is shifted much less frequently than entries are added, which is the case when the window is shifted once
+ * per round.
+ *
+ * @param <V> the type of the value
+ */
+public class EventDescriptorSequenceMap<V> implements SequenceMap<EventDescriptorWrapper, V> {
+
+    /**
+     * The table is grown once it is more than this full. Linear probing performs poorly at high load factors.
+     */
+    private static final double MAX_LOAD_FACTOR = 0.5;
+
+    /**
+     * The smallest table size.
+     */
+    private static final int MIN_TABLE_SIZE = 16;
+
+    /**
+     * When this object is cleared, the lowest allowed sequence number is reset to this value.
+     */
+    private final long initialFirstSequenceNumber;
+
+    /**
+     * The lowest allowed sequence number.
+     */
+    private long firstSequenceNumberInWindow;
+
+    /**
+     * The keys in the table, null for empty slots.
+     */
+    private EventDescriptorWrapper[] keys;
+
+    /**
+     * The values in the table, at the same index as their keys.
+     */
+    private Object[] values;
+
+    /**
+     * The sequence numbers of the keys in the table, at the same index as their keys.
+     */
+    private long[] sequenceNumbers;
+
+    /**
+     * The hashes of the keys in the table, at the same index as their keys.
+     */
+    private int[] hashes;
+
+    /**
+     * The number of entries in the table.
+     */
+    private int size;
+
+    /**
+     * The number of entries that cause the table to grow.
+     */
+    private int resizeThreshold;
+
+    /**
+     * Constructor.
+     *
+     * @param initialFirstSequenceNumber the lowest allowed sequence number when this object is constructed, or after it
+     *                                   is cleared
+     * @param initialCapacity            the number of entries that can be stored before the table needs to grow
+     */
+    public EventDescriptorSequenceMap(final long initialFirstSequenceNumber, final int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("initialCapacity must not be negative");
+        }
+        this.initialFirstSequenceNumber = initialFirstSequenceNumber;
+        this.firstSequenceNumberInWindow = initialFirstSequenceNumber;
+        allocateTable(tableSizeFor(initialCapacity));
+    }
+
+    /**
+     * Get the smallest power of two table size that can hold a number of entries without growing.
+     *
+     * @param capacity the number of entries
+     * @return the table size
+     */
+    private static int tableSizeFor(final int capacity) {
+        final long minimumSize = Math.max(MIN_TABLE_SIZE, (long) Math.ceil(capacity / MAX_LOAD_FACTOR));
+        if (minimumSize > (1 << 30)) {
+            return 1 << 30;
+        }
+        return Integer.highestOneBit((int) minimumSize - 1) << 1;
+    }
+
+    /**
+     * Replace the table with an empty table of the given size.
+     *
+     * @param tableSize the size of the table, must be a power of two
+     */
+    private void allocateTable(final int tableSize) {
+        keys = new EventDescriptorWrapper[tableSize];
+        values = new Object[tableSize];
+        sequenceNumbers = new long[tableSize];
+        hashes = new int[tableSize];
+        resizeThreshold = (int) (tableSize * MAX_LOAD_FACTOR);
+    }
+
+    /**
+     * Compute the hash of a key from its creator, its birth round and a prefix of its hash. The hash of the event is
+     * cryptographic, the other two components only spread keys of events that share a hash prefix.
+     *
+     * @param key the key
+     * @return the hash of the key
+     */
+    private static int hash(@NonNull final EventDescriptorWrapper key) {
+        long h = key.hash().hashCode();
+        h = h * 0x9E3779B97F4A7C15L + key.eventDescriptor().creatorNodeId();
+        h = h * 0x9E3779B97F4A7C15L + key.birthRound();
+        h ^= h >>> 32;
+        h *= 0xD6E8FEB86659FD93L;
+        h ^= h >>> 32;
+        return (int) h;
+    }
+
+    /**
+     * Find the slot of a key.
+     *
+     * @param key  the key
+     * @param hash the hash of the key
+     * @return the index of the key if it is present, otherwise the bitwise complement of the index of the empty slot
+     * where it would be inserted
+     */
+    private int findSlot(@NonNull final EventDescriptorWrapper key, final int hash) {
+        final int mask = keys.length - 1;
+        int index = hash & mask;
+        while (true) {
+            final EventDescriptorWrapper candidate = keys[index];
+            if (candidate == null) {
+                return ~index;
+            }
+            if (hashes[index] == hash && (candidate == key || candidate.equals(key))) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * Insert a new entry into an empty slot, growing the table if needed.
+     *
+     * @param emptySlot      the empty slot, as returned by {@link #findSlot(EventDescriptorWrapper, int)}
+     * @param key            the key
+     * @param hash           the hash of the key
+     * @param sequenceNumber the sequence number of the key
+     * @param value          the value
+     */
+    private void insert(
+            final int emptySlot,
+            @NonNull final EventDescriptorWrapper key,
+            final int hash,
+            final long sequenceNumber,
+            final V value) {
+        int index = ~emptySlot;
+        if (size >= resizeThreshold) {
+            grow();
+            index = ~findSlot(key, hash);
+        }
+        keys[index] = key;
+        values[index] = value;
+        sequenceNumbers[index] = sequenceNumber;
+        hashes[index] = hash;
+        size++;
+    }
+
+    /**
+     * Double the size of the table and re-insert all entries.
+     */
+    private void grow() {
+        final EventDescriptorWrapper[] oldKeys = keys;
+        final Object[] oldValues = values;
+        final long[] oldSequenceNumbers = sequenceNumbers;
+        final int[] oldHashes = hashes;
+
+        allocateTable(oldKeys.length << 1);
+        final int mask = keys.length - 1;
+        for (int oldIndex = 0; oldIndex < oldKeys.length; oldIndex++) {
+            if (oldKeys[oldIndex] == null) {
+                continue;
+            }
+            int index = oldHashes[oldIndex] & mask;
+            while (keys[index] != null) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = oldKeys[oldIndex];
+            values[index] = oldValues[oldIndex];
+            sequenceNumbers[index] = oldSequenceNumbers[oldIndex];
+            hashes[index] = oldHashes[oldIndex];
+        }
+    }
+
+    /**
+     * Remove the entry at a slot, and shift subsequent entries of the same cluster backwards so that every entry stays
+     * reachable from its home slot.
+     *
+     * @param index the slot to remove
+     */
+    private void removeAt(final int index) {
+        final int mask = keys.length - 1;
+        int hole = index;
+        int next = (hole + 1) & mask;
+        while (keys[next] != null) {
+            final int home = hashes[next] & mask;
+            // The entry can fill the hole if its home slot is not between the hole and its current position
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                sequenceNumbers[hole] = sequenceNumbers[next];
+                hashes[hole] = hashes[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = null;
+        values[hole] = null;
+        size--;
+    }
+
+    /**
+     * Remove all entries with a sequence number in a range, passing them to a handler.
+     *
+     * @param lowerBound          the smallest sequence number to remove (inclusive)
+     * @param upperBound          the largest sequence number to remove (inclusive)
+     * @param removedValueHandler is passed each removed key/value pair, ignored if null
+     */
+    @SuppressWarnings("unchecked")
+    private void removeRange(
+            final long lowerBound,
+            final long upperBound,
+            final BiConsumer<EventDescriptorWrapper, V> removedValueHandler) {
+        if (size == 0) {
+            return;
+        }
+        final int mask = keys.length - 1;
+
+        // Start right after an empty slot. No cluster wraps around this point, so entries shifted into a removed slot
+        // always come from a slot that has not yet been visited.
+        int start = 0;
+        while (keys[start] != null) {
+            start++;
+        }
+
+        int visited = 0;
+        int index = (start + 1) & mask;
+        while (visited < keys.length) {
+            final EventDescriptorWrapper key = keys[index];
+            final long sequenceNumber = sequenceNumbers[index];
+            if (key != null && sequenceNumber >= lowerBound && sequenceNumber <= upperBound) {
+                final V value = (V) values[index];
+                removeAt(index);
+                if (removedValueHandler != null) {
+                    removedValueHandler.accept(key, value);
+                }
+                if (keys[index] != null) {
+                    // another entry was shifted into this slot, check it before moving on
+                    continue;
+                }
+            }
+            index = (index + 1) & mask;
+            visited++;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(final EventDescriptorWrapper key) {
+        final int index = findSlot(key, hash(key));
+        return index >= 0 ? (V) values[index] : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(final EventDescriptorWrapper key) {
+        return findSlot(key, hash(key)) >= 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V computeIfAbsent(
+            final EventDescriptorWrapper key, final Function<? super EventDescriptorWrapper, ? extends V> mappingFunction) {
+        final long sequenceNumber = key.birthRound();
+        if (sequenceNumber < firstSequenceNumberInWindow) {
+            return null;
+        }
+        final int hash = hash(key);
+        final int index = findSlot(key, hash);
+        if (index >= 0) {
+            return (V) values[index];
+        }
+        final V value = mappingFunction.apply(key);
+        insert(index, key, hash, sequenceNumber, value);
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean putIfAbsent(final EventDescriptorWrapper key, final V value) {
+        final long sequenceNumber = key.birthRound();
+        if (sequenceNumber < firstSequenceNumberInWindow) {
+            return false;
+        }
+        final int hash = hash(key);
+        final int index = findSlot(key, hash);
+        if (index >= 0) {
+            return false;
+        }
+        insert(index, key, hash, sequenceNumber, value);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(final EventDescriptorWrapper key, final V value) {
+        final long sequenceNumber = key.birthRound();
+        if (sequenceNumber < firstSequenceNumberInWindow) {
+            return null;
+        }
+        final int hash = hash(key);
+        final int index = findSlot(key, hash);
+        if (index >= 0) {
+            final V previousValue = (V) values[index];
+            values[index] = value;
+            return previousValue;
+        }
+        insert(index, key, hash, sequenceNumber, value);
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(final EventDescriptorWrapper key) {
+        final int index = findSlot(key, hash(key));
+        if (index < 0) {
+            return null;
+        }
+        final V value = (V) values[index];
+        removeAt(index);
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeValuesWithSequenceNumber(
+            final long sequenceNumber, final BiConsumer<EventDescriptorWrapper, V> removedValueHandler) {
+        removeRange(sequenceNumber, sequenceNumber, removedValueHandler);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<EventDescriptorWrapper> getKeysWithSequenceNumber(final long sequenceNumber) {
+        final List<EventDescriptorWrapper> result = new ArrayList<>();
+        for (int index = 0; index < keys.length; index++) {
+            if (keys[index] != null && sequenceNumbers[index] == sequenceNumber) {
+                result.add(keys[index]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Map.Entry<EventDescriptorWrapper, V>> getEntriesWithSequenceNumber(final long sequenceNumber) {
+        final List<Map.Entry<EventDescriptorWrapper, V>> result = new ArrayList<>();
+        for (int index = 0; index < keys.length; index++) {
+            if (keys[index] != null && sequenceNumbers[index] == sequenceNumber) {
+                result.add(new AbstractMap.SimpleEntry<>(keys[index], (V) values[index]));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void shiftWindow(
+            final long firstSequenceNumberInWindow, final BiConsumer<EventDescriptorWrapper, V> removedValueHandler) {
+        if (firstSequenceNumberInWindow < this.firstSequenceNumberInWindow) {
+            throw new IllegalStateException(
+                    "Window can only be shifted towards larger value. Current lowest sequence number = "
+                            + this.firstSequenceNumberInWindow + ", requested lowest sequence number = "
+                            + firstSequenceNumberInWindow);
+        }
+        if (firstSequenceNumberInWindow == this.firstSequenceNumberInWindow) {
+            return;
+        }
+        this.firstSequenceNumberInWindow = firstSequenceNumberInWindow;
+        removeRange(Long.MIN_VALUE, firstSequenceNumberInWindow - 1, removedValueHandler);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getFirstSequenceNumberInWindow() {
+        return firstSequenceNumberInWindow;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This map does not limit the largest allowed sequence number.
+     */
+    @Override
+    public long getLastSequenceNumberInWindow() {
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This map does not limit the largest allowed sequence number, so this is always {@link Integer#MAX_VALUE}.
+     */
+    @Override
+    public int getSequenceNumberCapacity() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The table keeps its current size.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(keys, null);
+        Arrays.fill(values, null);
+        size = 0;
+        firstSequenceNumberInWindow = initialFirstSequenceNumber;
+    }
+}
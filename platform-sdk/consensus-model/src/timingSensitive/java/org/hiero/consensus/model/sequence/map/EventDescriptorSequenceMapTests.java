@@ -0,0 +1,154 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.consensus.model.sequence.map;
+
+import static org.hiero.base.utility.test.fixtures.RandomUtils.getRandomPrintSeed;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.hapi.platform.event.EventDescriptor;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import org.hiero.consensus.model.event.EventDescriptorWrapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Event Descriptor Sequence Map Tests")
+class EventDescriptorSequenceMapTests {
+
+    private static EventDescriptorWrapper randomDescriptor(final Random random, final long birthRound) {
+        final byte[] hash = new byte[48];
+        random.nextBytes(hash);
+        return new EventDescriptorWrapper(
+                new EventDescriptor(Bytes.wrap(hash), random.nextInt(10), birthRound, random.nextInt(1000)));
+    }
+
+    /**
+     * Assert that a map contains exactly the entries of a reference map.
+     */
+    private static void assertSameContents(
+            final Map<EventDescriptorWrapper, Integer> expected,
+            final SequenceMap<EventDescriptorWrapper, Integer> map,
+            final List<EventDescriptorWrapper> removedKeys) {
+        assertEquals(expected.size(), map.getSize(), "unexpected map size");
+        for (final Map.Entry<EventDescriptorWrapper, Integer> entry : expected.entrySet()) {
+            assertTrue(map.containsKey(entry.getKey()), "should contain key");
+            assertEquals(entry.getValue(), map.get(entry.getKey()), "unexpected value");
+        }
+        for (final EventDescriptorWrapper key : removedKeys) {
+            if (!expected.containsKey(key)) {
+                assertFalse(map.containsKey(key), "should not contain key");
+                assertNull(map.get(key), "should not have a value");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Random operations match a HashMap")
+    void randomOperationsTest() {
+        final Random random = getRandomPrintSeed();
+        final SequenceMap<EventDescriptorWrapper, Integer> map = new EventDescriptorSequenceMap<>(0, 4);
+        final Map<EventDescriptorWrapper, Integer> expected = new HashMap<>();
+        final List<EventDescriptorWrapper> allKeys = new ArrayList<>();
+
+        long firstRound = 0;
+        for (int i = 0; i < 20_000; i++) {
+            final int operation = random.nextInt(10);
+            if (operation < 6 || allKeys.isEmpty()) {
+                final EventDescriptorWrapper key = randomDescriptor(random, firstRound + random.nextInt(20));
+                allKeys.add(key);
+                assertNull(map.put(key, i));
+                expected.put(key, i);
+            } else if (operation < 8) {
+                final EventDescriptorWrapper key = allKeys.get(random.nextInt(allKeys.size()));
+                assertEquals(expected.remove(key), map.remove(key));
+            } else if (operation < 9) {
+                final EventDescriptorWrapper key = allKeys.get(random.nextInt(allKeys.size()));
+                if (key.birthRound() >= firstRound) {
+                    assertEquals(expected.put(key, i), map.put(key, i));
+                }
+            } else {
+                firstRound += random.nextInt(3);
+                final long threshold = firstRound;
+                final Set<EventDescriptorWrapper> expectedRemoved = new HashSet<>();
+                expected.keySet().removeIf(key -> key.birthRound() < threshold && expectedRemoved.add(key));
+
+                final Set<EventDescriptorWrapper> removed = new HashSet<>();
+                map.shiftWindow(threshold, (key, value) -> assertTrue(removed.add(key), "key removed twice"));
+                assertEquals(expectedRemoved, removed);
+                allKeys.removeIf(key -> key.birthRound() < threshold);
+            }
+        }
+        assertSameContents(expected, map, allKeys);
+    }
+
+    @Test
+    @DisplayName("Keys sharing a hash prefix")
+    void hashCollisionTest() {
+        final Random random = getRandomPrintSeed();
+        final SequenceMap<EventDescriptorWrapper, Integer> map = new EventDescriptorSequenceMap<>(0, 0);
+        final Map<EventDescriptorWrapper, Integer> expected = new HashMap<>();
+        final List<EventDescriptorWrapper> keys = new ArrayList<>();
+
+        // Only the first bytes of the hash are used when hashing a key, so all of these keys collide unless they
+        // differ in creator or birth round
+        final byte[] hash = new byte[48];
+        for (int i = 0; i < 1000; i++) {
+            hash[47] = (byte) i;
+            hash[46] = (byte) (i >> 8);
+            final EventDescriptorWrapper key =
+                    new EventDescriptorWrapper(new EventDescriptor(Bytes.wrap(hash.clone()), i % 2, i % 3, i));
+            keys.add(key);
+            map.put(key, i);
+            expected.put(key, i);
+        }
+        assertSameContents(expected, map, keys);
+
+        for (int i = 0; i < 500; i++) {
+            final EventDescriptorWrapper key = keys.get(random.nextInt(keys.size()));
+            assertEquals(expected.remove(key), map.remove(key));
+        }
+        assertSameContents(expected, map, keys);
+
+        map.removeValuesWithSequenceNumber(1);
+        expected.keySet().removeIf(key -> key.birthRound() == 1);
+        assertSameContents(expected, map, keys);
+    }
+
+    @Test
+    @DisplayName("Window is enforced")
+    void windowTest() {
+        final Random random = getRandomPrintSeed();
+        final SequenceMap<EventDescriptorWrapper, Integer> map = new EventDescriptorSequenceMap<>(5, 16);
+
+        final EventDescriptorWrapper ancient = randomDescriptor(random, 4);
+        assertNull(map.put(ancient, 1));
+        assertFalse(map.putIfAbsent(ancient, 1));
+        assertNull(map.computeIfAbsent(ancient, key -> 1));
+        assertFalse(map.containsKey(ancient));
+
+        final EventDescriptorWrapper key = randomDescriptor(random, 1_000_000);
+        assertTrue(map.putIfAbsent(key, 1));
+        assertFalse(map.putIfAbsent(key, 2));
+        assertEquals(Integer.valueOf(1), map.computeIfAbsent(key, k -> 3));
+        assertEquals(List.of(key), map.getKeysWithSequenceNumber(1_000_000));
+
+        assertThrows(IllegalStateException.class, () -> map.shiftWindow(4));
+
+        map.shiftWindow(1_000_001);
+        assertEquals(0, map.getSize());
+        assertNull(map.put(key, 1));
+
+        map.clear();
+        assertEquals(5, map.getFirstSequenceNumberInWindow());
+        assertTrue(map.putIfAbsent(key, 1));
+    }
+}
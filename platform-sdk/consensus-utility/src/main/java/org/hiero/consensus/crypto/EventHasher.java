@@ -16,4 +16,16 @@ public interface EventHasher {
      */
     @NonNull
     PlatformEvent hashEvent(@NonNull PlatformEvent event);
+
+    /**
+     * Hashes an event replayed from the preconsensus event stream, unless it was already hashed while it was being
+     * read from its file.
+     *
+     * @param event the replayed event
+     * @return the hashed event
+     */
+    @NonNull
+    default PlatformEvent hashReplayedEvent(@NonNull final PlatformEvent event) {
+        return event.getHash() == null ? hashEvent(event) : event;
+    }
 }
@@ -3,6 +3,7 @@ package com.swirlds.component.framework.component;
 
 import static com.swirlds.component.framework.model.diagram.HyperlinkBuilder.platformCoreHyperlink;
 
+import com.swirlds.component.framework.component.internal.BatchInputWireToBind;
 import com.swirlds.component.framework.component.internal.FilterToBind;
 import com.swirlds.component.framework.component.internal.InputWireToBind;
 import com.swirlds.component.framework.component.internal.TransformerToBind;
@@ -64,6 +65,12 @@ public class ComponentWiring<COMPONENT_TYPE, OUTPUT_TYPE> {
      */
     private final List<InputWireToBind<COMPONENT_TYPE, Object, OUTPUT_TYPE>> inputsToBind = new ArrayList<>();
 
+    /**
+     * Batch input wires that need to be bound.
+     */
+    private final List<BatchInputWireToBind<COMPONENT_TYPE, Object, OUTPUT_TYPE>> batchInputsToBind =
+            new ArrayList<>();
+
     /**
      * Previously created transformers/splitters/filters.
      */
@@ -290,6 +297,48 @@ public class ComponentWiring<COMPONENT_TYPE, OUTPUT_TYPE> {
         return getOrBuildInputWire(proxy.getMostRecentlyInvokedMethod(), null, null, null, handler);
     }
 
+    /**
+     * Get an input wire for this component that passes data to the component in batches. When the scheduler has
+     * several items for this input wire queued, they are passed to the component method in a single call, in the order
+     * in which they were inserted. See {@link BindableInputWire#bindBatch(Function)}.
+     *
+     * @param handler      the component method that will handle the input, e.g. "MyComponent::handleInputs". Should be
+     *                     a method on the class, not a method on a specific instance.
+     * @param <INPUT_TYPE> the type of the input
+     * @return the input wire
+     */
+    @NonNull
+    public <INPUT_TYPE> InputWire<INPUT_TYPE> getBatchInputWire(
+            @NonNull final BiFunction<COMPONENT_TYPE, List<INPUT_TYPE>, OUTPUT_TYPE> handler) {
+        Objects.requireNonNull(handler);
+
+        try {
+            handler.apply(proxyComponent, List.of());
+        } catch (final NullPointerException e) {
+            throw new IllegalStateException(
+                    "Component wiring does not support primitive return types. Use a boxed primitive instead.", e);
+        }
+
+        return getOrBuildBatchInputWire(proxy.getMostRecentlyInvokedMethod(), handler, null);
+    }
+
+    /**
+     * Get an input wire for this component that passes data to the component in batches, see
+     * {@link #getBatchInputWire(BiFunction)}.
+     *
+     * @param handler      the component method that will handle the input, e.g. "MyComponent::handleInputs". Should be
+     *                     a method on the class, not a method on a specific instance.
+     * @param <INPUT_TYPE> the type of the input
+     * @return the input wire
+     */
+    @NonNull
+    public <INPUT_TYPE> InputWire<INPUT_TYPE> getBatchInputWire(
+            @NonNull final BiConsumer<COMPONENT_TYPE, List<INPUT_TYPE>> handler) {
+        Objects.requireNonNull(handler);
+        handler.accept(proxyComponent, List.of());
+        return getOrBuildBatchInputWire(proxy.getMostRecentlyInvokedMethod(), null, handler);
+    }
+
     /**
      * Get the output wire of this component, transformed by a function.
      *
@@ -667,19 +716,8 @@ public class ComponentWiring<COMPONENT_TYPE, OUTPUT_TYPE> {
             return (InputWire<INPUT_TYPE>) inputWires.get(method);
         }
 
-        final String label;
-        if (name != null) {
-            label = name;
-        } else {
-            final InputWireLabel inputWireLabel = method.getAnnotation(InputWireLabel.class);
-            if (inputWireLabel == null) {
-                label = method.getName();
-            } else {
-                label = inputWireLabel.value();
-            }
-        }
-
-        final BindableInputWire<INPUT_TYPE, OUTPUT_TYPE> inputWire = scheduler.buildInputWire(label);
+        final BindableInputWire<INPUT_TYPE, OUTPUT_TYPE> inputWire =
+                scheduler.buildInputWire(getInputWireLabel(method, name));
         inputWires.put(method, (BindableInputWire<Object, Object>) inputWire);
 
         if (component == null) {
@@ -711,6 +749,79 @@ public class ComponentWiring<COMPONENT_TYPE, OUTPUT_TYPE> {
         return inputWire;
     }
 
+    /**
+     * Get the batch input wire for a specified method.
+     *
+     * @param method               the method that will handle data on the input wire
+     * @param handlerWithReturn    the handler for the method if it has a return type
+     * @param handlerWithoutReturn the handler for the method if it does not have a return type
+     * @param <INPUT_TYPE>         the input type
+     * @return the input wire
+     */
+    private <INPUT_TYPE> InputWire<INPUT_TYPE> getOrBuildBatchInputWire(
+            @NonNull final Method method,
+            @Nullable final BiFunction<COMPONENT_TYPE, List<INPUT_TYPE>, OUTPUT_TYPE> handlerWithReturn,
+            @Nullable final BiConsumer<COMPONENT_TYPE, List<INPUT_TYPE>> handlerWithoutReturn) {
+
+        if (inputWires.containsKey(method)) {
+            // We've already created this wire
+            return (InputWire<INPUT_TYPE>) inputWires.get(method);
+        }
+
+        final BindableInputWire<INPUT_TYPE, OUTPUT_TYPE> inputWire =
+                scheduler.buildInputWire(getInputWireLabel(method, null));
+        inputWires.put(method, (BindableInputWire<Object, Object>) inputWire);
+
+        final BatchInputWireToBind<COMPONENT_TYPE, INPUT_TYPE, OUTPUT_TYPE> wireToBind =
+                new BatchInputWireToBind<>(inputWire, handlerWithReturn, handlerWithoutReturn);
+        if (component == null) {
+            // we will bind this later
+            batchInputsToBind.add((BatchInputWireToBind<COMPONENT_TYPE, Object, OUTPUT_TYPE>) wireToBind);
+        } else {
+            // bind this now
+            bindBatchInputWire(wireToBind, component);
+        }
+
+        return inputWire;
+    }
+
+    /**
+     * Bind a batch input wire to the component.
+     *
+     * @param wireToBind   the input wire and its handler
+     * @param component    the component to bind to
+     * @param <INPUT_TYPE> the input type
+     */
+    private <INPUT_TYPE> void bindBatchInputWire(
+            @NonNull final BatchInputWireToBind<COMPONENT_TYPE, INPUT_TYPE, OUTPUT_TYPE> wireToBind,
+            @NonNull final COMPONENT_TYPE component) {
+        if (wireToBind.handlerWithReturn() != null) {
+            wireToBind.inputWire().bindBatch(x -> wireToBind.handlerWithReturn().apply(component, x));
+        } else {
+            assert wireToBind.handlerWithoutReturn() != null;
+            wireToBind.inputWire().bindBatchConsumer(x -> wireToBind.handlerWithoutReturn().accept(component, x));
+        }
+    }
+
+    /**
+     * Get the label of the input wire for a method.
+     *
+     * @param method the method that will handle data on the input wire
+     * @param name   the optional name of the input wire, used instead of the method's label if not null
+     * @return the label of the input wire
+     */
+    @NonNull
+    private static String getInputWireLabel(@NonNull final Method method, @Nullable final String name) {
+        if (name != null) {
+            return name;
+        }
+        final InputWireLabel inputWireLabel = method.getAnnotation(InputWireLabel.class);
+        if (inputWireLabel == null) {
+            return method.getName();
+        }
+        return inputWireLabel.value();
+    }
+
     /**
      * Flush all data in the task scheduler. Blocks until all data currently in flight has been processed.
      *
@@ -774,6 +885,11 @@ public class ComponentWiring<COMPONENT_TYPE, OUTPUT_TYPE> {
             }
         }
 
+        // Bind batch input wires
+        for (final BatchInputWireToBind<COMPONENT_TYPE, Object, OUTPUT_TYPE> wireToBind : batchInputsToBind) {
+            bindBatchInputWire(wireToBind, component);
+        }
+
         // Bind transformers
         for (final TransformerToBind<COMPONENT_TYPE, Object, Object> transformerToBind : transformersToBind) {
             final WireTransformer<Object, Object> transformer = transformerToBind.transformer();
@@ -3,6 +3,8 @@ package com.swirlds.component.framework.model;
 
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.NO_OP;
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.SEQUENTIAL;
+import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.SEQUENTIAL_RING_BUFFER;
+import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.SEQUENTIAL_RING_BUFFER_BUSY_SPIN;
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.SEQUENTIAL_THREAD;
 
 import com.swirlds.base.time.Time;
@@ -15,6 +17,7 @@ import com.swirlds.component.framework.schedulers.ExceptionHandlers;
 import com.swirlds.component.framework.schedulers.TaskScheduler;
 import com.swirlds.component.framework.schedulers.builders.TaskSchedulerBuilder;
 import com.swirlds.component.framework.schedulers.builders.internal.StandardTaskSchedulerBuilder;
+import com.swirlds.component.framework.schedulers.internal.RingBufferTaskScheduler;
 import com.swirlds.component.framework.schedulers.internal.SequentialThreadTaskScheduler;
 import com.swirlds.component.framework.wires.input.BindableInputWire;
 import com.swirlds.component.framework.wires.output.OutputWire;
@@ -63,6 +66,11 @@ public class StandardWiringModel extends TraceableWiringModel {
      */
     private final List<SequentialThreadTaskScheduler<?>> threadSchedulers = new ArrayList<>();
 
+    /**
+     * Ring buffer schedulers also need to have their threads started/stopped.
+     */
+    private final List<RingBufferTaskScheduler<?>> ringBufferSchedulers = new ArrayList<>();
+
     /**
      * The default fork join pool, schedulers not explicitly assigned a pool will use this one.
      */
@@ -194,6 +202,9 @@ public class StandardWiringModel extends TraceableWiringModel {
         super.registerScheduler(scheduler, hyperlink);
         if (scheduler.getType() == SEQUENTIAL_THREAD) {
             threadSchedulers.add((SequentialThreadTaskScheduler<?>) scheduler);
+        } else if (scheduler.getType() == SEQUENTIAL_RING_BUFFER
+                || scheduler.getType() == SEQUENTIAL_RING_BUFFER_BUSY_SPIN) {
+            ringBufferSchedulers.add((RingBufferTaskScheduler<?>) scheduler);
         }
     }
 
@@ -238,6 +249,9 @@ public class StandardWiringModel extends TraceableWiringModel {
         for (final SequentialThreadTaskScheduler<?> threadScheduler : threadSchedulers) {
             threadScheduler.start();
         }
+        for (final RingBufferTaskScheduler<?> ringBufferScheduler : ringBufferSchedulers) {
+            ringBufferScheduler.start();
+        }
     }
 
     /**
@@ -254,6 +268,9 @@ public class StandardWiringModel extends TraceableWiringModel {
         for (final SequentialThreadTaskScheduler<?> threadScheduler : threadSchedulers) {
             threadScheduler.stop();
         }
+        for (final RingBufferTaskScheduler<?> ringBufferScheduler : ringBufferSchedulers) {
+            ringBufferScheduler.stop();
+        }
 
         if (anchor != null) {
             anchor.stop();
@@ -37,8 +37,10 @@ public final class DirectSchedulerChecks {
      * <li>
      * Calling into a component with type {@link TaskSchedulerType#DIRECT DIRECT}
      * from more than one component with type
-     * {@link TaskSchedulerType#SEQUENTIAL SEQUENTIAL} or type
-     * {@link TaskSchedulerType#SEQUENTIAL_THREAD SEQUENTIAL_THREAD} is not allowed.
+     * {@link TaskSchedulerType#SEQUENTIAL SEQUENTIAL},
+     * {@link TaskSchedulerType#SEQUENTIAL_THREAD SEQUENTIAL_THREAD},
+     * {@link TaskSchedulerType#SEQUENTIAL_RING_BUFFER SEQUENTIAL_RING_BUFFER} or type
+     * {@link TaskSchedulerType#SEQUENTIAL_RING_BUFFER_BUSY_SPIN SEQUENTIAL_RING_BUFFER_BUSY_SPIN} is not allowed.
      * </li>
      * <li>
      * Calling into a component A with type
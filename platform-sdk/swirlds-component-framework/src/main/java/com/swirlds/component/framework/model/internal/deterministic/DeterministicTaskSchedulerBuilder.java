@@ -59,7 +59,11 @@ public class DeterministicTaskSchedulerBuilder<OUT> extends AbstractTaskSchedule
 
         final TaskScheduler<OUT> scheduler =
                 switch (type) {
-                    case CONCURRENT, SEQUENTIAL, SEQUENTIAL_THREAD -> new DeterministicTaskScheduler<>(
+                    case CONCURRENT,
+                            SEQUENTIAL,
+                            SEQUENTIAL_THREAD,
+                            SEQUENTIAL_RING_BUFFER,
+                            SEQUENTIAL_RING_BUFFER_BUSY_SPIN -> new DeterministicTaskScheduler<>(
                             model,
                             name,
                             type,
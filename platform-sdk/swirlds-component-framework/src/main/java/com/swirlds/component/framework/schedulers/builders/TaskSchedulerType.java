@@ -17,6 +17,19 @@ public enum TaskSchedulerType {
      * the implementation and performance characteristics are not identical.
      */
     SEQUENTIAL_THREAD,
+    /**
+     * Tasks are executed on a dedicated thread one at a time in the order they were enqueued. There is a happens before
+     * relationship between each task. This scheduler type has the same semantics as {@link #SEQUENTIAL_THREAD}, but
+     * tasks are handed to the thread through a preallocated ring buffer and are handled in batches. When there is no
+     * work the thread spins for a short while and then parks. Suitable for hot components that receive a steady stream
+     * of small tasks.
+     */
+    SEQUENTIAL_RING_BUFFER,
+    /**
+     * Similar to {@link #SEQUENTIAL_RING_BUFFER} except that the thread never parks while waiting for work. This
+     * minimizes latency at the cost of fully occupying a CPU core, even when the scheduler is idle.
+     */
+    SEQUENTIAL_RING_BUFFER_BUSY_SPIN,
     /**
      * Tasks are executed on a fork join pool. Tasks may be executed in parallel with each other. Ordering is not
      * guaranteed.
@@ -27,12 +40,12 @@ public enum TaskSchedulerType {
      * or otherwise). Useful for scenarios where tasks are extremely small and not worth the scheduling overhead.
      * <p>
      * Only a single logical thread of execution is permitted to send data to a direct task scheduler.
-     * {@link #SEQUENTIAL} and {@link #SEQUENTIAL_THREAD} schedulers are permitted to send data to a direct task
-     * scheduler, but it is illegal for more than one of these schedulers to send data to the same direct task
-     * scheduler. {@link #CONCURRENT} task schedulers are forbidden from sending data to a direct task scheduler. It is
-     * legal for operations that are executed on the calling thread (e.g. filters, transformers, stateless/stateful
-     * direct schedulers) to call into a direct scheduler as long as the calling thread is not in a concurrent scheduler
-     * or originating from more than one sequential scheduler.
+     * {@link #SEQUENTIAL}, {@link #SEQUENTIAL_THREAD} and the ring buffer schedulers are permitted to send data to a
+     * direct task scheduler, but it is illegal for more than one of these schedulers to send data to the same direct
+     * task scheduler. {@link #CONCURRENT} task schedulers are forbidden from sending data to a direct task scheduler.
+     * It is legal for operations that are executed on the calling thread (e.g. filters, transformers,
+     * stateless/stateful direct schedulers) to call into a direct scheduler as long as the calling thread is not in a
+     * concurrent scheduler or originating from more than one sequential scheduler.
      * <p>
      * To decide if a direct scheduler is wired in a legal way, the following algorithm is used:
      * <ul>
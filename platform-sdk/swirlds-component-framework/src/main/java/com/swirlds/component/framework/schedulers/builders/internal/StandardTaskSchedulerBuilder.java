@@ -3,6 +3,7 @@ package com.swirlds.component.framework.schedulers.builders.internal;
 
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.DIRECT_THREADSAFE;
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.NO_OP;
+import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.SEQUENTIAL_RING_BUFFER_BUSY_SPIN;
 
 import com.swirlds.base.time.Time;
 import com.swirlds.common.metrics.FunctionGauge;
@@ -15,6 +16,7 @@ import com.swirlds.component.framework.schedulers.builders.TaskSchedulerType;
 import com.swirlds.component.framework.schedulers.internal.ConcurrentTaskScheduler;
 import com.swirlds.component.framework.schedulers.internal.DirectTaskScheduler;
 import com.swirlds.component.framework.schedulers.internal.NoOpTaskScheduler;
+import com.swirlds.component.framework.schedulers.internal.RingBufferTaskScheduler;
 import com.swirlds.component.framework.schedulers.internal.SequentialTaskScheduler;
 import com.swirlds.component.framework.schedulers.internal.SequentialThreadTaskScheduler;
 import com.swirlds.metrics.api.Metrics;
@@ -152,6 +154,19 @@ public class StandardTaskSchedulerBuilder<OUT> extends AbstractTaskSchedulerBuil
                             flushingEnabled,
                             squelchingEnabled,
                             insertionIsBlocking);
+                    case SEQUENTIAL_RING_BUFFER, SEQUENTIAL_RING_BUFFER_BUSY_SPIN -> new RingBufferTaskScheduler<>(
+                            model,
+                            name,
+                            buildUncaughtExceptionHandler(),
+                            counters.onRamp(),
+                            counters.offRamp(),
+                            dataCounter,
+                            busyFractionTimer,
+                            unhandledTaskCapacity,
+                            flushingEnabled,
+                            squelchingEnabled,
+                            insertionIsBlocking,
+                            type == SEQUENTIAL_RING_BUFFER_BUSY_SPIN);
                     case DIRECT, DIRECT_THREADSAFE -> new DirectTaskScheduler<>(
                             model,
                             name,
@@ -0,0 +1,46 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.component.framework.schedulers.internal;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * A handler for an input wire that is able to handle several items at once. Schedulers that drain their queue in
+ * batches ({@link SequentialThreadTaskScheduler} and {@link RingBufferTaskScheduler}) pass consecutive queued items for
+ * the same batch handler in a single call. All other schedulers pass one item at a time, as a list of size one.
+ */
+public final class BatchHandler implements Consumer<Object> {
+
+    private final Consumer<List<Object>> handler;
+
+    /**
+     * Constructor.
+     *
+     * @param handler the handler that is called with a batch of items, the list is never empty and may be retained by
+     *                the handler
+     */
+    public BatchHandler(@NonNull final Consumer<List<Object>> handler) {
+        this.handler = Objects.requireNonNull(handler);
+    }
+
+    /**
+     * Handle a single item, as a batch of size one.
+     *
+     * @param item the item to handle
+     */
+    @Override
+    public void accept(@NonNull final Object item) {
+        handler.accept(List.of(item));
+    }
+
+    /**
+     * Handle a batch of items.
+     *
+     * @param items the items to handle, in the order in which they were inserted
+     */
+    public void acceptBatch(@NonNull final List<Object> items) {
+        handler.accept(items);
+    }
+}
@@ -0,0 +1,433 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.component.framework.schedulers.internal;
+
+import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.SEQUENTIAL_RING_BUFFER;
+import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.SEQUENTIAL_RING_BUFFER_BUSY_SPIN;
+import static com.swirlds.component.framework.schedulers.internal.SequentialThreadTaskScheduler.THREAD_NAME_PREFIX;
+import static com.swirlds.component.framework.schedulers.internal.SequentialThreadTaskScheduler.THREAD_NAME_SUFFIX;
+
+import com.swirlds.base.state.Startable;
+import com.swirlds.base.state.Stoppable;
+import com.swirlds.common.metrics.extensions.FractionalTimer;
+import com.swirlds.component.framework.counters.ObjectCounter;
+import com.swirlds.component.framework.model.TraceableWiringModel;
+import com.swirlds.component.framework.schedulers.TaskScheduler;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.lang.Thread.UncaughtExceptionHandler;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * A scheduler that performs work sequentially on a dedicated thread, handing tasks to that thread through a
+ * preallocated ring buffer. This class has the same semantics as {@link SequentialThreadTaskScheduler}, but inserting
+ * a task does not allocate and does not take a lock, and the thread drains tasks in batches without blocking on a
+ * queue. When there is no work, the thread either spins or parks, depending on the wait strategy.
+ * <p>
+ * Back pressure and health monitoring work through the on ramp and off ramp {@link ObjectCounter}s exactly as they do
+ * for other schedulers. The ring buffer is sized to hold the capacity of the scheduler, so the ring buffer only fills
+ * up if the capacity is unlimited or if tasks are injected past the capacity. Tasks that do not fit are kept in an
+ * overflow queue instead of blocking the caller, since blocking an injecting caller could deadlock a cyclical
+ * wiring.
+ *
+ * @param <OUT> the type of the primary output wire
+ */
+public class RingBufferTaskScheduler<OUT> extends TaskScheduler<OUT> implements Startable, Stoppable {
+
+    /**
+     * The size of the ring buffer if the capacity of the scheduler is unlimited.
+     */
+    private static final int DEFAULT_RING_SIZE = 1 << 12;
+
+    /**
+     * The maximum size of the ring buffer, larger capacities are supported by the overflow queue.
+     */
+    private static final int MAX_RING_SIZE = 1 << 16;
+
+    /**
+     * The maximum number of tasks handled before the consumed slots are released to the producers.
+     */
+    private static final int BATCH_SIZE = 1024;
+
+    /**
+     * The number of times the thread spins while there is no work before it parks, if parking is enabled.
+     */
+    private static final int SPINS_BEFORE_PARKING = 1000;
+
+    /**
+     * The maximum time the thread is parked for. Producers unpark the thread when they insert a task, this is only a
+     * safety net.
+     */
+    private static final long MAX_PARK_NANOS = 1_000_000;
+
+    private final ObjectCounter onRamp;
+    private final ObjectCounter offRamp;
+    private final ToLongFunction<Object> dataCounter;
+    private final FractionalTimer busyTimer;
+    private final long capacity;
+    private final boolean busySpin;
+
+    private final int mask;
+    private final Consumer<Object>[] handlers;
+    private final Object[] data;
+
+    /**
+     * For each slot, the sequence number of the task that was last published to it. A slot is ready to be handled once
+     * its published sequence equals the sequence the thread is waiting for.
+     */
+    private final AtomicLongArray published;
+
+    /**
+     * The sequence number that will be claimed by the next producer.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * The sequence number of the next task to be handled by the thread. Slots before this sequence may be reused.
+     */
+    private volatile long head;
+
+    /**
+     * Tasks that did not fit into the ring buffer, handled once the ring buffer is empty.
+     */
+    private final Queue<SequentialThreadTask> overflow = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The number of tasks in the overflow queue. While this is non-zero, new tasks are also added to the overflow
+     * queue, so that tasks inserted by the same thread are always handled in order.
+     */
+    private final AtomicInteger overflowCount = new AtomicInteger();
+
+    /**
+     * True while the thread is parked, or about to park, waiting for work.
+     */
+    private volatile boolean parked;
+
+    private volatile boolean alive = true;
+
+    private final Thread thread;
+
+    /**
+     * Constructor.
+     *
+     * @param model                    the wiring model containing this task scheduler
+     * @param name                     the name of the task scheduler
+     * @param uncaughtExceptionHandler the handler to call when an exception is thrown by a task. In this scheduler,
+     *                                 the handler is executed immediately after the task that throws the exception.
+     * @param onRamp                   the counter to increment when a task is added to the ring buffer
+     * @param offRamp                  the counter to decrement when a task is removed from the ring buffer
+     * @param dataCounter              the function to weight input data objects for health monitoring
+     * @param busyTimer                the timer to activate when a task is being handled
+     * @param capacity                 the maximum desired capacity for this task scheduler
+     * @param flushEnabled             if true, then {@link #flush()} will be enabled, otherwise it will throw.
+     * @param squelchingEnabled        if true, then squelching will be enabled, otherwise trying to squelch will throw
+     * @param insertionIsBlocking      when data is inserted into this task scheduler, will it block until capacity is
+     *                                 available?
+     * @param busySpin                 if true, the thread spins while waiting for work, otherwise it parks after
+     *                                 spinning for a short while
+     */
+    @SuppressWarnings("unchecked")
+    public RingBufferTaskScheduler(
+            @NonNull final TraceableWiringModel model,
+            @NonNull final String name,
+            @NonNull final UncaughtExceptionHandler uncaughtExceptionHandler,
+            @NonNull final ObjectCounter onRamp,
+            @NonNull final ObjectCounter offRamp,
+            @NonNull final ToLongFunction<Object> dataCounter,
+            @NonNull final FractionalTimer busyTimer,
+            final long capacity,
+            final boolean flushEnabled,
+            final boolean squelchingEnabled,
+            final boolean insertionIsBlocking,
+            final boolean busySpin) {
+        super(
+                model,
+                name,
+                busySpin ? SEQUENTIAL_RING_BUFFER_BUSY_SPIN : SEQUENTIAL_RING_BUFFER,
+                uncaughtExceptionHandler,
+                flushEnabled,
+                squelchingEnabled,
+                insertionIsBlocking);
+
+        this.onRamp = Objects.requireNonNull(onRamp);
+        this.offRamp = Objects.requireNonNull(offRamp);
+        this.dataCounter = Objects.requireNonNull(dataCounter);
+        this.busyTimer = Objects.requireNonNull(busyTimer);
+        this.capacity = capacity;
+        this.busySpin = busySpin;
+
+        final int ringSize = computeRingSize(capacity);
+        mask = ringSize - 1;
+        handlers = new Consumer[ringSize];
+        data = new Object[ringSize];
+        published = new AtomicLongArray(ringSize);
+        for (int i = 0; i < ringSize; i++) {
+            published.set(i, -1);
+        }
+
+        thread = new Thread(this::run, THREAD_NAME_PREFIX + name + THREAD_NAME_SUFFIX);
+    }
+
+    /**
+     * Compute the size of the ring buffer, the smallest power of two that holds the capacity.
+     *
+     * @param capacity the capacity of the scheduler
+     * @return the size of the ring buffer
+     */
+    private static int computeRingSize(final long capacity) {
+        if (capacity <= 0) {
+            return DEFAULT_RING_SIZE;
+        }
+        if (capacity >= MAX_RING_SIZE) {
+            return MAX_RING_SIZE;
+        }
+        return Math.max(2, Integer.highestOneBit((int) capacity - 1) << 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getUnprocessedTaskCount() {
+        return onRamp.getCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void flush() {
+        throwIfFlushDisabled();
+        onRamp.waitUntilEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void put(@NonNull final Consumer<Object> handler, @NonNull final Object data) {
+        onRamp.onRamp(dataCounter.applyAsLong(data));
+        publish(handler, data);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean offer(@NonNull final Consumer<Object> handler, @NonNull final Object data) {
+        final boolean accepted = onRamp.attemptOnRamp(dataCounter.applyAsLong(data));
+        if (!accepted) {
+            return false;
+        }
+        publish(handler, data);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void inject(@NonNull final Consumer<Object> handler, @NonNull final Object data) {
+        onRamp.forceOnRamp(dataCounter.applyAsLong(data));
+        publish(handler, data);
+    }
+
+    /**
+     * Hand a task to the thread, through the ring buffer if there is room, otherwise through the overflow queue.
+     *
+     * @param handler the handler of the task
+     * @param data    the data to pass to the handler
+     */
+    private void publish(@NonNull final Consumer<Object> handler, @NonNull final Object data) {
+        final long sequence = overflowCount.get() == 0 ? claimSlot() : -1;
+        if (sequence >= 0) {
+            final int index = (int) (sequence & mask);
+            handlers[index] = handler;
+            this.data[index] = data;
+            published.set(index, sequence);
+        } else {
+            overflowCount.incrementAndGet();
+            overflow.add(new SequentialThreadTask(handler, data));
+        }
+
+        if (parked) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Claim the next slot in the ring buffer.
+     *
+     * @return the sequence number of the claimed slot, or -1 if the ring buffer is full
+     */
+    private long claimSlot() {
+        while (true) {
+            final long sequence = tail.get();
+            if (sequence - head > mask) {
+                return -1;
+            }
+            if (tail.compareAndSet(sequence, sequence + 1)) {
+                return sequence;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void start() {
+        thread.start();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stop() {
+        alive = false;
+        LockSupport.unpark(thread);
+    }
+
+    /**
+     * Take work off of the ring buffer and handle it.
+     */
+    private void run() {
+        int idleSpins = 0;
+        while (alive) {
+            if (hasWork()) {
+                busyTimer.activate();
+                drain();
+                busyTimer.deactivate();
+                idleSpins = 0;
+            } else if (busySpin || idleSpins < SPINS_BEFORE_PARKING) {
+                idleSpins++;
+                Thread.onSpinWait();
+            } else {
+                park();
+            }
+        }
+    }
+
+    /**
+     * Handle the tasks that are ready in the ring buffer, or in the overflow queue if the ring buffer is empty.
+     * Consecutive tasks for the same {@link BatchHandler} are handled with a single call.
+     */
+    private void drain() {
+        final long first = head;
+        long next = first;
+        int handled = 0;
+
+        while (alive && handled < BATCH_SIZE) {
+            int index = (int) (next & mask);
+            if (published.get(index) != next) {
+                break;
+            }
+            final Consumer<Object> handler = handlers[index];
+            if (handler instanceof final BatchHandler batchHandler) {
+                final List<Object> items = new ArrayList<>();
+                do {
+                    items.add(data[index]);
+                    handlers[index] = null;
+                    data[index] = null;
+                    next++;
+                    handled++;
+                    index = (int) (next & mask);
+                } while (handled < BATCH_SIZE && published.get(index) == next && handlers[index] == batchHandler);
+                handle(batchHandler, items);
+            } else {
+                final Object task = data[index];
+                handlers[index] = null;
+                data[index] = null;
+                handle(handler, task);
+                next++;
+                handled++;
+            }
+        }
+        if (next != first) {
+            head = next;
+        } else if (tail.get() == next) {
+            // The ring buffer is empty, tasks in the overflow queue were inserted after all tasks in the ring buffer.
+            SequentialThreadTask overflowTask;
+            while (alive && handled < BATCH_SIZE && (overflowTask = overflow.poll()) != null) {
+                handle(overflowTask.handler(), overflowTask.data());
+                overflowCount.decrementAndGet();
+                handled++;
+            }
+        }
+    }
+
+    /**
+     * Handle a single task.
+     *
+     * @param handler the handler of the task
+     * @param task    the data to pass to the handler
+     */
+    private void handle(@NonNull final Consumer<Object> handler, @NonNull final Object task) {
+        try {
+            handler.accept(task);
+        } catch (final Throwable t) {
+            getUncaughtExceptionHandler().uncaughtException(thread, t);
+        } finally {
+            offRamp.offRamp(dataCounter.applyAsLong(task));
+        }
+    }
+
+    /**
+     * Handle a batch of tasks with a single call to their handler.
+     *
+     * @param handler the handler of the tasks
+     * @param items   the data of the tasks, in the order in which they were inserted
+     */
+    private void handle(@NonNull final BatchHandler handler, @NonNull final List<Object> items) {
+        try {
+            handler.acceptBatch(items);
+        } catch (final Throwable t) {
+            getUncaughtExceptionHandler().uncaughtException(thread, t);
+        } finally {
+            long weight = 0;
+            for (final Object item : items) {
+                weight += dataCounter.applyAsLong(item);
+            }
+            offRamp.offRamp(weight);
+        }
+    }
+
+    /**
+     * Park the thread until a producer inserts a task.
+     */
+    private void park() {
+        parked = true;
+        // Check again after announcing that we are about to park, so that a task inserted concurrently is not missed.
+        if (alive && !hasWork()) {
+            LockSupport.parkNanos(this, MAX_PARK_NANOS);
+        }
+        parked = false;
+    }
+
+    /**
+     * Check if there is a task ready to be handled.
+     *
+     * @return true if there is a task ready to be handled
+     */
+    private boolean hasWork() {
+        final long next = head;
+        return published.get((int) (next & mask)) == next || overflowCount.get() > 0;
+    }
+}
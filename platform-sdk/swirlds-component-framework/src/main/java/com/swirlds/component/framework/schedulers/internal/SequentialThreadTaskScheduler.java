@@ -185,9 +185,12 @@ public class SequentialThreadTaskScheduler<OUT> extends TaskScheduler<OUT> imple
             }
 
             busyTimer.activate();
-            for (final SequentialThreadTask task : buffer) {
-                if (!alive) {
-                    break;
+            int index = 0;
+            while (alive && index < buffer.size()) {
+                final SequentialThreadTask task = buffer.get(index);
+                if (task.handler() instanceof final BatchHandler batchHandler) {
+                    index = handleBatch(batchHandler, buffer, index);
+                    continue;
                 }
                 try {
                     task.handle();
@@ -196,10 +199,45 @@ public class SequentialThreadTaskScheduler<OUT> extends TaskScheduler<OUT> imple
                 } finally {
                     offRamp.offRamp(dataCounter.applyAsLong(task.data()));
                 }
+                index++;
             }
             busyTimer.deactivate();
 
             buffer.clear();
         }
     }
+
+    /**
+     * Handle the task at the given index together with all consecutive tasks for the same batch handler.
+     *
+     * @param handler the batch handler of the task at the given index
+     * @param buffer  the drained tasks
+     * @param first   the index of the first task of the batch
+     * @return the index of the first task after the batch
+     */
+    private int handleBatch(
+            @NonNull final BatchHandler handler, @NonNull final List<SequentialThreadTask> buffer, final int first) {
+        int end = first + 1;
+        while (end < buffer.size() && buffer.get(end).handler() == handler) {
+            end++;
+        }
+
+        final List<Object> items = new ArrayList<>(end - first);
+        for (int i = first; i < end; i++) {
+            items.add(buffer.get(i).data());
+        }
+
+        try {
+            handler.acceptBatch(items);
+        } catch (final Throwable t) {
+            getUncaughtExceptionHandler().uncaughtException(thread, t);
+        } finally {
+            long weight = 0;
+            for (final Object item : items) {
+                weight += dataCounter.applyAsLong(item);
+            }
+            offRamp.offRamp(weight);
+        }
+        return end;
+    }
 }
@@ -1,7 +1,9 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.swirlds.component.framework.wires.input;
 
+import com.swirlds.component.framework.schedulers.builders.TaskSchedulerType;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -30,4 +32,24 @@ public interface Bindable<IN, OUT> {
      * @throws IllegalStateException if a handler is already bound and this method is called a second time
      */
     void bind(@NonNull final Function<IN, OUT> handler);
+
+    /**
+     * Bind this object to a handler that handles several items at once. For things that don't send data to the output
+     * wire. When the scheduler has several items for this input wire queued, they are passed to the handler in a single
+     * call, in the order in which they were inserted. Only schedulers that drain their queue in batches, i.e.
+     * {@link TaskSchedulerType#SEQUENTIAL_THREAD} and the ring buffer schedulers, form batches larger than one item.
+     *
+     * @param handler the handler to bind to this input wire, is never passed an empty list
+     * @throws IllegalStateException if a handler is already bound and this method is called a second time
+     */
+    void bindBatchConsumer(@NonNull Consumer<List<IN>> handler);
+
+    /**
+     * Bind this object to a handler that handles several items at once, see {@link #bindBatchConsumer(Consumer)}.
+     *
+     * @param handler the handler to bind to this input wire, values returned are passed to the primary output wire of
+     *                the associated scheduler
+     * @throws IllegalStateException if a handler is already bound and this method is called a second time
+     */
+    void bindBatch(@NonNull Function<List<IN>, OUT> handler);
 }
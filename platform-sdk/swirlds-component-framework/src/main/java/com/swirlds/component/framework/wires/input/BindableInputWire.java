@@ -5,7 +5,9 @@ import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerT
 
 import com.swirlds.component.framework.model.TraceableWiringModel;
 import com.swirlds.component.framework.schedulers.TaskScheduler;
+import com.swirlds.component.framework.schedulers.internal.BatchHandler;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -100,4 +102,45 @@ public class BindableInputWire<IN, OUT> extends InputWire<IN> implements Bindabl
         });
         model.registerInputWireBinding(taskSchedulerName, getName());
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    public void bindBatchConsumer(@NonNull final Consumer<List<IN>> handler) {
+        Objects.requireNonNull(handler);
+        if (noOp) {
+            return;
+        }
+        setHandler(new BatchHandler(items -> {
+            if (currentlySquelching.get()) {
+                return;
+            }
+
+            handler.accept((List<IN>) (List<?>) items);
+        }));
+        model.registerInputWireBinding(taskSchedulerName, getName());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    public void bindBatch(@NonNull final Function<List<IN>, OUT> handler) {
+        Objects.requireNonNull(handler);
+        if (noOp) {
+            return;
+        }
+        setHandler(new BatchHandler(items -> {
+            if (currentlySquelching.get()) {
+                return;
+            }
+
+            final OUT output = handler.apply((List<IN>) (List<?>) items);
+            if (output != null) {
+                taskSchedulerInput.forward(output);
+            }
+        }));
+        model.registerInputWireBinding(taskSchedulerName, getName());
+    }
 }
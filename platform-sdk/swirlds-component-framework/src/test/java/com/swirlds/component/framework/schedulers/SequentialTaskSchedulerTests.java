@@ -30,10 +30,12 @@ import java.lang.Thread.State;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -85,7 +87,8 @@ class SequentialTaskSchedulerTests {
      * Add values to the task scheduler, ensure that each value was processed in the correct order.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(
+            strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_RING_BUFFER", "SEQUENTIAL_RING_BUFFER_BUSY_SPIN"})
     void orderOfOperationsTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
 
@@ -117,12 +120,67 @@ class SequentialTaskSchedulerTests {
         model.stop();
     }
 
+    /**
+     * Add more values than fit into the ring buffer while the handler is blocked, so that the remaining values go
+     * through the overflow queue, and ensure that all values are processed in the order they were added.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"SEQUENTIAL_RING_BUFFER", "SEQUENTIAL_RING_BUFFER_BUSY_SPIN"})
+    void ringBufferOverflowTest(final String typeString) throws InterruptedException {
+        this.model = TestWiringModelBuilder.create();
+
+        final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
+
+        final CountDownLatch unblock = new CountDownLatch(1);
+        final List<Integer> handled = Collections.synchronizedList(new ArrayList<>());
+        final TaskScheduler<Void> taskScheduler = model.<Void>schedulerBuilder("test")
+                .withType(type)
+                .withUnhandledTaskCapacity(UNLIMITED_CAPACITY)
+                .build();
+        final BindableInputWire<Integer, Void> channel = taskScheduler.buildInputWire("channel");
+        channel.bindConsumer(x -> {
+            if (x == 0) {
+                try {
+                    unblock.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            handled.add(x);
+        });
+
+        model.start();
+
+        // the ring buffer of a scheduler with unlimited capacity holds 4096 tasks
+        final int overflowingCount = 3 * 4096;
+        for (int i = 0; i < overflowingCount; i++) {
+            channel.put(i);
+        }
+        unblock.countDown();
+        assertEventuallyEquals(overflowingCount, handled::size, "Not all values were handled");
+
+        // once the overflow queue has drained, the ring buffer is used again
+        final int totalCount = overflowingCount + 100;
+        for (int i = overflowingCount; i < totalCount; i++) {
+            channel.put(i);
+        }
+        assertEventuallyEquals(totalCount, handled::size, "Not all values were handled");
+
+        synchronized (handled) {
+            for (int i = 0; i < totalCount; i++) {
+                assertEquals(i, handled.get(i), "Values were not handled in order");
+            }
+        }
+        model.stop();
+    }
+
     /**
      * Multiple threads adding work to the task scheduler shouldn't cause problems. Also, work should always be handled
      * sequentially regardless of the number of threads adding work.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(
+            strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_RING_BUFFER", "SEQUENTIAL_RING_BUFFER_BUSY_SPIN"})
     void multipleChannelsTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -166,7 +224,8 @@ class SequentialTaskSchedulerTests {
      * Ensure that the work happening on the task scheduler is not happening on the caller's thread.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(
+            strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_RING_BUFFER", "SEQUENTIAL_RING_BUFFER_BUSY_SPIN"})
     void wireDoesNotBlockCallingThreadTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -214,7 +273,8 @@ class SequentialTaskSchedulerTests {
      * Sanity checks on the unprocessed event count.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(
+            strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_RING_BUFFER", "SEQUENTIAL_RING_BUFFER_BUSY_SPIN"})
     void unprocessedEventCountTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -273,7 +333,8 @@ class SequentialTaskSchedulerTests {
      * Make sure backpressure works.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(
+            strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_RING_BUFFER", "SEQUENTIAL_RING_BUFFER_BUSY_SPIN"})
     void backpressureTest(final String typeString) {
 
         this.model = WiringModelBuilder.create(NO_OP_METRICS, Time.getCurrent())
@@ -358,7 +419,8 @@ class SequentialTaskSchedulerTests {
      * interrupting the caller thread does not produce the caller thread to do anything.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(
+            strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_RING_BUFFER", "SEQUENTIAL_RING_BUFFER_BUSY_SPIN"})
     void uninterruptableTest(final String typeString) {
 
         this.model = WiringModelBuilder.create(NO_OP_METRICS, Time.getCurrent())
@@ -433,7 +495,8 @@ class SequentialTaskSchedulerTests {
      * Offering tasks is equivalent to calling put() if there is no backpressure.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(
+            strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_RING_BUFFER", "SEQUENTIAL_RING_BUFFER_BUSY_SPIN"})
     void offerNoBackpressureTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -480,7 +543,8 @@ class SequentialTaskSchedulerTests {
      * </pre>
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(
+            strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_RING_BUFFER", "SEQUENTIAL_RING_BUFFER_BUSY_SPIN"})
     void circularDataFlowTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -603,7 +667,8 @@ class SequentialTaskSchedulerTests {
      * Validate the behavior when there are multiple channels.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(
+            strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_RING_BUFFER", "SEQUENTIAL_RING_BUFFER_BUSY_SPIN"})
     void multipleChannelTypesTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -660,7 +725,8 @@ class SequentialTaskSchedulerTests {
      * Make sure backpressure works when there are multiple channels.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(
+            strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_RING_BUFFER", "SEQUENTIAL_RING_BUFFER_BUSY_SPIN"})
     void multipleChannelBackpressureTest(final String typeString) {
 
         this.model = WiringModelBuilder.create(NO_OP_METRICS, Time.getCurrent())
@@ -749,7 +815,8 @@ class SequentialTaskSchedulerTests {
      * Make sure backpressure works when a single counter spans multiple wires.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(
+            strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_RING_BUFFER", "SEQUENTIAL_RING_BUFFER_BUSY_SPIN"})
     void backpressureOverMultipleWiresTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -857,7 +924,8 @@ class SequentialTaskSchedulerTests {
      * Validate the behavior of the flush() method.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(
+            strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_RING_BUFFER", "SEQUENTIAL_RING_BUFFER_BUSY_SPIN"})
     void flushTest(final String typeString) {
 
         this.model = WiringModelBuilder.create(NO_OP_METRICS, Time.getCurrent())
@@ -953,7 +1021,8 @@ class SequentialTaskSchedulerTests {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(
+            strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_RING_BUFFER", "SEQUENTIAL_RING_BUFFER_BUSY_SPIN"})
     void flushDisabledTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -971,7 +1040,8 @@ class SequentialTaskSchedulerTests {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(
+            strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_RING_BUFFER", "SEQUENTIAL_RING_BUFFER_BUSY_SPIN"})
     void exceptionHandlingTest(String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -1029,7 +1099,8 @@ class SequentialTaskSchedulerTests {
      * than the number of blocking wires.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(
+            strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_RING_BUFFER", "SEQUENTIAL_RING_BUFFER_BUSY_SPIN"})
     void deadlockTestOneThread(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -1093,7 +1164,8 @@ class SequentialTaskSchedulerTests {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(
+            strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_RING_BUFFER", "SEQUENTIAL_RING_BUFFER_BUSY_SPIN"})
     void deadlockTestThreeThreads(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -1159,7 +1231,8 @@ class SequentialTaskSchedulerTests {
      * Solder together a simple sequence of wires.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(
+            strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_RING_BUFFER", "SEQUENTIAL_RING_BUFFER_BUSY_SPIN"})
     void simpleSolderingTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -1236,7 +1309,8 @@ class SequentialTaskSchedulerTests {
      * Test soldering to a lambda function.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(
+            strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_RING_BUFFER", "SEQUENTIAL_RING_BUFFER_BUSY_SPIN"})
     void lambdaSolderingTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -1318,7 +1392,8 @@ class SequentialTaskSchedulerTests {
      * Solder the output of a wire to the inputs of multiple other wires.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(
+            strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_RING_BUFFER", "SEQUENTIAL_RING_BUFFER_BUSY_SPIN"})
     void multiWireSolderingTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -1439,7 +1514,8 @@ class SequentialTaskSchedulerTests {
      * Validate that a wire soldered to another using injection ignores backpressure constraints.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(
+            strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_RING_BUFFER", "SEQUENTIAL_RING_BUFFER_BUSY_SPIN"})
     void injectionSolderingTest(final String typeString) {
 
         this.model = WiringModelBuilder.create(NO_OP_METRICS, Time.getCurrent())
@@ -1555,7 +1631,8 @@ class SequentialTaskSchedulerTests {
      * When a handler returns null, the wire should not forward the null value to the next wire.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(
+            strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_RING_BUFFER", "SEQUENTIAL_RING_BUFFER_BUSY_SPIN"})
     void discardNullValuesInWiresTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -1664,7 +1741,8 @@ class SequentialTaskSchedulerTests {
      * now the metrics framework makes it complex to do so.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(
+            strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_RING_BUFFER", "SEQUENTIAL_RING_BUFFER_BUSY_SPIN"})
     void metricsEnabledTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -1750,7 +1828,8 @@ class SequentialTaskSchedulerTests {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(
+            strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_RING_BUFFER", "SEQUENTIAL_RING_BUFFER_BUSY_SPIN"})
     void multipleOutputChannelsTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -1824,7 +1903,8 @@ class SequentialTaskSchedulerTests {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(
+            strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_RING_BUFFER", "SEQUENTIAL_RING_BUFFER_BUSY_SPIN"})
     void externalBackPressureTest(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -1936,7 +2016,8 @@ class SequentialTaskSchedulerTests {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(
+            strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_RING_BUFFER", "SEQUENTIAL_RING_BUFFER_BUSY_SPIN"})
     void multipleCountersInternalBackpressureTest(final String typeString) {
 
         this.model = WiringModelBuilder.create(NO_OP_METRICS, Time.getCurrent())
@@ -2049,7 +2130,8 @@ class SequentialTaskSchedulerTests {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(
+            strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_RING_BUFFER", "SEQUENTIAL_RING_BUFFER_BUSY_SPIN"})
     void offerSolderingTest(final String typeString) {
 
         this.model = WiringModelBuilder.create(NO_OP_METRICS, Time.getCurrent())
@@ -2139,7 +2221,8 @@ class SequentialTaskSchedulerTests {
      *  This test asserts that a task scheduler being squelched does not accept new tasks.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(
+            strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_RING_BUFFER", "SEQUENTIAL_RING_BUFFER_BUSY_SPIN"})
     void squelching(final String typeString) {
         this.model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -2225,7 +2308,7 @@ class SequentialTaskSchedulerTests {
     @AfterEach
     void tierDown() throws InterruptedException {
         // This is a "best effort" attempt to not leave any thread alive before finishing the test.
-        // ONLY applies to SEQUENTIAL_THREAD.
+        // ONLY applies to SEQUENTIAL_THREAD and the ring buffer types, which use the same thread names.
 
         try {
             model.stop();
@@ -0,0 +1,110 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.component.framework.wires;
+
+import static com.swirlds.common.test.fixtures.AssertionUtils.assertEventuallyEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.component.framework.TestWiringModelBuilder;
+import com.swirlds.component.framework.model.WiringModel;
+import com.swirlds.component.framework.schedulers.TaskScheduler;
+import com.swirlds.component.framework.schedulers.builders.TaskSchedulerType;
+import com.swirlds.component.framework.wires.input.BindableInputWire;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests input wires that are bound to batch handlers
+ */
+class BatchInputWireTests {
+
+    private static final Duration AWAIT_MAX_DURATION = Duration.ofSeconds(10);
+
+    /**
+     * Items queued while the handler is busy are passed to the handler in batches, in order.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"SEQUENTIAL_THREAD", "SEQUENTIAL_RING_BUFFER"})
+    void queuedItemsAreBatchedTest(final String typeString) throws InterruptedException {
+        final WiringModel model = TestWiringModelBuilder.create();
+        final TaskScheduler<Void> taskScheduler = model.<Void>schedulerBuilder("test")
+                .withType(TaskSchedulerType.valueOf(typeString))
+                .withUnhandledTaskCapacity(1000)
+                .withFlushingEnabled(true)
+                .build();
+        final BindableInputWire<Integer, Void> inputWire = taskScheduler.buildInputWire("ints");
+
+        final CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        final CountDownLatch gate = new CountDownLatch(1);
+        final List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        final AtomicInteger batchCount = new AtomicInteger();
+        inputWire.bindBatchConsumer(batch -> {
+            batchCount.incrementAndGet();
+            firstBatchStarted.countDown();
+            try {
+                gate.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            received.addAll(batch);
+        });
+
+        model.start();
+
+        // Block the handler with the first item, so that the rest of the items are queued
+        inputWire.put(0);
+        firstBatchStarted.await();
+        final int count = 100;
+        for (int i = 1; i < count; i++) {
+            inputWire.put(i);
+        }
+        gate.countDown();
+        taskScheduler.flush();
+
+        final List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            expected.add(i);
+        }
+        assertEquals(expected, received);
+        assertTrue(batchCount.get() < count, "queued items should have been handled in batches");
+        assertEventuallyEquals(0L, taskScheduler::getUnprocessedTaskCount, AWAIT_MAX_DURATION, "all tasks handled");
+
+        model.stop();
+    }
+
+    /**
+     * Schedulers that do not drain their queue in batches pass items to a batch handler one at a time.
+     */
+    @Test
+    void directSchedulerPassesSingleItemsTest() {
+        final WiringModel model = TestWiringModelBuilder.create();
+        final TaskScheduler<Integer> taskScheduler = model.<Integer>schedulerBuilder("test")
+                .withType(TaskSchedulerType.DIRECT)
+                .build();
+        final BindableInputWire<Integer, Integer> inputWire = taskScheduler.buildInputWire("ints");
+
+        final List<Integer> batchSizes = new ArrayList<>();
+        inputWire.bindBatch(batch -> {
+            batchSizes.add(batch.size());
+            return batch.stream().mapToInt(Integer::intValue).sum();
+        });
+        final List<Integer> output = new ArrayList<>();
+        taskScheduler.getOutputWire().solderTo("output", "ints", output::add);
+
+        model.start();
+        for (int i = 0; i < 5; i++) {
+            inputWire.put(i);
+        }
+        model.stop();
+
+        assertEquals(List.of(1, 1, 1, 1, 1), batchSizes);
+        assertEquals(List.of(0, 1, 2, 3, 4), output);
+    }
+}
@@ -35,6 +35,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongConsumer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -384,7 +385,8 @@ public final class MerkleDb {
             throws IOException {
         final String label = dataSource.getTableName();
         final int tableId = getNextTableId();
-        importDataSource(dataSource, tableId, !makeCopyPrimary, makeCopyPrimary); // import to itself == copy
+        // import to itself == copy
+        importDataSource(dataSource, tableId, !makeCopyPrimary, makeCopyPrimary, bytes -> {});
         return getDataSource(configuration, tableId, label, makeCopyPrimary, offlineUse);
     }
 
@@ -392,7 +394,8 @@ public final class MerkleDb {
             final MerkleDbDataSource dataSource,
             final int tableId,
             final boolean leaveSourcePrimary,
-            final boolean makeCopyPrimary)
+            final boolean makeCopyPrimary,
+            final LongConsumer writeThrottle)
             throws IOException {
         final String label = dataSource.getTableName();
         final MerkleDbTableConfig tableConfig = dataSource.getTableConfig().copy();
@@ -402,7 +405,7 @@ public final class MerkleDb {
         tableConfigs.set(tableId, new TableMetadata(tableId, label, tableConfig));
         try {
             dataSource.pauseCompaction();
-            dataSource.snapshot(getTableDir(label, tableId));
+            dataSource.snapshot(getTableDir(label, tableId), writeThrottle);
         } finally {
             dataSource.resumeCompaction();
         }
@@ -536,6 +539,20 @@ public final class MerkleDb {
      * @throws IOException If an I/O error occurred
      */
     public void snapshot(final Path destination, final MerkleDbDataSource dataSource) throws IOException {
+        snapshot(destination, dataSource, bytes -> {});
+    }
+
+    /**
+     * Takes a snapshot of the database source into the specified folder, reporting the data written to the given
+     * throttle.
+     *
+     * @param destination Destination folder
+     * @param writeThrottle called with the number of bytes about to be written, may block to limit the write rate
+     * @throws IOException If an I/O error occurred
+     */
+    public void snapshot(
+            final Path destination, final MerkleDbDataSource dataSource, @NonNull final LongConsumer writeThrottle)
+            throws IOException {
         if (this != dataSource.getDatabase()) {
             logger.error(
                     EXCEPTION.getMarker(),
@@ -558,7 +575,7 @@ public final class MerkleDb {
         if (targetDb.tableExists(tableName)) {
             throw new IllegalStateException("Table already exists in the target database, " + tableName);
         }
-        targetDb.importDataSource(dataSource, targetDb.getNextTableId(), true, true);
+        targetDb.importDataSource(dataSource, targetDb.getNextTableId(), true, true, writeThrottle);
         targetDb.storeMetadata();
     }
 
@@ -57,6 +57,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -799,9 +800,26 @@ public final class MerkleDbDataSource implements VirtualDataSource {
      *     directory
      * @throws IllegalStateException If there is already a snapshot happening
      */
-    @SuppressWarnings("ConstantConditions")
     @Override
     public void snapshot(final Path snapshotDirectory) throws IOException, IllegalStateException {
+        snapshot(snapshotDirectory, bytes -> {});
+    }
+
+    /**
+     * Write a snapshot like {@link #snapshot(Path)}, reporting the index data to the given throttle before it is
+     * written. Data files are hard linked, so they are not reported.
+     *
+     * @param snapshotDirectory Directory to put snapshot into, it will be created if it doesn't
+     *     exist.
+     * @param writeThrottle called with the number of bytes about to be written, may block to limit the write rate.
+     *     Called from multiple threads concurrently
+     * @throws IOException If there was a problem writing the current database out to the given
+     *     directory
+     * @throws IllegalStateException If there is already a snapshot happening
+     */
+    @SuppressWarnings("ConstantConditions")
+    public void snapshot(final Path snapshotDirectory, @NonNull final LongConsumer writeThrottle)
+            throws IOException, IllegalStateException {
         // check if another snapshot was running
         final boolean aSnapshotWasInProgress = snapshotInProgress.getAndSet(true);
         if (aSnapshotWasInProgress) {
@@ -818,15 +836,17 @@ public final class MerkleDbDataSource implements VirtualDataSource {
                 final CountDownLatch countDownLatch = new CountDownLatch(7);
                 // write all data stores
                 runWithSnapshotExecutor(true, countDownLatch, "pathToDiskLocationInternalNodes", () -> {
-                    pathToDiskLocationInternalNodes.writeToFile(snapshotDbPaths.pathToDiskLocationInternalNodesFile);
+                    pathToDiskLocationInternalNodes.writeToFile(
+                            snapshotDbPaths.pathToDiskLocationInternalNodesFile, writeThrottle);
                     return true;
                 });
                 runWithSnapshotExecutor(true, countDownLatch, "pathToDiskLocationLeafNodes", () -> {
-                    pathToDiskLocationLeafNodes.writeToFile(snapshotDbPaths.pathToDiskLocationLeafNodesFile);
+                    pathToDiskLocationLeafNodes.writeToFile(
+                            snapshotDbPaths.pathToDiskLocationLeafNodesFile, writeThrottle);
                     return true;
                 });
                 runWithSnapshotExecutor(hashStoreRam != null, countDownLatch, "internalHashStoreRam", () -> {
-                    hashStoreRam.writeToFile(snapshotDbPaths.hashStoreRamFile);
+                    hashStoreRam.writeToFile(snapshotDbPaths.hashStoreRamFile, writeThrottle);
                     return true;
                 });
                 runWithSnapshotExecutor(hashStoreDisk != null, countDownLatch, "internalHashStoreDisk", () -> {
@@ -834,7 +854,7 @@ public final class MerkleDbDataSource implements VirtualDataSource {
                     return true;
                 });
                 runWithSnapshotExecutor(keyToPath != null, countDownLatch, "keyToPath", () -> {
-                    keyToPath.snapshot(snapshotDbPaths.keyToPathDirectory);
+                    keyToPath.snapshot(snapshotDbPaths.keyToPathDirectory, writeThrottle);
                     return true;
                 });
                 runWithSnapshotExecutor(true, countDownLatch, "pathToKeyValue", () -> {
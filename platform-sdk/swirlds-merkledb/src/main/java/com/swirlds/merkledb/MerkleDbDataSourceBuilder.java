@@ -14,6 +14,7 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Path;
 import java.util.Objects;
+import java.util.function.LongConsumer;
 import org.hiero.base.constructable.ConstructableClass;
 import org.hiero.base.io.streams.SerializableDataInputStream;
 import org.hiero.base.io.streams.SerializableDataOutputStream;
@@ -130,6 +131,17 @@ public class MerkleDbDataSourceBuilder implements VirtualDataSourceBuilder {
      */
     @Override
     public void snapshot(@NonNull final Path destination, final VirtualDataSource snapshotMe) {
+        snapshot(destination, snapshotMe, bytes -> {});
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void snapshot(
+            @NonNull final Path destination,
+            final VirtualDataSource snapshotMe,
+            @NonNull final LongConsumer writeThrottle) {
         if (!(snapshotMe instanceof MerkleDbDataSource source)) {
             throw new IllegalArgumentException("The datasource must be compatible with the MerkleDb");
         }
@@ -137,7 +149,7 @@ public class MerkleDbDataSourceBuilder implements VirtualDataSourceBuilder {
             // Snapshot all tables. When this snapshot() method is called for other data sources,
             // the database will check if they are already present in the destination path. If so,
             // the snapshot will be a no-op
-            source.getDatabase().snapshot(destination, source);
+            source.getDatabase().snapshot(destination, source, writeThrottle);
         } catch (final IOException z) {
             throw new UncheckedIOException(z);
         }
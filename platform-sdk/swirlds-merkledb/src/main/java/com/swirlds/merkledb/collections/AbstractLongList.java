@@ -25,6 +25,7 @@ import java.util.Objects;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.BooleanSupplier;
+import java.util.function.LongConsumer;
 import java.util.stream.LongStream;
 import java.util.stream.StreamSupport;
 
@@ -538,24 +539,26 @@ public abstract class AbstractLongList<C> implements LongList {
     }
 
     /**
-     * Write all longs in this LongList into a file
+     * Write all longs in this LongList into a file, reporting each block of data to the given throttle before it is
+     * written.
      * <p>
      * <b> It is not guaranteed what version of data will be written if the LongList is changed
      * via put methods while this LongList is being written to a file. If you need consistency while
      * calling put concurrently then use a BufferedLongListWrapper. </b>
      *
-     * @param file The file to write into, it should not exist but its parent directory should exist
-     *             and be writable.
+     * @param file          The file to write into, it should not exist but its parent directory should exist
+     *                      and be writable.
+     * @param writeThrottle called with the number of bytes about to be written, may block to limit the write rate
      * @throws IOException If there was a problem creating or writing to the file.
      */
     @Override
-    public void writeToFile(final Path file) throws IOException {
+    public void writeToFile(final Path file, @NonNull final LongConsumer writeThrottle) throws IOException {
         try (final FileChannel fc = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
             // write header
             writeHeader(fc);
             if (size() > 0) {
                 // write data
-                writeLongsData(fc);
+                writeLongsData(fc, writeThrottle);
             }
             fc.force(true);
         }
@@ -585,10 +588,12 @@ public abstract class AbstractLongList<C> implements LongList {
     /**
      * Write the long data to file, This it is expected to be in one simple block of raw longs.
      *
-     * @param fc The file channel to write to
+     * @param fc            The file channel to write to
+     * @param writeThrottle called with the number of bytes about to be written, may block to limit the write rate
      * @throws IOException if there was a problem writing longs
      */
-    protected abstract void writeLongsData(final FileChannel fc) throws IOException;
+    protected abstract void writeLongsData(final FileChannel fc, @NonNull final LongConsumer writeThrottle)
+            throws IOException;
 
     /**
      * Lookup a long in data
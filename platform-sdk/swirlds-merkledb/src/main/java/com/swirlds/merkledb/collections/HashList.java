@@ -4,6 +4,7 @@ package com.swirlds.merkledb.collections;
 import java.io.Closeable;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.LongConsumer;
 import org.hiero.base.crypto.Hash;
 
 /**
@@ -76,7 +77,22 @@ public interface HashList extends Closeable {
      * @throws IOException
      * 		If there was a problem creating or writing to the file.
      */
-    void writeToFile(Path file) throws IOException;
+    default void writeToFile(Path file) throws IOException {
+        writeToFile(file, bytes -> {});
+    }
+
+    /**
+     * Write all hashes in this HashList into a file, reporting each block of data to the given throttle before it is
+     * written.
+     *
+     * @param file
+     * 		The file to write into, it should not exist but its parent directory should exist and be writable.
+     * @param writeThrottle
+     * 		called with the number of bytes about to be written, may block to limit the write rate
+     * @throws IOException
+     * 		If there was a problem creating or writing to the file.
+     */
+    void writeToFile(Path file, LongConsumer writeThrottle) throws IOException;
 
     @Override
     void close();
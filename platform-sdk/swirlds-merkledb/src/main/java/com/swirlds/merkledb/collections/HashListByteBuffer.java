@@ -23,6 +23,7 @@ import java.nio.file.StandardOpenOption;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
 import org.hiero.base.crypto.Hash;
 import org.hiero.base.utility.MemoryUtils;
 
@@ -300,15 +301,18 @@ public final class HashListByteBuffer implements HashList, OffHeapUser {
     }
 
     /**
-     * Write all hashes in this HashList into a file
+     * Write all hashes in this HashList into a file, reporting each block of data to the given throttle before it is
+     * written.
      *
      * @param file
      * 		The file to write into, it should not exist but its parent directory should exist and be writable.
+     * @param writeThrottle
+     * 		called with the number of bytes about to be written, may block to limit the write rate
      * @throws IOException
      * 		If there was a problem creating or writing to the file.
      */
     @Override
-    public void writeToFile(Path file) throws IOException {
+    public void writeToFile(final Path file, @NonNull final LongConsumer writeThrottle) throws IOException {
         final int numOfBuffers = data.size();
         try (final FileChannel fc = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
             // write header
@@ -334,6 +338,7 @@ public final class HashListByteBuffer implements HashList, OffHeapUser {
                     dataBuffer.limit(memoryBufferSize);
                 }
                 final int toWrite = dataBuffer.limit();
+                writeThrottle.accept(toWrite);
                 final int written = MerkleDbFileUtils.completelyWrite(fc, dataBuffer);
                 if (written != toWrite) {
                     throw new IOException("Failed to write hash list data buffer to file");
@@ -5,6 +5,7 @@ import com.swirlds.merkledb.files.DataFileCommon;
 import java.io.Closeable;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.LongConsumer;
 import java.util.stream.LongStream;
 
 /**
@@ -101,7 +102,20 @@ public interface LongList extends CASableLongIndex, Closeable {
      *             and be writable.
      * @throws IOException If there was a problem creating or writing to the file.
      */
-    void writeToFile(Path file) throws IOException;
+    default void writeToFile(Path file) throws IOException {
+        writeToFile(file, bytes -> {});
+    }
+
+    /**
+     * Write all longs in this LongList into a file, reporting each block of data to the given throttle before it is
+     * written.
+     *
+     * @param file          The file to write into, it should not exist but its parent directory should exist
+     *                      and be writable.
+     * @param writeThrottle called with the number of bytes about to be written, may block to limit the write rate
+     * @throws IOException If there was a problem creating or writing to the file.
+     */
+    void writeToFile(Path file, LongConsumer writeThrottle) throws IOException;
 
     /**
      * Updates min and max valid indexes in this list. If both values are -1, this indicates
@@ -21,6 +21,7 @@ import java.util.Arrays;
 import java.util.Deque;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongConsumer;
 
 /**
  *  A direct on disk implementation of LongList. This implementation creates a temporary file to store the data.
@@ -297,7 +298,8 @@ public class LongListDisk extends AbstractLongList<Long> {
      * {@inheritDoc}
      */
     @Override
-    protected void writeLongsData(final FileChannel fc) throws IOException {
+    protected void writeLongsData(final FileChannel fc, @NonNull final LongConsumer writeThrottle)
+            throws IOException {
         final ByteBuffer transferBuffer = initOrGetTransferBuffer();
         final int totalNumOfChunks = calculateNumberOfChunks(size());
         final long currentMinValidIndex = minValidIndex.get();
@@ -345,6 +347,7 @@ public class LongListDisk extends AbstractLongList<Long> {
                 fillBufferWithZeroes(transferBuffer);
             }
 
+            writeThrottle.accept(transferBuffer.remaining());
             MerkleDbFileUtils.completelyWrite(fc, transferBuffer);
         }
     }
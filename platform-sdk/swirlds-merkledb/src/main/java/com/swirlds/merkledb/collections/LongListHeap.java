@@ -15,6 +15,7 @@ import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongConsumer;
 import org.hiero.base.utility.MemoryUtils;
 
 /**
@@ -162,7 +163,8 @@ public final class LongListHeap extends AbstractLongList<AtomicLongArray> {
      * @throws IOException if there was a problem writing longs
      */
     @Override
-    protected void writeLongsData(final FileChannel fc) throws IOException {
+    protected void writeLongsData(final FileChannel fc, @NonNull final LongConsumer writeThrottle)
+            throws IOException {
         // write data
         final ByteBuffer tempBuffer = allocateDirect(1024 * 1024);
         tempBuffer.order(ByteOrder.nativeOrder());
@@ -171,6 +173,7 @@ public final class LongListHeap extends AbstractLongList<AtomicLongArray> {
             // if buffer is full then write
             if (!tempLongBuffer.hasRemaining()) {
                 tempBuffer.clear();
+                writeThrottle.accept(tempBuffer.remaining());
                 MerkleDbFileUtils.completelyWrite(fc, tempBuffer);
                 tempLongBuffer.clear();
             }
@@ -181,6 +184,7 @@ public final class LongListHeap extends AbstractLongList<AtomicLongArray> {
         if (tempLongBuffer.position() > 0) {
             tempBuffer.position(0);
             tempBuffer.limit(tempLongBuffer.position() * Long.BYTES);
+            writeThrottle.accept(tempBuffer.remaining());
             MerkleDbFileUtils.completelyWrite(fc, tempBuffer);
         }
     }
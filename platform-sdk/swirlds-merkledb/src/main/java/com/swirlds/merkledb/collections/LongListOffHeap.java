@@ -14,6 +14,7 @@ import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongConsumer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hiero.base.utility.MemoryUtils;
@@ -153,7 +154,8 @@ public final class LongListOffHeap extends AbstractLongList<ByteBuffer> implemen
      * @throws IOException if there was a problem writing longs
      */
     @Override
-    protected void writeLongsData(final FileChannel fc) throws IOException {
+    protected void writeLongsData(final FileChannel fc, @NonNull final LongConsumer writeThrottle)
+            throws IOException {
         final int totalNumOfChunks = calculateNumberOfChunks(size());
         final long currentMinValidIndex = minValidIndex.get();
         final int firstChunkWithDataIndex = toIntExact(currentMinValidIndex / longsPerChunk);
@@ -181,6 +183,7 @@ public final class LongListOffHeap extends AbstractLongList<ByteBuffer> implemen
                 } else {
                     buf.limit(buf.capacity());
                 }
+                writeThrottle.accept(buf.remaining());
                 MerkleDbFileUtils.completelyWrite(fc, buf);
             }
         } finally {
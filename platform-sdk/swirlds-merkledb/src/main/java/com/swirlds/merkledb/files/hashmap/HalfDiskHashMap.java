@@ -36,6 +36,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongConsumer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.eclipse.collections.api.tuple.primitive.IntObjectPair;
@@ -421,10 +422,23 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
 
     /** {@inheritDoc} */
     public void snapshot(final Path snapshotDirectory) throws IOException {
+        snapshot(snapshotDirectory, bytes -> {});
+    }
+
+    /**
+     * Perform a snapshot like {@link #snapshot(Path)}, reporting the bucket index data to the given throttle before it
+     * is written. Data files are hard linked, so they are not reported.
+     *
+     * @param snapshotDirectory Directory to put snapshot into, it will be created if it doesn't exist.
+     * @param writeThrottle     called with the number of bytes about to be written, may block to limit the write rate
+     * @throws IOException If there was a problem snapshotting
+     */
+    public void snapshot(final Path snapshotDirectory, @NonNull final LongConsumer writeThrottle) throws IOException {
         // create snapshot directory if needed
         Files.createDirectories(snapshotDirectory);
         // write index to file
-        bucketIndexToBucketLocation.writeToFile(snapshotDirectory.resolve(storeName + BUCKET_INDEX_FILENAME_SUFFIX));
+        bucketIndexToBucketLocation.writeToFile(
+                snapshotDirectory.resolve(storeName + BUCKET_INDEX_FILENAME_SUFFIX), writeThrottle);
         // snapshot files
         fileCollection.snapshot(snapshotDirectory);
         // write metadata
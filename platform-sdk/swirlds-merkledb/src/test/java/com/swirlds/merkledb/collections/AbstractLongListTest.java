@@ -341,6 +341,30 @@ abstract class AbstractLongListTest<T extends AbstractLongList<?>> {
         }
     }
 
+    @Test
+    void testWriteToFileReportsDataToThrottle(@TempDir final Path tempDir) throws IOException {
+        final Path file = tempDir.resolve("testWriteToFileReportsDataToThrottle.ll");
+        final long CAPACITY = 1000;
+        final int GAP = 50;
+        final AtomicLong reportedBytes = new AtomicLong();
+        try (final LongList longList = createLongList(100, CAPACITY, 0)) {
+            longList.updateValidRange(GAP, CAPACITY - GAP);
+            for (int i = GAP; i <= CAPACITY - GAP; i++) {
+                longList.put(i, i * 2L);
+            }
+            longList.writeToFile(file, reportedBytes::addAndGet);
+        }
+        assertEquals(
+                Files.size(file) - FILE_HEADER_SIZE_V3,
+                reportedBytes.get(),
+                "All data written after the header should be reported to the throttle");
+        try (final LongList longList = createLongList(file, 100, CAPACITY, 0)) {
+            for (int i = GAP; i <= CAPACITY - GAP; i++) {
+                assertEquals(i * 2L, longList.get(i), "Data should match");
+            }
+        }
+    }
+
     @Test
     void testLoadIncreasedCapacity(@TempDir final Path tempDir) throws IOException {
         final Path file = tempDir.resolve("testLoadIncreasedCapacity.ll");
@@ -0,0 +1,395 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.core.jmh;
+
+import com.hedera.hapi.node.state.roster.Roster;
+import com.hedera.hapi.node.state.roster.RoundRosterPair;
+import com.hedera.hapi.platform.event.GossipEvent;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.io.utility.FileUtils;
+import com.swirlds.common.test.fixtures.Randotron;
+import com.swirlds.common.test.fixtures.WeightGenerators;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.platform.components.consensus.ConsensusEngine;
+import com.swirlds.platform.components.consensus.DefaultConsensusEngine;
+import com.swirlds.platform.crypto.CryptoStatic;
+import com.swirlds.platform.event.deduplication.EventDeduplicator;
+import com.swirlds.platform.event.deduplication.StandardEventDeduplicator;
+import com.swirlds.platform.event.orphan.DefaultOrphanBuffer;
+import com.swirlds.platform.event.orphan.OrphanBuffer;
+import com.swirlds.platform.event.preconsensus.DefaultInlinePcesWriter;
+import com.swirlds.platform.event.preconsensus.InlinePcesWriter;
+import com.swirlds.platform.event.preconsensus.PcesConfig_;
+import com.swirlds.platform.event.preconsensus.PcesFileManager;
+import com.swirlds.platform.event.preconsensus.PcesFileTracker;
+import com.swirlds.platform.event.validation.DefaultEventSignatureValidator;
+import com.swirlds.platform.event.validation.DefaultInternalEventValidator;
+import com.swirlds.platform.event.validation.EventSignatureValidator;
+import com.swirlds.platform.event.validation.InternalEventValidator;
+import com.swirlds.platform.freeze.FreezeCheckHolder;
+import com.swirlds.platform.gossip.IntakeEventCounter;
+import com.swirlds.platform.gossip.NoOpIntakeEventCounter;
+import com.swirlds.platform.test.fixtures.addressbook.RandomRosterBuilder;
+import com.swirlds.platform.test.fixtures.event.generator.StandardGraphGenerator;
+import com.swirlds.platform.test.fixtures.event.source.EventSourceFactory;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.hiero.consensus.crypto.DefaultEventHasher;
+import org.hiero.consensus.crypto.EventHasher;
+import org.hiero.consensus.crypto.PlatformSigner;
+import org.hiero.consensus.model.event.PlatformEvent;
+import org.hiero.consensus.model.hashgraph.ConsensusRound;
+import org.hiero.consensus.model.hashgraph.EventWindow;
+import org.hiero.consensus.model.node.NodeId;
+import org.hiero.consensus.roster.RosterHistory;
+import org.hiero.consensus.roster.RosterUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Drives a synthetic stream of signed gossip events through the event intake pipeline: hashing, internal validation,
+ * signature validation, deduplication, the orphan buffer, the PCES writer and consensus.
+ * <p>
+ * Every invocation processes the whole stream with newly created components, and scores are per event. The
+ * {@link #stage} parameter selects what is measured. For a single stage, the events are taken through the preceding
+ * stages before the measurement starts, and only the selected stage is timed. {@link IntakeStage#ALL} times the
+ * complete pipeline. Event windows produced by consensus are recorded once and replayed, so every stage sees the same
+ * events and event windows as it does in the complete pipeline.
+ * <p>
+ * Run with {@code -prof gc} to report the allocation rate of each stage, {@code gc.alloc.rate.norm} is then the number
+ * of bytes allocated per event.
+ */
+@State(Scope.Thread)
+@Fork(value = 1)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+public class EventIntakeBenchmark {
+
+    /**
+     * The number of events in the stream. JMH requires a constant for {@link OperationsPerInvocation}.
+     */
+    private static final int EVENT_COUNT = 10_000;
+
+    @Param({"4", "39"})
+    public int numNodes;
+
+    @Param({"0"})
+    public long seed;
+
+    @Param({
+        "HASHING",
+        "INTERNAL_VALIDATION",
+        "SIGNATURE_VALIDATION",
+        "DEDUPLICATION",
+        "ORPHAN_BUFFER",
+        "PCES_WRITE",
+        "CONSENSUS",
+        "ALL"
+    })
+    public IntakeStage stage;
+
+    private Roster roster;
+    private RosterHistory rosterHistory;
+    private Path pcesDirectory;
+    private PlatformContext platformContext;
+
+    /**
+     * The stream of events, as they are received through gossip.
+     */
+    private List<GossipEvent> gossipEvents;
+
+    /**
+     * The event window to apply after each event in {@link #gossipEvents}, null if the event window does not change.
+     */
+    private List<EventWindow> eventWindows;
+
+    /**
+     * The components that process the stream during the current invocation.
+     */
+    private IntakePipeline pipeline;
+
+    /**
+     * For each event in {@link #gossipEvents}, the events that reach the measured stage because of it.
+     */
+    private List<List<PlatformEvent>> stageInputs;
+
+    /**
+     * The stages of the intake pipeline, in order.
+     */
+    public enum IntakeStage {
+        HASHING,
+        INTERNAL_VALIDATION,
+        SIGNATURE_VALIDATION,
+        DEDUPLICATION,
+        ORPHAN_BUFFER,
+        PCES_WRITE,
+        CONSENSUS,
+        /**
+         * All the stages above.
+         */
+        ALL
+    }
+
+    @Setup(Level.Trial)
+    public void setupTrial() throws IOException {
+        final Randotron random = Randotron.create(seed);
+        final RandomRosterBuilder rosterBuilder = RandomRosterBuilder.create(random)
+                .withSize(numNodes)
+                .withWeightGenerator(WeightGenerators.BALANCED)
+                .withRealKeysEnabled(true);
+        roster = rosterBuilder.build();
+        final Bytes rosterHash = RosterUtils.hash(roster).getBytes();
+        rosterHistory = new RosterHistory(List.of(new RoundRosterPair(0, rosterHash)), Map.of(rosterHash, roster));
+
+        pcesDirectory = Files.createTempDirectory("EventIntakeBenchmark");
+        platformContext = TestPlatformContextBuilder.create()
+                .withConfiguration(new TestConfigBuilder()
+                        .withValue(PcesConfig_.DATABASE_DIRECTORY, pcesDirectory.toString())
+                        .getOrCreateConfig())
+                .build();
+
+        // Generate the graph, then sign each event with the key of its creator
+        final StandardGraphGenerator generator = new StandardGraphGenerator(
+                platformContext, seed, new EventSourceFactory(numNodes).generateSources(), roster);
+        final EventHasher hasher = new DefaultEventHasher();
+        gossipEvents = new ArrayList<>(EVENT_COUNT);
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            final PlatformEvent event = hasher.hashEvent(new PlatformEvent(
+                    generator.generateEventWithoutIndex().getBaseEvent().getGossipEvent()));
+            final PlatformSigner signer = new PlatformSigner(rosterBuilder.getPrivateKeys(event.getCreatorId()));
+            gossipEvents.add(event.getGossipEvent()
+                    .copyBuilder()
+                    .signature(signer.signImmutable(event.getHash()))
+                    .build());
+        }
+
+        // Record the event windows produced by the complete pipeline, so they can be replayed for a single stage
+        final IntakePipeline referencePipeline = new IntakePipeline();
+        eventWindows = new ArrayList<>(EVENT_COUNT);
+        EventWindow eventWindow = null;
+        for (final GossipEvent gossipEvent : gossipEvents) {
+            eventWindows.add(eventWindow);
+            referencePipeline.processStages(IntakeStage.ALL, new PlatformEvent(gossipEvent), eventWindow);
+            eventWindow = referencePipeline.takeEventWindow();
+        }
+        referencePipeline.close();
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() throws IOException {
+        pipeline = new IntakePipeline();
+        stageInputs = new ArrayList<>(EVENT_COUNT);
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            final PlatformEvent event = new PlatformEvent(gossipEvents.get(i));
+            if (stage == IntakeStage.ALL) {
+                stageInputs.add(List.of(event));
+            } else {
+                stageInputs.add(pipeline.processStages(stage, event, eventWindows.get(i)));
+            }
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDownInvocation() {
+        pipeline.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownTrial() throws IOException {
+        FileUtils.deleteDirectory(pcesDirectory);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(EVENT_COUNT)
+    public void intake(final Blackhole bh) {
+        if (stage == IntakeStage.ALL) {
+            EventWindow eventWindow = null;
+            for (final List<PlatformEvent> events : stageInputs) {
+                bh.consume(pipeline.processStages(IntakeStage.ALL, events.getFirst(), eventWindow));
+                eventWindow = pipeline.takeEventWindow();
+            }
+            return;
+        }
+
+        final List<PlatformEvent> output = new ArrayList<>();
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            for (final PlatformEvent event : stageInputs.get(i)) {
+                pipeline.process(stage, event, output);
+            }
+            final EventWindow eventWindow = eventWindows.get(i);
+            if (eventWindow != null) {
+                pipeline.setEventWindow(stage, eventWindow, output);
+            }
+            bh.consume(output);
+            output.clear();
+        }
+    }
+
+    /**
+     * The components of the intake pipeline, called directly on the benchmark thread.
+     */
+    private final class IntakePipeline {
+        private final EventHasher hasher;
+        private final InternalEventValidator internalValidator;
+        private final EventSignatureValidator signatureValidator;
+        private final EventDeduplicator deduplicator;
+        private final OrphanBuffer orphanBuffer;
+        private final InlinePcesWriter pcesWriter;
+        private final ConsensusEngine consensusEngine;
+
+        /**
+         * The latest event window produced by consensus that has not been taken yet.
+         */
+        private EventWindow eventWindow;
+
+        IntakePipeline() throws IOException {
+            final NodeId selfId = NodeId.of(roster.rosterEntries().getFirst().nodeId());
+            final IntakeEventCounter intakeEventCounter = new NoOpIntakeEventCounter();
+
+            hasher = new DefaultEventHasher();
+            internalValidator = new DefaultInternalEventValidator(platformContext, numNodes == 1, intakeEventCounter);
+            signatureValidator = new DefaultEventSignatureValidator(
+                    platformContext, CryptoStatic::verifySignature, rosterHistory, intakeEventCounter);
+            deduplicator = new StandardEventDeduplicator(platformContext, intakeEventCounter);
+            orphanBuffer = new DefaultOrphanBuffer(platformContext, intakeEventCounter);
+
+            FileUtils.deleteDirectory(pcesDirectory);
+            pcesWriter = new DefaultInlinePcesWriter(
+                    platformContext, new PcesFileManager(platformContext, new PcesFileTracker(), selfId, 0), selfId);
+            pcesWriter.beginStreamingNewEvents();
+
+            final FreezeCheckHolder freezeCheckHolder = new FreezeCheckHolder();
+            freezeCheckHolder.setFreezeCheckRef(instant -> false);
+            consensusEngine = new DefaultConsensusEngine(platformContext, roster, selfId, freezeCheckHolder);
+        }
+
+        /**
+         * Pass an event through a single stage.
+         *
+         * @param stage  the stage, not {@link IntakeStage#ALL}
+         * @param event  the event
+         * @param output the events passed on to the next stage are added to this list
+         */
+        void process(
+                @NonNull final IntakeStage stage,
+                @NonNull final PlatformEvent event,
+                @NonNull final List<PlatformEvent> output) {
+            switch (stage) {
+                case HASHING -> output.add(hasher.hashEvent(event));
+                case INTERNAL_VALIDATION -> addIfNotNull(output, internalValidator.validateEvent(event));
+                case SIGNATURE_VALIDATION -> addIfNotNull(output, signatureValidator.validateSignature(event));
+                case DEDUPLICATION -> addIfNotNull(output, deduplicator.handleEvent(event));
+                case ORPHAN_BUFFER -> output.addAll(orphanBuffer.handleEvent(event));
+                case PCES_WRITE -> output.add(pcesWriter.writeEvent(event));
+                case CONSENSUS -> {
+                    for (final ConsensusRound round : consensusEngine.addEvent(event)) {
+                        eventWindow = round.getEventWindow();
+                    }
+                }
+                case ALL -> throw new IllegalArgumentException("not a single stage");
+            }
+        }
+
+        /**
+         * Pass an event window to a single stage.
+         *
+         * @param stage       the stage, not {@link IntakeStage#ALL}
+         * @param eventWindow the event window
+         * @param output      events released by the stage are added to this list
+         */
+        void setEventWindow(
+                @NonNull final IntakeStage stage,
+                @NonNull final EventWindow eventWindow,
+                @NonNull final List<PlatformEvent> output) {
+            switch (stage) {
+                case SIGNATURE_VALIDATION -> signatureValidator.setEventWindow(eventWindow);
+                case DEDUPLICATION -> deduplicator.setEventWindow(eventWindow);
+                case ORPHAN_BUFFER -> output.addAll(orphanBuffer.setEventWindow(eventWindow));
+                case PCES_WRITE -> pcesWriter.updateNonAncientEventBoundary(eventWindow);
+                default -> {
+                    // the other stages do not use the event window
+                }
+            }
+        }
+
+        /**
+         * Pass an event through all stages before a given stage, applying an event window to each stage after the
+         * event.
+         *
+         * @param lastStage   the event stops before this stage, {@link IntakeStage#ALL} passes it through all stages
+         * @param event       the event
+         * @param eventWindow the event window to apply, or null
+         * @return the events that reach the last stage
+         */
+        @NonNull
+        List<PlatformEvent> processStages(
+                @NonNull final IntakeStage lastStage,
+                @NonNull final PlatformEvent event,
+                @Nullable final EventWindow eventWindow) {
+            List<PlatformEvent> events = List.of(event);
+            for (final IntakeStage stage : IntakeStage.values()) {
+                if (stage == lastStage || stage == IntakeStage.ALL) {
+                    break;
+                }
+                final List<PlatformEvent> output = new ArrayList<>(events.size());
+                for (final PlatformEvent stageEvent : events) {
+                    process(stage, stageEvent, output);
+                }
+                if (eventWindow != null) {
+                    setEventWindow(stage, eventWindow, output);
+                }
+                events = output;
+            }
+            return events;
+        }
+
+        /**
+         * Get the latest event window produced by consensus since this method was last called.
+         *
+         * @return the event window, or null if consensus has not produced a new one
+         */
+        @Nullable
+        EventWindow takeEventWindow() {
+            final EventWindow latest = eventWindow;
+            eventWindow = null;
+            return latest;
+        }
+
+        /**
+         * Close the current PCES file.
+         */
+        void close() {
+            pcesWriter.registerDiscontinuity(1L);
+        }
+
+        private static void addIfNotNull(
+                @NonNull final List<PlatformEvent> output, @Nullable final PlatformEvent event) {
+            if (event != null) {
+                output.add(event);
+            }
+        }
+    }
+}
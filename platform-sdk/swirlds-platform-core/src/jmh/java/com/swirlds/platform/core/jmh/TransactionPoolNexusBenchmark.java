@@ -0,0 +1,77 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.core.jmh;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.hiero.consensus.event.creator.impl.pool.TransactionPoolNexus;
+import org.hiero.consensus.model.status.PlatformStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the throughput of many threads submitting transactions to a {@link TransactionPoolNexus} while a single
+ * thread drains it, as the event creator does.
+ */
+@State(Scope.Group)
+@Fork(value = 1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransactionPoolNexusBenchmark {
+
+    @Param({"100"})
+    public int transactionSize;
+
+    /** One in this many submitted transactions is a priority (signature) transaction, or 0 for none */
+    @Param({"0", "50"})
+    public int priorityInterval;
+
+    private TransactionPoolNexus nexus;
+    private Bytes transaction;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        final PlatformContext platformContext =
+                TestPlatformContextBuilder.create().build();
+        nexus = new TransactionPoolNexus(platformContext);
+        nexus.updatePlatformStatus(PlatformStatus.ACTIVE);
+
+        final byte[] bytes = new byte[transactionSize];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        transaction = Bytes.wrap(bytes);
+    }
+
+    @Benchmark
+    @Group("submitAndDrain")
+    @GroupThreads(8)
+    public boolean submit() {
+        if (priorityInterval > 0 && ThreadLocalRandom.current().nextInt(priorityInterval) == 0) {
+            return nexus.submitTransaction(transaction, true);
+        }
+        return nexus.submitApplicationTransaction(transaction);
+    }
+
+    @Benchmark
+    @Group("submitAndDrain")
+    @GroupThreads(1)
+    public void drain(final Blackhole bh) {
+        bh.consume(nexus.getTransactions());
+    }
+}
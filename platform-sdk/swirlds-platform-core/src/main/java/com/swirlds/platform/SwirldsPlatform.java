@@ -392,12 +392,20 @@ public class SwirldsPlatform implements Platform {
     private void replayPreconsensusEvents() {
         platformWiring.getStatusActionSubmitter().submitStatusAction(new StartedReplayingEventsAction());
 
-        final IOIterator<PlatformEvent> iterator =
-                initialPcesFiles.getEventIterator(pcesReplayLowerBound, startingRound);
+        final PcesConfig pcesConfig = platformContext.getConfiguration().getConfigData(PcesConfig.class);
+        final IOIterator<PlatformEvent> iterator = pcesConfig.parallelReplay()
+                ? initialPcesFiles.getParallelEventIterator(
+                        pcesReplayLowerBound,
+                        startingRound,
+                        pcesConfig.replayHashPoolSize(),
+                        pcesConfig.replayFilesInFlight())
+                : initialPcesFiles.getEventIterator(pcesReplayLowerBound, startingRound);
 
         logger.info(STARTUP.getMarker(), "replaying preconsensus event stream starting at {}", pcesReplayLowerBound);
 
-        platformWiring.getPcesReplayerIteratorInput().inject(iterator);
+        try (iterator) {
+            platformWiring.getPcesReplayerIteratorInput().inject(iterator);
+        }
 
         // We have to wait for all the PCES transactions to reach the ISS detector before telling it that PCES replay is
         // done. The PCES replay will flush the intake pipeline, but we have to flush the hasher
@@ -420,6 +428,14 @@ public class SwirldsPlatform implements Platform {
         return transactionPoolNexus.submitApplicationTransaction(Bytes.wrap(transaction));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean createTransaction(@NonNull final Bytes transaction) {
+        return transactionPoolNexus.submitApplicationTransaction(transaction);
+    }
+
     /**
      * {@inheritDoc}
      */
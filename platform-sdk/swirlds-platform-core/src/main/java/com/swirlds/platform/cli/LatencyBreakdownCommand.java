@@ -0,0 +1,175 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.cli;
+
+import com.swirlds.cli.PlatformCli;
+import com.swirlds.cli.utility.AbstractCommand;
+import com.swirlds.cli.utility.SubcommandOf;
+import com.swirlds.platform.wiring.EventLatencyStage;
+import com.swirlds.platform.wiring.EventLatencyTracer;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import picocli.CommandLine;
+
+@CommandLine.Command(
+        name = "latency-breakdown",
+        mixinStandardHelpOptions = true,
+        description = "Summarize the event latency traces written by the platform when latencyTracing.enabled is set.")
+@SubcommandOf(PlatformCli.class)
+public final class LatencyBreakdownCommand extends AbstractCommand {
+
+    /** the file or directory containing latency trace files */
+    private Path tracePath;
+
+    /** if not null, the breakdown is also written to this file in the folded stack format used by flame graphs */
+    private Path foldedFile;
+
+    private LatencyBreakdownCommand() {}
+
+    @CommandLine.Parameters(description = "A latency trace file, or a directory containing latency trace files.")
+    private void setTracePath(@NonNull final Path tracePath) {
+        this.tracePath = pathMustExist(tracePath.toAbsolutePath());
+    }
+
+    @CommandLine.Option(
+            names = {"--folded"},
+            description = "Also write the time spent in each stage to this file, in the folded stack format that can "
+                    + "be rendered by flame graph tools.")
+    private void setFoldedFile(@NonNull final Path foldedFile) {
+        this.foldedFile = foldedFile.toAbsolutePath();
+    }
+
+    /**
+     * Entry point.
+     */
+    @Override
+    @SuppressWarnings("java:S106")
+    public Integer call() throws IOException {
+        final Map<EventLatencyStage, List<Long>> stageNanos = new EnumMap<>(EventLatencyStage.class);
+        final List<Long> totalNanos = new ArrayList<>();
+
+        for (final Path file : findTraceFiles()) {
+            try (final Stream<String> lines = Files.lines(file)) {
+                lines.filter(line -> !line.isBlank() && !line.equals(EventLatencyTracer.CSV_HEADER))
+                        .forEach(line -> parseTrace(line, stageNanos, totalNanos));
+            }
+        }
+
+        if (totalNanos.isEmpty()) {
+            System.out.println("No latency traces found in " + tracePath);
+            return 0;
+        }
+
+        System.out.printf("%-20s %10s %12s %12s %12s %12s%n", "stage (ms)", "count", "mean", "p50", "p90", "p99");
+        for (final Map.Entry<EventLatencyStage, List<Long>> entry : stageNanos.entrySet()) {
+            printRow(entry.getKey().name(), entry.getValue());
+        }
+        printRow("total", totalNanos);
+
+        if (foldedFile != null) {
+            try (final BufferedWriter writer = Files.newBufferedWriter(foldedFile)) {
+                for (final Map.Entry<EventLatencyStage, List<Long>> entry : stageNanos.entrySet()) {
+                    final long totalMicros =
+                            entry.getValue().stream().mapToLong(Long::longValue).sum() / 1_000;
+                    writer.write("event;" + entry.getKey().name() + " " + totalMicros);
+                    writer.newLine();
+                }
+            }
+            System.out.println("Folded stacks written to " + foldedFile);
+        }
+
+        return 0;
+    }
+
+    /**
+     * Find the trace files to read.
+     *
+     * @return the trace files
+     */
+    @NonNull
+    private List<Path> findTraceFiles() throws IOException {
+        if (!Files.isDirectory(tracePath)) {
+            return List.of(tracePath);
+        }
+        try (final Stream<Path> files = Files.walk(tracePath)) {
+            return files.filter(Files::isRegularFile)
+                    .filter(file -> file.getFileName().toString().endsWith(".csv"))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    /**
+     * Parse a single trace, and add the time spent in each stage to the collected values. The time spent in a stage is
+     * the time since the previous stage the event passed.
+     *
+     * @param line       the line containing the trace
+     * @param stageNanos the time spent in each stage, in nanoseconds
+     * @param totalNanos the total time of each trace, in nanoseconds
+     */
+    private static void parseTrace(
+            @NonNull final String line,
+            @NonNull final Map<EventLatencyStage, List<Long>> stageNanos,
+            @NonNull final List<Long> totalNanos) {
+        // creator, timeCreated and round precede the stages
+        final String[] columns = line.split(",", -1);
+        final EventLatencyStage[] stages = EventLatencyStage.values();
+        if (columns.length != stages.length + 3) {
+            return;
+        }
+
+        long previous = 0;
+        for (int i = 0; i < stages.length; i++) {
+            final String column = columns[i + 3];
+            if (column.isEmpty()) {
+                continue;
+            }
+            final long nanos = Long.parseLong(column);
+            if (stages[i] != EventLatencyStage.CREATED && stages[i] != EventLatencyStage.RECEIVED) {
+                stageNanos.computeIfAbsent(stages[i], s -> new ArrayList<>()).add(Math.max(0, nanos - previous));
+            }
+            previous = Math.max(previous, nanos);
+        }
+        totalNanos.add(previous);
+    }
+
+    /**
+     * Print the distribution of a set of durations.
+     *
+     * @param name  the name of the row
+     * @param nanos the durations, in nanoseconds
+     */
+    @SuppressWarnings("java:S106")
+    private static void printRow(@NonNull final String name, @NonNull final List<Long> nanos) {
+        final long[] sorted = nanos.stream().mapToLong(Long::longValue).sorted().toArray();
+        final double mean = Arrays.stream(sorted).average().orElse(0);
+        System.out.printf(
+                "%-20s %10d %12.3f %12.3f %12.3f %12.3f%n",
+                name,
+                sorted.length,
+                mean / 1_000_000.0,
+                percentile(sorted, 0.5) / 1_000_000.0,
+                percentile(sorted, 0.9) / 1_000_000.0,
+                percentile(sorted, 0.99) / 1_000_000.0);
+    }
+
+    /**
+     * Get a percentile of a sorted array using the nearest-rank method.
+     *
+     * @param sorted     the sorted values, must not be empty
+     * @param percentile the percentile, between 0 and 1
+     * @return the value at the percentile
+     */
+    private static long percentile(@NonNull final long[] sorted, final double percentile) {
+        final int rank = (int) Math.ceil(percentile * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+}
@@ -21,11 +21,15 @@ import com.swirlds.platform.gossip.ProtocolConfig;
 import com.swirlds.platform.gossip.config.GossipConfig;
 import com.swirlds.platform.gossip.config.NetworkEndpoint;
 import com.swirlds.platform.gossip.config.NetworkEndpointConverter;
+import com.swirlds.platform.gossip.sync.config.BroadcastConfig;
 import com.swirlds.platform.gossip.sync.config.SyncConfig;
 import com.swirlds.platform.health.OSHealthCheckConfig;
 import com.swirlds.platform.network.SocketConfig;
+import com.swirlds.platform.state.hasher.StateHasherConfig;
+import com.swirlds.platform.state.signed.StateSignatureCollectorConfig;
 import com.swirlds.platform.system.status.PlatformStatusConfig;
 import com.swirlds.platform.uptime.UptimeConfig;
+import com.swirlds.platform.wiring.LatencyTracingConfig;
 import com.swirlds.platform.wiring.PlatformSchedulersConfig;
 import com.swirlds.virtualmap.config.VirtualMapConfig;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -55,10 +59,12 @@ public class PlatformConfigurationExtension implements ConfigurationExtension {
                 AddressBookConfig.class,
                 BasicCommonConfig.class,
                 BasicConfig.class,
+                BroadcastConfig.class,
                 ConsensusConfig.class,
                 CryptoConfig.class,
                 EventConfig.class,
                 EventCreationConfig.class,
+                LatencyTracingConfig.class,
                 MerkleDbConfig.class,
                 MetricsConfig.class,
                 OSHealthCheckConfig.class,
@@ -72,6 +78,8 @@ public class PlatformConfigurationExtension implements ConfigurationExtension {
                 SocketConfig.class,
                 StateCommonConfig.class,
                 StateConfig.class,
+                StateHasherConfig.class,
+                StateSignatureCollectorConfig.class,
                 SyncConfig.class,
                 TemporaryFileConfig.class,
                 FileSystemManagerConfig.class,
@@ -8,21 +8,24 @@ import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.metrics.FunctionGauge;
 import com.swirlds.platform.gossip.IntakeEventCounter;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 import org.hiero.consensus.model.event.EventDescriptorWrapper;
 import org.hiero.consensus.model.event.PlatformEvent;
 import org.hiero.consensus.model.hashgraph.EventWindow;
+import org.hiero.consensus.model.sequence.map.EventDescriptorSequenceMap;
 import org.hiero.consensus.model.sequence.map.SequenceMap;
-import org.hiero.consensus.model.sequence.map.StandardSequenceMap;
 
 /**
  * Takes as input an unordered stream of {@link PlatformEvent}s and emits a stream of {@link PlatformEvent}s in
  * topological order.
+ * <p>
+ * Most events are not orphans when they arrive, so handling such an event is kept free of intermediate collection
+ * allocations. Collections are only allocated for events that are actually missing parents.
  */
 public class DefaultOrphanBuffer implements OrphanBuffer {
     /**
@@ -63,6 +66,18 @@ public class DefaultOrphanBuffer implements OrphanBuffer {
      */
     private final SequenceMap<EventDescriptorWrapper, List<OrphanedEvent>> missingParentMap;
 
+    /**
+     * Events that have been found not to be orphans, but whose children have not yet been checked. Only used within
+     * {@link #eventIsNotAnOrphan(PlatformEvent, List)}, reused to avoid allocating a new stack for each event.
+     */
+    private final Deque<PlatformEvent> nonOrphanStack = new ArrayDeque<>();
+
+    /**
+     * Events that are no longer orphans as a result of a single call to {@link #handleEvent(PlatformEvent)}, reused to
+     * avoid growing a new list for each event.
+     */
+    private final List<PlatformEvent> unorphanedEventsBuffer = new ArrayList<>();
+
     /**
      * Constructor
      *
@@ -82,8 +97,8 @@ public class DefaultOrphanBuffer implements OrphanBuffer {
                         .withDescription("number of orphaned events currently in the orphan buffer")
                         .withUnit("events"));
         this.eventWindow = EventWindow.getGenesisEventWindow();
-        missingParentMap = new StandardSequenceMap<>(0, INITIAL_CAPACITY, true, EventDescriptorWrapper::birthRound);
-        eventsWithParents = new StandardSequenceMap<>(0, INITIAL_CAPACITY, true, EventDescriptorWrapper::birthRound);
+        missingParentMap = new EventDescriptorSequenceMap<>(0, INITIAL_CAPACITY);
+        eventsWithParents = new EventDescriptorSequenceMap<>(0, INITIAL_CAPACITY);
     }
 
     /**
@@ -92,24 +107,56 @@ public class DefaultOrphanBuffer implements OrphanBuffer {
     @Override
     @NonNull
     public List<PlatformEvent> handleEvent(@NonNull final PlatformEvent event) {
+        handleEvent(event, unorphanedEventsBuffer);
+        final List<PlatformEvent> unorphanedEvents =
+                switch (unorphanedEventsBuffer.size()) {
+                    case 0 -> List.of();
+                    case 1 -> List.of(unorphanedEventsBuffer.getFirst());
+                    default -> List.copyOf(unorphanedEventsBuffer);
+                };
+        unorphanedEventsBuffer.clear();
+        return unorphanedEvents;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The events that are no longer orphans are collected in a single list for the whole batch.
+     */
+    @Override
+    @NonNull
+    public List<PlatformEvent> handleEvents(@NonNull final List<PlatformEvent> events) {
+        final List<PlatformEvent> unorphanedEvents = new ArrayList<>(events.size());
+        for (final PlatformEvent event : events) {
+            handleEvent(event, unorphanedEvents);
+        }
+        return unorphanedEvents.isEmpty() ? List.of() : unorphanedEvents;
+    }
+
+    /**
+     * Add a new event to the buffer if it is an orphan.
+     *
+     * @param event            the event to handle
+     * @param unorphanedEvents the list to which the events that are no longer orphans as a result of this event being
+     *                         handled are added
+     */
+    private void handleEvent(@NonNull final PlatformEvent event, @NonNull final List<PlatformEvent> unorphanedEvents) {
         if (eventWindow.isAncient(event)) {
             // Ancient events can be safely ignored.
             intakeEventCounter.eventExitedIntakePipeline(event.getSenderId());
-            return List.of();
+            return;
         }
 
         currentOrphanCount++;
 
         final List<EventDescriptorWrapper> missingParents = getMissingParents(event);
         if (missingParents.isEmpty()) {
-            return eventIsNotAnOrphan(event);
+            eventIsNotAnOrphan(event, unorphanedEvents);
         } else {
             final OrphanedEvent orphanedEvent = new OrphanedEvent(event, missingParents);
             for (final EventDescriptorWrapper missingParent : missingParents) {
                 this.missingParentMap.computeIfAbsent(missingParent, EMPTY_LIST).add(orphanedEvent);
             }
-
-            return List.of();
         }
     }
 
@@ -132,8 +179,7 @@ public class DefaultOrphanBuffer implements OrphanBuffer {
                 (parent, orphans) -> ancientParents.add(new ParentAndOrphans(parent, orphans)));
 
         final List<PlatformEvent> unorphanedEvents = new ArrayList<>();
-        ancientParents.forEach(
-                parentAndOrphans -> unorphanedEvents.addAll(missingParentBecameAncient(parentAndOrphans)));
+        ancientParents.forEach(parentAndOrphans -> missingParentBecameAncient(parentAndOrphans, unorphanedEvents));
 
         return unorphanedEvents;
     }
@@ -144,42 +190,42 @@ public class DefaultOrphanBuffer implements OrphanBuffer {
      * Accounts for events potentially becoming un-orphaned as a result of the parent becoming ancient.
      *
      * @param parentAndOrphans the parent that became ancient, along with its orphans
-     * @return the list of events that are no longer orphans as a result of this parent becoming ancient
+     * @param unorphanedEvents the list to which the events that are no longer orphans as a result of this parent
+     *                         becoming ancient are added
      */
-    @NonNull
-    private List<PlatformEvent> missingParentBecameAncient(@NonNull final ParentAndOrphans parentAndOrphans) {
-        final List<PlatformEvent> unorphanedEvents = new ArrayList<>();
-
+    private void missingParentBecameAncient(
+            @NonNull final ParentAndOrphans parentAndOrphans, @NonNull final List<PlatformEvent> unorphanedEvents) {
         final EventDescriptorWrapper parentDescriptor = parentAndOrphans.parent();
 
         for (final OrphanedEvent orphan : parentAndOrphans.orphans()) {
             orphan.missingParents().remove(parentDescriptor);
 
             if (orphan.missingParents().isEmpty()) {
-                unorphanedEvents.addAll(eventIsNotAnOrphan(orphan.orphan()));
+                eventIsNotAnOrphan(orphan.orphan(), unorphanedEvents);
             }
         }
-
-        return unorphanedEvents;
     }
 
     /**
      * Get the parents of an event that are currently missing.
      *
      * @param event the event whose missing parents to find
-     * @return the list of missing parents, empty if no parents are missing
+     * @return the list of missing parents, an immutable empty list if no parents are missing
      */
     @NonNull
     private List<EventDescriptorWrapper> getMissingParents(@NonNull final PlatformEvent event) {
-        final List<EventDescriptorWrapper> missingParents = new ArrayList<>();
+        List<EventDescriptorWrapper> missingParents = null;
 
         for (final EventDescriptorWrapper parent : event.getAllParents()) {
             if (!eventsWithParents.containsKey(parent) && !eventWindow.isAncient(parent)) {
+                if (missingParents == null) {
+                    missingParents = new ArrayList<>();
+                }
                 missingParents.add(parent);
             }
         }
 
-        return missingParents;
+        return missingParents == null ? List.of() : missingParents;
     }
 
     /**
@@ -187,14 +233,12 @@ public class DefaultOrphanBuffer implements OrphanBuffer {
      * <p>
      * Accounts for events potentially becoming un-orphaned as a result of this event not being an orphan.
      *
-     * @param event the event that is not an orphan
-     * @return the list of events that are no longer orphans as a result of this event not being an orphan
+     * @param event            the event that is not an orphan
+     * @param unorphanedEvents the list to which the events that are no longer orphans as a result of this event not
+     *                         being an orphan are added
      */
-    @NonNull
-    private List<PlatformEvent> eventIsNotAnOrphan(@NonNull final PlatformEvent event) {
-        final List<PlatformEvent> unorphanedEvents = new ArrayList<>();
-
-        final Deque<PlatformEvent> nonOrphanStack = new LinkedList<>();
+    private void eventIsNotAnOrphan(
+            @NonNull final PlatformEvent event, @NonNull final List<PlatformEvent> unorphanedEvents) {
         nonOrphanStack.push(event);
 
         // When a missing parent is found, there may be many descendants of that parent who end up
@@ -230,8 +274,6 @@ public class DefaultOrphanBuffer implements OrphanBuffer {
                 }
             }
         }
-
-        return unorphanedEvents;
     }
 
     /**
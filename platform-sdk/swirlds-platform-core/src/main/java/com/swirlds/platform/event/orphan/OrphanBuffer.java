@@ -3,6 +3,7 @@ package com.swirlds.platform.event.orphan;
 
 import com.swirlds.component.framework.component.InputWireLabel;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
 import java.util.List;
 import org.hiero.consensus.model.event.PlatformEvent;
 import org.hiero.consensus.model.hashgraph.EventWindow;
@@ -26,6 +27,33 @@ public interface OrphanBuffer {
     @NonNull
     List<PlatformEvent> handleEvent(@NonNull PlatformEvent event);
 
+    /**
+     * Handle several events, in order, as if {@link #handleEvent(PlatformEvent)} was called for each of them.
+     *
+     * @param events the events to handle
+     * @return the list of events that are no longer orphans as a result of these events being handled
+     */
+    @InputWireLabel("unordered events")
+    @NonNull
+    default List<PlatformEvent> handleEvents(@NonNull final List<PlatformEvent> events) {
+        if (events.size() == 1) {
+            return handleEvent(events.getFirst());
+        }
+        List<PlatformEvent> unorphanedEvents = null;
+        for (final PlatformEvent event : events) {
+            final List<PlatformEvent> newlyUnorphaned = handleEvent(event);
+            if (newlyUnorphaned.isEmpty()) {
+                continue;
+            }
+            if (unorphanedEvents == null) {
+                unorphanedEvents = new ArrayList<>(newlyUnorphaned);
+            } else {
+                unorphanedEvents.addAll(newlyUnorphaned);
+            }
+        }
+        return unorphanedEvents == null ? List.of() : unorphanedEvents;
+    }
+
     /**
      * Sets the event window that defines when an event is considered ancient.
      *
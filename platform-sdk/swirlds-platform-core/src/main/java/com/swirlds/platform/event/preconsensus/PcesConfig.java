@@ -56,7 +56,13 @@ import java.time.Duration;
  *                                             com.swirlds.common.config.StateCommonConfig#savedStateDirectory()}.
  * @param replayQueueSize                      the size of the queue used for holding preconsensus events that are
  *                                             waiting to be replayed
- * @param replayHashPoolSize                   the number of threads used for hashing events during replay
+ * @param replayHashPoolSize                   the number of threads used for decoding and hashing events during
+ *                                             replay, only used if {@code parallelReplay} is true
+ * @param parallelReplay                       if true, then preconsensus event files are memory mapped, decoded and
+ *                                             hashed on a pool of {@code replayHashPoolSize} threads ahead of replay.
+ *                                             Events are still replayed in file order.
+ * @param replayFilesInFlight                  the maximum number of files that may be decoded ahead of the file
+ *                                             currently being replayed, only used if {@code parallelReplay} is true
  * @param copyRecentStreamToStateSnapshots     if true, then copy recent PCES files into the saved state snapshot
  *                                             directories every time we take a state snapshot. The files copied are
  *                                             guaranteed to contain all non-ancient events w.r.t. the state snapshot.
@@ -89,6 +95,8 @@ public record PcesConfig(
         @ConfigProperty(defaultValue = "preconsensus-events") Path databaseDirectory,
         @ConfigProperty(defaultValue = "1024") int replayQueueSize,
         @ConfigProperty(defaultValue = "8") int replayHashPoolSize,
+        @ConfigProperty(defaultValue = "false") boolean parallelReplay,
+        @Min(1) @ConfigProperty(defaultValue = "16") int replayFilesInFlight,
         @ConfigProperty(defaultValue = "true") boolean copyRecentStreamToStateSnapshots,
         @ConfigProperty(defaultValue = "true") boolean compactLastFileOnStartup,
         @ConfigProperty(defaultValue = "false") boolean forceIgnorePcesSignatures,
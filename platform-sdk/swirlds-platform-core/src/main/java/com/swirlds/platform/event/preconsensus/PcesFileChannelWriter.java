@@ -4,6 +4,7 @@ package com.swirlds.platform.event.preconsensus;
 import com.hedera.hapi.platform.event.GossipEvent;
 import com.hedera.pbj.runtime.io.WritableSequentialData;
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -65,18 +66,37 @@ public class PcesFileChannelWriter implements PcesFileWriter {
     @Override
     public long writeEvent(@NonNull final GossipEvent event) throws IOException {
         final int size = GossipEvent.PROTOBUF.measureRecord(event);
-        final boolean expandBuffer = size > buffer.capacity();
-        if (expandBuffer) {
-            MemoryUtils.closeDirectByteBuffer(buffer);
-            buffer = ByteBuffer.allocateDirect(size);
-            writableSequentialData = BufferedData.wrap(buffer);
-        }
+        ensureCapacity(size);
         buffer.putInt(size);
         GossipEvent.PROTOBUF.write(event, writableSequentialData);
         flipWriteClear();
         return size;
     }
 
+    @Override
+    public long writeSerializedEvent(@NonNull final Bytes serializedEvent) throws IOException {
+        final int size = Math.toIntExact(serializedEvent.length());
+        ensureCapacity(size);
+        buffer.putInt(size);
+        serializedEvent.writeTo(buffer);
+        flipWriteClear();
+        return size;
+    }
+
+    /**
+     * Makes sure the buffer is large enough to hold an event of the given size, along with its size prefix.
+     *
+     * @param size the size of the event in bytes
+     */
+    private void ensureCapacity(final int size) {
+        final boolean expandBuffer = size + Integer.BYTES > buffer.capacity();
+        if (expandBuffer) {
+            MemoryUtils.closeDirectByteBuffer(buffer);
+            buffer = ByteBuffer.allocateDirect(size + Integer.BYTES);
+            writableSequentialData = BufferedData.wrap(buffer);
+        }
+    }
+
     /**
      * Writes the data in the buffer to the file. This method expects that the buffer will have data that is written to
      * it. The buffer will be flipped so that it can be read from, the data will be written to the file, and the buffer
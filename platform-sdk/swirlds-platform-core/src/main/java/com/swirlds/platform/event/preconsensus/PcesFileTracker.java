@@ -149,6 +149,27 @@ public class PcesFileTracker {
         return new PcesMultiFileIterator(lowerBound, getFileIterator(lowerBound, startingRound));
     }
 
+    /**
+     * Get an iterator that walks over all events starting with a specified lower bound, decoding and hashing files on
+     * a pool of threads ahead of time. Returns the same events in the same order as
+     * {@link #getEventIterator(long, long)}, but the events are already hashed. The iterator should be closed when it
+     * is no longer needed in order to release its threads.
+     * <p>
+     * Note: this method only works at system startup time, using this iterator after startup has undefined behavior.
+     *
+     * @param lowerBound       the desired lower bound, see {@link #getEventIterator(long, long)}
+     * @param startingRound    the round to start iterating from
+     * @param threadCount      the number of threads used to decode and hash files
+     * @param maxFilesInFlight the maximum number of files decoded ahead of the file currently being iterated
+     * @return an iterator that walks over events
+     */
+    @NonNull
+    public PcesParallelMultiFileIterator getParallelEventIterator(
+            final long lowerBound, final long startingRound, final int threadCount, final int maxFilesInFlight) {
+        return new PcesParallelMultiFileIterator(
+                lowerBound, getFileIterator(lowerBound, startingRound), threadCount, maxFilesInFlight);
+    }
+
     /**
      * Get an iterator that walks over all event files currently being tracked, in order.
      * <p>
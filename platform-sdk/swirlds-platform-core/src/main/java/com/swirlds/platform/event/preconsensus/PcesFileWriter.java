@@ -2,6 +2,7 @@
 package com.swirlds.platform.event.preconsensus;
 
 import com.hedera.hapi.platform.event.GossipEvent;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
 
@@ -25,6 +26,15 @@ public interface PcesFileWriter {
      */
     long writeEvent(@NonNull final GossipEvent event) throws IOException;
 
+    /**
+     * Write an already serialized event to the file. The data written is identical to the data written by
+     * {@link #writeEvent(GossipEvent)} for the event the bytes were produced from.
+     *
+     * @param serializedEvent the protobuf serialization of the event
+     * @return the length of the written data
+     */
+    long writeSerializedEvent(@NonNull final Bytes serializedEvent) throws IOException;
+
     /**
      * Flush the file.
      */
@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.swirlds.platform.event.preconsensus;
 
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -55,7 +56,8 @@ public class PcesMutableFile {
     }
 
     /**
-     * Write an event to the file.
+     * Write an event to the file. If the event retained the bytes it was received as, they are written without
+     * serializing the event again.
      *
      * @param event the event to write
      */
@@ -64,7 +66,10 @@ public class PcesMutableFile {
             throw new IllegalStateException("Cannot write event " + event.getHash() + " with ancient indicator "
                     + event.getBirthRound() + " to file " + descriptor);
         }
-        long size = writer.writeEvent(event.getGossipEvent());
+        final Bytes serializedEvent = event.getSerializedGossipEvent();
+        final long size = serializedEvent != null
+                ? writer.writeSerializedEvent(serializedEvent)
+                : writer.writeEvent(event.getGossipEvent());
         highestAncientIdentifierInFile = Math.max(highestAncientIdentifierInFile, event.getBirthRound());
         return size;
     }
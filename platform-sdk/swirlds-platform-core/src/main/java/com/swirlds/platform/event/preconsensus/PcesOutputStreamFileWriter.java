@@ -2,6 +2,7 @@
 package com.swirlds.platform.event.preconsensus;
 
 import com.hedera.hapi.platform.event.GossipEvent;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.common.io.extendable.ExtendableOutputStream;
 import com.swirlds.common.io.extendable.extensions.CountingStreamExtension;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -48,6 +49,11 @@ public class PcesOutputStreamFileWriter implements PcesFileWriter {
         return out.writePbjRecord(event, GossipEvent.PROTOBUF);
     }
 
+    @Override
+    public long writeSerializedEvent(@NonNull final Bytes serializedEvent) throws IOException {
+        return out.writePbjRecordBytes(serializedEvent);
+    }
+
     @Override
     public void flush() throws IOException {
         out.flush();
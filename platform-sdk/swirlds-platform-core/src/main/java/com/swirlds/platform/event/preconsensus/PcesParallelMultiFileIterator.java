@@ -0,0 +1,279 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.event.preconsensus;
+
+import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
+
+import com.hedera.hapi.platform.event.GossipEvent;
+import com.hedera.pbj.runtime.ParseException;
+import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import com.swirlds.common.io.IOIterator;
+import com.swirlds.common.threading.framework.config.ThreadConfiguration;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.hiero.consensus.crypto.PbjStreamHasher;
+import org.hiero.consensus.model.event.PlatformEvent;
+
+/**
+ * Iterates over events from a sequence of preconsensus event files, like {@link PcesMultiFileIterator}, but decodes
+ * and hashes the files ahead of time on a pool of threads. Each file is memory mapped and decoded as a whole by a
+ * single thread, and several files are decoded concurrently. Events are always returned in the same order as the
+ * sequential iterator would return them.
+ * <p>
+ * Events returned by this iterator are already hashed.
+ */
+public class PcesParallelMultiFileIterator implements IOIterator<PlatformEvent> {
+
+    /**
+     * The result of decoding a single file.
+     *
+     * @param events          the events in the file that are not below the lower bound, in file order
+     * @param hasPartialEvent true if the file ended with a partially written event
+     */
+    private record DecodedFile(@NonNull List<PlatformEvent> events, boolean hasPartialEvent) {}
+
+    private final Iterator<PcesFile> fileIterator;
+    private final long lowerBound;
+    private final ExecutorService executor;
+    private final int maxFilesInFlight;
+
+    /** Files that have been submitted for decoding, in file order */
+    private final Queue<Future<DecodedFile>> pendingFiles = new ArrayDeque<>();
+
+    private Iterator<PlatformEvent> currentFile;
+    private PlatformEvent next;
+    private int truncatedFileCount = 0;
+    private boolean closed = false;
+
+    /**
+     * Create an iterator that walks over events in a series of event files.
+     *
+     * @param lowerBound       the minimum ancient indicator of events to return, events with lower ancient indicators
+     *                         are not returned
+     * @param fileIterator     an iterator that walks over event files
+     * @param threadCount      the number of threads used to decode and hash files
+     * @param maxFilesInFlight the maximum number of files that may be decoded ahead of the file currently being
+     *                         iterated
+     */
+    public PcesParallelMultiFileIterator(
+            final long lowerBound,
+            @NonNull final Iterator<PcesFile> fileIterator,
+            final int threadCount,
+            final int maxFilesInFlight) {
+
+        this.fileIterator = Objects.requireNonNull(fileIterator);
+        this.lowerBound = lowerBound;
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("threadCount must be at least 1");
+        }
+        if (maxFilesInFlight < 1) {
+            throw new IllegalArgumentException("maxFilesInFlight must be at least 1");
+        }
+        this.maxFilesInFlight = maxFilesInFlight;
+        this.executor = Executors.newFixedThreadPool(
+                threadCount,
+                new ThreadConfiguration(getStaticThreadManager())
+                        .setComponent("platform")
+                        .setThreadName("pces-replay-decoder")
+                        .setDaemon(true)
+                        .buildFactory());
+    }
+
+    /**
+     * Submit files for decoding until the maximum number of files in flight is reached.
+     */
+    private void submitFiles() {
+        while (pendingFiles.size() < maxFilesInFlight && fileIterator.hasNext()) {
+            final PcesFile file = fileIterator.next();
+            pendingFiles.add(executor.submit(() -> decodeFile(file, lowerBound)));
+        }
+    }
+
+    /**
+     * Find the next event that should be returned.
+     */
+    private void findNext() throws IOException {
+        if (closed) {
+            return;
+        }
+        while (next == null) {
+            if (currentFile != null && currentFile.hasNext()) {
+                next = currentFile.next();
+                return;
+            }
+
+            submitFiles();
+            final Future<DecodedFile> future = pendingFiles.poll();
+            if (future == null) {
+                // all files have been read
+                close();
+                return;
+            }
+
+            final DecodedFile decodedFile = awaitFile(future);
+            if (decodedFile.hasPartialEvent()) {
+                truncatedFileCount++;
+            }
+            currentFile = decodedFile.events().iterator();
+        }
+    }
+
+    /**
+     * Wait for a file to be decoded.
+     *
+     * @param future the future for the decoded file
+     * @return the decoded file
+     * @throws IOException if the file could not be read
+     */
+    @NonNull
+    private DecodedFile awaitFile(@NonNull final Future<DecodedFile> future) throws IOException {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new IOException("interrupted while waiting for a PCES file to be decoded", e);
+        } catch (final ExecutionException e) {
+            close();
+            if (e.getCause() instanceof final IOException ioException) {
+                throw ioException;
+            }
+            if (e.getCause() instanceof final UncheckedIOException uncheckedIOException) {
+                throw uncheckedIOException.getCause();
+            }
+            throw new IOException("unable to decode PCES file", e.getCause());
+        }
+    }
+
+    /**
+     * Memory map a file, then decode and hash all of its events. Mirrors the behavior of {@link PcesFileIterator}: if
+     * an event cannot be fully read then reading of the file stops and the file is flagged as having a partial event,
+     * and if an event is malformed then an exception is thrown. Mapping the file keeps its contents out of the heap
+     * while it is being decoded.
+     *
+     * @param file       the file to decode
+     * @param lowerBound the minimum ancient indicator of events to return
+     * @return the decoded file
+     * @throws IOException if the file cannot be read, has an unsupported version, or contains a malformed event
+     */
+    @NonNull
+    private static DecodedFile decodeFile(@NonNull final PcesFile file, final long lowerBound) throws IOException {
+        final MappedByteBuffer mappedBuffer;
+        try (final FileChannel channel = FileChannel.open(file.getPath(), StandardOpenOption.READ)) {
+            mappedBuffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        final BufferedData data = BufferedData.wrap(mappedBuffer);
+
+        final List<PlatformEvent> events = new ArrayList<>();
+        if (data.remaining() < Integer.BYTES) {
+            // Empty file. Possible if the node crashed right after it created this file.
+            return new DecodedFile(events, false);
+        }
+
+        final int fileVersionNumber = data.readInt();
+        final PcesFileVersion fileVersion = PcesFileVersion.fromVersionNumber(fileVersionNumber);
+        if (fileVersion == null) {
+            throw new IOException("unsupported file version: " + fileVersionNumber);
+        }
+
+        final PbjStreamHasher hasher = new PbjStreamHasher();
+        while (data.hasRemaining()) {
+            if (data.remaining() < Integer.BYTES) {
+                return new DecodedFile(events, true);
+            }
+            final int size = data.readInt();
+            if (size < 0 || size > data.remaining()) {
+                // We started parsing an event but couldn't find enough bytes to finish it.
+                // This is possible (if not likely) when a node is shut down abruptly.
+                return new DecodedFile(events, true);
+            }
+
+            final long eventEnd = data.position() + size;
+            data.limit(eventEnd);
+            final PlatformEvent candidate;
+            try {
+                candidate =
+                        switch (fileVersion) {
+                            case PROTOBUF_EVENTS -> new PlatformEvent(GossipEvent.PROTOBUF.parse(data));
+                        };
+            } catch (final ParseException e) {
+                return new DecodedFile(events, true);
+            } catch (final NullPointerException e) {
+                // The PlatformEvent constructor can throw this if the event is malformed.
+                throw new IOException("GossipEvent read from the file is malformed", e);
+            }
+            if (data.position() != eventEnd) {
+                return new DecodedFile(events, true);
+            }
+            data.limit(data.capacity());
+
+            if (candidate.getBirthRound() >= lowerBound) {
+                hasher.hashEvent(candidate);
+                events.add(candidate);
+            }
+        }
+        return new DecodedFile(events, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext() throws IOException {
+        findNext();
+        return next != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public PlatformEvent next() throws IOException {
+        if (!hasNext()) {
+            throw new NoSuchElementException("iterator is empty, can not get next element");
+        }
+        try {
+            return next;
+        } finally {
+            next = null;
+        }
+    }
+
+    /**
+     * Get the number of files that had partial event data at the end. This can happen if JVM is shut down abruptly
+     * while and event is being written to disk.
+     *
+     * @return the number of files that had partial event data at the end that have been encountered so far
+     */
+    public int getTruncatedFileCount() {
+        return truncatedFileCount;
+    }
+
+    /**
+     * Stop decoding files and release the decoding threads. Called automatically once all events have been returned.
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            pendingFiles.forEach(future -> future.cancel(true));
+            pendingFiles.clear();
+            executor.shutdownNow();
+        }
+    }
+}
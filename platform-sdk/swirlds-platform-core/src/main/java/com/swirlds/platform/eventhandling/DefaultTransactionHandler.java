@@ -311,14 +311,16 @@ public class DefaultTransactionHandler implements TransactionHandler {
             // of the state is transactions, so that's our best bet.
             final long hashComplexity = Math.max(accumulatedHashComplexity, 1);
             final TransactionHandlerResult result = new TransactionHandlerResult(
-                    new StateWithHashComplexity(reservedSignedState, hashComplexity), systemTransactions);
+                    consensusRound.getRoundNum(),
+                    new StateWithHashComplexity(reservedSignedState, hashComplexity),
+                    systemTransactions);
             accumulatedHashComplexity = 0;
 
             return result;
         } else {
             // Only include non-system transactions, because system transactions do not modify the state
             accumulatedHashComplexity += consensusRound.getNumAppTransactions() - systemTransactions.size();
-            return new TransactionHandlerResult(null, systemTransactions);
+            return new TransactionHandlerResult(consensusRound.getRoundNum(), null, systemTransactions);
         }
     }
 }
@@ -17,10 +17,12 @@ import org.hiero.consensus.model.transaction.ScopedSystemTransaction;
  * <lI>a queue of system transactions contained in the round</lI>
  * </ul>
  *
+ * @param round                   the number of the round that was handled
  * @param stateWithHashComplexity a wrapper objects with a signed state and an estimate of its hash complexity, or null
  *                                if no signed state was created for this round
  * @param systemTransactions      any system transactions that reached consensus in the round
  */
 public record TransactionHandlerResult(
+        long round,
         @Nullable StateWithHashComplexity stateWithHashComplexity,
         @NonNull Queue<ScopedSystemTransaction<StateSignatureTransaction>> systemTransactions) {}
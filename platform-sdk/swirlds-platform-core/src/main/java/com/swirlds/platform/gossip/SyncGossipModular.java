@@ -17,10 +17,12 @@ import com.swirlds.component.framework.wires.output.StandardOutputWire;
 import com.swirlds.platform.Utilities;
 import com.swirlds.platform.config.StateConfig;
 import com.swirlds.platform.gossip.sync.SyncManagerImpl;
+import com.swirlds.platform.gossip.sync.config.BroadcastConfig;
 import com.swirlds.platform.metrics.ReconnectMetrics;
 import com.swirlds.platform.network.PeerCommunication;
 import com.swirlds.platform.network.PeerInfo;
 import com.swirlds.platform.network.communication.handshake.VersionCompareHandshake;
+import com.swirlds.platform.network.protocol.BroadcastProtocol;
 import com.swirlds.platform.network.protocol.HeartbeatProtocol;
 import com.swirlds.platform.network.protocol.Protocol;
 import com.swirlds.platform.network.protocol.ProtocolRunnable;
@@ -72,6 +74,8 @@ public class SyncGossipModular implements Gossip {
     private final PeerCommunication network;
     private final ImmutableList<Protocol> protocols;
     private final SyncProtocol syncProtocol;
+    /** pushes new events to all peers, null if broadcast is not enabled */
+    private final BroadcastProtocol broadcastProtocol;
     private final SyncManagerImpl syncManager;
 
     // this is not a nice dependency, should be removed as well as the sharedState
@@ -144,21 +148,54 @@ public class SyncGossipModular implements Gossip {
                 threadManager,
                 peers.size() + 1);
 
-        this.protocols = ImmutableList.of(
-                HeartbeatProtocol.create(platformContext, this.network.getNetworkMetrics()),
-                createReconnectProtocol(
-                        platformContext,
-                        syncManager,
-                        threadManager,
-                        latestCompleteState,
-                        roster,
-                        loadReconnectState,
-                        clearAllPipelinesForReconnect,
-                        swirldStateManager,
-                        selfId,
-                        this.syncProtocol,
-                        platformStateFacade),
-                syncProtocol);
+        final BroadcastConfig broadcastConfig = platformContext.getConfiguration().getConfigData(BroadcastConfig.class);
+        final GossipController gossipController;
+        if (broadcastConfig.enabled()) {
+            this.broadcastProtocol = BroadcastProtocol.create(
+                    platformContext,
+                    selfId,
+                    event -> receivedEventHandler.accept(event),
+                    intakeEventCounter,
+                    threadManager);
+            gossipController = new GossipController() {
+                @Override
+                public void pause() {
+                    broadcastProtocol.pause();
+                    syncProtocol.pause();
+                }
+
+                @Override
+                public void resume() {
+                    broadcastProtocol.resume();
+                    syncProtocol.resume();
+                }
+            };
+        } else {
+            this.broadcastProtocol = null;
+            gossipController = this.syncProtocol;
+        }
+
+        final ImmutableList.Builder<Protocol> protocolsBuilder = ImmutableList.builder();
+        protocolsBuilder.add(HeartbeatProtocol.create(platformContext, this.network.getNetworkMetrics()));
+        protocolsBuilder.add(createReconnectProtocol(
+                platformContext,
+                syncManager,
+                threadManager,
+                latestCompleteState,
+                roster,
+                loadReconnectState,
+                clearAllPipelinesForReconnect,
+                swirldStateManager,
+                selfId,
+                gossipController,
+                platformStateFacade));
+        protocolsBuilder.add(syncProtocol);
+        if (broadcastProtocol != null) {
+            // Sync is negotiated first, since it is the only way to recover events that broadcast missed. It only
+            // wants to run once per sync interval, so broadcast still runs in between syncs whenever events are queued
+            protocolsBuilder.add(broadcastProtocol);
+        }
+        this.protocols = protocolsBuilder.build();
 
         final ProtocolConfig protocolConfig = platformContext.getConfiguration().getConfigData(ProtocolConfig.class);
         final VersionCompareHandshake versionCompareHandshake =
@@ -298,16 +335,37 @@ public class SyncGossipModular implements Gossip {
 
         startInput.bindConsumer(ignored -> {
             syncProtocol.start();
+            if (broadcastProtocol != null) {
+                broadcastProtocol.start();
+            }
             network.start();
         });
         stopInput.bindConsumer(ignored -> {
+            if (broadcastProtocol != null) {
+                broadcastProtocol.stop();
+            }
             syncProtocol.stop();
             network.stop();
         });
 
-        clearInput.bindConsumer(ignored -> syncProtocol.clear());
-        eventInput.bindConsumer(syncProtocol::addEvent);
-        eventWindowInput.bindConsumer(syncProtocol::updateEventWindow);
+        clearInput.bindConsumer(ignored -> {
+            syncProtocol.clear();
+            if (broadcastProtocol != null) {
+                broadcastProtocol.clear();
+            }
+        });
+        eventInput.bindConsumer(event -> {
+            syncProtocol.addEvent(event);
+            if (broadcastProtocol != null) {
+                broadcastProtocol.addEvent(event);
+            }
+        });
+        eventWindowInput.bindConsumer(eventWindow -> {
+            syncProtocol.updateEventWindow(eventWindow);
+            if (broadcastProtocol != null) {
+                broadcastProtocol.updateEventWindow(eventWindow);
+            }
+        });
 
         systemHealthInput.bindConsumer(syncProtocol::reportUnhealthyDuration);
         platformStatusInput.bindConsumer(status -> {
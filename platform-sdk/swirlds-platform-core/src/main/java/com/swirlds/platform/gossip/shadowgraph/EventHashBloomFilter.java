@@ -0,0 +1,174 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.gossip.shadowgraph;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Objects;
+import org.hiero.base.crypto.Hash;
+import org.hiero.base.io.streams.SerializableDataInputStream;
+import org.hiero.base.io.streams.SerializableDataOutputStream;
+
+/**
+ * A compact, probabilistic summary of a set of event hashes, sent to a sync peer so that the peer can avoid sending
+ * events that we already have. A hash that was added to the filter is always reported as present. A hash that was not
+ * added may be reported as present with a small probability (a false positive), in which case the peer will not send
+ * that event during this sync.
+ * <p>
+ * Each filter is built with a random seed that is included in its serialized form. A false positive for one sync is
+ * therefore very unlikely to repeat during the next sync, so a missing event is never withheld for long.
+ */
+public final class EventHashBloomFilter {
+
+    /** The maximum number of hash functions a peer may ask us to use. */
+    private static final int MAX_HASH_FUNCTIONS = 32;
+
+    /** The minimum number of bits in a filter. */
+    private static final int MIN_BITS = Long.SIZE;
+
+    private final long seed;
+    private final int hashFunctionCount;
+    private final long[] bits;
+    private final long bitCount;
+
+    private EventHashBloomFilter(final long seed, final int hashFunctionCount, @NonNull final long[] bits) {
+        if (hashFunctionCount < 1 || hashFunctionCount > MAX_HASH_FUNCTIONS) {
+            throw new IllegalArgumentException("invalid hash function count: " + hashFunctionCount);
+        }
+        if (bits.length == 0) {
+            throw new IllegalArgumentException("a filter must have at least one word of bits");
+        }
+        this.seed = seed;
+        this.hashFunctionCount = hashFunctionCount;
+        this.bits = bits;
+        this.bitCount = (long) bits.length * Long.SIZE;
+    }
+
+    /**
+     * Build a filter containing the given hashes.
+     *
+     * @param hashes            the hashes to add to the filter
+     * @param bitsPerHash       the number of bits to allocate per hash, higher values lower the false positive rate
+     * @param hashFunctionCount the number of bits set per hash
+     * @param seed              the seed used to derive bit positions
+     * @return the filter
+     */
+    @NonNull
+    public static EventHashBloomFilter of(
+            @NonNull final Collection<Hash> hashes, final int bitsPerHash, final int hashFunctionCount, final long seed) {
+        Objects.requireNonNull(hashes);
+        if (bitsPerHash < 1) {
+            throw new IllegalArgumentException("bitsPerHash must be positive");
+        }
+        final long requestedBits = Math.max(MIN_BITS, (long) hashes.size() * bitsPerHash);
+        final int words = Math.toIntExact((requestedBits + Long.SIZE - 1) / Long.SIZE);
+        final EventHashBloomFilter filter = new EventHashBloomFilter(seed, hashFunctionCount, new long[words]);
+        for (final Hash hash : hashes) {
+            filter.add(hash);
+        }
+        return filter;
+    }
+
+    /**
+     * Add a hash to the filter.
+     *
+     * @param hash the hash to add
+     */
+    private void add(@NonNull final Hash hash) {
+        final long h1 = firstHash(hash);
+        final long h2 = secondHash(hash);
+        for (int i = 0; i < hashFunctionCount; i++) {
+            final long index = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            bits[(int) (index >>> 6)] |= 1L << index;
+        }
+    }
+
+    /**
+     * Check if a hash may have been added to this filter.
+     *
+     * @param hash the hash to check
+     * @return false if the hash was definitely not added, true if it probably was
+     */
+    public boolean mightContain(@NonNull final Hash hash) {
+        final long h1 = firstHash(hash);
+        final long h2 = secondHash(hash);
+        for (int i = 0; i < hashFunctionCount; i++) {
+            final long index = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            if ((bits[(int) (index >>> 6)] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Derive the first of the two base hashes used for double hashing. Event hashes are already uniformly distributed,
+     * so it is sufficient to mix the seed into a prefix of the hash.
+     */
+    private long firstHash(@NonNull final Hash hash) {
+        final Bytes bytes = hash.getBytes();
+        return mix(bytes.getLong(0) ^ seed);
+    }
+
+    /**
+     * Derive the second of the two base hashes used for double hashing. Always odd, so that all bit positions are
+     * reachable.
+     */
+    private long secondHash(@NonNull final Hash hash) {
+        final Bytes bytes = hash.getBytes();
+        return mix(bytes.getLong(Long.BYTES) ^ Long.rotateLeft(seed, 32)) | 1L;
+    }
+
+    /**
+     * The finalizer of the SplitMix64 generator, used to decorrelate the seed from the hash bits.
+     */
+    private static long mix(final long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * @return the size of the filter in bits
+     */
+    public long getBitCount() {
+        return bitCount;
+    }
+
+    /**
+     * Write this filter to a stream.
+     *
+     * @param out the stream to write to
+     * @throws IOException if a stream exception occurs
+     */
+    public void serialize(@NonNull final SerializableDataOutputStream out) throws IOException {
+        out.writeLong(seed);
+        out.writeInt(hashFunctionCount);
+        out.writeLongArray(bits);
+    }
+
+    /**
+     * Read a filter from a stream.
+     *
+     * @param in       the stream to read from
+     * @param maxWords the maximum number of 64 bit words the filter may have
+     * @return the filter
+     * @throws IOException if a stream exception occurs or the filter is malformed
+     */
+    @NonNull
+    public static EventHashBloomFilter deserialize(@NonNull final SerializableDataInputStream in, final int maxWords)
+            throws IOException {
+        final long seed = in.readLong();
+        final int hashFunctionCount = in.readInt();
+        if (hashFunctionCount < 1 || hashFunctionCount > MAX_HASH_FUNCTIONS) {
+            throw new IOException("invalid bloom filter hash function count: " + hashFunctionCount);
+        }
+        final long[] bits = in.readLongArray(maxWords);
+        if (bits == null || bits.length == 0) {
+            throw new IOException("bloom filter has no bits");
+        }
+        return new EventHashBloomFilter(seed, hashFunctionCount, bits);
+    }
+}
@@ -7,8 +7,10 @@ import static com.swirlds.platform.gossip.shadowgraph.SyncUtils.getMyTipsTheyKno
 import static com.swirlds.platform.gossip.shadowgraph.SyncUtils.getTheirTipsIHave;
 import static com.swirlds.platform.gossip.shadowgraph.SyncUtils.readEventsINeed;
 import static com.swirlds.platform.gossip.shadowgraph.SyncUtils.readMyTipsTheyHave;
+import static com.swirlds.platform.gossip.shadowgraph.SyncUtils.readTheirEventSummary;
 import static com.swirlds.platform.gossip.shadowgraph.SyncUtils.readTheirTipsAndEventWindow;
 import static com.swirlds.platform.gossip.shadowgraph.SyncUtils.sendEventsTheyNeed;
+import static com.swirlds.platform.gossip.shadowgraph.SyncUtils.writeMyEventSummary;
 import static com.swirlds.platform.gossip.shadowgraph.SyncUtils.writeMyTipsAndEventWindow;
 import static com.swirlds.platform.gossip.shadowgraph.SyncUtils.writeTheirTipsIHave;
 
@@ -34,12 +36,14 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.hiero.base.crypto.Hash;
 import org.hiero.consensus.gossip.FallenBehindManager;
 import org.hiero.consensus.model.event.PlatformEvent;
 import org.hiero.consensus.model.hashgraph.EventWindow;
@@ -113,6 +117,32 @@ public class ShadowgraphSynchronizer {
      */
     private final int maximumEventsPerSync;
 
+    /**
+     * The maximum size of a single serialized event received from a peer, in bytes.
+     */
+    private final int maximumEventSize;
+
+    /**
+     * If true then peers exchange a bloom filter of their non-ancient events along with their tips, instead of
+     * exchanging tip booleans in a second round trip.
+     */
+    private final boolean exchangeEventSummaries;
+
+    /**
+     * The number of filter bits per event used when building an event summary.
+     */
+    private final int eventSummaryBitsPerEvent;
+
+    /**
+     * The number of bits set in the event summary filter for each event.
+     */
+    private final int eventSummaryHashCount;
+
+    /**
+     * The maximum size of an event summary filter, in bytes.
+     */
+    private final int maxEventSummaryBytes;
+
     /**
      * Constructs a new ShadowgraphSynchronizer.
      *
@@ -151,6 +181,11 @@ public class ShadowgraphSynchronizer {
 
         this.filterLikelyDuplicates = syncConfig.filterLikelyDuplicates();
         this.maximumEventsPerSync = syncConfig.maxSyncEventCount();
+        this.maximumEventSize = syncConfig.maxSerializedEventSize();
+        this.exchangeEventSummaries = syncConfig.exchangeEventSummaries();
+        this.eventSummaryBitsPerEvent = syncConfig.eventSummaryBitsPerEvent();
+        this.eventSummaryHashCount = syncConfig.eventSummaryHashCount();
+        this.maxEventSummaryBytes = syncConfig.maxEventSummaryBytes();
     }
 
     /**
@@ -164,7 +199,9 @@ public class ShadowgraphSynchronizer {
             throws IOException, ParallelExecutionException, SyncException, InterruptedException {
         logger.info(SYNC_INFO.getMarker(), "{} sync start", connection.getDescription());
         try {
-            return reserveSynchronize(platformContext, connection);
+            return exchangeEventSummaries
+                    ? reserveSynchronizeWithSummaries(platformContext, connection)
+                    : reserveSynchronize(platformContext, connection);
         } finally {
             logger.info(SYNC_INFO.getMarker(), "{} sync end", connection.getDescription());
         }
@@ -237,7 +274,76 @@ public class ShadowgraphSynchronizer {
 
             // create a send list based on the known set
             sendList = createSendList(
-                    connection.getSelfId(), eventsTheyHave, myWindow, theirTipsAndEventWindow.eventWindow());
+                    connection.getSelfId(),
+                    eventsTheyHave,
+                    myWindow,
+                    theirTipsAndEventWindow.eventWindow(),
+                    event -> true);
+        }
+
+        final SyncConfig syncConfig = platformContext.getConfiguration().getConfigData(SyncConfig.class);
+
+        return sendAndReceiveEvents(
+                connection, timing, sendList, syncConfig.syncKeepalivePeriod(), syncConfig.maxSyncTime());
+    }
+
+    /**
+     * Executes a sync using the supplied connection, exchanging event summaries. Each peer sends its tips, its event
+     * window and a bloom filter of all of its non-ancient events in a single message, after which events are exchanged.
+     * This saves the round trip used to exchange tip booleans, and events that the peer already has but cannot be
+     * inferred from its tips are not sent.
+     *
+     * @param platformContext the platform context
+     * @param connection      the connection to use
+     * @return true if the sync was successful, false if it was aborted
+     */
+    private boolean reserveSynchronizeWithSummaries(
+            @NonNull final PlatformContext platformContext, @NonNull final Connection connection)
+            throws IOException, ParallelExecutionException, SyncException, InterruptedException {
+
+        final SyncTiming timing = new SyncTiming();
+        final List<PlatformEvent> sendList;
+        try (final ReservedEventWindow reservation = shadowGraph.reserve()) {
+            connection.initForSync();
+
+            timing.start();
+
+            // Step 1: each peer tells the other about its tips, event window and all non-ancient events it has
+
+            final EventWindow myWindow = reservation.getEventWindow();
+
+            final List<ShadowEvent> myTips = getTips();
+            final EventHashBloomFilter myEventFilter = buildEventFilter(myTips, myWindow);
+            final TheirEventSummary theirSummary = readWriteParallel(
+                    readTheirEventSummary(connection, numberOfNodes, maxEventSummaryBytes),
+                    writeMyEventSummary(connection, myWindow, myTips, myEventFilter),
+                    connection);
+            timing.setTimePoint(1);
+
+            syncMetrics.eventWindow(myWindow, theirSummary.eventWindow());
+
+            if (fallenBehind(myWindow, theirSummary.eventWindow(), connection)) {
+                // aborting the sync since someone has fallen behind
+                return false;
+            }
+
+            // their tips that we have, along with all of their ancestors, are definitely known to the peer
+            final Set<ShadowEvent> eventsTheyHave = new HashSet<>();
+            shadowGraph.shadows(theirSummary.tips()).stream()
+                    .filter(Objects::nonNull)
+                    .forEach(eventsTheyHave::add);
+
+            // there is no second round trip when exchanging summaries
+            timing.setTimePoint(2);
+            timing.setTimePoint(3);
+
+            final EventHashBloomFilter theirEventFilter = theirSummary.eventFilter();
+            sendList = createSendList(
+                    connection.getSelfId(),
+                    eventsTheyHave,
+                    myWindow,
+                    theirSummary.eventWindow(),
+                    event -> !theirEventFilter.mightContain(event.getEventBaseHash()));
         }
 
         final SyncConfig syncConfig = platformContext.getConfiguration().getConfigData(SyncConfig.class);
@@ -246,6 +352,36 @@ public class ShadowgraphSynchronizer {
                 connection, timing, sendList, syncConfig.syncKeepalivePeriod(), syncConfig.maxSyncTime());
     }
 
+    /**
+     * Build a bloom filter containing the hashes of all non-ancient events in the shadowgraph.
+     *
+     * @param myTips   the current tips
+     * @param myWindow the current event window
+     * @return the filter
+     */
+    @NonNull
+    private EventHashBloomFilter buildEventFilter(
+            @NonNull final List<ShadowEvent> myTips, @NonNull final EventWindow myWindow) {
+        final long ancientThreshold = myWindow.ancientThreshold();
+        final Predicate<ShadowEvent> nonAncient = event -> event.getEvent().getBirthRound() >= ancientThreshold;
+
+        final Set<ShadowEvent> myEvents = shadowGraph.findAncestors(myTips, nonAncient);
+        myTips.stream().filter(nonAncient).forEach(myEvents::add);
+
+        final List<Hash> hashes = new ArrayList<>(myEvents.size());
+        for (final ShadowEvent event : myEvents) {
+            hashes.add(event.getEventBaseHash());
+        }
+
+        // if there are too many events for the configured density, trade a higher false positive rate for size
+        final long maxBits = (long) maxEventSummaryBytes * Byte.SIZE;
+        final int bitsPerEvent =
+                (int) Math.max(1, Math.min(eventSummaryBitsPerEvent, maxBits / Math.max(1, hashes.size())));
+
+        return EventHashBloomFilter.of(
+                hashes, bitsPerEvent, eventSummaryHashCount, ThreadLocalRandom.current().nextLong());
+    }
+
     @NonNull
     private List<ShadowEvent> getTips() {
         final List<ShadowEvent> myTips = shadowGraph.getTips();
@@ -290,6 +426,8 @@ public class ShadowgraphSynchronizer {
      *                         added to during this method)
      * @param myEventWindow    the event window of this node
      * @param theirEventWindow the event window of the peer
+     * @param mayBeMissing     returns false for events that the peer is believed to have even though they are not
+     *                         ancestors of the known set
      * @return a list of events to send to the peer
      */
     @NonNull
@@ -297,12 +435,14 @@ public class ShadowgraphSynchronizer {
             @NonNull final NodeId selfId,
             @NonNull final Set<ShadowEvent> knownSet,
             @NonNull final EventWindow myEventWindow,
-            @NonNull final EventWindow theirEventWindow) {
+            @NonNull final EventWindow theirEventWindow,
+            @NonNull final Predicate<ShadowEvent> mayBeMissing) {
 
         Objects.requireNonNull(selfId);
         Objects.requireNonNull(knownSet);
         Objects.requireNonNull(myEventWindow);
         Objects.requireNonNull(theirEventWindow);
+        Objects.requireNonNull(mayBeMissing);
 
         // add to knownSet all the ancestors of each known event
         final Set<ShadowEvent> knownAncestors = shadowGraph.findAncestors(
@@ -315,8 +455,9 @@ public class ShadowgraphSynchronizer {
         syncMetrics.knownSetSize(knownAncestors.size());
 
         // predicate used to search for events to send
-        final Predicate<ShadowEvent> knownAncestorsPredicate =
-                SyncUtils.unknownNonAncient(knownAncestors, myEventWindow, theirEventWindow);
+        final Predicate<ShadowEvent> knownAncestorsPredicate = SyncUtils.unknownNonAncient(
+                        knownAncestors, myEventWindow, theirEventWindow)
+                .and(mayBeMissing);
 
         // in order to get the peer the latest events, we get a new set of tips to search from
         final List<ShadowEvent> myNewTips = shadowGraph.getTips();
@@ -387,7 +528,8 @@ public class ShadowgraphSynchronizer {
                         syncMetrics,
                         eventReadingDone,
                         intakeEventCounter,
-                        maxSyncTime),
+                        maxSyncTime,
+                        maximumEventSize),
                 sendEventsTheyNeed(connection, sendList, eventReadingDone, writeAborted, syncKeepAlivePeriod),
                 connection);
         if (eventsRead < 0 || writeAborted.get()) {
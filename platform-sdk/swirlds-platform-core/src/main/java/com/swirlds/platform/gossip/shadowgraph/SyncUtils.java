@@ -5,6 +5,8 @@ import static com.swirlds.logging.legacy.LogMarker.SYNC_INFO;
 import static org.hiero.base.CompareTo.isGreaterThan;
 
 import com.hedera.hapi.platform.event.GossipEvent;
+import com.hedera.pbj.runtime.ParseException;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.platform.gossip.IntakeEventCounter;
 import com.swirlds.platform.gossip.SyncException;
 import com.swirlds.platform.metrics.SyncMetrics;
@@ -123,6 +125,74 @@ public final class SyncUtils {
         };
     }
 
+    /**
+     * Send the tips, event window and a filter of all non-ancient events I have to the peer. When syncing with event
+     * summaries, this is the only data exchanged before events are sent. The complementary function to
+     * {@link #readTheirEventSummary(Connection, int, int)}.
+     *
+     * @param connection  the connection to write to
+     * @param eventWindow the event window to write
+     * @param tips        the tips to write
+     * @param eventFilter a filter containing the hashes of all non-ancient events I have
+     * @return a {@link Callable} that writes the summary
+     */
+    public static Callable<Void> writeMyEventSummary(
+            @NonNull final Connection connection,
+            @NonNull final EventWindow eventWindow,
+            @NonNull final List<ShadowEvent> tips,
+            @NonNull final EventHashBloomFilter eventFilter) {
+        return () -> {
+            final List<Hash> tipHashes =
+                    tips.stream().map(ShadowEvent::getEventBaseHash).collect(Collectors.toList());
+
+            serializeEventWindow(connection.getDos(), eventWindow);
+            connection.getDos().writeTipHashes(tipHashes);
+            eventFilter.serialize(connection.getDos());
+            connection.getDos().flush();
+            if (logger.isDebugEnabled(SYNC_INFO.getMarker())) {
+                logger.debug(
+                        SYNC_INFO.getMarker(),
+                        "{} sent event window: {}, tips: {}, event filter bits: {}",
+                        connection::getDescription,
+                        eventWindow::toString,
+                        () -> SyncLogging.toShortShadows(tips),
+                        eventFilter::getBitCount);
+            }
+            return null;
+        };
+    }
+
+    /**
+     * Read the tips, event window and event filter from the peer. The complementary function to
+     * {@link #writeMyEventSummary(Connection, EventWindow, List, EventHashBloomFilter)}.
+     *
+     * @param connection     the connection to read from
+     * @param numberOfNodes  the number of nodes in the network
+     * @param maxFilterBytes the maximum size of the event filter the peer may send
+     * @return a {@link Callable} that reads the summary
+     */
+    public static Callable<TheirEventSummary> readTheirEventSummary(
+            @NonNull final Connection connection, final int numberOfNodes, final int maxFilterBytes) {
+        return () -> {
+            final EventWindow eventWindow = deserializeEventWindow(connection.getDis());
+            final List<Hash> tips = connection.getDis().readTipHashes(numberOfNodes);
+            final EventHashBloomFilter eventFilter =
+                    EventHashBloomFilter.deserialize(connection.getDis(), maxFilterBytes / Long.BYTES);
+
+            if (logger.isDebugEnabled(SYNC_INFO.getMarker())) {
+                logger.debug(
+                        SYNC_INFO.getMarker(),
+                        "{} received event window: {}, tips: {}, event filter bits: {}",
+                        connection::getDescription,
+                        eventWindow::toString,
+                        () -> SyncLogging.toShortHashes(tips),
+                        eventFilter::getBitCount);
+            }
+
+            return new TheirEventSummary(eventWindow, tips, eventFilter);
+        };
+    }
+
     /**
      * Tell the sync peer which of their tips I have. The complementary function to
      * {@link #readMyTipsTheyHave(Connection, int)}.
@@ -174,7 +244,8 @@ public final class SyncUtils {
 
     /**
      * Send the events the peer needs. The complementary function to
-     * {@link #readEventsINeed(Connection, Consumer, int, SyncMetrics, CountDownLatch, IntakeEventCounter, Duration)}.
+     * {@link #readEventsINeed(Connection, Consumer, int, SyncMetrics, CountDownLatch, IntakeEventCounter, Duration,
+     * int)}.
      *
      * @param connection          the connection to write to
      * @param events              the events to write
@@ -200,7 +271,7 @@ public final class SyncUtils {
             }
             for (final PlatformEvent event : events) {
                 connection.getDos().writeByte(ByteConstants.COMM_EVENT_NEXT);
-                connection.getDos().writePbjRecord(event.getGossipEvent(), GossipEvent.PROTOBUF);
+                writeEvent(connection.getDos(), event);
             }
             if (writeAborted.get()) {
                 logger.info(SYNC_INFO.getMarker(), "{} writing events aborted", connection.getDescription());
@@ -249,6 +320,7 @@ public final class SyncUtils {
      * @param intakeEventCounter keeps track of the number of events in the intake pipeline from each peer
      * @param maxSyncTime        the maximum amount of time to spend syncing with a peer, syncs that take longer than
      *                           this will be aborted
+     * @param maxEventSize       the maximum size of a serialized event, in bytes
      * @return A {@link Callable} that executes this part of the sync
      */
     public static Callable<Integer> readEventsINeed(
@@ -258,7 +330,8 @@ public final class SyncUtils {
             final SyncMetrics syncMetrics,
             final CountDownLatch eventReadingDone,
             @NonNull final IntakeEventCounter intakeEventCounter,
-            @NonNull final Duration maxSyncTime) {
+            @NonNull final Duration maxSyncTime,
+            final int maxEventSize) {
 
         return () -> {
             if (logger.isDebugEnabled(SYNC_INFO.getMarker())) {
@@ -282,8 +355,7 @@ public final class SyncUtils {
                                     throw new IOException("max event count " + maxEventCount + " exceeded");
                                 }
                             }
-                            final GossipEvent gossipEvent = connection.getDis().readPbjRecord(GossipEvent.PROTOBUF);
-                            final PlatformEvent platformEvent = new PlatformEvent(gossipEvent);
+                            final PlatformEvent platformEvent = readEvent(connection.getDis(), maxEventSize);
 
                             platformEvent.setSenderId(connection.getOtherId());
                             intakeEventCounter.eventEnteredIntakePipeline(connection.getOtherId());
@@ -600,4 +672,48 @@ public final class SyncUtils {
                 ancientThreshold,
                 expiredThreshold);
     }
+
+    /**
+     * Write an event to the stream. If the event retained the bytes it was received as, they are written as is,
+     * otherwise the event is serialized.
+     *
+     * @param out   the stream to write to
+     * @param event the event to write
+     * @throws IOException if a stream exception occurs
+     */
+    public static void writeEvent(@NonNull final SerializableDataOutputStream out, @NonNull final PlatformEvent event)
+            throws IOException {
+        final Bytes serializedEvent = event.getSerializedGossipEvent();
+        if (serializedEvent != null) {
+            out.writePbjRecordBytes(serializedEvent);
+        } else {
+            out.writePbjRecord(event.getGossipEvent(), GossipEvent.PROTOBUF);
+        }
+    }
+
+    /**
+     * Read an event from the stream. The event is serialized again after it is parsed, and the received bytes are
+     * retained by the returned event only if they are identical to that canonical serialization, so that a peer can't
+     * make us store or forward an event with unknown fields or non-canonical encodings. Otherwise, the canonical
+     * serialization is retained instead. The retained bytes are reused when the event is written to the PCES or sent
+     * to other peers.
+     *
+     * @param in           the stream to read from
+     * @param maxEventSize the maximum size of a serialized event, in bytes
+     * @return the event that was read
+     * @throws IOException if a stream exception occurs, the event is too large, or the event cannot be parsed
+     */
+    @NonNull
+    public static PlatformEvent readEvent(@NonNull final SerializableDataInputStream in, final int maxEventSize)
+            throws IOException {
+        final Bytes serializedEvent = in.readPbjRecordBytes(maxEventSize);
+        final GossipEvent gossipEvent;
+        try {
+            gossipEvent = GossipEvent.PROTOBUF.parse(serializedEvent.toReadableSequentialData());
+        } catch (final ParseException e) {
+            throw new IOException("Failed to parse event received from peer", e);
+        }
+        final Bytes canonicalEvent = GossipEvent.PROTOBUF.toBytes(gossipEvent);
+        return new PlatformEvent(gossipEvent, canonicalEvent.equals(serializedEvent) ? serializedEvent : canonicalEvent);
+    }
 }
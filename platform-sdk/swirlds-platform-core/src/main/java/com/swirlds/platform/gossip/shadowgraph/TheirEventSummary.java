@@ -0,0 +1,18 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.gossip.shadowgraph;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
+import org.hiero.base.crypto.Hash;
+import org.hiero.consensus.model.hashgraph.EventWindow;
+
+/**
+ * The tips, event window and event hash filter of the sync peer. This is the first and only thing sent/received before
+ * events are exchanged when syncing with event summaries.
+ *
+ * @param eventWindow the peer's event window
+ * @param tips        the peer's tips
+ * @param eventFilter a filter containing the hashes of all non-ancient events the peer has
+ */
+public record TheirEventSummary(
+        @NonNull EventWindow eventWindow, @NonNull List<Hash> tips, @NonNull EventHashBloomFilter eventFilter) {}
@@ -0,0 +1,132 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.gossip.sync;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An output stream that coalesces flushes. A call to {@link #flush()} does not flush the underlying stream right
+ * away, instead the underlying stream is flushed once the flush budget has elapsed. Any data written in the meantime
+ * is sent together with the data that was written before the flush, which results in fewer and larger network
+ * packets, and in better compression if the underlying stream compresses.
+ * <p>
+ * Data is never held back for longer than the flush budget, so a peer waiting for a response will always receive it.
+ * If the deferred flush fails, the exception is thrown by the next operation on this stream.
+ * <p>
+ * The deferred flushes are performed by a scheduler shared by all streams of a platform, which owns it and shuts it
+ * down. Each stream has at most one flush pending at a time. If the scheduler has been shut down, flushes are
+ * performed right away.
+ */
+final class CoalescingOutputStream extends FilterOutputStream {
+
+    private final long flushBudgetNanos;
+
+    /** Performs the deferred flushes */
+    private final ScheduledExecutorService flushScheduler;
+
+    /** True if a flush was requested but has not yet been performed */
+    private boolean flushPending;
+
+    /** The exception thrown by the last deferred flush, if it failed */
+    private IOException deferredFlushException;
+
+    private boolean closed;
+
+    /**
+     * Constructor
+     *
+     * @param out            the stream to write to
+     * @param flushBudget    the maximum amount of time a flush may be deferred, must be positive
+     * @param flushScheduler performs the deferred flushes
+     */
+    CoalescingOutputStream(
+            @NonNull final OutputStream out,
+            @NonNull final Duration flushBudget,
+            @NonNull final ScheduledExecutorService flushScheduler) {
+        super(Objects.requireNonNull(out));
+        if (flushBudget.isNegative() || flushBudget.isZero()) {
+            throw new IllegalArgumentException("flush budget must be positive");
+        }
+        this.flushBudgetNanos = flushBudget.toNanos();
+        this.flushScheduler = Objects.requireNonNull(flushScheduler);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void write(final int b) throws IOException {
+        throwDeferredFlushException();
+        out.write(b);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void write(@NonNull final byte[] b, final int off, final int len) throws IOException {
+        throwDeferredFlushException();
+        out.write(b, off, len);
+    }
+
+    /**
+     * Request a flush. The underlying stream will be flushed within the flush budget.
+     */
+    @Override
+    public synchronized void flush() throws IOException {
+        throwDeferredFlushException();
+        if (!flushPending && !closed) {
+            try {
+                flushScheduler.schedule(this::deferredFlush, flushBudgetNanos, TimeUnit.NANOSECONDS);
+                flushPending = true;
+            } catch (final RejectedExecutionException e) {
+                // the scheduler has been shut down
+                out.flush();
+            }
+        }
+    }
+
+    /**
+     * Flush the underlying stream, called by the flush scheduler.
+     */
+    private synchronized void deferredFlush() {
+        if (!flushPending || closed) {
+            return;
+        }
+        flushPending = false;
+        try {
+            out.flush();
+        } catch (final IOException e) {
+            deferredFlushException = e;
+        }
+    }
+
+    /**
+     * Throw the exception of a failed deferred flush, if there was one.
+     */
+    private void throwDeferredFlushException() throws IOException {
+        if (deferredFlushException != null) {
+            throw new IOException("deferred flush failed", deferredFlushException);
+        }
+    }
+
+    /**
+     * Flush any pending data and close the underlying stream.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        flushPending = false;
+        out.close();
+    }
+}
@@ -30,13 +30,29 @@ public class SyncInputStream extends SerializableDataInputStream {
 
     public static SyncInputStream createSyncInputStream(
             @NonNull final PlatformContext platformContext, @NonNull final InputStream in, final int bufferSize) {
-
-        final CountingStreamExtension syncCounter = new CountingStreamExtension();
-
         final boolean compress = platformContext
                 .getConfiguration()
                 .getConfigData(SocketConfig.class)
                 .gzipCompression();
+        return createSyncInputStream(platformContext, in, bufferSize, compress);
+    }
+
+    /**
+     * Create a stream for reading from a connection.
+     *
+     * @param platformContext the platform context
+     * @param in              the stream to read from, normally the input stream of a socket
+     * @param bufferSize      the size of the read buffer
+     * @param compress        whether the data read is compressed
+     * @return the stream
+     */
+    public static SyncInputStream createSyncInputStream(
+            @NonNull final PlatformContext platformContext,
+            @NonNull final InputStream in,
+            final int bufferSize,
+            final boolean compress) {
+
+        final CountingStreamExtension syncCounter = new CountingStreamExtension();
 
         final InputStream meteredStream = extendInputStream(in, syncCounter);
 
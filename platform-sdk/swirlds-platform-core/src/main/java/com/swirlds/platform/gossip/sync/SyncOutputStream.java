@@ -7,11 +7,13 @@ import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.io.extendable.extensions.CountingStreamExtension;
 import com.swirlds.platform.network.SocketConfig;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.zip.Deflater;
 import java.util.zip.DeflaterOutputStream;
@@ -21,38 +23,97 @@ import org.hiero.base.io.streams.SerializableDataOutputStream;
 public class SyncOutputStream extends SerializableDataOutputStream {
     private final CountingStreamExtension syncByteCounter;
     private final CountingStreamExtension connectionByteCounter;
+    private final CountingStreamExtension uncompressedByteCounter;
     private final AtomicReference<Instant> requestSent;
 
     protected SyncOutputStream(
             OutputStream out, CountingStreamExtension syncByteCounter, CountingStreamExtension connectionByteCounter) {
+        this(out, syncByteCounter, connectionByteCounter, new CountingStreamExtension());
+    }
+
+    protected SyncOutputStream(
+            OutputStream out,
+            CountingStreamExtension syncByteCounter,
+            CountingStreamExtension connectionByteCounter,
+            CountingStreamExtension uncompressedByteCounter) {
         super(out);
         this.syncByteCounter = syncByteCounter;
         this.connectionByteCounter = connectionByteCounter;
+        this.uncompressedByteCounter = uncompressedByteCounter;
         this.requestSent = new AtomicReference<>(null);
     }
 
     public static SyncOutputStream createSyncOutputStream(
             @NonNull final PlatformContext platformContext, @NonNull final OutputStream out, final int bufferSize) {
-        CountingStreamExtension syncByteCounter = new CountingStreamExtension();
-        CountingStreamExtension connectionByteCounter = new CountingStreamExtension();
-
         final boolean compress = platformContext
                 .getConfiguration()
                 .getConfigData(SocketConfig.class)
                 .gzipCompression();
+        return createSyncOutputStream(platformContext, out, bufferSize, compress);
+    }
+
+    /**
+     * Create a stream for writing to a connection.
+     *
+     * @param platformContext the platform context
+     * @param out             the stream to write to, normally the output stream of a socket
+     * @param bufferSize      the size of the write buffer
+     * @param compress        whether data should be compressed, this must match the setting used by the peer to read
+     *                        the data, see {@link SyncInputStream#createSyncInputStream(PlatformContext, InputStream,
+     *                        int, boolean)}
+     * @return the stream
+     */
+    public static SyncOutputStream createSyncOutputStream(
+            @NonNull final PlatformContext platformContext,
+            @NonNull final OutputStream out,
+            final int bufferSize,
+            final boolean compress) {
+        return createSyncOutputStream(platformContext, out, bufferSize, compress, null);
+    }
+
+    /**
+     * Create a stream for writing to a connection.
+     *
+     * @param platformContext the platform context
+     * @param out             the stream to write to, normally the output stream of a socket
+     * @param bufferSize      the size of the write buffer
+     * @param compress        whether data should be compressed, this must match the setting used by the peer to read
+     *                        the data, see {@link SyncInputStream#createSyncInputStream(PlatformContext, InputStream,
+     *                        int, boolean)}
+     * @param flushScheduler  performs deferred flushes if {@link SocketConfig#flushBudget()} is positive, or null if
+     *                        flushes should never be deferred
+     * @return the stream
+     */
+    public static SyncOutputStream createSyncOutputStream(
+            @NonNull final PlatformContext platformContext,
+            @NonNull final OutputStream out,
+            final int bufferSize,
+            final boolean compress,
+            @Nullable final ScheduledExecutorService flushScheduler) {
+        CountingStreamExtension syncByteCounter = new CountingStreamExtension();
+        CountingStreamExtension connectionByteCounter = new CountingStreamExtension();
+        CountingStreamExtension uncompressedByteCounter = new CountingStreamExtension();
+
+        final SocketConfig socketConfig = platformContext.getConfiguration().getConfigData(SocketConfig.class);
 
         final OutputStream meteredStream = extendOutputStream(out, connectionByteCounter);
 
         final OutputStream wrappedStream;
         if (compress) {
             wrappedStream = new DeflaterOutputStream(
-                    meteredStream, new Deflater(Deflater.DEFAULT_COMPRESSION, true), bufferSize, true);
+                    meteredStream, new Deflater(socketConfig.compressionLevel(), true), bufferSize, true);
         } else {
             wrappedStream = new BufferedOutputStream(meteredStream, bufferSize);
         }
 
+        // count the bytes before they are compressed, so that the compression ratio can be measured
+        OutputStream countedStream = extendOutputStream(wrappedStream, uncompressedByteCounter);
+        if (flushScheduler != null && socketConfig.flushBudget().isPositive()) {
+            countedStream = new CoalescingOutputStream(countedStream, socketConfig.flushBudget(), flushScheduler);
+        }
+
         // we write the data to the buffer first, for efficiency
-        return new SyncOutputStream(wrappedStream, syncByteCounter, connectionByteCounter);
+        return new SyncOutputStream(countedStream, syncByteCounter, connectionByteCounter, uncompressedByteCounter);
     }
 
     public CountingStreamExtension getSyncByteCounter() {
@@ -63,6 +124,14 @@ public class SyncOutputStream extends SerializableDataOutputStream {
         return connectionByteCounter;
     }
 
+    /**
+     * @return counts the bytes written to this stream before they are compressed. If the stream is not compressed,
+     *     this is the same as {@link #getConnectionByteCounter()}.
+     */
+    public CountingStreamExtension getUncompressedByteCounter() {
+        return uncompressedByteCounter;
+    }
+
     /**
      * Write to the {@link SyncOutputStream} the hashes of the tip events from this node's shadow graph
      *
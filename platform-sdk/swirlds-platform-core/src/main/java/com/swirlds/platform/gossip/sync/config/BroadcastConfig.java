@@ -0,0 +1,26 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.gossip.sync.config;
+
+import com.swirlds.config.api.ConfigData;
+import com.swirlds.config.api.ConfigProperty;
+import com.swirlds.config.api.validation.annotation.Min;
+
+/**
+ * Configuration of the broadcast gossip protocol, which pushes new events to all peers as soon as they are known,
+ * while sync remains responsible for catching up on anything that was missed.
+ *
+ * @param enabled               if true, the broadcast protocol is run alongside sync. This adds a new protocol to the
+ *                              protocol negotiation, so it must be set to the same value on all nodes in the network.
+ * @param forwardReceivedEvents if true, events received from a peer are also broadcast to all other peers. If false,
+ *                              only self events are broadcast.
+ * @param queueCapacity         the maximum number of events waiting to be broadcast to a single peer. Events that do
+ *                              not fit in the queue are not broadcast, the peer will receive them through sync.
+ * @param maxEventsPerBroadcast the maximum number of events sent to a peer in a single run of the protocol, also the
+ *                              maximum number of events accepted from a peer in a single run
+ */
+@ConfigData("broadcast")
+public record BroadcastConfig(
+        @ConfigProperty(defaultValue = "false") boolean enabled,
+        @ConfigProperty(defaultValue = "false") boolean forwardReceivedEvents,
+        @Min(1) @ConfigProperty(defaultValue = "1024") int queueCapacity,
+        @Min(1) @ConfigProperty(defaultValue = "256") int maxEventsPerBroadcast) {}
@@ -35,6 +35,19 @@ import java.time.Duration;
  * @param minimumHealthyUnrevokedPermitCount the minimum number of permits that must be unrevoked when the system is in
  *                                           a healthy state. If non-zero, this means that this number of permits is
  *                                           immediately returned as soon as the system becomes healthy.
+ * @param exchangeEventSummaries             if true, then instead of exchanging tip booleans in a second round trip,
+ *                                           each peer sends a bloom filter of all of its non-ancient event hashes
+ *                                           together with its tips and event window, and events that the peer
+ *                                           probably has are not sent. This changes the sync wire format, so it must
+ *                                           be set to the same value on all nodes in the network.
+ * @param eventSummaryBitsPerEvent           the number of filter bits per event used when building an event summary,
+ *                                           higher values lower the rate at which needed events are withheld
+ * @param eventSummaryHashCount              the number of bits set in the event summary filter for each event
+ * @param maxEventSummaryBytes               the maximum size of an event summary filter, both sent and received. If
+ *                                           the filter would be larger than this, fewer bits per event are used.
+ * @param maxSerializedEventSize             the maximum size, in bytes, of a single serialized event received from a
+ *                                           peer, during a sync or a broadcast. Larger events are rejected before
+ *                                           they are read.
  */
 @ConfigData("sync")
 public record SyncConfig(
@@ -51,4 +64,9 @@ public record SyncConfig(
         @ConfigProperty(defaultValue = "1s") Duration unhealthyGracePeriod,
         @ConfigProperty(defaultValue = "5") double permitsRevokedPerSecond,
         @ConfigProperty(defaultValue = "0.1") double permitsReturnedPerSecond,
-        @ConfigProperty(defaultValue = "1") int minimumHealthyUnrevokedPermitCount) {}
+        @ConfigProperty(defaultValue = "1") int minimumHealthyUnrevokedPermitCount,
+        @ConfigProperty(defaultValue = "false") boolean exchangeEventSummaries,
+        @ConfigProperty(defaultValue = "10") int eventSummaryBitsPerEvent,
+        @ConfigProperty(defaultValue = "7") int eventSummaryHashCount,
+        @ConfigProperty(defaultValue = "1048576") int maxEventSummaryBytes,
+        @ConfigProperty(defaultValue = "16777216") int maxSerializedEventSize) {}
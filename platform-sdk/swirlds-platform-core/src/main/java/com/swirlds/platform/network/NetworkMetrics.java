@@ -34,6 +34,16 @@ public class NetworkMetrics {
                     Metrics.INTERNAL_CATEGORY, "bytes_per_sec_sent")
             .withDescription("number of bytes sent per second over the network (total for this member)")
             .withFormat(FloatFormats.FORMAT_16_2);
+    private static final SpeedometerMetric.Config UNCOMPRESSED_BYTES_PER_SECOND_SENT_CONFIG =
+            new SpeedometerMetric.Config(Metrics.INTERNAL_CATEGORY, "uncompressed_bytes_per_sec_sent")
+                    .withDescription("number of bytes per second sent over the network before compression (total for "
+                            + "this member)")
+                    .withFormat(FloatFormats.FORMAT_16_2);
+    private static final RunningAverageMetric.Config COMPRESSION_RATIO_CONFIG = new RunningAverageMetric.Config(
+                    Metrics.INTERNAL_CATEGORY, "compression_ratio_sent")
+            .withDescription("ratio of bytes sent over the network to the bytes before compression, 1 if no data is "
+                    + "compressed")
+            .withFormat(FloatFormats.FORMAT_5_3);
     private static final RunningAverageMetric.Config AVG_CONNS_CREATED_CONFIG = new RunningAverageMetric.Config(
                     Metrics.PLATFORM_CATEGORY, "conns")
             .withDescription("number of times a TLS connections was created")
@@ -69,6 +79,14 @@ public class NetworkMetrics {
      * the total bytes per second to all nodes
      */
     private final SpeedometerMetric bytesPerSecondSent;
+    /**
+     * the total bytes per second to all nodes, before compression
+     */
+    private final SpeedometerMetric uncompressedBytesPerSecondSent;
+    /**
+     * the ratio of bytes sent to bytes before compression
+     */
+    private final RunningAverageMetric compressionRatio;
     /**
      * the average number of connections created per second
      */
@@ -93,6 +111,8 @@ public class NetworkMetrics {
 
         avgPing = metrics.getOrCreate(AVG_PING_CONFIG);
         bytesPerSecondSent = metrics.getOrCreate(BYTES_PER_SECOND_SENT_CONFIG);
+        uncompressedBytesPerSecondSent = metrics.getOrCreate(UNCOMPRESSED_BYTES_PER_SECOND_SENT_CONFIG);
+        compressionRatio = metrics.getOrCreate(COMPRESSION_RATIO_CONFIG);
         avgConnsCreated = metrics.getOrCreate(AVG_CONNS_CREATED_CONFIG);
     }
 
@@ -154,11 +174,13 @@ public class NetworkMetrics {
         }
 
         long totalBytesSent = 0;
+        long totalUncompressedBytesSent = 0;
         for (final Iterator<Connection> iterator = connections.iterator(); iterator.hasNext(); ) {
             final Connection conn = iterator.next();
             if (conn != null) {
                 final long bytesSent = conn.getDos().getConnectionByteCounter().getAndResetCount();
                 totalBytesSent += bytesSent;
+                totalUncompressedBytesSent += conn.getDos().getUncompressedByteCounter().getAndResetCount();
                 final NodeId otherId = conn.getOtherId();
 
                 avgBytePerSecSent
@@ -177,6 +199,10 @@ public class NetworkMetrics {
             }
         }
         bytesPerSecondSent.update(totalBytesSent);
+        uncompressedBytesPerSecondSent.update(totalUncompressedBytesSent);
+        if (totalUncompressedBytesSent > 0) {
+            compressionRatio.update((double) totalBytesSent / totalUncompressedBytesSent);
+        }
         avgConnsCreated.update(connsCreated.sum());
     }
 
@@ -13,6 +13,7 @@ import com.swirlds.platform.network.connectivity.TlsFactory;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.Closeable;
 import java.io.IOException;
+import java.net.Socket;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.UnrecoverableKeyException;
@@ -118,6 +119,32 @@ public final class NetworkUtils {
                 + formatException(e.getCause());
     }
 
+    /**
+     * Decide whether a newly established connection should be compressed. If {@link SocketConfig#negotiateCompression()}
+     * is disabled then the connection is compressed if {@link SocketConfig#gzipCompression()} is enabled, which must
+     * then be the same on all nodes. Otherwise, both sides send a single byte announcing whether they want compression,
+     * and the connection is compressed only if both do. This must be called before any other data is written to or read
+     * from the socket.
+     *
+     * @param socket       the newly established socket
+     * @param socketConfig the socket configuration
+     * @return true if the connection should be compressed
+     * @throws IOException if the peer's announcement cannot be read
+     */
+    public static boolean negotiateCompression(@NonNull final Socket socket, @NonNull final SocketConfig socketConfig)
+            throws IOException {
+        if (!socketConfig.negotiateCompression()) {
+            return socketConfig.gzipCompression();
+        }
+        socket.getOutputStream().write(socketConfig.gzipCompression() ? 1 : 0);
+        socket.getOutputStream().flush();
+        final int peerWantsCompression = socket.getInputStream().read();
+        if (peerWantsCompression < 0) {
+            throw new IOException("connection closed during compression negotiation");
+        }
+        return socketConfig.gzipCompression() && peerWantsCompression == 1;
+    }
+
     /**
      * Create a TLS-based {@link SocketFactory} using the provided keys and certificates.
      * NOTE: This method is a stepping stone to decoupling the networking from the platform.
@@ -15,6 +15,7 @@ import com.swirlds.platform.gossip.sync.SyncOutputStream;
 import com.swirlds.platform.network.connection.NotConnectedConnection;
 import com.swirlds.platform.network.connectivity.SocketFactory;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.Socket;
@@ -23,6 +24,7 @@ import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
 import java.util.Collections;
 import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hiero.base.concurrent.locks.AutoClosableResourceLock;
@@ -47,6 +49,8 @@ public class OutboundConnectionManager implements ConnectionManager {
      * other peer
      */
     private final SocketFactory socketFactory;
+    /** performs deferred flushes of connections, or null if flushes are never deferred */
+    private final ScheduledExecutorService flushScheduler;
 
     private static final Logger logger = LogManager.getLogger(OutboundConnectionManager.class);
 
@@ -58,13 +62,15 @@ public class OutboundConnectionManager implements ConnectionManager {
      * @param platformContext   the platform context
      * @param connectionTracker connection tracker for all platform connections
      * @param ownKeysAndCerts   private keys and public certificates
+     * @param flushScheduler    performs deferred flushes of connections, or null if flushes are never deferred
      */
     public OutboundConnectionManager(
             @NonNull final NodeId selfId,
             @NonNull final PeerInfo otherPeer,
             @NonNull final PlatformContext platformContext,
             @NonNull final ConnectionTracker connectionTracker,
-            @NonNull final KeysAndCerts ownKeysAndCerts) {
+            @NonNull final KeysAndCerts ownKeysAndCerts,
+            @Nullable final ScheduledExecutorService flushScheduler) {
 
         this.platformContext = Objects.requireNonNull(platformContext);
         this.selfId = Objects.requireNonNull(selfId);
@@ -74,6 +80,7 @@ public class OutboundConnectionManager implements ConnectionManager {
         this.gossipConfig = platformContext.getConfiguration().getConfigData(GossipConfig.class);
         this.socketFactory = NetworkUtils.createSocketFactory(
                 selfId, Collections.singletonList(otherPeer), ownKeysAndCerts, platformContext.getConfiguration());
+        this.flushScheduler = flushScheduler;
     }
 
     /**
@@ -126,10 +133,15 @@ public class OutboundConnectionManager implements ConnectionManager {
             clientSocket = socketFactory.createClientSocket(
                     networkEndpoint.hostname().getHostAddress(), networkEndpoint.port());
 
+            final boolean compress = NetworkUtils.negotiateCompression(clientSocket, socketConfig);
             dos = SyncOutputStream.createSyncOutputStream(
-                    platformContext, clientSocket.getOutputStream(), socketConfig.bufferSize());
+                    platformContext,
+                    clientSocket.getOutputStream(),
+                    socketConfig.bufferSize(),
+                    compress,
+                    flushScheduler);
             dis = SyncInputStream.createSyncInputStream(
-                    platformContext, clientSocket.getInputStream(), socketConfig.bufferSize());
+                    platformContext, clientSocket.getInputStream(), socketConfig.bufferSize(), compress);
 
             logger.debug(NETWORK.getMarker(), "`connect` : finished, {} connected to {}", selfId, otherPeer.nodeId());
 
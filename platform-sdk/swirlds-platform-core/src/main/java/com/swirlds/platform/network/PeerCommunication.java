@@ -5,6 +5,7 @@ import com.google.common.collect.ImmutableList;
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.threading.framework.StoppableThread;
 import com.swirlds.common.threading.framework.TypedStoppableThread;
+import com.swirlds.common.threading.framework.config.ThreadConfiguration;
 import com.swirlds.common.threading.framework.config.StoppableThreadConfiguration;
 import com.swirlds.common.threading.manager.ThreadManager;
 import com.swirlds.platform.config.BasicConfig;
@@ -27,6 +28,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hiero.base.concurrent.interrupt.InterruptableRunnable;
@@ -56,6 +59,8 @@ public class PeerCommunication implements ConnectionTracker {
     private List<ProtocolRunnable> handshakeProtocols;
     private List<Protocol> protocolList;
     private PeerConnectionServer connectionServer;
+    /** performs deferred flushes of all connections, or null if flushes are never deferred */
+    private ScheduledExecutorService flushScheduler;
 
     private final Map<Object, DedicatedStoppableThread<NodeId>> dedicatedThreads = new HashMap<>();
     private final List<DedicatedStoppableThread<NodeId>> dedicatedThreadsToModify = new ArrayList<>();
@@ -103,9 +108,16 @@ public class PeerCommunication implements ConnectionTracker {
         this.threadManager = threadManager;
         this.handshakeProtocols = handshakeProtocols;
         this.protocolList = protocols;
+        this.flushScheduler = createFlushScheduler();
 
         this.connectionManagers = new DynamicConnectionManagers(
-                selfId, peers, platformContext, this, ownKeysAndCerts, topology, ConnectionManagerFactory.DEFAULT);
+                selfId,
+                peers,
+                platformContext,
+                this,
+                ownKeysAndCerts,
+                topology,
+                ConnectionManagerFactory.withFlushScheduler(flushScheduler));
 
         this.connectionServer = createConnectionServer();
 
@@ -122,6 +134,29 @@ public class PeerCommunication implements ConnectionTracker {
         registerDedicatedThreads(buildProtocolThreads(topology.getNeighbors()));
     }
 
+    /**
+     * Create the scheduler that performs deferred flushes of connections, if flushes are deferred. It has one thread
+     * for each peer, since each peer has one connection with at most one flush pending, so a flush blocked on a slow
+     * peer does not delay the flushes of other peers.
+     *
+     * @return the scheduler, or null if flushes are never deferred
+     */
+    @Nullable
+    private ScheduledExecutorService createFlushScheduler() {
+        final SocketConfig socketConfig = platformContext.getConfiguration().getConfigData(SocketConfig.class);
+        if (!socketConfig.flushBudget().isPositive()) {
+            return null;
+        }
+        return Executors.newScheduledThreadPool(
+                Math.max(1, peers.size()),
+                new ThreadConfiguration(threadManager)
+                        .setNodeId(selfId)
+                        .setComponent(PLATFORM_THREAD_POOL_NAME)
+                        .setThreadName("flushCoalescer")
+                        .setDaemon(true)
+                        .buildFactory());
+    }
+
     /**
      * @return network metrics to register data about communication traffic and latencies
      */
@@ -238,6 +273,10 @@ public class PeerCommunication implements ConnectionTracker {
             dst.thread().interrupt(); // aggresive interrupt to avoid hanging for a long time
             dst.thread().stop();
         }
+
+        if (flushScheduler != null) {
+            flushScheduler.shutdownNow();
+        }
     }
 
     private List<DedicatedStoppableThread<NodeId>> buildProtocolThreads(Collection<NodeId> peers) {
@@ -271,7 +310,13 @@ public class PeerCommunication implements ConnectionTracker {
 
     private PeerConnectionServer createConnectionServer() {
         var inboundConnectionHandler = new InboundConnectionHandler(
-                platformContext, this, peers, selfId, connectionManagers::newConnection, platformContext.getTime());
+                platformContext,
+                this,
+                peers,
+                selfId,
+                connectionManagers::newConnection,
+                platformContext.getTime(),
+                flushScheduler);
         // allow other members to create connections to me
         // Assume all ServiceEndpoints use the same port and use the port from the first endpoint.
         // Previously, this code used a "local port" corresponding to the internal endpoint,
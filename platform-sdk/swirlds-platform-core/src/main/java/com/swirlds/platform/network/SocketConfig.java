@@ -3,6 +3,9 @@ package com.swirlds.platform.network;
 
 import com.swirlds.config.api.ConfigData;
 import com.swirlds.config.api.ConfigProperty;
+import com.swirlds.config.api.validation.annotation.Max;
+import com.swirlds.config.api.validation.annotation.Min;
+import java.time.Duration;
 
 /**
  * Configuration for sockets
@@ -25,6 +28,15 @@ import com.swirlds.config.api.ConfigProperty;
  * @param maxSocketAcceptThreads     maximum amount of threads which will be spawned to handle incoming SSL socket
  *                                   accepts, needed because of length SSL handshake; at same time, we don't want it to
  *                                   be unlimited, to not run out of threads on some kind of DOS
+ * @param negotiateCompression       if true, then when a connection is established both sides announce whether they
+ *                                   want compression, and the connection is compressed only if both sides have
+ *                                   {@link #gzipCompression()} enabled. This allows compression to be enabled on some
+ *                                   nodes at a time. This adds a byte to the start of each connection, so it must be
+ *                                   set to the same value on all nodes in the network.
+ * @param compressionLevel           the deflate compression level to use for compressed connections, from 0 to 9, or
+ *                                   -1 for the default level
+ * @param flushBudget                the maximum amount of time a flush of a connection may be deferred so that it can
+ *                                   be coalesced with later writes, or zero to flush immediately
  */
 @ConfigData("socket")
 public record SocketConfig(
@@ -37,4 +49,7 @@ public record SocketConfig(
         @ConfigProperty(defaultValue = "true") boolean tcpNoDelay,
         @ConfigProperty(defaultValue = "false") boolean gzipCompression,
         @ConfigProperty(defaultValue = "10") int waitBetweenConnectionRetries,
-        @ConfigProperty(defaultValue = "30") int maxSocketAcceptThreads) {}
+        @ConfigProperty(defaultValue = "30") int maxSocketAcceptThreads,
+        @ConfigProperty(defaultValue = "false") boolean negotiateCompression,
+        @Min(-1) @Max(9) @ConfigProperty(defaultValue = "-1") int compressionLevel,
+        @ConfigProperty(defaultValue = "0ms") Duration flushBudget) {}
@@ -17,11 +17,13 @@ import com.swirlds.platform.network.PeerInfo;
 import com.swirlds.platform.network.SocketConfig;
 import com.swirlds.platform.network.SocketConnection;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.net.Socket;
 import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
 import javax.net.ssl.SSLSocket;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -43,6 +45,8 @@ public class InboundConnectionHandler {
     private final PlatformContext platformContext;
     private final NetworkPeerIdentifier networkPeerIdentifier;
     private final Time time;
+    /** performs deferred flushes of connections, or null if flushes are never deferred */
+    private final ScheduledExecutorService flushScheduler;
 
     /**
      * constructor
@@ -53,6 +57,7 @@ public class InboundConnectionHandler {
      * @param selfId                self's node id
      * @param newConnectionConsumer new connection consumer
      * @param time                  platform time
+     * @param flushScheduler        performs deferred flushes of connections, or null if flushes are never deferred
      */
     public InboundConnectionHandler(
             @NonNull final PlatformContext platformContext,
@@ -60,7 +65,8 @@ public class InboundConnectionHandler {
             @NonNull final List<PeerInfo> peers,
             @NonNull final NodeId selfId,
             @NonNull final InterruptableConsumer<Connection> newConnectionConsumer,
-            @NonNull final Time time) {
+            @NonNull final Time time,
+            @Nullable final ScheduledExecutorService flushScheduler) {
         this.platformContext = Objects.requireNonNull(platformContext);
         this.connectionTracker = Objects.requireNonNull(connectionTracker);
         this.selfId = Objects.requireNonNull(selfId);
@@ -69,6 +75,7 @@ public class InboundConnectionHandler {
         this.socketExceptionLogger = new RateLimitedLogger(logger, time, Duration.ofMinutes(1));
         this.socketConfig = platformContext.getConfiguration().getConfigData(SocketConfig.class);
         this.networkPeerIdentifier = new NetworkPeerIdentifier(platformContext, Objects.requireNonNull(peers));
+        this.flushScheduler = flushScheduler;
     }
 
     /**
@@ -92,10 +99,15 @@ public class InboundConnectionHandler {
             }
             final NodeId otherId = connectedPeer.nodeId();
 
+            final boolean compress = NetworkUtils.negotiateCompression(clientSocket, socketConfig);
             final SyncInputStream sis = SyncInputStream.createSyncInputStream(
-                    platformContext, clientSocket.getInputStream(), socketConfig.bufferSize());
+                    platformContext, clientSocket.getInputStream(), socketConfig.bufferSize(), compress);
             final SyncOutputStream sos = SyncOutputStream.createSyncOutputStream(
-                    platformContext, clientSocket.getOutputStream(), socketConfig.bufferSize());
+                    platformContext,
+                    clientSocket.getOutputStream(),
+                    socketConfig.bufferSize(),
+                    compress,
+                    flushScheduler);
 
             final SocketConnection sc = SocketConnection.create(
                     selfId,
@@ -152,6 +164,7 @@ public class InboundConnectionHandler {
                 newPeers,
                 this.selfId,
                 this.newConnectionConsumer,
-                this.time);
+                this.time,
+                this.flushScheduler);
     }
 }
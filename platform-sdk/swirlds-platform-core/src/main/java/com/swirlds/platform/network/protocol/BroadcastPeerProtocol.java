@@ -0,0 +1,317 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.network.protocol;
+
+import com.swirlds.common.threading.pool.ParallelExecutionException;
+import com.swirlds.common.threading.pool.ParallelExecutor;
+import com.swirlds.platform.Utilities;
+import com.swirlds.platform.gossip.IntakeEventCounter;
+import com.swirlds.platform.gossip.shadowgraph.SyncUtils;
+import com.swirlds.platform.gossip.sync.protocol.SyncStatusChecker;
+import com.swirlds.platform.network.ByteConstants;
+import com.swirlds.platform.network.Connection;
+import com.swirlds.platform.network.NetworkProtocolException;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.locks.Lock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.hiero.consensus.model.event.PlatformEvent;
+import org.hiero.consensus.model.hashgraph.EventWindow;
+import org.hiero.consensus.model.node.NodeId;
+import org.hiero.consensus.model.status.PlatformStatus;
+
+/**
+ * Pushes events to a single peer as soon as they are available, without first exchanging tips with the peer. Events
+ * that the peer already has are discarded by its deduplicator, and events that are never pushed (because the queue was
+ * full, or the connection was lost) are exchanged by sync.
+ * <p>
+ * The protocol is symmetric. Once negotiated, both sides write the events they have queued for each other followed by
+ * {@link ByteConstants#COMM_EVENT_DONE}, and read the events the other side sends until the same byte is received.
+ * <p>
+ * This object will be instantiated once per peer.
+ */
+public class BroadcastPeerProtocol implements PeerProtocol {
+
+    /**
+     * The id of the peer being broadcast to
+     */
+    private final NodeId peerId;
+
+    /**
+     * Events waiting to be sent to the peer
+     */
+    private final BlockingQueue<PlatformEvent> eventQueue;
+
+    /**
+     * The maximum number of events sent or received in a single run of the protocol
+     */
+    private final int maxEventsPerBroadcast;
+
+    /**
+     * Used to write and read events at the same time
+     */
+    private final ParallelExecutor executor;
+
+    /**
+     * The consumer of events received from the peer
+     */
+    private final Consumer<PlatformEvent> receivedEventHandler;
+
+    /**
+     * Keeps track of how many events have been received from each peer, but haven't yet made it through the intake
+     * pipeline.
+     */
+    private final IntakeEventCounter intakeEventCounter;
+
+    /**
+     * Returns true if gossip is halted, false otherwise
+     */
+    private final BooleanSupplier gossipHalted;
+
+    /**
+     * Held for the duration of each run of the protocol, so that gossip can wait for all runs to complete when paused.
+     * This is a lock shared by the protocol instances of all peers, such as the read lock of a read-write lock.
+     */
+    private final Lock runLock;
+
+    /**
+     * Provides the current platform status
+     */
+    private final Supplier<PlatformStatus> platformStatusSupplier;
+
+    /**
+     * Provides the current event window, events that become ancient while queued are not sent
+     */
+    private final Supplier<EventWindow> eventWindowSupplier;
+
+    /**
+     * The maximum size of a single serialized event received from the peer, in bytes
+     */
+    private final int maxEventSize;
+
+    /**
+     * Constructs a new broadcast protocol for a single peer
+     *
+     * @param peerId                 the id of the peer being broadcast to
+     * @param queueCapacity          the maximum number of events waiting to be sent to the peer
+     * @param maxEventsPerBroadcast  the maximum number of events sent or received in a single run of the protocol
+     * @param executor               used to write and read events at the same time
+     * @param receivedEventHandler   the consumer of events received from the peer
+     * @param intakeEventCounter     keeps track of how many events have been received from each peer, but haven't yet
+     *                               made it through the intake pipeline
+     * @param gossipHalted           returns true if gossip is halted, false otherwise
+     * @param runLock                a shared lock held for the duration of each run of the protocol
+     * @param platformStatusSupplier provides the current platform status
+     * @param eventWindowSupplier    provides the current event window
+     * @param maxEventSize           the maximum size of a single serialized event received from the peer, in bytes
+     */
+    public BroadcastPeerProtocol(
+            @NonNull final NodeId peerId,
+            final int queueCapacity,
+            final int maxEventsPerBroadcast,
+            @NonNull final ParallelExecutor executor,
+            @NonNull final Consumer<PlatformEvent> receivedEventHandler,
+            @NonNull final IntakeEventCounter intakeEventCounter,
+            @NonNull final BooleanSupplier gossipHalted,
+            @NonNull final Lock runLock,
+            @NonNull final Supplier<PlatformStatus> platformStatusSupplier,
+            @NonNull final Supplier<EventWindow> eventWindowSupplier,
+            final int maxEventSize) {
+
+        this.peerId = Objects.requireNonNull(peerId);
+        this.eventQueue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxEventsPerBroadcast = maxEventsPerBroadcast;
+        this.executor = Objects.requireNonNull(executor);
+        this.receivedEventHandler = Objects.requireNonNull(receivedEventHandler);
+        this.intakeEventCounter = Objects.requireNonNull(intakeEventCounter);
+        this.gossipHalted = Objects.requireNonNull(gossipHalted);
+        this.runLock = Objects.requireNonNull(runLock);
+        this.platformStatusSupplier = Objects.requireNonNull(platformStatusSupplier);
+        this.eventWindowSupplier = Objects.requireNonNull(eventWindowSupplier);
+        this.maxEventSize = maxEventSize;
+    }
+
+    /**
+     * @return the id of the peer being broadcast to
+     */
+    @NonNull
+    public NodeId getPeerId() {
+        return peerId;
+    }
+
+    /**
+     * Queue an event to be sent to the peer. If the queue is full, the event is not sent, the peer will receive it
+     * through sync.
+     *
+     * @param event the event to send
+     */
+    public void enqueue(@NonNull final PlatformEvent event) {
+        eventQueue.offer(event);
+    }
+
+    /**
+     * Discard all events waiting to be sent to the peer.
+     */
+    public void clear() {
+        eventQueue.clear();
+    }
+
+    /**
+     * Is the protocol permitted to run right now? If so, the run lock has been acquired and must be released when the
+     * run is over.
+     *
+     * @return true if the protocol may run, false otherwise
+     */
+    private boolean tryStartRun() {
+        if (gossipHalted.getAsBoolean() || !SyncStatusChecker.doesStatusPermitSync(platformStatusSupplier.get())) {
+            return false;
+        }
+        if (!runLock.tryLock()) {
+            return false;
+        }
+        if (gossipHalted.getAsBoolean()) {
+            // gossip was halted while we were acquiring the lock
+            runLock.unlock();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean shouldInitiate() {
+        return !eventQueue.isEmpty() && tryStartRun();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void initiateFailed() {
+        runLock.unlock();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean shouldAccept() {
+        return tryStartRun();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void acceptFailed() {
+        runLock.unlock();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean acceptOnSimultaneousInitiate() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void runProtocol(@NonNull final Connection connection)
+            throws NetworkProtocolException, IOException, InterruptedException {
+        try {
+            final List<PlatformEvent> events = drainQueue();
+            executor.doParallel(
+                    () -> writeEvents(connection, events), () -> readEvents(connection), connection::disconnect);
+        } catch (final ParallelExecutionException e) {
+            if (Utilities.isRootCauseSuppliedType(e, IOException.class)) {
+                throw new IOException(e);
+            }
+            throw new NetworkProtocolException(e);
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    /**
+     * Take up to {@link #maxEventsPerBroadcast} events from the queue, skipping events that have become ancient.
+     *
+     * @return the events to send
+     */
+    @NonNull
+    private List<PlatformEvent> drainQueue() {
+        final List<PlatformEvent> events = new ArrayList<>();
+        final EventWindow eventWindow = eventWindowSupplier.get();
+        while (events.size() < maxEventsPerBroadcast) {
+            final PlatformEvent event = eventQueue.poll();
+            if (event == null) {
+                break;
+            }
+            if (!eventWindow.isAncient(event)) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Write events to the peer, followed by {@link ByteConstants#COMM_EVENT_DONE}.
+     *
+     * @param connection the connection to write to
+     * @param events     the events to write
+     * @throws IOException if a stream exception occurs
+     */
+    private static void writeEvents(@NonNull final Connection connection, @NonNull final List<PlatformEvent> events)
+            throws IOException {
+        for (final PlatformEvent event : events) {
+            connection.getDos().writeByte(ByteConstants.COMM_EVENT_NEXT);
+            SyncUtils.writeEvent(connection.getDos(), event);
+        }
+        connection.getDos().writeByte(ByteConstants.COMM_EVENT_DONE);
+        connection.getDos().flush();
+    }
+
+    /**
+     * Read events from the peer until {@link ByteConstants#COMM_EVENT_DONE} is received.
+     *
+     * @param connection the connection to read from
+     * @throws IOException              if a stream exception occurs
+     * @throws NetworkProtocolException if the peer sends too many events or an unexpected byte
+     */
+    private void readEvents(@NonNull final Connection connection) throws IOException, NetworkProtocolException {
+        int count = 0;
+        while (true) {
+            final byte next = connection.getDis().readByte();
+            switch (next) {
+                case ByteConstants.COMM_EVENT_NEXT -> {
+                    count++;
+                    if (count > maxEventsPerBroadcast) {
+                        throw new NetworkProtocolException("max broadcast event count " + maxEventsPerBroadcast
+                                + " exceeded by " + connection.getDescription());
+                    }
+                    final PlatformEvent event = SyncUtils.readEvent(connection.getDis(), maxEventSize);
+                    event.setSenderId(connection.getOtherId());
+                    intakeEventCounter.eventEnteredIntakePipeline(connection.getOtherId());
+                    receivedEventHandler.accept(event);
+                }
+                case ByteConstants.COMM_EVENT_DONE -> {
+                    return;
+                }
+                default ->
+                    throw new NetworkProtocolException(String.format(
+                            "while reading broadcast events from %s, received unexpected byte %02x",
+                            connection.getDescription(), next));
+            }
+        }
+    }
+}
@@ -0,0 +1,220 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.network.protocol;
+
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.threading.manager.ThreadManager;
+import com.swirlds.common.threading.pool.CachedPoolParallelExecutor;
+import com.swirlds.common.threading.pool.ParallelExecutor;
+import com.swirlds.platform.gossip.GossipController;
+import com.swirlds.platform.gossip.IntakeEventCounter;
+import com.swirlds.platform.gossip.sync.config.BroadcastConfig;
+import com.swirlds.platform.gossip.sync.config.SyncConfig;
+import com.swirlds.platform.gossip.sync.protocol.SyncStatusChecker;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import org.hiero.consensus.model.event.PlatformEvent;
+import org.hiero.consensus.model.hashgraph.EventWindow;
+import org.hiero.consensus.model.node.NodeId;
+import org.hiero.consensus.model.status.PlatformStatus;
+
+/**
+ * Implementation of a factory for the broadcast protocol. Self events, and optionally events received from peers, are
+ * pushed to all peers as soon as they are added, which is much sooner than the next sync with each peer would send
+ * them. Sync keeps running alongside this protocol and sends anything that was not broadcast.
+ */
+public class BroadcastProtocol implements Protocol, GossipController {
+
+    private final NodeId selfId;
+    private final BroadcastConfig broadcastConfig;
+    private final SyncConfig syncConfig;
+    private final ParallelExecutor executor;
+    private final Consumer<PlatformEvent> receivedEventHandler;
+    private final IntakeEventCounter intakeEventCounter;
+    private final Map<NodeId, BroadcastPeerProtocol> peerProtocols = new ConcurrentHashMap<>();
+    private final AtomicBoolean gossipHalted = new AtomicBoolean(false);
+
+    /**
+     * Each run of the protocol holds the read lock, pausing gossip acquires the write lock to wait for all runs to end.
+     */
+    private final ReadWriteLock runLock = new ReentrantReadWriteLock();
+
+    private final AtomicReference<PlatformStatus> platformStatus = new AtomicReference<>(PlatformStatus.STARTING_UP);
+    private final AtomicReference<EventWindow> eventWindow = new AtomicReference<>(EventWindow.getGenesisEventWindow());
+    private volatile boolean started;
+
+    /**
+     * Constructs a new broadcast protocol
+     *
+     * @param platformContext      the platform context
+     * @param selfId               this node's ID
+     * @param executor             used to write and read events at the same time
+     * @param receivedEventHandler the consumer of events received from peers
+     * @param intakeEventCounter   keeps track of how many events have been received from each peer
+     */
+    public BroadcastProtocol(
+            @NonNull final PlatformContext platformContext,
+            @NonNull final NodeId selfId,
+            @NonNull final ParallelExecutor executor,
+            @NonNull final Consumer<PlatformEvent> receivedEventHandler,
+            @NonNull final IntakeEventCounter intakeEventCounter) {
+        this.broadcastConfig = platformContext.getConfiguration().getConfigData(BroadcastConfig.class);
+        this.syncConfig = platformContext.getConfiguration().getConfigData(SyncConfig.class);
+        this.selfId = Objects.requireNonNull(selfId);
+        this.executor = Objects.requireNonNull(executor);
+        this.receivedEventHandler = Objects.requireNonNull(receivedEventHandler);
+        this.intakeEventCounter = Objects.requireNonNull(intakeEventCounter);
+    }
+
+    /**
+     * Utility method for creating BroadcastProtocol, analogous to {@link SyncProtocol#create}
+     *
+     * @param platformContext      the platform context
+     * @param selfId               this node's ID
+     * @param receivedEventHandler output wiring to call when event is received from neighbour
+     * @param intakeEventCounter   keeps track of how many events have been received from each peer
+     * @param threadManager        the thread manager
+     * @return constructed BroadcastProtocol
+     */
+    public static BroadcastProtocol create(
+            @NonNull final PlatformContext platformContext,
+            @NonNull final NodeId selfId,
+            @NonNull final Consumer<PlatformEvent> receivedEventHandler,
+            @NonNull final IntakeEventCounter intakeEventCounter,
+            @NonNull final ThreadManager threadManager) {
+
+        final CachedPoolParallelExecutor executor = new CachedPoolParallelExecutor(threadManager, "node-broadcast");
+        return new BroadcastProtocol(platformContext, selfId, executor, receivedEventHandler, intakeEventCounter);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public BroadcastPeerProtocol createPeerInstance(@NonNull final NodeId peerId) {
+        final BroadcastPeerProtocol peerProtocol = new BroadcastPeerProtocol(
+                Objects.requireNonNull(peerId),
+                broadcastConfig.queueCapacity(),
+                broadcastConfig.maxEventsPerBroadcast(),
+                executor,
+                receivedEventHandler,
+                intakeEventCounter,
+                gossipHalted::get,
+                runLock.readLock(),
+                platformStatus::get,
+                eventWindow::get,
+                syncConfig.maxSerializedEventSize());
+        peerProtocols.put(peerId, peerProtocol);
+        return peerProtocol;
+    }
+
+    /**
+     * Queue an event to be broadcast. Self events are sent to all peers. Events received from a peer are sent to all
+     * other peers except their creator, if {@link BroadcastConfig#forwardReceivedEvents()} is enabled. Events are not
+     * queued while gossip is halted or the platform status does not permit gossip, for example while replaying the
+     * preconsensus event stream.
+     *
+     * @param platformEvent the event to broadcast
+     */
+    public void addEvent(@NonNull final PlatformEvent platformEvent) {
+        if (!started
+                || gossipHalted.get()
+                || !SyncStatusChecker.doesStatusPermitSync(platformStatus.get())
+                || eventWindow.get().isAncient(platformEvent)) {
+            return;
+        }
+
+        final NodeId creatorId = platformEvent.getCreatorId();
+        if (!creatorId.equals(selfId) && !broadcastConfig.forwardReceivedEvents()) {
+            return;
+        }
+
+        final NodeId senderId = platformEvent.getSenderId();
+        for (final BroadcastPeerProtocol peerProtocol : peerProtocols.values()) {
+            final NodeId peerId = peerProtocol.getPeerId();
+            if (!peerId.equals(senderId) && !peerId.equals(creatorId)) {
+                peerProtocol.enqueue(platformEvent);
+            }
+        }
+    }
+
+    /**
+     * Updates the current event window, events that are ancient are no longer broadcast
+     *
+     * @param eventWindow new event window to apply
+     */
+    public void updateEventWindow(@NonNull final EventWindow eventWindow) {
+        this.eventWindow.set(Objects.requireNonNull(eventWindow));
+    }
+
+    /**
+     * Discard all events waiting to be broadcast.
+     */
+    public void clear() {
+        peerProtocols.values().forEach(BroadcastPeerProtocol::clear);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updatePlatformStatus(@NonNull final PlatformStatus status) {
+        platformStatus.set(status);
+    }
+
+    /**
+     * Start broadcasting
+     */
+    public void start() {
+        if (started) {
+            throw new IllegalStateException("Broadcast already started");
+        }
+        started = true;
+        executor.start();
+    }
+
+    /**
+     * Stop broadcasting. Like {@link SyncProtocol#stop()}, broadcasting cannot be started again afterward.
+     */
+    public void stop() {
+        if (!started) {
+            throw new IllegalStateException("Broadcast not started");
+        }
+        pause();
+        clear();
+    }
+
+    /**
+     * Stop broadcasting until {@link #resume()} is called, waiting for all ongoing broadcasts to finish. If called when
+     * already paused then this has no effect.
+     */
+    @Override
+    public void pause() {
+        if (!started) {
+            throw new IllegalStateException("Broadcast not started");
+        }
+        gossipHalted.set(true);
+        runLock.writeLock().lock();
+        runLock.writeLock().unlock();
+    }
+
+    /**
+     * Resume broadcasting. Undoes the effect of {@link #pause()}. Events queued before the pause are discarded, since
+     * the peers will receive them through sync.
+     */
+    @Override
+    public void resume() {
+        if (!started) {
+            throw new IllegalStateException("Broadcast not started");
+        }
+        clear();
+        gossipHalted.set(false);
+    }
+}
@@ -8,6 +8,8 @@ import com.swirlds.platform.network.InboundConnectionManager;
 import com.swirlds.platform.network.OutboundConnectionManager;
 import com.swirlds.platform.network.PeerInfo;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.concurrent.ScheduledExecutorService;
 import org.hiero.consensus.model.node.KeysAndCerts;
 import org.hiero.consensus.model.node.NodeId;
 
@@ -44,23 +46,34 @@ public interface ConnectionManagerFactory {
 
     /**
      * Default implementation of factory, returning real {@link InboundConnectionManager} and
-     * {@link OutboundConnectionManager}
+     * {@link OutboundConnectionManager}. Flushes of outbound connections are never deferred.
      */
-    ConnectionManagerFactory DEFAULT = new ConnectionManagerFactory() {
-        @Override
-        public InboundConnectionManager createInboundConnectionManager(@NonNull final PeerInfo otherPeer) {
-            return new InboundConnectionManager();
-        }
+    ConnectionManagerFactory DEFAULT = withFlushScheduler(null);
 
-        @Override
-        public OutboundConnectionManager createOutboundConnectionManager(
-                @NonNull NodeId selfId,
-                @NonNull PeerInfo otherPeer,
-                @NonNull PlatformContext platformContext,
-                @NonNull ConnectionTracker connectionTracker,
-                @NonNull KeysAndCerts ownKeysAndCerts) {
-            return new OutboundConnectionManager(
-                    selfId, otherPeer, platformContext, connectionTracker, ownKeysAndCerts);
-        }
-    };
+    /**
+     * Creates a default implementation of factory, returning real {@link InboundConnectionManager} and
+     * {@link OutboundConnectionManager}, whose outbound connections defer flushes on the given scheduler
+     *
+     * @param flushScheduler performs deferred flushes of outbound connections, or null if flushes are never deferred
+     * @return the factory
+     */
+    static ConnectionManagerFactory withFlushScheduler(@Nullable final ScheduledExecutorService flushScheduler) {
+        return new ConnectionManagerFactory() {
+            @Override
+            public InboundConnectionManager createInboundConnectionManager(@NonNull final PeerInfo otherPeer) {
+                return new InboundConnectionManager();
+            }
+
+            @Override
+            public OutboundConnectionManager createOutboundConnectionManager(
+                    @NonNull NodeId selfId,
+                    @NonNull PeerInfo otherPeer,
+                    @NonNull PlatformContext platformContext,
+                    @NonNull ConnectionTracker connectionTracker,
+                    @NonNull KeysAndCerts ownKeysAndCerts) {
+                return new OutboundConnectionManager(
+                        selfId, otherPeer, platformContext, connectionTracker, ownKeysAndCerts, flushScheduler);
+            }
+        };
+    }
 }
@@ -4,19 +4,33 @@ package com.swirlds.platform.state.hasher;
 import static com.swirlds.logging.legacy.LogMarker.EXCEPTION;
 
 import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.merkle.MerkleInternal;
+import com.swirlds.common.merkle.MerkleNode;
 import com.swirlds.common.merkle.crypto.MerkleCryptography;
 import com.swirlds.platform.eventhandling.StateWithHashComplexity;
 import com.swirlds.platform.state.signed.ReservedSignedState;
+import com.swirlds.virtualmap.VirtualMap;
+import com.swirlds.virtualmap.internal.merkle.VirtualRootNode;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 /**
  * Hashes signed states after all modifications for a round have been completed.
+ * <p>
+ * Virtual maps hash themselves through their own pipeline when their hash is first requested. If enabled, every
+ * unhashed virtual map in a state is submitted to the merkle hashing pool before the rest of the merkle tree, largest
+ * first, so that the largest maps do not wait for the traversal to reach them. The traversal of the rest of the tree
+ * runs on the same pool, and picks up the hashes of the virtual maps when they are done.
  */
 public class DefaultStateHasher implements StateHasher {
 
@@ -24,6 +38,16 @@ public class DefaultStateHasher implements StateHasher {
     private final MerkleCryptography merkleCryptography;
     private final StateHasherMetrics metrics;
 
+    /**
+     * If true, virtual maps are scheduled for hashing before the rest of the merkle tree.
+     */
+    private final boolean parallelVirtualMapHashing;
+
+    /**
+     * States with a lower hash complexity are hashed with a single traversal of the merkle tree.
+     */
+    private final long minimumHashComplexity;
+
     /**
      * Constructs a SignedStateHasher to hash SignedStates.  If the signedStateMetrics object is not null, the time
      * spent hashing is recorded. Any fatal errors that occur are passed to the provided FatalErrorConsumer. The hash is
@@ -34,6 +58,10 @@ public class DefaultStateHasher implements StateHasher {
     public DefaultStateHasher(@NonNull final PlatformContext platformContext) {
         merkleCryptography = platformContext.getMerkleCryptography();
         metrics = new StateHasherMetrics(platformContext.getMetrics());
+
+        final StateHasherConfig config = platformContext.getConfiguration().getConfigData(StateHasherConfig.class);
+        parallelVirtualMapHashing = config.parallelVirtualMapHashing();
+        minimumHashComplexity = config.minimumHashComplexity();
     }
 
     /**
@@ -45,9 +73,20 @@ public class DefaultStateHasher implements StateHasher {
         final ReservedSignedState reservedSignedState = stateWithHashComplexity.reservedSignedState();
         final Instant start = Instant.now();
         try {
-            merkleCryptography
-                    .digestTreeAsync(reservedSignedState.get().getState().getRoot())
-                    .get();
+            final MerkleNode root = reservedSignedState.get().getState().getRoot();
+
+            final List<Future<Hash>> virtualMapHashes;
+            if (parallelVirtualMapHashing && stateWithHashComplexity.hashComplexity() >= minimumHashComplexity) {
+                virtualMapHashes = scheduleVirtualMapHashing(root);
+            } else {
+                virtualMapHashes = List.of();
+            }
+
+            merkleCryptography.digestTreeAsync(root).get();
+            // The traversal can't finish before all virtual maps are hashed, this only surfaces any exceptions
+            for (final Future<Hash> virtualMapHash : virtualMapHashes) {
+                virtualMapHash.get();
+            }
             metrics.reportHashingTime(Duration.between(start, Instant.now()));
 
             return reservedSignedState;
@@ -59,4 +98,67 @@ public class DefaultStateHasher implements StateHasher {
         }
         return null;
     }
+
+    /**
+     * Submit every unhashed virtual map in a tree to the merkle hashing pool, largest first. Only subtrees that are not
+     * yet hashed are searched.
+     *
+     * @param root the root of the tree, may be null
+     * @return the futures of the submitted virtual maps
+     */
+    @NonNull
+    private List<Future<Hash>> scheduleVirtualMapHashing(@Nullable final MerkleNode root) {
+        if (root == null || root.isSelfHashing() || root.getHash() != null) {
+            return List.of();
+        }
+
+        final List<UnhashedVirtualMap> virtualMaps = new ArrayList<>();
+        root.treeIterator()
+                .setFilter(node -> node != root && node instanceof VirtualMap<?, ?>)
+                .setDescendantFilter(node -> !node.isSelfHashing() && node.getHash() == null)
+                .forEachRemaining(node -> {
+                    final VirtualRootNode<?, ?> virtualRoot = findUnhashedVirtualRoot(node.asInternal());
+                    if (virtualRoot != null) {
+                        virtualMaps.add(new UnhashedVirtualMap(node, virtualRoot.estimatedSize()));
+                    }
+                });
+        if (virtualMaps.isEmpty()) {
+            return List.of();
+        }
+
+        // The estimated size of a virtual map is dominated by its dirty leaves and hashes
+        virtualMaps.sort(Comparator.comparingLong(UnhashedVirtualMap::estimatedSize).reversed());
+
+        // Each virtual root hashes itself when the traversal of its map reaches it on a merkle hashing thread
+        final List<Future<Hash>> futures = new ArrayList<>(virtualMaps.size());
+        for (final UnhashedVirtualMap virtualMap : virtualMaps) {
+            futures.add(merkleCryptography.digestTreeAsync(virtualMap.map()));
+        }
+        return futures;
+    }
+
+    /**
+     * Find the unhashed virtual root of a virtual map.
+     *
+     * @param virtualMap the virtual map
+     * @return the virtual root, or null if it is missing or already hashed
+     */
+    @Nullable
+    private static VirtualRootNode<?, ?> findUnhashedVirtualRoot(@NonNull final MerkleInternal virtualMap) {
+        for (int index = 0; index < virtualMap.getNumberOfChildren(); index++) {
+            if (virtualMap.getChild(index) instanceof final VirtualRootNode<?, ?> virtualRoot
+                    && !virtualRoot.isHashed()) {
+                return virtualRoot;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A virtual map whose virtual root is not yet hashed.
+     *
+     * @param map           the virtual map
+     * @param estimatedSize the estimated size of the virtual root
+     */
+    private record UnhashedVirtualMap(@NonNull MerkleNode map, long estimatedSize) {}
 }
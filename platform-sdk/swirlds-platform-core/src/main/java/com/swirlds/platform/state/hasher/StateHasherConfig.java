@@ -0,0 +1,22 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.state.hasher;
+
+import com.swirlds.config.api.ConfigData;
+import com.swirlds.config.api.ConfigProperty;
+import com.swirlds.config.api.validation.annotation.Min;
+
+/**
+ * Configuration for the {@link DefaultStateHasher}.
+ *
+ * @param parallelVirtualMapHashing if true, the virtual maps in a state are submitted to the merkle hashing pool
+ *                                  before the rest of the merkle tree, largest first, and are hashed concurrently with
+ *                                  each other and with the rest of the tree. If false, virtual maps are hashed when
+ *                                  the merkle tree traversal reaches them.
+ * @param minimumHashComplexity     states with a hash complexity lower than this are hashed with a single traversal of
+ *                                  the merkle tree, since there is too little work to benefit from scheduling virtual
+ *                                  maps separately
+ */
+@ConfigData("stateHasher")
+public record StateHasherConfig(
+        @ConfigProperty(defaultValue = "true") boolean parallelVirtualMapHashing,
+        @Min(1) @ConfigProperty(defaultValue = "10") long minimumHashComplexity) {}
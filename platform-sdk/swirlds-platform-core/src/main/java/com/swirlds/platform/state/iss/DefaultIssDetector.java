@@ -30,6 +30,7 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -58,9 +59,15 @@ public class DefaultIssDetector implements IssDetector {
     private long previousRound = -1;
 
     /**
-     * The roster of this network.
+     * The entries of the roster of this network by node ID, so that looking up the signer of a signature does not scan
+     * the roster.
      */
-    private final Roster roster;
+    private final Map<Long, RosterEntry> rosterEntries;
+
+    /**
+     * The total weight of the roster of this network.
+     */
+    private final long totalWeight;
 
     /**
      * The current software version
@@ -136,7 +143,9 @@ public class DefaultIssDetector implements IssDetector {
         selfIssRateLimiter = new RateLimiter(platformContext.getTime(), timeBetweenIssLogs);
         catastrophicIssRateLimiter = new RateLimiter(platformContext.getTime(), timeBetweenIssLogs);
 
-        this.roster = Objects.requireNonNull(roster);
+        Objects.requireNonNull(roster);
+        this.rosterEntries = RosterUtils.toMap(roster);
+        this.totalWeight = RosterUtils.computeTotalWeight(roster);
         this.currentSoftwareVersion = Objects.requireNonNull(currentSoftwareVersion);
 
         this.roundData = new StandardSequenceMap<>(
@@ -210,8 +219,7 @@ public class DefaultIssDetector implements IssDetector {
 
         previousRound = roundNumber;
 
-        roundData.put(
-                roundNumber, new RoundHashValidator(roundNumber, RosterUtils.computeTotalWeight(roster), issMetrics));
+        roundData.put(roundNumber, new RoundHashValidator(roundNumber, totalWeight, issMetrics));
 
         return removedRounds.stream()
                 .map(this::handleRemovedRound)
@@ -384,7 +392,7 @@ public class DefaultIssDetector implements IssDetector {
             return null;
         }
 
-        final RosterEntry node = RosterUtils.getRosterEntryOrNull(roster, signerId.id());
+        final RosterEntry node = rosterEntries.get(signerId.id());
 
         if (node == null) {
             // we don't care about nodes not in the address book
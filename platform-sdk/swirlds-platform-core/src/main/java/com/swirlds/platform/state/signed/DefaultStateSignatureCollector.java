@@ -4,6 +4,7 @@ package com.swirlds.platform.state.signed;
 import static java.util.stream.Collectors.collectingAndThen;
 import static java.util.stream.Collectors.toList;
 
+import com.hedera.hapi.node.state.roster.RosterEntry;
 import com.hedera.hapi.platform.event.StateSignatureTransaction;
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.logging.legacy.LogMarker;
@@ -14,12 +15,17 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -30,6 +36,7 @@ import org.hiero.consensus.model.node.NodeId;
 import org.hiero.consensus.model.sequence.set.SequenceSet;
 import org.hiero.consensus.model.sequence.set.StandardSequenceSet;
 import org.hiero.consensus.model.transaction.ScopedSystemTransaction;
+import org.hiero.consensus.roster.RosterUtils;
 
 /**
  * Collects signatures for signed states. This class ensures that all the non-ancient states that are not fully signed
@@ -39,6 +46,10 @@ import org.hiero.consensus.model.transaction.ScopedSystemTransaction;
  *     <li>fully signed</li>
  *     <li>too old</li>
  * </ul>
+ * <p>
+ * Signatures are verified before any of them is added to a state. If a verification pool is configured and enough
+ * signatures arrive together, they are verified in parallel by the pool, and then added in the order in which they
+ * were received, so the bookkeeping for each round stays on the thread of this component.
  */
 public class DefaultStateSignatureCollector implements StateSignatureCollector {
     private static final Logger logger = LogManager.getLogger(DefaultStateSignatureCollector.class);
@@ -52,6 +63,11 @@ public class DefaultStateSignatureCollector implements StateSignatureCollector {
     private final SequenceSet<SavedSignature> savedSignatures;
     /** A collection of signed state metrics */
     private final SignedStateMetrics signedStateMetrics;
+    /** Verifies signatures in parallel, null if signatures are only verified on the thread of this component */
+    @Nullable
+    private final ExecutorService signatureVerificationPool;
+    /** Batches with fewer signatures than this are verified on the thread of this component */
+    private final int minimumParallelBatchSize;
 
     /**
      * Start empty, with no known signed states. A signed state is considered completed when it has signatures from a
@@ -67,6 +83,17 @@ public class DefaultStateSignatureCollector implements StateSignatureCollector {
 
         this.savedSignatures =
                 new StandardSequenceSet<>(0, stateConfig.maxAgeOfFutureStateSignatures(), SavedSignature::round);
+
+        final StateSignatureCollectorConfig collectorConfig =
+                platformContext.getConfiguration().getConfigData(StateSignatureCollectorConfig.class);
+        this.minimumParallelBatchSize = collectorConfig.minimumParallelBatchSize();
+        if (collectorConfig.signatureVerificationThreads() > 0) {
+            this.signatureVerificationPool = platformContext
+                    .getExecutorFactory()
+                    .createExecutorService(collectorConfig.signatureVerificationThreads());
+        } else {
+            this.signatureVerificationPool = null;
+        }
     }
 
     /**
@@ -90,7 +117,10 @@ public class DefaultStateSignatureCollector implements StateSignatureCollector {
         // find any signatures that have been saved
         final List<SavedSignature> signatures = savedSignatures.getEntriesWithSequenceNumber(signedState.getRound());
         savedSignatures.removeSequenceNumber(signedState.getRound());
-        signatures.forEach(ss -> addSignature(reservedSignedState, ss.memberId(), ss.signature()));
+        // the state is not yet tracked, so it is never returned here even if these signatures complete it
+        addSignatures(signatures.stream()
+                .map(ss -> new ReceivedSignature(reservedSignedState, ss.memberId(), ss.signature()))
+                .toList());
 
         lastStateRound = Math.max(lastStateRound, signedState.getRound());
         adjustSavedSignaturesWindow(signedState.getRound());
@@ -120,13 +150,23 @@ public class DefaultStateSignatureCollector implements StateSignatureCollector {
     public @Nullable List<ReservedSignedState> handlePreconsensusSignatures(
             @NonNull final Queue<ScopedSystemTransaction<StateSignatureTransaction>> transactions) {
         Objects.requireNonNull(transactions, "transactions");
-        return transactions.stream()
-                .map(this::handlePreconsensusSignature)
-                .filter(Objects::nonNull)
-                .collect(collectingAndThen(toList(), l -> l.isEmpty() ? null : l));
+        final List<ReceivedSignature> receivedSignatures = new ArrayList<>(transactions.size());
+        for (final ScopedSystemTransaction<StateSignatureTransaction> transaction : transactions) {
+            final ReceivedSignature receivedSignature = handlePreconsensusSignature(transaction);
+            if (receivedSignature != null) {
+                receivedSignatures.add(receivedSignature);
+            }
+        }
+        return nullIfEmpty(addSignatures(receivedSignatures));
     }
 
-    private @Nullable ReservedSignedState handlePreconsensusSignature(
+    /**
+     * Handle a preconsensus state signature. Signatures for states that are not being tracked are saved.
+     *
+     * @param scopedTransaction the signature transaction
+     * @return the signature paired with its state if the state is being tracked, otherwise null
+     */
+    private @Nullable ReceivedSignature handlePreconsensusSignature(
             @NonNull final ScopedSystemTransaction<StateSignatureTransaction> scopedTransaction) {
 
         final long round = scopedTransaction.transaction().round();
@@ -146,7 +186,7 @@ public class DefaultStateSignatureCollector implements StateSignatureCollector {
             savedSignatures.add(new SavedSignature(round, scopedTransaction.submitterId(), signature));
             return null;
         }
-        return addSignature(reservedState, scopedTransaction.submitterId(), signature);
+        return new ReceivedSignature(reservedState, scopedTransaction.submitterId(), signature);
     }
 
     /**
@@ -156,13 +196,23 @@ public class DefaultStateSignatureCollector implements StateSignatureCollector {
     public @Nullable List<ReservedSignedState> handlePostconsensusSignatures(
             @NonNull final Queue<ScopedSystemTransaction<StateSignatureTransaction>> transactions) {
         Objects.requireNonNull(transactions, "transactions");
-        return transactions.stream()
-                .map(this::handlePostconsensusSignature)
-                .filter(Objects::nonNull)
-                .collect(collectingAndThen(toList(), l -> l.isEmpty() ? null : l));
+        final List<ReceivedSignature> receivedSignatures = new ArrayList<>(transactions.size());
+        for (final ScopedSystemTransaction<StateSignatureTransaction> transaction : transactions) {
+            final ReceivedSignature receivedSignature = handlePostconsensusSignature(transaction);
+            if (receivedSignature != null) {
+                receivedSignatures.add(receivedSignature);
+            }
+        }
+        return nullIfEmpty(addSignatures(receivedSignatures));
     }
 
-    private @Nullable ReservedSignedState handlePostconsensusSignature(
+    /**
+     * Handle a postconsensus state signature.
+     *
+     * @param scopedTransaction the signature transaction
+     * @return the signature paired with its state if the state is being tracked, otherwise null
+     */
+    private @Nullable ReceivedSignature handlePostconsensusSignature(
             @NonNull final ScopedSystemTransaction<StateSignatureTransaction> scopedTransaction) {
         final long round = scopedTransaction.transaction().round();
 
@@ -174,7 +224,7 @@ public class DefaultStateSignatureCollector implements StateSignatureCollector {
             return null;
         }
 
-        return addSignature(
+        return new ReceivedSignature(
                 reservedState,
                 scopedTransaction.submitterId(),
                 new Signature(
@@ -183,30 +233,109 @@ public class DefaultStateSignatureCollector implements StateSignatureCollector {
     }
 
     /**
-     * Add a new signature to a signed state.
+     * Add signatures to signed states. All signatures that may be added are verified first, in parallel if there are
+     * enough of them, and are then added in the order in which they were received.
      *
-     * @param reservedSignedState the state being signed
-     * @param nodeId              the ID of the signer
-     * @param signature           the signature on the state
-     * @return the signed state if it is now complete, otherwise null
+     * @param receivedSignatures the signatures, paired with the states they are for
+     * @return the tracked states that are now complete, may be empty
      */
-    private @Nullable ReservedSignedState addSignature(
-            @NonNull final ReservedSignedState reservedSignedState,
-            @NonNull final NodeId nodeId,
-            @NonNull final Signature signature) {
-        final SignedState signedState = reservedSignedState.get();
+    private @NonNull List<ReservedSignedState> addSignatures(
+            @NonNull final List<ReceivedSignature> receivedSignatures) {
+        if (receivedSignatures.isEmpty()) {
+            return List.of();
+        }
+
+        // Skip signatures that would be ignored anyway, and look up the signers while still on this thread. Rosters
+        // are read from the state, so they are read once per state and batch rather than once per signature.
+        final Map<SignedState, Map<Long, RosterEntry>> rosterEntriesByState = new IdentityHashMap<>();
+        final List<VerifiableSignature> toVerify = new ArrayList<>(receivedSignatures.size());
+        for (final ReceivedSignature receivedSignature : receivedSignatures) {
+            final SignedState signedState = receivedSignature.reservedSignedState().get();
+            if (signedState.isComplete() || signedState.getSigSet().hasSignature(receivedSignature.nodeId())) {
+                continue;
+            }
+            final RosterEntry rosterEntry = rosterEntriesByState
+                    .computeIfAbsent(signedState, s -> RosterUtils.toMap(s.getRoster()))
+                    .get(receivedSignature.nodeId().id());
+            if (rosterEntry != null) {
+                toVerify.add(new VerifiableSignature(receivedSignature, rosterEntry));
+            }
+        }
 
-        if (signedState.addSignature(nodeId, signature)) {
-            // at this point the signed state is complete for the first time
-            signedStateMetrics.getStatesSignedPerSecondMetric().cycle();
-            signedStateMetrics
-                    .getAverageTimeToFullySignStateMetric()
-                    .update(Duration.between(signedState.getCreationTimestamp(), Instant.now())
-                            .toMillis());
+        final boolean[] valid = verifySignatures(toVerify);
 
-            return incompleteStates.remove(signedState.getRound());
+        final List<ReservedSignedState> completedStates = new ArrayList<>();
+        for (int i = 0; i < toVerify.size(); i++) {
+            if (!valid[i]) {
+                continue;
+            }
+            final VerifiableSignature verifiable = toVerify.get(i);
+            final SignedState signedState =
+                    verifiable.receivedSignature().reservedSignedState().get();
+            if (signedState.addVerifiedSignature(
+                    verifiable.receivedSignature().nodeId(),
+                    verifiable.rosterEntry(),
+                    verifiable.receivedSignature().signature())) {
+                // at this point the signed state is complete for the first time
+                signedStateMetrics.getStatesSignedPerSecondMetric().cycle();
+                signedStateMetrics
+                        .getAverageTimeToFullySignStateMetric()
+                        .update(Duration.between(signedState.getCreationTimestamp(), Instant.now())
+                                .toMillis());
+
+                final ReservedSignedState completedState = incompleteStates.remove(signedState.getRound());
+                if (completedState != null) {
+                    completedStates.add(completedState);
+                }
+            }
         }
-        return null;
+        return completedStates;
+    }
+
+    /**
+     * Verify signatures, in parallel if there are enough of them and parallel verification is enabled.
+     *
+     * @param toVerify the signatures to verify
+     * @return the validity of each signature, at the same index as the signature
+     */
+    private @NonNull boolean[] verifySignatures(@NonNull final List<VerifiableSignature> toVerify) {
+        final boolean[] valid = new boolean[toVerify.size()];
+        if (signatureVerificationPool == null || toVerify.size() < minimumParallelBatchSize) {
+            for (int i = 0; i < toVerify.size(); i++) {
+                valid[i] = toVerify.get(i).verify();
+            }
+            return valid;
+        }
+
+        final List<Callable<Boolean>> tasks = new ArrayList<>(toVerify.size());
+        for (final VerifiableSignature verifiable : toVerify) {
+            tasks.add(verifiable::verify);
+        }
+        try {
+            final List<Future<Boolean>> results = signatureVerificationPool.invokeAll(tasks);
+            for (int i = 0; i < results.size(); i++) {
+                try {
+                    valid[i] = results.get(i).get();
+                } catch (final ExecutionException e) {
+                    // a signature that could not be verified is treated as invalid, the others are still added
+                    logger.error(LogMarker.EXCEPTION.getMarker(), "Exception while verifying a state signature", e);
+                }
+            }
+        } catch (final InterruptedException e) {
+            logger.error(LogMarker.EXCEPTION.getMarker(), "Interrupted while verifying state signatures");
+            Thread.currentThread().interrupt();
+        }
+        return valid;
+    }
+
+    /**
+     * Convert an empty list to null, since the output of this component is not forwarded if it is null.
+     *
+     * @param states the list of states
+     * @return the list, or null if it is empty
+     */
+    private static @Nullable List<ReservedSignedState> nullIfEmpty(@NonNull final List<ReservedSignedState> states) {
+        return states.isEmpty() ? null : states;
     }
 
     /**
@@ -258,6 +387,16 @@ public class DefaultStateSignatureCollector implements StateSignatureCollector {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stop() {
+        if (signatureVerificationPool != null) {
+            signatureVerificationPool.shutdownNow();
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -278,4 +417,28 @@ public class DefaultStateSignatureCollector implements StateSignatureCollector {
      * A signature for a state hash that was received when this node does not yet have a state with a matching round.
      */
     private record SavedSignature(long round, @NonNull NodeId memberId, @NonNull Signature signature) {}
+
+    /**
+     * A signature for a state that this collector holds.
+     */
+    private record ReceivedSignature(
+            @NonNull ReservedSignedState reservedSignedState, @NonNull NodeId nodeId, @NonNull Signature signature) {}
+
+    /**
+     * A signature from a node in the roster of the state, that has not yet been verified.
+     */
+    private record VerifiableSignature(@NonNull ReceivedSignature receivedSignature, @NonNull RosterEntry rosterEntry) {
+
+        /**
+         * Verify the signature. Safe to call from any thread.
+         *
+         * @return true if the signature is valid
+         */
+        boolean verify() {
+            return receivedSignature
+                    .reservedSignedState()
+                    .get()
+                    .isSignatureValid(rosterEntry, receivedSignature.signature());
+        }
+    }
 }
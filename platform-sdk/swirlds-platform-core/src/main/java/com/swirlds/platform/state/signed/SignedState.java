@@ -609,6 +609,26 @@ public class SignedState implements SignedStateInfo {
             return false;
         }
 
+        return addVerifiedSignature(nodeId, rosterEntry, signature);
+    }
+
+    /**
+     * Add a signature to the sigset that has already been checked with
+     * {@link #isSignatureValid(RosterEntry, Signature)}.
+     *
+     * @param nodeId      the ID of the signing node
+     * @param rosterEntry the roster entry of the signing node
+     * @param signature   the signature to add
+     * @return true if the signed state is now complete as a result of the signature being added, false if the signed
+     * state is either not complete or was previously complete prior to this signature
+     */
+    boolean addVerifiedSignature(
+            @NonNull final NodeId nodeId, @NonNull final RosterEntry rosterEntry, @NonNull final Signature signature) {
+        if (isComplete()) {
+            // No need to add more signatures
+            return false;
+        }
+
         if (sigSet.hasSignature(nodeId)) {
             // we already have this signature
             return false;
@@ -651,13 +671,13 @@ public class SignedState implements SignedStateInfo {
 
     /**
      * Check if a signature is valid. If a node has no weight or is missing a certificate, we consider the signature to
-     * be invalid.
+     * be invalid. Only reads the hash of the state, so once the state is hashed this may be called from any thread.
      *
      * @param rosterEntry the roster entry of the signer, or null if there was no signing address
      * @param signature   the signature to check
      * @return true if the signature is valid, else false
      */
-    private boolean isSignatureValid(@Nullable final RosterEntry rosterEntry, @NonNull final Signature signature) {
+    boolean isSignatureValid(@Nullable final RosterEntry rosterEntry, @NonNull final Signature signature) {
         if (rosterEntry == null) {
             // Signing node is not in the roster.
             return false;
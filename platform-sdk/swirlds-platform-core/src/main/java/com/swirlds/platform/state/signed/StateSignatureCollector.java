@@ -5,6 +5,7 @@ import com.hedera.hapi.platform.event.StateSignatureTransaction;
 import com.swirlds.component.framework.component.InputWireLabel;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.ArrayDeque;
 import java.util.List;
 import java.util.Queue;
 import org.hiero.consensus.model.transaction.ScopedSystemTransaction;
@@ -41,6 +42,20 @@ public interface StateSignatureCollector {
     List<ReservedSignedState> handlePreconsensusSignatures(
             @NonNull Queue<ScopedSystemTransaction<StateSignatureTransaction>> transactions);
 
+    /**
+     * Handle several queues of preconsensus state signatures, in order, as if they were a single queue. Allows
+     * signatures from several events to be verified together.
+     *
+     * @param batch the queues of signature transactions to handle
+     * @return a list of signed states that are now complete or too old, or null if there are none
+     */
+    @InputWireLabel("preconsensus state signatures")
+    @Nullable
+    default List<ReservedSignedState> handlePreconsensusSignatureBatch(
+            @NonNull final List<Queue<ScopedSystemTransaction<StateSignatureTransaction>>> batch) {
+        return handlePreconsensusSignatures(flatten(batch));
+    }
+
     /**
      * Handle postconsensus state signatures.
      *
@@ -52,6 +67,39 @@ public interface StateSignatureCollector {
     List<ReservedSignedState> handlePostconsensusSignatures(
             @NonNull Queue<ScopedSystemTransaction<StateSignatureTransaction>> transactions);
 
+    /**
+     * Handle several queues of postconsensus state signatures, in order, as if they were a single queue. Allows
+     * signatures from several rounds to be verified together.
+     *
+     * @param batch the queues of signature transactions to handle
+     * @return a list of signed states that are now complete or too old, or null if there are none
+     */
+    @InputWireLabel("post consensus state signatures")
+    @Nullable
+    default List<ReservedSignedState> handlePostconsensusSignatureBatch(
+            @NonNull final List<Queue<ScopedSystemTransaction<StateSignatureTransaction>>> batch) {
+        return handlePostconsensusSignatures(flatten(batch));
+    }
+
+    /**
+     * Combine several queues of signature transactions into one.
+     *
+     * @param batch the queues
+     * @return a queue containing the transactions of all queues, in order
+     */
+    @NonNull
+    private static Queue<ScopedSystemTransaction<StateSignatureTransaction>> flatten(
+            @NonNull final List<Queue<ScopedSystemTransaction<StateSignatureTransaction>>> batch) {
+        if (batch.size() == 1) {
+            return batch.getFirst();
+        }
+        final Queue<ScopedSystemTransaction<StateSignatureTransaction>> transactions = new ArrayDeque<>();
+        for (final Queue<ScopedSystemTransaction<StateSignatureTransaction>> queue : batch) {
+            transactions.addAll(queue);
+        }
+        return transactions;
+    }
+
     /**
      * Clear the internal state of this collector.
      *
@@ -59,4 +107,9 @@ public interface StateSignatureCollector {
      */
     @InputWireLabel("clear")
     void clear(@NonNull Object ignored);
+
+    /**
+     * Stops any threads owned by the collector. Called after the wiring has been stopped.
+     */
+    default void stop() {}
 }
@@ -0,0 +1,22 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.state.signed;
+
+import com.swirlds.config.api.ConfigData;
+import com.swirlds.config.api.ConfigProperty;
+import com.swirlds.config.api.validation.annotation.Min;
+
+/**
+ * Configuration for the {@link DefaultStateSignatureCollector}.
+ *
+ * @param signatureVerificationThreads the number of threads used to verify state signatures in parallel. If 0, state
+ *                                     signatures are verified on the thread of the signature collector. Disabled by
+ *                                     default, since it adds a pool of threads to every node and only pays off when
+ *                                     the collector receives signatures in batches.
+ * @param minimumParallelBatchSize     batches with fewer signatures than this are verified on the thread of the
+ *                                     signature collector, since handing them to other threads costs more than it
+ *                                     saves
+ */
+@ConfigData("stateSignatureCollector")
+public record StateSignatureCollectorConfig(
+        @Min(0) @ConfigProperty(defaultValue = "0") int signatureVerificationThreads,
+        @Min(1) @ConfigProperty(defaultValue = "4") int minimumParallelBatchSize) {}
@@ -2,6 +2,7 @@
 package com.swirlds.platform.system;
 
 import com.hedera.hapi.node.state.roster.Roster;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.notification.NotificationEngine;
 import com.swirlds.common.utility.AutoCloseableWrapper;
@@ -86,6 +87,18 @@ public interface Platform {
      */
     boolean createTransaction(@NonNull byte[] transaction);
 
+    /**
+     * Same as {@link #createTransaction(byte[])}, but for a transaction that is already held as {@link Bytes}. The
+     * given bytes must not be modified after this call, since an implementation may embed them in an event without
+     * copying them.
+     *
+     * @param transaction the transaction to handle in binary format (format used is up to the application)
+     * @return true if the transaction is accepted, false if it is rejected
+     */
+    default boolean createTransaction(@NonNull final Bytes transaction) {
+        return createTransaction(transaction.toByteArray());
+    }
+
     /**
      * generate signature bytes for given data
      *
@@ -0,0 +1,49 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.wiring;
+
+/**
+ * The stages of the platform wiring at which the latency of a traced event is recorded, in the order in which an event
+ * passes through them.
+ */
+public enum EventLatencyStage {
+    /**
+     * A self event was created. Traces of self events start here.
+     */
+    CREATED,
+    /**
+     * An event was received through gossip. Traces of other nodes' events start here.
+     */
+    RECEIVED,
+    /**
+     * The event was hashed.
+     */
+    HASHED,
+    /**
+     * The event passed internal validation.
+     */
+    VALIDATED,
+    /**
+     * The event passed deduplication.
+     */
+    DEDUPLICATED,
+    /**
+     * The signature of the event was validated.
+     */
+    SIGNATURE_VALIDATED,
+    /**
+     * All parents of the event are known, the event was released by the orphan buffer.
+     */
+    ORPHANS_RESOLVED,
+    /**
+     * The event was written to the preconsensus event stream.
+     */
+    PERSISTED,
+    /**
+     * The event reached consensus.
+     */
+    CONSENSUS,
+    /**
+     * The round in which the event reached consensus was handled. Traces end here.
+     */
+    HANDLED
+}
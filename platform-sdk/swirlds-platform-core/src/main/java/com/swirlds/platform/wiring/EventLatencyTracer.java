@@ -0,0 +1,346 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.wiring;
+
+import static com.swirlds.logging.legacy.LogMarker.EXCEPTION;
+import static com.swirlds.metrics.api.FloatFormats.FORMAT_10_3;
+import static com.swirlds.metrics.api.Metrics.INTERNAL_CATEGORY;
+
+import com.swirlds.base.time.Time;
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.platform.eventhandling.TransactionHandlerResult;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hiero.consensus.model.event.PlatformEvent;
+import org.hiero.consensus.model.hashgraph.ConsensusRound;
+import org.hiero.consensus.model.node.NodeId;
+
+/**
+ * Traces a sample of events through the platform wiring. For each sampled event, the time at which it passes each
+ * {@link EventLatencyStage} is recorded. When the round in which the event reached consensus is handled, the time spent
+ * in each stage is added to the stage latency metrics, and the trace is queued to be written to the output directory.
+ * <p>
+ * Events are sampled based on their creator and creation time, so the decision is the same at every stage and does
+ * not require the event to be hashed. A trace is only started when an event is created or received, events replayed
+ * from the preconsensus event stream are not traced.
+ */
+public class EventLatencyTracer {
+
+    private static final Logger logger = LogManager.getLogger(EventLatencyTracer.class);
+
+    /**
+     * The header of the files that traces are written to. Each stage column contains the number of nanoseconds between
+     * the start of the trace and the stage, or is empty if the event did not pass the stage.
+     */
+    public static final String CSV_HEADER = buildCsvHeader();
+
+    private static final EventLatencyStage[] STAGES = EventLatencyStage.values();
+
+    private final Time time;
+    private final int sampleInterval;
+    private final int maxOpenTraces;
+    private final long traceTimeoutNanos;
+    private final Path outputFile;
+
+    /**
+     * Traces of events whose round has not yet been handled.
+     */
+    private final Map<TraceKey, Trace> openTraces = new ConcurrentHashMap<>();
+
+    /**
+     * Open traces in the order in which they were started, used to discard traces that timed out without scanning all
+     * open traces. Traces that were already completed are skipped when they reach the head of the queue.
+     */
+    private final Queue<Trace> tracesByStart = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Open traces of events that reached consensus, in round order, so that handling a round only visits the traces
+     * that it completes.
+     */
+    private final Queue<Trace> tracesByRound = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Traces that are waiting to be written to the output file.
+     */
+    private final Queue<Trace> completedTraces = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The time spent in each stage, measured from the previous stage the event passed.
+     */
+    private final Map<EventLatencyStage, RunningAverageMetric> stageLatency = new EnumMap<>(EventLatencyStage.class);
+
+    /**
+     * The time from the start of a trace until the event's round was handled.
+     */
+    private final RunningAverageMetric totalLatency;
+
+    /**
+     * Identifies a traced event without requiring it to be hashed.
+     *
+     * @param creatorId   the creator of the event
+     * @param timeCreated the creation time of the event
+     */
+    private record TraceKey(@NonNull NodeId creatorId, @NonNull Instant timeCreated) {}
+
+    /**
+     * The timestamps of a traced event.
+     */
+    private static final class Trace {
+        private final TraceKey key;
+        private final long startNanos;
+        private final AtomicLongArray stageNanos = new AtomicLongArray(STAGES.length);
+        private volatile long consensusRound = -1;
+        private volatile boolean closed;
+
+        private Trace(@NonNull final TraceKey key, final long startNanos) {
+            this.key = key;
+            this.startNanos = startNanos;
+            for (int i = 0; i < STAGES.length; i++) {
+                stageNanos.set(i, -1);
+            }
+        }
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param platformContext the platform context
+     */
+    public EventLatencyTracer(@NonNull final PlatformContext platformContext) {
+        this.time = platformContext.getTime();
+        final LatencyTracingConfig config =
+                platformContext.getConfiguration().getConfigData(LatencyTracingConfig.class);
+        this.sampleInterval = config.sampleInterval();
+        this.maxOpenTraces = config.maxOpenTraces();
+        this.traceTimeoutNanos = config.traceTimeout().toNanos();
+        this.outputFile = config.outputDirectory()
+                .resolve("latency-traces-" + ProcessHandle.current().pid() + "-"
+                        + time.currentTimeMillis() + ".csv");
+
+        for (final EventLatencyStage stage : STAGES) {
+            if (stage == EventLatencyStage.CREATED || stage == EventLatencyStage.RECEIVED) {
+                continue;
+            }
+            stageLatency.put(
+                    stage,
+                    platformContext
+                            .getMetrics()
+                            .getOrCreate(new RunningAverageMetric.Config(
+                                            INTERNAL_CATEGORY, "eventLatency_" + stage.name())
+                                    .withDescription("time a sampled event spent reaching the " + stage.name()
+                                            + " stage since the previous stage (in milliseconds)")
+                                    .withFormat(FORMAT_10_3)
+                                    .withUnit("ms")));
+        }
+        totalLatency = platformContext
+                .getMetrics()
+                .getOrCreate(new RunningAverageMetric.Config(INTERNAL_CATEGORY, "eventLatency_total")
+                        .withDescription("time from a sampled event being created or received until its round was "
+                                + "handled (in milliseconds)")
+                        .withFormat(FORMAT_10_3)
+                        .withUnit("ms"));
+    }
+
+    /**
+     * Record that an event passed a stage. If the stage is {@link EventLatencyStage#CREATED} or
+     * {@link EventLatencyStage#RECEIVED}, and the event is sampled, a new trace is started.
+     *
+     * @param stage the stage the event passed
+     * @param event the event
+     */
+    public void recordEvent(@NonNull final EventLatencyStage stage, @NonNull final PlatformEvent event) {
+        final TraceKey key = new TraceKey(event.getCreatorId(), event.getTimeCreated());
+        if (Math.floorMod(key.hashCode(), sampleInterval) != 0) {
+            return;
+        }
+
+        final long now = time.nanoTime();
+        Trace trace = openTraces.get(key);
+        if (trace == null) {
+            if ((stage != EventLatencyStage.CREATED && stage != EventLatencyStage.RECEIVED)
+                    || openTraces.size() >= maxOpenTraces) {
+                return;
+            }
+            final Trace newTrace = new Trace(key, now);
+            trace = openTraces.putIfAbsent(key, newTrace);
+            if (trace == null) {
+                trace = newTrace;
+                tracesByStart.add(newTrace);
+            }
+        }
+        // Only the first time is kept, e.g. if an event is received from several peers
+        trace.stageNanos.compareAndSet(stage.ordinal(), -1, now);
+    }
+
+    /**
+     * Record that the events in a round reached consensus.
+     *
+     * @param round the consensus round
+     */
+    public void recordConsensusRound(@NonNull final ConsensusRound round) {
+        for (final PlatformEvent event : round.getConsensusEvents()) {
+            recordEvent(EventLatencyStage.CONSENSUS, event);
+            final Trace trace = openTraces.get(new TraceKey(event.getCreatorId(), event.getTimeCreated()));
+            if (trace != null && trace.consensusRound < 0) {
+                trace.consensusRound = round.getRoundNum();
+                tracesByRound.add(trace);
+            }
+        }
+    }
+
+    /**
+     * Record that a round was handled, completing the traces of all events that reached consensus in this round or an
+     * earlier one. Traces that timed out are discarded.
+     *
+     * @param result the result of handling the round
+     */
+    public void recordHandledRound(@NonNull final TransactionHandlerResult result) {
+        final long handledRound = result.round();
+        final long now = time.nanoTime();
+
+        // Rounds reach consensus in order, so the traces of the handled rounds are at the head of the queue
+        Trace trace;
+        while ((trace = tracesByRound.peek()) != null && trace.consensusRound <= handledRound) {
+            tracesByRound.poll();
+            if (closeTrace(trace)) {
+                trace.stageNanos.set(EventLatencyStage.HANDLED.ordinal(), now);
+                completeTrace(trace);
+            }
+        }
+
+        while ((trace = tracesByStart.peek()) != null && (trace.closed || now - trace.startNanos > traceTimeoutNanos)) {
+            tracesByStart.poll();
+            closeTrace(trace);
+        }
+    }
+
+    /**
+     * Remove a trace from the open traces, unless it was already removed.
+     *
+     * @param trace the trace to remove
+     * @return true if the trace was open and has been removed by this call
+     */
+    private boolean closeTrace(@NonNull final Trace trace) {
+        if (!openTraces.remove(trace.key, trace)) {
+            return false;
+        }
+        trace.closed = true;
+        return true;
+    }
+
+    /**
+     * Update the metrics with a completed trace and queue it to be written.
+     *
+     * @param trace the completed trace
+     */
+    private void completeTrace(@NonNull final Trace trace) {
+        long previous = trace.startNanos;
+        for (final EventLatencyStage stage : STAGES) {
+            final long stageNanos = trace.stageNanos.get(stage.ordinal());
+            if (stageNanos < 0) {
+                continue;
+            }
+            final RunningAverageMetric metric = stageLatency.get(stage);
+            // A stage may be recorded before an earlier one, since the tracer is soldered to outputs on different
+            // threads. Such a sample is skipped rather than recorded as a negative latency.
+            if (metric != null && stageNanos >= previous) {
+                metric.update(nanosToMillis(stageNanos - previous));
+            }
+            previous = Math.max(previous, stageNanos);
+        }
+        totalLatency.update(nanosToMillis(previous - trace.startNanos));
+        completedTraces.add(trace);
+    }
+
+    /**
+     * Write all completed traces to the output file. Called periodically.
+     *
+     * @param now the current time, ignored
+     */
+    public void writeCompletedTraces(@NonNull final Instant now) {
+        if (completedTraces.isEmpty()) {
+            return;
+        }
+        try {
+            final boolean newFile = !Files.exists(outputFile);
+            if (newFile) {
+                Files.createDirectories(outputFile.getParent());
+            }
+            try (final BufferedWriter writer = Files.newBufferedWriter(
+                    outputFile, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                if (newFile) {
+                    writer.write(CSV_HEADER);
+                    writer.newLine();
+                }
+                Trace trace;
+                while ((trace = completedTraces.poll()) != null) {
+                    writer.write(toCsvLine(trace));
+                    writer.newLine();
+                }
+            }
+        } catch (final IOException e) {
+            completedTraces.clear();
+            logger.error(EXCEPTION.getMarker(), "Unable to write latency traces to {}", outputFile, e);
+        }
+    }
+
+    /**
+     * Get the file that traces are written to.
+     *
+     * @return the output file
+     */
+    @NonNull
+    public Path getOutputFile() {
+        return outputFile;
+    }
+
+    /**
+     * Format a trace as a line of the output file.
+     *
+     * @param trace the trace
+     * @return the line
+     */
+    @NonNull
+    private static String toCsvLine(@NonNull final Trace trace) {
+        final StringBuilder sb = new StringBuilder();
+        sb.append(trace.key.creatorId().id())
+                .append(',')
+                .append(trace.key.timeCreated())
+                .append(',')
+                .append(trace.consensusRound);
+        for (final EventLatencyStage stage : STAGES) {
+            sb.append(',');
+            final long stageNanos = trace.stageNanos.get(stage.ordinal());
+            if (stageNanos >= 0) {
+                sb.append(stageNanos - trace.startNanos);
+            }
+        }
+        return sb.toString();
+    }
+
+    @NonNull
+    private static String buildCsvHeader() {
+        final StringBuilder sb = new StringBuilder("creator,timeCreated,round");
+        for (final EventLatencyStage stage : EventLatencyStage.values()) {
+            sb.append(',').append(stage.name());
+        }
+        return sb.toString();
+    }
+
+    private static double nanosToMillis(final long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,30 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.wiring;
+
+import com.swirlds.config.api.ConfigData;
+import com.swirlds.config.api.ConfigProperty;
+import com.swirlds.config.api.validation.annotation.Min;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration for tracing the latency of sampled events through the platform wiring.
+ *
+ * @param enabled         if true, sampled events are traced from creation or receipt until their round is handled
+ * @param sampleInterval  one in this many events is traced
+ * @param maxOpenTraces   the maximum number of traces for events that have not yet been handled, no new traces are
+ *                        started while this many traces are open
+ * @param traceTimeout    traces of events that have not been handled within this time are discarded, e.g. for events
+ *                        that became stale
+ * @param writePeriod     the period at which completed traces are written to the output directory
+ * @param outputDirectory the directory where completed traces are written, can be analyzed with the
+ *                        {@code latency-breakdown} command of the platform CLI
+ */
+@ConfigData("latencyTracing")
+public record LatencyTracingConfig(
+        @ConfigProperty(defaultValue = "false") boolean enabled,
+        @Min(1) @ConfigProperty(defaultValue = "100") int sampleInterval,
+        @Min(1) @ConfigProperty(defaultValue = "10000") int maxOpenTraces,
+        @ConfigProperty(defaultValue = "1m") Duration traceTimeout,
+        @ConfigProperty(defaultValue = "5s") Duration writePeriod,
+        @ConfigProperty(defaultValue = "data/latencyTraces") Path outputDirectory) {}
@@ -5,6 +5,14 @@ import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerC
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerConfiguration.NO_OP_CONFIGURATION;
 import static com.swirlds.component.framework.wires.SolderType.INJECT;
 import static com.swirlds.component.framework.wires.SolderType.OFFER;
+import static com.swirlds.platform.wiring.EventLatencyStage.CREATED;
+import static com.swirlds.platform.wiring.EventLatencyStage.DEDUPLICATED;
+import static com.swirlds.platform.wiring.EventLatencyStage.HASHED;
+import static com.swirlds.platform.wiring.EventLatencyStage.ORPHANS_RESOLVED;
+import static com.swirlds.platform.wiring.EventLatencyStage.PERSISTED;
+import static com.swirlds.platform.wiring.EventLatencyStage.RECEIVED;
+import static com.swirlds.platform.wiring.EventLatencyStage.SIGNATURE_VALIDATED;
+import static com.swirlds.platform.wiring.EventLatencyStage.VALIDATED;
 import static org.hiero.consensus.model.event.StaleEventDetectorOutput.SELF_EVENT;
 import static org.hiero.consensus.model.event.StaleEventDetectorOutput.STALE_SELF_EVENT;
 
@@ -16,9 +24,12 @@ import com.swirlds.common.io.IOIterator;
 import com.swirlds.common.stream.RunningEventHashOverride;
 import com.swirlds.component.framework.component.ComponentWiring;
 import com.swirlds.component.framework.model.WiringModel;
+import com.swirlds.component.framework.schedulers.TaskScheduler;
 import com.swirlds.component.framework.schedulers.builders.TaskSchedulerConfiguration;
+import com.swirlds.component.framework.schedulers.builders.TaskSchedulerType;
 import com.swirlds.component.framework.transformers.RoutableData;
 import com.swirlds.component.framework.transformers.WireFilter;
+import com.swirlds.component.framework.wires.input.BindableInputWire;
 import com.swirlds.component.framework.wires.input.InputWire;
 import com.swirlds.component.framework.wires.output.OutputWire;
 import com.swirlds.component.framework.wires.output.StandardOutputWire;
@@ -68,6 +79,7 @@ import com.swirlds.platform.wiring.components.PcesReplayerWiring;
 import com.swirlds.platform.wiring.components.RunningEventHashOverrideWiring;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
@@ -142,6 +154,17 @@ public class PlatformWiring {
     private final ComponentWiring<StatusStateMachine, PlatformStatus> statusStateMachineWiring;
     private final ComponentWiring<BranchDetector, PlatformEvent> branchDetectorWiring;
     private final ComponentWiring<BranchReporter, Void> branchReporterWiring;
+    /**
+     * Traces a sample of events through the wiring, null if latency tracing is disabled.
+     */
+    @Nullable
+    private final EventLatencyTracer eventLatencyTracer;
+
+    /**
+     * The state signature collector bound to the wiring, null until {@link #bind} is called.
+     */
+    @Nullable
+    private StateSignatureCollector stateSignatureCollector;
 
     /**
      * Constructor.
@@ -229,6 +252,15 @@ public class PlatformWiring {
         this.publishStaleEvents = applicationCallbacks.staleEventConsumer() != null;
         this.applicationCallbacks = applicationCallbacks;
 
+        if (platformContext
+                .getConfiguration()
+                .getConfigData(LatencyTracingConfig.class)
+                .enabled()) {
+            eventLatencyTracer = new EventLatencyTracer(platformContext);
+        } else {
+            eventLatencyTracer = null;
+        }
+
         final TaskSchedulerConfiguration publisherConfiguration;
         if (publishPreconsensusEvents || publishSnapshotOverrides || publishStaleEvents) {
             publisherConfiguration = config.platformPublisher();
@@ -324,10 +356,69 @@ public class PlatformWiring {
                 .solderTo(notifierWiring.getInputWire(AppNotifier::sendPlatformStatusChangeNotification));
     }
 
+    /**
+     * Solder the event latency tracer to the outputs of the components that form the critical path of an event. The
+     * tracer is soldered using direct schedulers, so the time recorded is the time at which the data left the
+     * component.
+     */
+    private void solderEventLatencyTracer() {
+        if (eventLatencyTracer == null) {
+            return;
+        }
+
+        // Only the round number of the result is read, the reservation of the state is left to the transformers
+        transactionHandlerWiring
+                .getOutputWire()
+                .solderTo(
+                        "latencyTracer_HANDLED",
+                        "transaction handler result",
+                        eventLatencyTracer::recordHandledRound);
+
+        solderEventLatencyStage(eventCreationManagerWiring.getOutputWire(), CREATED);
+        solderEventLatencyStage(gossipWiring.getEventOutput(), RECEIVED);
+        solderEventLatencyStage(eventHasherWiring.getOutputWire(), HASHED);
+        solderEventLatencyStage(internalEventValidatorWiring.getOutputWire(), VALIDATED);
+        solderEventLatencyStage(eventDeduplicatorWiring.getOutputWire(), DEDUPLICATED);
+        solderEventLatencyStage(eventSignatureValidatorWiring.getOutputWire(), SIGNATURE_VALIDATED);
+        solderEventLatencyStage(orphanBufferWiring.getSplitOutput(), ORPHANS_RESOLVED);
+        solderEventLatencyStage(pcesInlineWriterWiring.getOutputWire(), PERSISTED);
+        consensusEngineWiring
+                .<ConsensusRound>getSplitOutput()
+                .solderTo("latencyTracer_CONSENSUS", "rounds", eventLatencyTracer::recordConsensusRound);
+
+        // Traces are written on their own thread, so that file IO does not delay the heartbeat of other components
+        final TaskScheduler<Void> traceWriterScheduler = model.<Void>schedulerBuilder("latencyTraceWriter")
+                .withType(TaskSchedulerType.SEQUENTIAL)
+                .withUnhandledTaskCapacity(1)
+                .build();
+        final BindableInputWire<Instant, Void> traceWriterInputWire = traceWriterScheduler.buildInputWire("heartbeat");
+        traceWriterInputWire.bindConsumer(eventLatencyTracer::writeCompletedTraces);
+        model.buildHeartbeatWire(platformContext
+                        .getConfiguration()
+                        .getConfigData(LatencyTracingConfig.class)
+                        .writePeriod())
+                .solderTo(traceWriterInputWire, OFFER);
+    }
+
+    /**
+     * Solder the event latency tracer to an output wire that produces events.
+     *
+     * @param outputWire the output wire
+     * @param stage      the stage that events coming out of the wire have passed
+     */
+    private void solderEventLatencyStage(
+            @NonNull final OutputWire<PlatformEvent> outputWire, @NonNull final EventLatencyStage stage) {
+        Objects.requireNonNull(eventLatencyTracer);
+        outputWire.solderTo(
+                "latencyTracer_" + stage.name(), "events", event -> eventLatencyTracer.recordEvent(stage, event));
+    }
+
     /**
      * Wire the components together.
      */
     private void wire() {
+        solderEventLatencyTracer();
+
         final InputWire<PlatformEvent> hasherInputWire =
                 eventHasherWiring.getInputWire(EventHasher::hashEvent, "unhashed event");
         gossipWiring.getEventOutput().solderTo(hasherInputWire);
@@ -342,9 +433,11 @@ public class PlatformWiring {
         eventDeduplicatorWiring
                 .getOutputWire()
                 .solderTo(eventSignatureValidatorWiring.getInputWire(EventSignatureValidator::validateSignature));
+        // The orphan buffer only receives more than one event per call if its scheduler is configured to drain in
+        // batches, such as SEQUENTIAL_THREAD. With the default SEQUENTIAL scheduler, each call has a single event.
         eventSignatureValidatorWiring
                 .getOutputWire()
-                .solderTo(orphanBufferWiring.getInputWire(OrphanBuffer::handleEvent));
+                .solderTo(orphanBufferWiring.getBatchInputWire(OrphanBuffer::handleEvents));
         final OutputWire<PlatformEvent> splitOrphanBufferOutput = orphanBufferWiring.getSplitOutput();
 
         splitOrphanBufferOutput.solderTo(pcesInlineWriterWiring.getInputWire(InlinePcesWriter::writeEvent));
@@ -412,10 +505,12 @@ public class PlatformWiring {
         splitOrphanBufferOutput.solderTo(applicationTransactionPrehandlerWiring.getInputWire(
                 TransactionPrehandler::prehandleApplicationTransactions));
 
+        // The signature collector only receives several queues of signatures per call if its scheduler is configured to
+        // drain in batches, such as SEQUENTIAL_THREAD. With the default SEQUENTIAL scheduler, each call has one queue.
         applicationTransactionPrehandlerWiring
                 .getOutputWire()
-                .solderTo(stateSignatureCollectorWiring.getInputWire(
-                        StateSignatureCollector::handlePreconsensusSignatures));
+                .solderTo(stateSignatureCollectorWiring.getBatchInputWire(
+                        StateSignatureCollector::handlePreconsensusSignatureBatch));
 
         // Split output of StateSignatureCollector into single ReservedSignedStates.
         final OutputWire<ReservedSignedState> splitReservedSignedStateWire = stateSignatureCollectorWiring
@@ -458,7 +553,9 @@ public class PlatformWiring {
 
         solderEventWindow();
 
-        pcesReplayerWiring.eventOutput().solderTo(hasherInputWire);
+        pcesReplayerWiring
+                .eventOutput()
+                .solderTo(eventHasherWiring.getInputWire(EventHasher::hashReplayedEvent, "replayed event"));
 
         final OutputWire<ConsensusRound> consensusRoundOutputWire = consensusEngineWiring.getSplitOutput();
 
@@ -487,7 +584,8 @@ public class PlatformWiring {
                                 "transaction handler result",
                                 TransactionHandlerResult::systemTransactions);
         transactionHandlerSysTxnsOutputWire.solderTo(
-                stateSignatureCollectorWiring.getInputWire(StateSignatureCollector::handlePostconsensusSignatures));
+                stateSignatureCollectorWiring.getBatchInputWire(
+                        StateSignatureCollector::handlePostconsensusSignatureBatch));
         transactionHandlerSysTxnsOutputWire.solderTo(
                 issDetectorWiring.getInputWire(IssDetector::handleStateSignatureTransactions));
 
@@ -664,6 +762,7 @@ public class PlatformWiring {
             pcesInlineWriterWiring.bind(builder::buildInlinePcesWriter);
         }
         eventCreationManagerWiring.bind(builder::buildEventCreationManager);
+        this.stateSignatureCollector = stateSignatureCollector;
         stateSignatureCollectorWiring.bind(stateSignatureCollector);
         eventWindowManagerWiring.bind(eventWindowManager);
         applicationTransactionPrehandlerWiring.bind(builder::buildTransactionPrehandler);
@@ -922,10 +1021,13 @@ public class PlatformWiring {
     }
 
     /**
-     * Stop the wiring framework.
+     * Stop the wiring framework, and then the threads owned by the components.
      */
     public void stop() {
         model.stop();
+        if (stateSignatureCollector != null) {
+            stateSignatureCollector.stop();
+        }
     }
 
     /**
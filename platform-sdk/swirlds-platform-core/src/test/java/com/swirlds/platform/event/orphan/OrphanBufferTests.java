@@ -230,6 +230,30 @@ class OrphanBufferTests {
         assertThat(orphanBuffer.getCurrentOrphanCount()).isEqualTo(0);
     }
 
+    @Test
+    @DisplayName("Handling a batch of events is equivalent to handling each event in the batch")
+    void batchOperation() {
+        final DefaultOrphanBuffer singleEventBuffer =
+                new DefaultOrphanBuffer(TestPlatformContextBuilder.create().build(), mock(IntakeEventCounter.class));
+        final DefaultOrphanBuffer batchBuffer =
+                new DefaultOrphanBuffer(TestPlatformContextBuilder.create().build(), mock(IntakeEventCounter.class));
+
+        int index = 0;
+        while (index < intakeEvents.size()) {
+            final int batchEnd = Math.min(intakeEvents.size(), index + 1 + random.nextInt(20));
+            final List<PlatformEvent> batch = intakeEvents.subList(index, batchEnd);
+
+            final List<PlatformEvent> expected = new ArrayList<>();
+            for (final PlatformEvent event : batch) {
+                expected.addAll(singleEventBuffer.handleEvent(event));
+            }
+            assertEquals(expected, batchBuffer.handleEvents(batch));
+
+            index = batchEnd;
+        }
+        assertThat(batchBuffer.getCurrentOrphanCount()).isEqualTo(0);
+    }
+
     private void assertValidNgen(final List<PlatformEvent> unorphanedEvents) {
         for (final PlatformEvent unorphanedEvent : unorphanedEvents) {
             assertThat(unorphanedEvent.getNGen())
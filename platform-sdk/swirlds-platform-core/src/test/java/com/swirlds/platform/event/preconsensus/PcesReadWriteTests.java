@@ -10,13 +10,17 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.hedera.hapi.platform.event.GossipEvent;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.common.io.IOIterator;
 import com.swirlds.common.io.utility.FileUtils;
 import com.swirlds.platform.test.fixtures.event.generator.StandardGraphGenerator;
 import com.swirlds.platform.test.fixtures.event.source.StandardEventSource;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -120,6 +124,61 @@ class PcesReadWriteTests {
         }
     }
 
+    /**
+     * @param pcesFileWriterType PCesFileWriterType.values()
+     */
+    @TestTemplate
+    @ExtendWith(ParameterCombinationExtension.class)
+    @UseParameterSources({
+        @ParamSource(
+                param = "pcesFileWriterType",
+                fullyQualifiedClass = "com.swirlds.platform.event.preconsensus.PcesFileWriterType",
+                method = "values")
+    })
+    @DisplayName("Write Serialized Events Then Read Test")
+    void writeSerializedEventsThenReadTest(
+            @ParamName("pcesFileWriterType") final PcesFileWriterType pcesFileWriterType) throws IOException {
+        final Random random = RandomUtils.getRandomPrintSeed();
+
+        final int numEvents = 100;
+
+        final StandardGraphGenerator generator = new StandardGraphGenerator(
+                DEFAULT_PLATFORM_CONTEXT,
+                random.nextLong(),
+                new StandardEventSource(),
+                new StandardEventSource(),
+                new StandardEventSource(),
+                new StandardEventSource());
+
+        final List<PlatformEvent> events = new ArrayList<>();
+        long upperBound = Long.MIN_VALUE;
+        for (int i = 0; i < numEvents; i++) {
+            final GossipEvent gossipEvent = generator.generateEvent().getBaseEvent().getGossipEvent();
+            // simulate an event that retained the bytes it was received as
+            final PlatformEvent event = new PlatformEvent(gossipEvent, GossipEvent.PROTOBUF.toBytes(gossipEvent));
+            events.add(event);
+            upperBound = Math.max(upperBound, event.getBirthRound());
+        }
+
+        final PcesFile file =
+                PcesFile.of(RandomUtils.randomInstant(random), random.nextInt(0, 100), 0, upperBound, 0, testDirectory);
+
+        final PcesMutableFile mutableFile = file.getMutableFile(pcesFileWriterType);
+        for (final PlatformEvent event : events) {
+            mutableFile.writeEvent(event);
+        }
+
+        mutableFile.close();
+
+        final IOIterator<PlatformEvent> iterator = file.iterator(Long.MIN_VALUE);
+        final List<PlatformEvent> deserializedEvents = new ArrayList<>();
+        iterator.forEachRemaining(deserializedEvents::add);
+        assertEquals(events.size(), deserializedEvents.size());
+        for (int i = 0; i < events.size(); i++) {
+            assertEquals(events.get(i), deserializedEvents.get(i));
+        }
+    }
+
     /**
      * @param pcesFileWriterType PCesFileWriterType.values()
      */
@@ -280,6 +339,108 @@ class PcesReadWriteTests {
         }
     }
 
+    @Test
+    @DisplayName("Parallel Multi File Iterator Test")
+    void parallelMultiFileIteratorTest() throws IOException {
+        final Random random = RandomUtils.getRandomPrintSeed();
+
+        final int numFiles = 5;
+        final int eventsPerFile = 50;
+
+        final StandardGraphGenerator generator = new StandardGraphGenerator(
+                DEFAULT_PLATFORM_CONTEXT,
+                random.nextLong(),
+                new StandardEventSource(),
+                new StandardEventSource(),
+                new StandardEventSource(),
+                new StandardEventSource());
+
+        final Instant timestamp = RandomUtils.randomInstant(random);
+        final List<PcesFile> files = new ArrayList<>();
+        final List<PlatformEvent> events = new ArrayList<>();
+        int lastFileSize = 0;
+        for (int fileIndex = 0; fileIndex < numFiles; fileIndex++) {
+            final PcesFile file = PcesFile.of(timestamp, fileIndex, 0, Long.MAX_VALUE, 0, testDirectory);
+            final PcesMutableFile mutableFile = file.getMutableFile(PcesFileWriterType.OUTPUT_STREAM);
+            for (int i = 0; i < eventsPerFile; i++) {
+                final PlatformEvent event = generator.generateEvent().getBaseEvent();
+                mutableFile.writeEvent(event);
+                events.add(event);
+            }
+            mutableFile.flush();
+            lastFileSize = (int) mutableFile.fileSize();
+            mutableFile.close();
+            files.add(file);
+        }
+
+        // cut the last event of the last file in half
+        truncateFile(files.getLast().getPath(), lastFileSize - 1);
+
+        final PcesMultiFileIterator sequentialIterator = new PcesMultiFileIterator(Long.MIN_VALUE, files.iterator());
+        final List<PlatformEvent> sequentialEvents = new ArrayList<>();
+        sequentialIterator.forEachRemaining(sequentialEvents::add);
+
+        final List<PlatformEvent> parallelEvents = new ArrayList<>();
+        final int truncatedFileCount;
+        try (final PcesParallelMultiFileIterator parallelIterator =
+                new PcesParallelMultiFileIterator(Long.MIN_VALUE, files.iterator(), 3, 2)) {
+            parallelIterator.forEachRemaining(parallelEvents::add);
+            truncatedFileCount = parallelIterator.getTruncatedFileCount();
+        }
+
+        assertEquals(events.size() - 1, parallelEvents.size());
+        assertEquals(sequentialEvents, parallelEvents);
+        assertEquals(sequentialIterator.getTruncatedFileCount(), truncatedFileCount);
+        assertEquals(1, truncatedFileCount);
+        for (int i = 0; i < parallelEvents.size(); i++) {
+            assertEquals(events.get(i).getHash(), parallelEvents.get(i).getHash());
+        }
+    }
+
+    @Test
+    @DisplayName("Parallel Multi File Iterator Malformed Event Test")
+    void parallelMultiFileIteratorMalformedEventTest() throws IOException {
+        final Random random = RandomUtils.getRandomPrintSeed();
+
+        final StandardGraphGenerator generator = new StandardGraphGenerator(
+                DEFAULT_PLATFORM_CONTEXT,
+                random.nextLong(),
+                new StandardEventSource(),
+                new StandardEventSource(),
+                new StandardEventSource(),
+                new StandardEventSource());
+
+        final PcesFile file = PcesFile.of(RandomUtils.randomInstant(random), 0, 0, Long.MAX_VALUE, 0, testDirectory);
+        final PcesMutableFile mutableFile = file.getMutableFile(PcesFileWriterType.OUTPUT_STREAM);
+        mutableFile.writeEvent(generator.generateEvent().getBaseEvent());
+        mutableFile.close();
+
+        // append an event without an event core, which parses but can't be turned into a platform event
+        final byte[] malformedEvent = GossipEvent.PROTOBUF
+                .toBytes(GossipEvent.newBuilder()
+                        .signature(Bytes.wrap(new byte[] {1, 2, 3}))
+                        .build())
+                .toByteArray();
+        Files.write(
+                file.getPath(),
+                ByteBuffer.allocate(Integer.BYTES + malformedEvent.length)
+                        .putInt(malformedEvent.length)
+                        .put(malformedEvent)
+                        .array(),
+                StandardOpenOption.APPEND);
+
+        final PcesMultiFileIterator sequentialIterator =
+                new PcesMultiFileIterator(Long.MIN_VALUE, List.of(file).iterator());
+        sequentialIterator.next();
+        final IOException sequentialException = assertThrows(IOException.class, sequentialIterator::next);
+
+        try (final PcesParallelMultiFileIterator parallelIterator =
+                new PcesParallelMultiFileIterator(Long.MIN_VALUE, List.of(file).iterator(), 1, 1)) {
+            final IOException parallelException = assertThrows(IOException.class, parallelIterator::next);
+            assertEquals(sequentialException.getMessage(), parallelException.getMessage());
+        }
+    }
+
     /**
      * @param pcesFileWriterType PCesFileWriterType.values()
      */
@@ -0,0 +1,137 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.gossip.sync;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.platform.network.SocketConfig_;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SyncOutputStream Tests")
+class SyncOutputStreamTests {
+
+    @Test
+    @DisplayName("Compressed data can be read back and is counted before and after compression")
+    void compressionTest() throws IOException {
+        final PlatformContext platformContext = TestPlatformContextBuilder.create().build();
+
+        final byte[] data = new byte[64 * 1024];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (i % 16);
+        }
+
+        final ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+        final SyncOutputStream out = SyncOutputStream.createSyncOutputStream(platformContext, byteOut, 8192, true);
+        out.write(data);
+        out.flush();
+
+        assertEquals(data.length, out.getUncompressedByteCounter().getCount());
+        assertEquals(byteOut.size(), out.getConnectionByteCounter().getCount());
+        assertTrue(byteOut.size() < data.length / 10, "repetitive data should compress well");
+
+        final SyncInputStream in = SyncInputStream.createSyncInputStream(
+                platformContext, new ByteArrayInputStream(byteOut.toByteArray()), 8192, true);
+        final byte[] read = new byte[data.length];
+        in.readFully(read);
+        assertArrayEquals(data, read);
+    }
+
+    @Test
+    @DisplayName("Flushes are deferred by the flush budget")
+    void flushBudgetTest() throws IOException {
+        final PlatformContext platformContext = TestPlatformContextBuilder.create()
+                .withConfiguration(new TestConfigBuilder()
+                        .withValue(SocketConfig_.FLUSH_BUDGET, "1s")
+                        .getOrCreateConfig())
+                .build();
+
+        final ScheduledExecutorService flushScheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            final ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+            final SyncOutputStream out =
+                    SyncOutputStream.createSyncOutputStream(platformContext, byteOut, 8192, false, flushScheduler);
+            out.writeLong(42);
+            out.flush();
+            out.writeLong(43);
+            out.flush();
+
+            // both writes are sent together once the flush budget has elapsed
+            assertEquals(0, byteOut.size());
+            await().atMost(5, TimeUnit.SECONDS).until(() -> byteOut.size() == 2 * Long.BYTES);
+        } finally {
+            flushScheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Flushes are not deferred once the flush scheduler has been shut down")
+    void shutDownFlushSchedulerTest() throws IOException {
+        final ScheduledExecutorService flushScheduler = Executors.newSingleThreadScheduledExecutor();
+        flushScheduler.shutdown();
+
+        final ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+        try (final CoalescingOutputStream out =
+                new CoalescingOutputStream(byteOut, Duration.ofSeconds(1), flushScheduler)) {
+            out.write(1);
+            out.flush();
+
+            assertEquals(1, byteOut.size());
+        }
+    }
+
+    @Test
+    @DisplayName("A flush blocked on one stream does not delay flushes of other streams")
+    void blockedFlushTest() throws IOException {
+        final CountDownLatch unblock = new CountDownLatch(1);
+        final OutputStream blockingOut = new OutputStream() {
+            @Override
+            public void write(final int b) {
+                // discard
+            }
+
+            @Override
+            public void flush() throws IOException {
+                try {
+                    unblock.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+        };
+        final ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+        final BufferedOutputStream bufferedOut = new BufferedOutputStream(byteOut);
+
+        final ScheduledExecutorService flushScheduler = Executors.newScheduledThreadPool(2);
+        try (final CoalescingOutputStream blocked =
+                        new CoalescingOutputStream(blockingOut, Duration.ofMillis(1), flushScheduler);
+                final CoalescingOutputStream other =
+                        new CoalescingOutputStream(bufferedOut, Duration.ofMillis(10), flushScheduler)) {
+            blocked.write(1);
+            blocked.flush();
+            other.write(2);
+            other.flush();
+
+            await().atMost(5, TimeUnit.SECONDS).until(() -> byteOut.size() == 1);
+            unblock.countDown();
+        } finally {
+            flushScheduler.shutdownNow();
+        }
+    }
+}
@@ -75,8 +75,8 @@ class InboundConnectionHandlerTest extends ConnectivityTestBase {
             Assertions.assertEquals(conn.getSelfId(), node1);
         };
 
-        final InboundConnectionHandler inbound =
-                new InboundConnectionHandler(platformContext, ct, node1Peers, node1, connConsumer, Time.getCurrent());
+        final InboundConnectionHandler inbound = new InboundConnectionHandler(
+                platformContext, ct, node1Peers, node1, connConsumer, Time.getCurrent(), null);
         inbound.handle(socket); // 2 can talk to 1 via tls ok
         socket.close();
     }
@@ -119,8 +119,8 @@ class InboundConnectionHandlerTest extends ConnectivityTestBase {
         final InterruptableConsumer<Connection> connConsumer =
                 conn -> Assertions.fail("connection should never have been created");
 
-        final InboundConnectionHandler inbound =
-                new InboundConnectionHandler(platformContext, ct, node1Peers, node1, connConsumer, Time.getCurrent());
+        final InboundConnectionHandler inbound = new InboundConnectionHandler(
+                platformContext, ct, node1Peers, node1, connConsumer, Time.getCurrent(), null);
         inbound.handle(socket);
         Assertions.assertTrue(socket.isClosed());
         serverThread.join();
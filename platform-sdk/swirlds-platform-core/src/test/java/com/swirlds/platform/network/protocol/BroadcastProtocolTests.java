@@ -0,0 +1,264 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.network.protocol;
+
+import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.swirlds.base.utility.Pair;
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.common.threading.pool.CachedPoolParallelExecutor;
+import com.swirlds.common.threading.pool.ParallelExecutor;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.platform.gossip.IntakeEventCounter;
+import com.swirlds.platform.gossip.sync.config.BroadcastConfig_;
+import com.swirlds.platform.network.Connection;
+import com.swirlds.platform.network.NetworkProtocolException;
+import com.swirlds.platform.test.fixtures.sync.ConnectionFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.hiero.base.utility.test.fixtures.RandomUtils;
+import org.hiero.consensus.model.event.PlatformEvent;
+import org.hiero.consensus.model.node.NodeId;
+import org.hiero.consensus.model.status.PlatformStatus;
+import org.hiero.consensus.model.test.fixtures.event.TestingEventBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link BroadcastProtocol} and {@link BroadcastPeerProtocol}
+ */
+@DisplayName("Broadcast Protocol Tests")
+class BroadcastProtocolTests {
+
+    private static final NodeId SELF_ID = NodeId.of(0);
+    private static final NodeId PEER_A = NodeId.of(1);
+    private static final NodeId PEER_B = NodeId.of(2);
+
+    private static BroadcastProtocol buildProtocol(final boolean forwardReceivedEvents) {
+        final PlatformContext platformContext = TestPlatformContextBuilder.create()
+                .withConfiguration(new TestConfigBuilder()
+                        .withValue(BroadcastConfig_.FORWARD_RECEIVED_EVENTS, forwardReceivedEvents)
+                        .getOrCreateConfig())
+                .build();
+        final BroadcastProtocol protocol = new BroadcastProtocol(
+                platformContext, SELF_ID, mock(ParallelExecutor.class), e -> {}, mock(IntakeEventCounter.class));
+        protocol.updatePlatformStatus(PlatformStatus.ACTIVE);
+        return protocol;
+    }
+
+    private static BroadcastProtocol buildProtocol(
+            final NodeId selfId, final int maxEventsPerBroadcast, final Consumer<PlatformEvent> receivedEventHandler) {
+        final PlatformContext platformContext = TestPlatformContextBuilder.create()
+                .withConfiguration(new TestConfigBuilder()
+                        .withValue(BroadcastConfig_.MAX_EVENTS_PER_BROADCAST, maxEventsPerBroadcast)
+                        .getOrCreateConfig())
+                .build();
+        final CachedPoolParallelExecutor executor =
+                new CachedPoolParallelExecutor(getStaticThreadManager(), "broadcast-test");
+        executor.start();
+        final BroadcastProtocol protocol = new BroadcastProtocol(
+                platformContext, selfId, executor, receivedEventHandler, mock(IntakeEventCounter.class));
+        protocol.updatePlatformStatus(PlatformStatus.ACTIVE);
+        protocol.start();
+        return protocol;
+    }
+
+    /**
+     * Start running the protocol with a peer on a separate thread.
+     */
+    private static Future<?> startRun(
+            final ExecutorService executor, final BroadcastPeerProtocol protocol, final Connection connection) {
+        return executor.submit(() -> {
+            protocol.runProtocol(connection);
+            return null;
+        });
+    }
+
+    /**
+     * Run the protocol between two peers, the first one initiating, and wait for both sides to finish.
+     */
+    private static void runProtocol(
+            final BroadcastPeerProtocol initiator,
+            final Connection initiatorConnection,
+            final BroadcastPeerProtocol acceptor,
+            final Connection acceptorConnection)
+            throws Exception {
+        assertTrue(initiator.shouldInitiate());
+        assertTrue(acceptor.shouldAccept());
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<?> initiatorRun = startRun(executor, initiator, initiatorConnection);
+            final Future<?> acceptorRun = startRun(executor, acceptor, acceptorConnection);
+            initiatorRun.get(10, TimeUnit.SECONDS);
+            acceptorRun.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Check if the peer protocol wants to run, releasing the run lock if it does.
+     */
+    private static boolean hasEventsToSend(final BroadcastPeerProtocol peerProtocol) {
+        final boolean shouldInitiate = peerProtocol.shouldInitiate();
+        if (shouldInitiate) {
+            peerProtocol.initiateFailed();
+        }
+        return shouldInitiate;
+    }
+
+    @Test
+    @DisplayName("Self events are broadcast to all peers")
+    void selfEventsBroadcast() {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final BroadcastProtocol protocol = buildProtocol(false);
+        final BroadcastPeerProtocol peerA = protocol.createPeerInstance(PEER_A);
+        final BroadcastPeerProtocol peerB = protocol.createPeerInstance(PEER_B);
+
+        final PlatformEvent selfEvent = new TestingEventBuilder(random).setCreatorId(SELF_ID).build();
+
+        // nothing is queued before gossip is started
+        protocol.addEvent(selfEvent);
+        assertFalse(hasEventsToSend(peerA));
+        assertFalse(hasEventsToSend(peerB));
+
+        protocol.start();
+        protocol.addEvent(selfEvent);
+        assertTrue(hasEventsToSend(peerA));
+        assertTrue(hasEventsToSend(peerB));
+
+        // the peers may not run the protocol while the platform status does not permit gossip
+        protocol.updatePlatformStatus(PlatformStatus.BEHIND);
+        assertFalse(hasEventsToSend(peerA));
+        assertFalse(peerA.shouldAccept());
+    }
+
+    @Test
+    @DisplayName("Received events are only forwarded if enabled")
+    void receivedEventsForwarded() {
+        final Random random = RandomUtils.getRandomPrintSeed();
+
+        final BroadcastProtocol notForwarding = buildProtocol(false);
+        final BroadcastPeerProtocol notForwardingPeer = notForwarding.createPeerInstance(PEER_B);
+        notForwarding.start();
+        final PlatformEvent event = new TestingEventBuilder(random).setCreatorId(NodeId.of(3)).build();
+        event.setSenderId(PEER_A);
+        notForwarding.addEvent(event);
+        assertFalse(hasEventsToSend(notForwardingPeer));
+
+        final BroadcastProtocol forwarding = buildProtocol(true);
+        final BroadcastPeerProtocol peerA = forwarding.createPeerInstance(PEER_A);
+        final BroadcastPeerProtocol peerB = forwarding.createPeerInstance(PEER_B);
+        forwarding.start();
+
+        // an event is never sent back to the peer we received it from
+        forwarding.addEvent(event);
+        assertFalse(hasEventsToSend(peerA));
+        assertTrue(hasEventsToSend(peerB));
+        forwarding.clear();
+
+        // an event is never sent to its creator
+        final PlatformEvent createdByB = new TestingEventBuilder(random).setCreatorId(PEER_B).build();
+        createdByB.setSenderId(PEER_A);
+        forwarding.addEvent(createdByB);
+        assertFalse(hasEventsToSend(peerA));
+        assertFalse(hasEventsToSend(peerB));
+    }
+
+    @Test
+    @DisplayName("Pausing stops the broadcast and resuming discards queued events")
+    void pauseAndResume() {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final BroadcastProtocol protocol = buildProtocol(false);
+        final BroadcastPeerProtocol peer = protocol.createPeerInstance(PEER_A);
+        protocol.start();
+
+        protocol.addEvent(new TestingEventBuilder(random).setCreatorId(SELF_ID).build());
+        protocol.pause();
+        assertFalse(hasEventsToSend(peer));
+        assertFalse(peer.shouldAccept());
+
+        // events are not queued while paused
+        protocol.addEvent(new TestingEventBuilder(random).setCreatorId(SELF_ID).build());
+
+        protocol.resume();
+        assertFalse(hasEventsToSend(peer));
+        assertTrue(peer.shouldAccept());
+        peer.acceptFailed();
+
+        protocol.addEvent(new TestingEventBuilder(random).setCreatorId(SELF_ID).build());
+        assertTrue(hasEventsToSend(peer));
+    }
+
+    @Test
+    @DisplayName("No more than the maximum number of events are sent in one run")
+    void maxEventsPerBroadcast() throws Exception {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final List<PlatformEvent> receivedBySelf = new CopyOnWriteArrayList<>();
+        final List<PlatformEvent> receivedByPeer = new CopyOnWriteArrayList<>();
+        final BroadcastPeerProtocol self =
+                buildProtocol(SELF_ID, 3, receivedBySelf::add).createPeerInstance(PEER_A);
+        final BroadcastProtocol peerProtocol = buildProtocol(PEER_A, 3, receivedByPeer::add);
+        final BroadcastPeerProtocol peer = peerProtocol.createPeerInstance(SELF_ID);
+        final Pair<Connection, Connection> connections = ConnectionFactory.createLocalConnections(SELF_ID, PEER_A);
+
+        final List<PlatformEvent> events = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            events.add(new TestingEventBuilder(random).setCreatorId(PEER_A).build());
+            peerProtocol.addEvent(events.getLast());
+        }
+
+        runProtocol(peer, connections.right(), self, connections.left());
+        assertEquals(3, receivedBySelf.size());
+        assertTrue(receivedByPeer.isEmpty());
+
+        // the remaining events are sent in the next run
+        runProtocol(peer, connections.right(), self, connections.left());
+        assertEquals(events.size(), receivedBySelf.size());
+        for (int i = 0; i < events.size(); i++) {
+            assertTrue(events.get(i).equalsGossipedData(receivedBySelf.get(i)));
+        }
+        assertFalse(hasEventsToSend(peer));
+    }
+
+    @Test
+    @DisplayName("A peer that sends more than the maximum number of events is rejected")
+    void tooManyEventsReceived() throws Exception {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final BroadcastPeerProtocol self = buildProtocol(SELF_ID, 3, e -> {}).createPeerInstance(PEER_A);
+        final BroadcastProtocol peerProtocol = buildProtocol(PEER_A, 5, e -> {});
+        final BroadcastPeerProtocol peer = peerProtocol.createPeerInstance(SELF_ID);
+        final Pair<Connection, Connection> connections = ConnectionFactory.createLocalConnections(SELF_ID, PEER_A);
+
+        for (int i = 0; i < 5; i++) {
+            peerProtocol.addEvent(new TestingEventBuilder(random).setCreatorId(PEER_A).build());
+        }
+
+        assertTrue(peer.shouldInitiate());
+        assertTrue(self.shouldAccept());
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            startRun(executor, peer, connections.right());
+            final Future<?> selfRun = startRun(executor, self, connections.left());
+            final ExecutionException exception =
+                    assertThrows(ExecutionException.class, () -> selfRun.get(10, TimeUnit.SECONDS));
+            assertInstanceOf(NetworkProtocolException.class, exception.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -3,8 +3,10 @@ package com.swirlds.platform.state.manager;
 
 import static com.swirlds.platform.test.fixtures.state.manager.SignatureVerificationTestUtils.buildFakeSignatureBytes;
 import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.hedera.hapi.node.state.roster.Roster;
 import com.hedera.hapi.node.state.roster.RosterEntry;
@@ -12,19 +14,25 @@ import com.hedera.hapi.platform.event.StateSignatureTransaction;
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.test.fixtures.WeightGenerators;
 import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
 import com.swirlds.merkledb.MerkleDb;
 import com.swirlds.platform.components.state.output.StateHasEnoughSignaturesConsumer;
 import com.swirlds.platform.components.state.output.StateLacksSignaturesConsumer;
+import com.swirlds.platform.config.StateConfig_;
 import com.swirlds.platform.state.StateSignatureCollectorTester;
 import com.swirlds.platform.state.signed.DefaultStateSignatureCollector;
 import com.swirlds.platform.state.signed.ReservedSignedState;
 import com.swirlds.platform.state.signed.SignedState;
+import com.swirlds.platform.state.signed.StateSignatureCollectorConfig_;
 import com.swirlds.platform.test.fixtures.addressbook.RandomRosterBuilder;
 import com.swirlds.platform.test.fixtures.state.RandomSignedStateGenerator;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Queue;
 import org.hiero.consensus.model.node.NodeId;
+import org.hiero.consensus.model.transaction.ScopedSystemTransaction;
 import org.hiero.consensus.roster.RosterUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -134,4 +142,73 @@ class PostconsensusSignaturesTest extends AbstractStateSignatureCollectorTest {
 
         validateCallbackCounts(0, count);
     }
+
+    @Test
+    @DisplayName("Postconsensus signatures verified in parallel")
+    void parallelVerificationTest() {
+        final int count = 20;
+        final PlatformContext platformContext = TestPlatformContextBuilder.create()
+                .withConfiguration(new TestConfigBuilder()
+                        .withValue(StateConfig_.ROUNDS_TO_KEEP_FOR_SIGNING, roundsToKeepForSigning)
+                        .withValue(StateConfig_.MAX_AGE_OF_FUTURE_STATE_SIGNATURES, futureStateSignatureRounds)
+                        .withValue(StateConfig_.ROUNDS_TO_KEEP_AFTER_SIGNING, roundsToKeepAfterSigning)
+                        .withValue(StateSignatureCollectorConfig_.SIGNATURE_VERIFICATION_THREADS, 2)
+                        .withValue(StateSignatureCollectorConfig_.MINIMUM_PARALLEL_BATCH_SIZE, 1)
+                        .getOrCreateConfig())
+                .build();
+
+        final StateSignatureCollectorTester manager = new StateSignatureCollectorBuilder(platformContext)
+                .stateLacksSignaturesConsumer(stateLacksSignaturesConsumer())
+                .stateHasEnoughSignaturesConsumer(stateHasEnoughSignaturesConsumer())
+                .build();
+
+        final List<SignedState> states = new ArrayList<>();
+        for (int round = 0; round < count; round++) {
+            MerkleDb.resetDefaultInstancePath();
+            states.add(new RandomSignedStateGenerator(random)
+                    .setRoster(roster)
+                    .setRound(round)
+                    .setSignatures(new HashMap<>())
+                    .build());
+        }
+
+        for (int round = 0; round < count; round++) {
+            final SignedState signedState = states.get(round);
+            signedStates.put((long) round, signedState);
+            highestRound.set(round);
+            manager.addReservedState(signedState.reserve("test"));
+
+            // All signatures of a round arrive together, from two rounds of consensus that are handled as a batch. The
+            // first node signs the wrong hash.
+            final Queue<ScopedSystemTransaction<StateSignatureTransaction>> firstTransactions = new ArrayDeque<>();
+            final Queue<ScopedSystemTransaction<StateSignatureTransaction>> secondTransactions = new ArrayDeque<>();
+            for (int node = 0; node < roster.rosterEntries().size(); node++) {
+                final RosterEntry rosterNode = roster.rosterEntries().get(node);
+                final SignedState signedByNode = node == 0 ? states.get((round + 1) % count) : signedState;
+                final Queue<ScopedSystemTransaction<StateSignatureTransaction>> transactions =
+                        node % 2 == 0 ? firstTransactions : secondTransactions;
+                transactions.add(new ScopedSystemTransaction<>(
+                        NodeId.of(rosterNode.nodeId()),
+                        null,
+                        StateSignatureTransaction.newBuilder()
+                                .round(round)
+                                .signature(buildFakeSignatureBytes(
+                                        RosterUtils.fetchGossipCaCertificate(rosterNode)
+                                                .getPublicKey(),
+                                        signedByNode.getState().getHash()))
+                                .hash(signedByNode.getState().getHash().getBytes())
+                                .build()));
+            }
+            manager.handlePostconsensusSignatureBatch(List.of(firstTransactions, secondTransactions));
+
+            assertTrue(signedState.isComplete(), "state should be complete");
+            assertFalse(
+                    signedState
+                            .getSigSet()
+                            .hasSignature(NodeId.of(roster.rosterEntries().getFirst().nodeId())),
+                    "invalid signature should not be added");
+            validateCallbackCounts(0, round + 1);
+        }
+        manager.stop();
+    }
 }
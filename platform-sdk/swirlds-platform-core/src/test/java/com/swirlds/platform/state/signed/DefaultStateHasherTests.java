@@ -1,23 +1,50 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.swirlds.platform.state.signed;
 
+import static com.swirlds.platform.test.fixtures.config.ConfigUtils.CONFIGURATION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.merkle.MerkleInternal;
+import com.swirlds.common.merkle.MerkleNode;
+import com.swirlds.common.test.fixtures.merkle.util.MerkleTestUtils;
 import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.merkledb.MerkleDb;
+import com.swirlds.merkledb.MerkleDbDataSourceBuilder;
+import com.swirlds.merkledb.MerkleDbTableConfig;
+import com.swirlds.merkledb.config.MerkleDbConfig;
 import com.swirlds.platform.eventhandling.StateWithHashComplexity;
 import com.swirlds.platform.state.MerkleNodeState;
 import com.swirlds.platform.state.hasher.DefaultStateHasher;
+import com.swirlds.platform.reconnect.TestKey;
+import com.swirlds.platform.reconnect.TestKeySerializer;
+import com.swirlds.platform.reconnect.TestValue;
+import com.swirlds.platform.reconnect.TestValueSerializer;
 import com.swirlds.platform.state.hasher.StateHasher;
+import com.swirlds.platform.state.hasher.StateHasherConfig_;
+import com.swirlds.virtualmap.VirtualMap;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.hiero.base.crypto.DigestType;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 /**
  * Unit tests for {@link DefaultStateHasher}
  */
 public class DefaultStateHasherTests {
+
+    @TempDir
+    private Path testDirectory;
+
     @Test
     @DisplayName("Normal operation")
     void normalOperation() {
@@ -38,4 +65,117 @@ public class DefaultStateHasherTests {
         final ReservedSignedState result = hasher.hashState(new StateWithHashComplexity(reservedSignedState, 1));
         assertNotEquals(null, result, "The hasher should return a new StateAndRound");
     }
+
+    @Test
+    @DisplayName("Virtual map scheduling with a complex state")
+    void complexState() {
+        final PlatformContext platformContext =
+                TestPlatformContextBuilder.create().build();
+        final StateHasher hasher = new DefaultStateHasher(platformContext);
+
+        // a state without virtual maps is hashed by the tree traversal alone
+        final MerkleNode root = MerkleTestUtils.buildLessSimpleTree();
+        final SignedState signedState = mock(SignedState.class);
+        final MerkleNodeState merkleNodeState = mock(MerkleNodeState.class);
+        final ReservedSignedState reservedSignedState = mock(ReservedSignedState.class);
+        when(reservedSignedState.get()).thenReturn(signedState);
+        when(signedState.getState()).thenReturn(merkleNodeState);
+        when(merkleNodeState.getRoot()).thenReturn(root);
+
+        final ReservedSignedState result =
+                hasher.hashState(new StateWithHashComplexity(reservedSignedState, Long.MAX_VALUE));
+        assertSame(reservedSignedState, result);
+        assertNotNull(root.getHash(), "The state should be hashed");
+    }
+
+    @Test
+    @DisplayName("Virtual maps are hashed in parallel with the same result as a single traversal")
+    void stateWithVirtualMaps() {
+        final PlatformContext parallelContext = TestPlatformContextBuilder.create()
+                .withConfiguration(new TestConfigBuilder()
+                        .withValue(StateHasherConfig_.PARALLEL_VIRTUAL_MAP_HASHING, true)
+                        .withValue(StateHasherConfig_.MINIMUM_HASH_COMPLEXITY, 1)
+                        .getOrCreateConfig())
+                .build();
+        final PlatformContext sequentialContext = TestPlatformContextBuilder.create()
+                .withConfiguration(new TestConfigBuilder()
+                        .withValue(StateHasherConfig_.PARALLEL_VIRTUAL_MAP_HASHING, false)
+                        .getOrCreateConfig())
+                .build();
+
+        final List<VirtualMap<TestKey, TestValue>> mutableCopies = new ArrayList<>();
+        MerkleDb.setDefaultPath(testDirectory.resolve("parallel"));
+        final List<VirtualMap<TestKey, TestValue>> parallelMaps = buildVirtualMaps(mutableCopies);
+        final MerkleNode parallelRoot = buildTreeWithVirtualMaps(parallelMaps);
+        MerkleDb.setDefaultPath(testDirectory.resolve("sequential"));
+        final List<VirtualMap<TestKey, TestValue>> sequentialMaps = buildVirtualMaps(mutableCopies);
+        final MerkleNode sequentialRoot = buildTreeWithVirtualMaps(sequentialMaps);
+
+        final StateHasher parallelHasher = new DefaultStateHasher(parallelContext);
+        final StateHasher sequentialHasher = new DefaultStateHasher(sequentialContext);
+        try {
+            final ReservedSignedState parallelState = mockState(parallelRoot);
+            assertSame(parallelState, parallelHasher.hashState(new StateWithHashComplexity(parallelState, 2)));
+            final ReservedSignedState sequentialState = mockState(sequentialRoot);
+            assertSame(sequentialState, sequentialHasher.hashState(new StateWithHashComplexity(sequentialState, 2)));
+
+            for (final VirtualMap<TestKey, TestValue> map : parallelMaps) {
+                assertNotNull(map.getHash(), "Every virtual map should be hashed");
+            }
+            assertNotNull(parallelRoot.getHash(), "The state should be hashed");
+            assertEquals(sequentialRoot.getHash(), parallelRoot.getHash(), "Hashing in parallel changed the hash");
+        } finally {
+            parallelRoot.release();
+            sequentialRoot.release();
+            mutableCopies.forEach(VirtualMap::release);
+            MerkleDb.resetDefaultInstancePath();
+        }
+    }
+
+    /**
+     * Build two virtual maps of different sizes. The returned maps are immutable, so they can be hashed, and their
+     * mutable copies are added to the given list.
+     */
+    private static List<VirtualMap<TestKey, TestValue>> buildVirtualMaps(
+            final List<VirtualMap<TestKey, TestValue>> mutableCopies) {
+        final List<VirtualMap<TestKey, TestValue>> maps = new ArrayList<>();
+        for (int mapIndex = 0; mapIndex < 2; mapIndex++) {
+            final MerkleDbConfig merkleDbConfig = CONFIGURATION.getConfigData(MerkleDbConfig.class);
+            final MerkleDbTableConfig tableConfig = new MerkleDbTableConfig(
+                    (short) 1, DigestType.SHA_384, 1_000, merkleDbConfig.hashesRamToDiskThreshold());
+            final VirtualMap<TestKey, TestValue> map = new VirtualMap<>(
+                    "map" + mapIndex,
+                    new TestKeySerializer(),
+                    new TestValueSerializer(),
+                    new MerkleDbDataSourceBuilder(tableConfig, CONFIGURATION),
+                    CONFIGURATION);
+            for (int i = 0; i < 100 * (mapIndex + 1); i++) {
+                map.put(new TestKey(i), new TestValue("value" + mapIndex + "-" + i));
+            }
+            mutableCopies.add(map.copy());
+            maps.add(map);
+        }
+        return maps;
+    }
+
+    /**
+     * Build a tree with the given virtual maps at different depths.
+     */
+    private static MerkleNode buildTreeWithVirtualMaps(final List<VirtualMap<TestKey, TestValue>> maps) {
+        final MerkleInternal root = MerkleTestUtils.buildLessSimpleTree();
+        root.getChild(1).asInternal().setChild(2, maps.get(0));
+        root.getChild(2).asInternal().setChild(1, maps.get(1));
+        root.reserve();
+        return root;
+    }
+
+    private static ReservedSignedState mockState(final MerkleNode root) {
+        final SignedState signedState = mock(SignedState.class);
+        final MerkleNodeState merkleNodeState = mock(MerkleNodeState.class);
+        final ReservedSignedState reservedSignedState = mock(ReservedSignedState.class);
+        when(reservedSignedState.get()).thenReturn(signedState);
+        when(signedState.getState()).thenReturn(merkleNodeState);
+        when(merkleNodeState.getRoot()).thenReturn(root);
+        return reservedSignedState;
+    }
 }
@@ -0,0 +1,96 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.sync;
+
+import static org.hiero.base.crypto.test.fixtures.CryptoRandomUtils.randomHash;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.platform.gossip.shadowgraph.EventHashBloomFilter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.hiero.base.crypto.Hash;
+import org.hiero.base.io.streams.SerializableDataInputStream;
+import org.hiero.base.io.streams.SerializableDataOutputStream;
+import org.hiero.base.utility.test.fixtures.RandomUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("EventHashBloomFilter Tests")
+class EventHashBloomFilterTests {
+
+    @Test
+    @DisplayName("Added hashes are always found and unknown hashes are rarely found")
+    void containsTest() {
+        final Random random = RandomUtils.getRandomPrintSeed();
+
+        final List<Hash> added = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            added.add(randomHash(random));
+        }
+        final EventHashBloomFilter filter = EventHashBloomFilter.of(added, 10, 7, random.nextLong());
+
+        for (final Hash hash : added) {
+            assertTrue(filter.mightContain(hash), "a bloom filter must never have false negatives");
+        }
+
+        final int samples = 10_000;
+        int falsePositives = 0;
+        for (int i = 0; i < samples; i++) {
+            if (filter.mightContain(randomHash(random))) {
+                falsePositives++;
+            }
+        }
+        // the expected false positive rate for 10 bits and 7 hashes is below 1%
+        assertTrue(falsePositives < samples * 0.03, "too many false positives: " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("Empty filter contains nothing")
+    void emptyFilterTest() {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final EventHashBloomFilter filter = EventHashBloomFilter.of(List.of(), 10, 7, random.nextLong());
+        assertEquals(Long.SIZE, filter.getBitCount());
+        assertFalse(filter.mightContain(randomHash(random)));
+    }
+
+    @Test
+    @DisplayName("Serialization round trip")
+    void serializationTest() throws IOException {
+        final Random random = RandomUtils.getRandomPrintSeed();
+
+        final List<Hash> added = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            added.add(randomHash(random));
+        }
+        final EventHashBloomFilter filter = EventHashBloomFilter.of(added, 10, 7, random.nextLong());
+
+        final ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+        final SerializableDataOutputStream out = new SerializableDataOutputStream(byteOut);
+        filter.serialize(out);
+        out.flush();
+
+        final EventHashBloomFilter deserialized = EventHashBloomFilter.deserialize(
+                new SerializableDataInputStream(new ByteArrayInputStream(byteOut.toByteArray())), 1024);
+
+        assertEquals(filter.getBitCount(), deserialized.getBitCount());
+        for (final Hash hash : added) {
+            assertTrue(deserialized.mightContain(hash));
+        }
+        for (int i = 0; i < 1_000; i++) {
+            final Hash hash = randomHash(random);
+            assertEquals(filter.mightContain(hash), deserialized.mightContain(hash));
+        }
+
+        // a filter larger than permitted must be rejected
+        assertThrows(
+                IOException.class,
+                () -> EventHashBloomFilter.deserialize(
+                        new SerializableDataInputStream(new ByteArrayInputStream(byteOut.toByteArray())), 1));
+    }
+}
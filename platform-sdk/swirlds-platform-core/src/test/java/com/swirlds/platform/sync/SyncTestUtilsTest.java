@@ -1,23 +1,36 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.swirlds.platform.sync;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.hedera.hapi.platform.event.GossipEvent;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.platform.gossip.shadowgraph.ShadowEvent;
 import com.swirlds.platform.gossip.shadowgraph.SyncUtils;
 import com.swirlds.platform.test.fixtures.sync.EventFactory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.HashSet;
 import java.util.Random;
 import java.util.Set;
 import java.util.function.Predicate;
+import org.hiero.base.io.streams.SerializableDataInputStream;
+import org.hiero.base.io.streams.SerializableDataOutputStream;
 import org.hiero.base.utility.test.fixtures.RandomUtils;
+import org.hiero.consensus.model.event.PlatformEvent;
 import org.hiero.consensus.model.hashgraph.EventWindow;
+import org.hiero.consensus.model.test.fixtures.event.TestingEventBuilder;
 import org.hiero.consensus.model.test.fixtures.hashgraph.EventWindowBuilder;
 import org.junit.jupiter.api.Test;
 
 class SyncTestUtilsTest {
 
+    private static final int MAX_EVENT_SIZE = 16 * 1024 * 1024;
+
     @Test
     void testUnknownNonAncient() {
         // the following graph is used for this test
@@ -59,4 +72,74 @@ class SyncTestUtilsTest {
         assertTrue(unknownNonAncient.test(e6), "e6 is unknown and non-ancient, should be true");
         assertTrue(unknownNonAncient.test(e7), "e7 is unknown and non-ancient, should be true");
     }
+
+    @Test
+    void readEventRetainsCanonicalBytes() throws IOException {
+        final GossipEvent gossipEvent = new TestingEventBuilder(RandomUtils.getRandomPrintSeed())
+                .build()
+                .getGossipEvent();
+        final Bytes canonical = GossipEvent.PROTOBUF.toBytes(gossipEvent);
+
+        final PlatformEvent event = SyncUtils.readEvent(streamOf(canonical), MAX_EVENT_SIZE);
+
+        assertEquals(gossipEvent, event.getGossipEvent());
+        assertEquals(canonical, event.getSerializedGossipEvent());
+    }
+
+    @Test
+    void readEventAcceptsUnknownFieldsButDoesNotRetainThem() throws IOException {
+        final GossipEvent gossipEvent = new TestingEventBuilder(RandomUtils.getRandomPrintSeed())
+                .build()
+                .getGossipEvent();
+        // field 100, varint 1
+        final Bytes unknownField = Bytes.wrap(new byte[] {(byte) 0xA0, 0x06, 0x01});
+
+        final PlatformEvent event = SyncUtils.readEvent(
+                streamOf(concat(GossipEvent.PROTOBUF.toBytes(gossipEvent), unknownField)), MAX_EVENT_SIZE);
+
+        assertEquals(gossipEvent, event.getGossipEvent());
+        assertEquals(GossipEvent.PROTOBUF.toBytes(gossipEvent), event.getSerializedGossipEvent());
+    }
+
+    @Test
+    void readEventReplacesNonCanonicalBytes() throws IOException {
+        final GossipEvent gossipEvent = new TestingEventBuilder(RandomUtils.getRandomPrintSeed())
+                .build()
+                .getGossipEvent();
+        // the signature field repeated, which parses to the same event but is longer than its canonical form
+        final Bytes repeatedSignature = GossipEvent.PROTOBUF.toBytes(
+                GossipEvent.newBuilder().signature(gossipEvent.signature()).build());
+
+        final PlatformEvent event = SyncUtils.readEvent(
+                streamOf(concat(GossipEvent.PROTOBUF.toBytes(gossipEvent), repeatedSignature)), MAX_EVENT_SIZE);
+
+        assertEquals(gossipEvent, event.getGossipEvent());
+        assertEquals(GossipEvent.PROTOBUF.toBytes(gossipEvent), event.getSerializedGossipEvent());
+    }
+
+    @Test
+    void readEventRejectsEventsLargerThanMaxSize() throws IOException {
+        final GossipEvent gossipEvent = new TestingEventBuilder(RandomUtils.getRandomPrintSeed())
+                .build()
+                .getGossipEvent();
+        final Bytes canonical = GossipEvent.PROTOBUF.toBytes(gossipEvent);
+        final SerializableDataInputStream in = streamOf(canonical);
+
+        assertThrows(IOException.class, () -> SyncUtils.readEvent(in, (int) canonical.length() - 1));
+    }
+
+    private static SerializableDataInputStream streamOf(final Bytes serializedEvent) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final SerializableDataOutputStream out = new SerializableDataOutputStream(bytes)) {
+            out.writePbjRecordBytes(serializedEvent);
+        }
+        return new SerializableDataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+    }
+
+    private static Bytes concat(final Bytes first, final Bytes second) {
+        final byte[] joined = new byte[(int) (first.length() + second.length())];
+        first.getBytes(0, joined, 0, (int) first.length());
+        second.getBytes(0, joined, (int) first.length(), (int) second.length());
+        return Bytes.wrap(joined);
+    }
 }
@@ -235,6 +235,29 @@ public class SyncTests {
         SyncValidator.assertStreamsEmpty(executor.getCaller(), executor.getListener());
     }
 
+    /**
+     * Tests syncing when both peers exchange event summaries instead of tip booleans.
+     */
+    @ParameterizedTest
+    @MethodSource({"simpleFourNodeGraphParams", "fourNodeGraphParams", "tenNodeGraphParams", "noCommonEventsParams"})
+    void eventSummaryExchange(final SyncTestParams params) throws Exception {
+        final SyncTestExecutor executor = new SyncTestExecutor(params);
+
+        executor.setCustomInitialization((caller, listener) -> {
+            caller.setExchangeEventSummaries(true);
+            listener.setExchangeEventSummaries(true);
+        });
+        executor.setGraphCustomization((caller, listener) -> {
+            caller.setSaveGeneratedEvents(true);
+            listener.setSaveGeneratedEvents(true);
+        });
+
+        executor.execute();
+
+        SyncValidator.assertOnlyRequiredEventsTransferred(executor.getCaller(), executor.getListener());
+        SyncValidator.assertStreamsEmpty(executor.getCaller(), executor.getListener());
+    }
+
     /**
      * Tests skipping sync initialization bytes
      */
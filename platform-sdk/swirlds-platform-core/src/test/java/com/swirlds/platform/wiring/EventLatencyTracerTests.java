@@ -0,0 +1,169 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.wiring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.doubleThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.swirlds.base.test.fixtures.time.FakeTime;
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.common.test.fixtures.Randotron;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.metrics.api.Metrics;
+import com.swirlds.platform.eventhandling.TransactionHandlerResult;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import org.hiero.consensus.model.event.PlatformEvent;
+import org.hiero.consensus.model.hashgraph.ConsensusRound;
+import org.hiero.consensus.model.test.fixtures.event.TestingEventBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EventLatencyTracerTests {
+
+    @TempDir
+    private Path testDirectory;
+
+    @Test
+    void traceIsWrittenWhenRoundIsHandledTest() throws IOException {
+        final Randotron randotron = Randotron.create();
+        final FakeTime time = new FakeTime();
+        final PlatformContext platformContext = TestPlatformContextBuilder.create()
+                .withTime(time)
+                .withConfiguration(new TestConfigBuilder()
+                        .withValue(LatencyTracingConfig_.ENABLED, true)
+                        .withValue(LatencyTracingConfig_.SAMPLE_INTERVAL, 1)
+                        .withValue(LatencyTracingConfig_.OUTPUT_DIRECTORY, testDirectory.toString())
+                        .getOrCreateConfig())
+                .build();
+        final EventLatencyTracer tracer = new EventLatencyTracer(platformContext);
+
+        final PlatformEvent event = new TestingEventBuilder(randotron).build();
+        tracer.recordEvent(EventLatencyStage.RECEIVED, event);
+        time.tick(Duration.ofMillis(2));
+        tracer.recordEvent(EventLatencyStage.HASHED, event);
+        // a duplicate does not overwrite the first time
+        time.tick(Duration.ofMillis(1));
+        tracer.recordEvent(EventLatencyStage.HASHED, event);
+
+        final ConsensusRound round = mock(ConsensusRound.class);
+        when(round.getConsensusEvents()).thenReturn(List.of(event));
+        when(round.getRoundNum()).thenReturn(5L);
+        time.tick(Duration.ofMillis(3));
+        tracer.recordConsensusRound(round);
+
+        // traces are not complete until the round is handled
+        time.tick(Duration.ofMillis(4));
+        tracer.recordHandledRound(handledRound(4));
+        tracer.writeCompletedTraces(time.now());
+        assertFalse(Files.exists(tracer.getOutputFile()));
+
+        tracer.recordHandledRound(handledRound(5));
+        tracer.writeCompletedTraces(time.now());
+
+        final List<String> lines = Files.readAllLines(tracer.getOutputFile());
+        assertEquals(2, lines.size());
+        assertEquals(EventLatencyTracer.CSV_HEADER, lines.get(0));
+        assertEquals(
+                event.getCreatorId().id() + "," + event.getTimeCreated() + ",5,,0,2000000,,,,,,6000000,10000000",
+                lines.get(1));
+    }
+
+    @Test
+    void tracesAreCompletedInRoundOrderAndTimedOutTracesAreDiscardedTest() throws IOException {
+        final Randotron randotron = Randotron.create();
+        final FakeTime time = new FakeTime();
+        final PlatformContext platformContext = TestPlatformContextBuilder.create()
+                .withTime(time)
+                .withConfiguration(new TestConfigBuilder()
+                        .withValue(LatencyTracingConfig_.ENABLED, true)
+                        .withValue(LatencyTracingConfig_.SAMPLE_INTERVAL, 1)
+                        .withValue(LatencyTracingConfig_.TRACE_TIMEOUT, "10s")
+                        .withValue(LatencyTracingConfig_.OUTPUT_DIRECTORY, testDirectory.toString())
+                        .getOrCreateConfig())
+                .build();
+        final EventLatencyTracer tracer = new EventLatencyTracer(platformContext);
+
+        final PlatformEvent staleEvent = new TestingEventBuilder(randotron).build();
+        final PlatformEvent firstEvent = new TestingEventBuilder(randotron).build();
+        final PlatformEvent secondEvent = new TestingEventBuilder(randotron).build();
+        tracer.recordEvent(EventLatencyStage.RECEIVED, staleEvent);
+        tracer.recordEvent(EventLatencyStage.RECEIVED, firstEvent);
+        tracer.recordEvent(EventLatencyStage.RECEIVED, secondEvent);
+
+        tracer.recordConsensusRound(consensusRound(5, firstEvent));
+        tracer.recordConsensusRound(consensusRound(6, secondEvent));
+
+        tracer.recordHandledRound(handledRound(5));
+        tracer.writeCompletedTraces(time.now());
+        List<String> lines = Files.readAllLines(tracer.getOutputFile());
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(1).startsWith(firstEvent.getCreatorId().id() + "," + firstEvent.getTimeCreated() + ",5,"));
+
+        // the stale event never reaches consensus, its trace is discarded once it times out
+        time.tick(Duration.ofSeconds(11));
+        tracer.recordHandledRound(handledRound(5));
+        tracer.recordConsensusRound(consensusRound(7, staleEvent));
+        tracer.recordHandledRound(handledRound(7));
+        tracer.writeCompletedTraces(time.now());
+        lines = Files.readAllLines(tracer.getOutputFile());
+        assertEquals(2, lines.size());
+    }
+
+    @Test
+    void stagesRecordedOutOfOrderDoNotRecordNegativeLatencyTest() {
+        final Randotron randotron = Randotron.create();
+        final FakeTime time = new FakeTime();
+        final Metrics metrics = mock(Metrics.class);
+        final RunningAverageMetric metric = mock(RunningAverageMetric.class);
+        when(metrics.getOrCreate(any(RunningAverageMetric.Config.class))).thenReturn(metric);
+        final PlatformContext platformContext = TestPlatformContextBuilder.create()
+                .withTime(time)
+                .withMetrics(metrics)
+                .withConfiguration(new TestConfigBuilder()
+                        .withValue(LatencyTracingConfig_.ENABLED, true)
+                        .withValue(LatencyTracingConfig_.SAMPLE_INTERVAL, 1)
+                        .withValue(LatencyTracingConfig_.OUTPUT_DIRECTORY, testDirectory.toString())
+                        .getOrCreateConfig())
+                .build();
+        final EventLatencyTracer tracer = new EventLatencyTracer(platformContext);
+
+        final PlatformEvent event = new TestingEventBuilder(randotron).build();
+        tracer.recordEvent(EventLatencyStage.RECEIVED, event);
+        time.tick(Duration.ofMillis(5));
+        tracer.recordEvent(EventLatencyStage.VALIDATED, event);
+        // recorded after a later stage
+        time.tick(Duration.ofMillis(2));
+        tracer.recordEvent(EventLatencyStage.HASHED, event);
+
+        tracer.recordConsensusRound(consensusRound(5, event));
+        tracer.recordHandledRound(handledRound(5));
+
+        verify(metric, atLeastOnce()).update(7.0);
+        verify(metric, never()).update(doubleThat(latency -> latency < 0));
+    }
+
+    private static ConsensusRound consensusRound(final long roundNumber, final PlatformEvent event) {
+        final ConsensusRound round = mock(ConsensusRound.class);
+        when(round.getConsensusEvents()).thenReturn(List.of(event));
+        when(round.getRoundNum()).thenReturn(roundNumber);
+        return round;
+    }
+
+    private static TransactionHandlerResult handledRound(final long round) {
+        return new TransactionHandlerResult(round, null, new ArrayDeque<>());
+    }
+}
@@ -61,6 +61,7 @@ public class SyncNode {
     private boolean saveGeneratedEvents;
     private boolean shouldAcceptSync = true;
     private boolean reconnected = false;
+    private boolean exchangeEventSummaries = false;
 
     private long expirationThreshold;
 
@@ -208,9 +209,12 @@ public class SyncNode {
         };
 
         // The original sync tests are incompatible with event filtering and reduced sync event counts.
+        // Event summaries use enough filter bits per event that no needed event is withheld in practice.
         final Configuration configuration = new TestConfigBuilder()
                 .withValue(SyncConfig_.FILTER_LIKELY_DUPLICATES, false)
                 .withValue(SyncConfig_.MAX_SYNC_EVENT_COUNT, 0)
+                .withValue(SyncConfig_.EXCHANGE_EVENT_SUMMARIES, exchangeEventSummaries)
+                .withValue(SyncConfig_.EVENT_SUMMARY_BITS_PER_EVENT, 64)
                 .getOrCreateConfig();
 
         final PlatformContext platformContext = TestPlatformContextBuilder.create()
@@ -292,6 +296,10 @@ public class SyncNode {
         this.saveGeneratedEvents = saveGeneratedEvents;
     }
 
+    public void setExchangeEventSummaries(final boolean exchangeEventSummaries) {
+        this.exchangeEventSummaries = exchangeEventSummaries;
+    }
+
     public boolean isCanAcceptSync() {
         return shouldAcceptSync;
     }
@@ -0,0 +1,250 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.state.spi;
+
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * The modifications buffered by a {@link WritableKVStateBase}: an insertion-ordered map from keys to values, where a
+ * {@code null} value means the key was removed. Entries are never removed individually, only all at once by
+ * {@link #clear()}.
+ *
+ * <p>Keys and values are stored in insertion order in two parallel arrays, and located through an open-addressing
+ * table of indexes into those arrays, so a put doesn't allocate an entry object the way a {@link java.util.HashMap}
+ * or {@link java.util.LinkedHashMap} does. No arrays are allocated until the first put, and {@link #clear()} keeps
+ * them for reuse, since a state usually sees a similar number of modifications between resets.
+ *
+ * <p>This class is not thread-safe.
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ */
+final class ModificationMap<K, V> {
+    private static final int INITIAL_CAPACITY = 8;
+
+    /**
+     * If the arrays are this much larger than needed for the entries being cleared, they are dropped rather than
+     * kept, so a single large batch of modifications doesn't make every later clear expensive.
+     */
+    private static final int SHRINK_FACTOR = 8;
+
+    /** The keys, in insertion order. */
+    private Object[] keys;
+
+    /** The values, in the same order as the keys. A {@code null} value means the key was removed. */
+    private Object[] values;
+
+    /**
+     * The open-addressing table. Each slot holds the index of an entry plus one, or zero if the slot is empty. The
+     * length is a power of two at least twice the length of the entry arrays, so it is never more than half full.
+     */
+    private int[] table;
+
+    private int size;
+
+    @Nullable
+    private Set<K> keySet;
+
+    /**
+     * Gets the number of keys.
+     *
+     * @return the number of keys
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Gets whether there are no keys.
+     *
+     * @return whether there are no keys
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the index of the given key in insertion order.
+     *
+     * @param key the key
+     * @return the index of the key, or -1 if the key isn't present
+     */
+    int indexOf(@NonNull final Object key) {
+        if (size == 0) {
+            return -1;
+        }
+        final int mask = table.length - 1;
+        for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+            final int entry = table[slot];
+            if (entry == 0) {
+                return -1;
+            }
+            if (key.equals(keys[entry - 1])) {
+                return entry - 1;
+            }
+        }
+    }
+
+    /**
+     * Gets whether the given key is present.
+     *
+     * @param key the key
+     * @return whether the key is present
+     */
+    boolean containsKey(@NonNull final Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * Gets the key at the given index in insertion order.
+     *
+     * @param index the index, from zero to {@link #size()} exclusive
+     * @return the key
+     */
+    @SuppressWarnings("unchecked")
+    @NonNull
+    K keyAt(final int index) {
+        return (K) keys[index];
+    }
+
+    /**
+     * Gets the value at the given index in insertion order.
+     *
+     * @param index the index, from zero to {@link #size()} exclusive
+     * @return the value, or {@code null} if the key was removed
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    V valueAt(final int index) {
+        return (V) values[index];
+    }
+
+    /**
+     * Sets the value of the given key. If the key is already present it keeps its position in insertion order.
+     *
+     * @param key the key
+     * @param value the value, or {@code null} if the key was removed
+     */
+    void put(@NonNull final K key, @Nullable final V value) {
+        requireNonNull(key);
+        if (keys == null) {
+            allocate(INITIAL_CAPACITY);
+        }
+        final int mask = table.length - 1;
+        int slot = hash(key) & mask;
+        for (int entry = table[slot]; entry != 0; entry = table[slot]) {
+            if (key.equals(keys[entry - 1])) {
+                values[entry - 1] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (size == keys.length) {
+            grow();
+            put(key, value);
+            return;
+        }
+        keys[size] = key;
+        values[size] = value;
+        table[slot] = ++size;
+    }
+
+    /**
+     * Removes all keys.
+     */
+    void clear() {
+        if (size == 0) {
+            return;
+        }
+        if (keys.length > INITIAL_CAPACITY && keys.length / SHRINK_FACTOR > size) {
+            keys = null;
+            values = null;
+            table = null;
+        } else {
+            Arrays.fill(keys, 0, size, null);
+            Arrays.fill(values, 0, size, null);
+            Arrays.fill(table, 0);
+        }
+        size = 0;
+    }
+
+    /**
+     * Gets a view of the keys, in insertion order. The view is not fail-fast.
+     *
+     * @return the keys
+     */
+    @NonNull
+    Set<K> keySet() {
+        if (keySet == null) {
+            keySet = new KeySet();
+        }
+        return keySet;
+    }
+
+    private void allocate(final int capacity) {
+        keys = new Object[capacity];
+        values = new Object[capacity];
+        table = new int[capacity * 2];
+    }
+
+    private void grow() {
+        final Object[] oldKeys = keys;
+        final Object[] oldValues = values;
+        allocate(oldKeys.length * 2);
+        System.arraycopy(oldKeys, 0, keys, 0, size);
+        System.arraycopy(oldValues, 0, values, 0, size);
+        final int mask = table.length - 1;
+        for (int i = 0; i < size; i++) {
+            int slot = hash(keys[i]) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = i + 1;
+        }
+    }
+
+    private static int hash(@NonNull final Object key) {
+        final int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private final class KeySet extends AbstractSet<K> {
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(final Object key) {
+            return key != null && indexOf(key) >= 0;
+        }
+
+        @NonNull
+        @Override
+        public Iterator<K> iterator() {
+            return new Iterator<>() {
+                private int next;
+
+                @Override
+                public boolean hasNext() {
+                    return next < size;
+                }
+
+                @Override
+                public K next() {
+                    if (next >= size) {
+                        throw new NoSuchElementException();
+                    }
+                    return keyAt(next++);
+                }
+            };
+        }
+    }
+}
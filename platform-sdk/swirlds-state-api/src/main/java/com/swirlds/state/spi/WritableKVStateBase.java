@@ -15,7 +15,7 @@ import java.util.*;
  */
 public abstract class WritableKVStateBase<K, V> extends ReadableKVStateBase<K, V> implements WritableKVState<K, V> {
     /** A map of all modified values buffered in this mutable state */
-    private final Map<K, V> modifications;
+    private final ModificationMap<K, V> modifications = new ModificationMap<>();
     /**
      * A list of listeners to be notified of changes to the state.
      */
@@ -27,18 +27,19 @@ public abstract class WritableKVStateBase<K, V> extends ReadableKVStateBase<K, V
      * @param stateKey The state key. Cannot be null.
      */
     protected WritableKVStateBase(@NonNull final String stateKey) {
-        this(stateKey, new LinkedHashMap<>());
+        super(stateKey);
     }
 
     /**
      * Create a new StateBase from the provided map.
      *
      * @param stateKey The state key. Cannot be null.
-     * @param modifications A map that is used to init the cache.
+     * @param modifications A map of the initial modifications, in iteration order. Later changes to the map are not
+     * seen by this state.
      */
     protected WritableKVStateBase(@NonNull final String stateKey, @NonNull final Map<K, V> modifications) {
         super(stateKey);
-        this.modifications = Objects.requireNonNull(modifications);
+        Objects.requireNonNull(modifications).forEach(this.modifications::put);
     }
 
     /**
@@ -58,9 +59,9 @@ public abstract class WritableKVStateBase<K, V> extends ReadableKVStateBase<K, V
      * cast and commit unless you own the instance!
      */
     public void commit() {
-        for (final var entry : modifications.entrySet()) {
-            final var key = entry.getKey();
-            final var value = entry.getValue();
+        for (int i = 0, n = modifications.size(); i < n; i++) {
+            final var key = modifications.keyAt(i);
+            final var value = modifications.valueAt(i);
             if (value == null) {
                 removeFromDataSource(key);
                 listeners.forEach(listener -> listener.mapDeleteChange(key));
@@ -90,11 +91,8 @@ public abstract class WritableKVStateBase<K, V> extends ReadableKVStateBase<K, V
     public final V get(@NonNull K key) {
         // If there is a modification, then we've already done a "put" or "remove"
         // and should return based on the modification
-        if (modifications.containsKey(key)) {
-            return modifications.get(key);
-        } else {
-            return super.get(key);
-        }
+        final int index = modifications.indexOf(key);
+        return index >= 0 ? modifications.valueAt(index) : super.get(key);
     }
 
     /** {@inheritDoc} */
@@ -131,26 +129,13 @@ public abstract class WritableKVStateBase<K, V> extends ReadableKVStateBase<K, V
     @NonNull
     @Override
     public Iterator<K> keys() {
-        // Capture the set of keys that have been removed, and the set of keys that have been added.
-        final var removedKeys = new HashSet<K>();
-        final var maybeAddedKeys = new HashSet<K>();
-        for (final var mod : modifications.entrySet()) {
-            final var key = mod.getKey();
-            final var val = mod.getValue();
-            if (val == null) {
-                removedKeys.add(key);
-            } else {
-                maybeAddedKeys.add(key);
-            }
-        }
-
         // Get the iterator from the backing store
         final var backendItr = super.keys();
 
         // Create and return a special iterator which will only include those keys that
         // have NOT been removed, ARE in the backendItr, and includes keys that HAVE
         // been added (i.e. are not in the backendItr).
-        return new KVStateKeyIterator<>(backendItr, removedKeys, maybeAddedKeys);
+        return new KVStateKeyIterator<>(backendItr, modifications);
     }
 
     /** {@inheritDoc} */
@@ -180,9 +165,9 @@ public abstract class WritableKVStateBase<K, V> extends ReadableKVStateBase<K, V
         int numAdditions = 0;
         int numRemovals = 0;
 
-        for (final var mod : modifications.entrySet()) {
-            boolean isPresentInBackingMap = readFromDataSource(mod.getKey()) != null;
-            boolean isRemovedInMod = mod.getValue() == null;
+        for (int i = 0, n = modifications.size(); i < n; i++) {
+            boolean isPresentInBackingMap = readFromDataSource(modifications.keyAt(i)) != null;
+            boolean isRemovedInMod = modifications.valueAt(i) == null;
 
             if (isPresentInBackingMap && isRemovedInMod) {
                 numRemovals++;
@@ -219,12 +204,12 @@ public abstract class WritableKVStateBase<K, V> extends ReadableKVStateBase<K, V
      * been added but are not part of the backend iterator, and excludes all keys that have been
      * removed (even if they are in the backend iterator).
      *
-     * <p>For each key it gets back from the backing store, it must inspect that key to see if it is
-     * in the removedKeys or maybeAddedKeys. If it is in the removedKeys, then we don't return it to
-     * the caller, and pump another key from the backing store iterator to check instead. If it is
-     * in maybeAddedKeys, then remove it from maybeAddedKeys (since it is clearly not added) and
-     * then return it to the caller. At the very end, when the backing store iterator tells us it is
-     * out of keys, we start going through everything in maybeAddedKeys.
+     * <p>The modifications are captured when the iterator is created. For each key it gets back
+     * from the backing store, it looks the key up among the captured modifications. If it was
+     * removed, then we don't return it to the caller, and pump another key from the backing store
+     * iterator to check instead. If it was put, then we flag it as seen (since it is clearly not
+     * added) and return it to the caller. At the very end, when the backing store iterator tells
+     * us it is out of keys, we return every key that was put but never seen.
      *
      * <p>This iterator is not fail-fast.
      *
@@ -232,18 +217,19 @@ public abstract class WritableKVStateBase<K, V> extends ReadableKVStateBase<K, V
      */
     private static final class KVStateKeyIterator<K> implements Iterator<K> {
         private final Iterator<K> backendItr;
-        private final Set<K> removedKeys;
-        private final Set<K> maybeAddedKeys;
-        private Iterator<K> addedItr;
+        /** The captured modifications, mapping each modified key to whether it was removed */
+        private final ModificationMap<K, Boolean> removedByKey = new ModificationMap<>();
+        private final boolean[] seen;
+        private int addedIndex;
         private K next;
 
         private KVStateKeyIterator(
-                @NonNull final Iterator<K> backendItr,
-                @NonNull final Set<K> removedKeys,
-                @NonNull final Set<K> maybeAddedKeys) {
+                @NonNull final Iterator<K> backendItr, @NonNull final ModificationMap<K, ?> modifications) {
             this.backendItr = backendItr;
-            this.removedKeys = removedKeys;
-            this.maybeAddedKeys = maybeAddedKeys;
+            for (int i = 0, n = modifications.size(); i < n; i++) {
+                removedByKey.put(modifications.keyAt(i), modifications.valueAt(i) == null);
+            }
+            this.seen = new boolean[removedByKey.size()];
         }
 
         @Override
@@ -269,20 +255,23 @@ public abstract class WritableKVStateBase<K, V> extends ReadableKVStateBase<K, V
             while (next == null) {
                 if (backendItr.hasNext()) {
                     final var candidate = backendItr.next();
-                    maybeAddedKeys.remove(candidate);
-                    if (removedKeys.contains(candidate)) {
-                        continue;
+                    final int index = removedByKey.indexOf(candidate);
+                    if (index >= 0) {
+                        if (removedByKey.valueAt(index)) {
+                            continue;
+                        }
+                        seen[index] = true;
                     }
                     next = candidate;
                     return;
                 }
 
-                if (addedItr == null) {
-                    addedItr = maybeAddedKeys.iterator();
-                }
-
-                if (addedItr.hasNext()) {
-                    next = addedItr.next();
+                while (addedIndex < seen.length) {
+                    final int index = addedIndex++;
+                    if (!seen[index] && !removedByKey.valueAt(index)) {
+                        next = removedByKey.keyAt(index);
+                        return;
+                    }
                 }
 
                 // If we get here, then there is nothing.
@@ -0,0 +1,106 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.state.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class ModificationMapTest {
+    /** A key whose hash code collides with every other key of this type. */
+    private record CollidingKey(int id) {
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
+
+    @Test
+    void emptyMapHasNoKeys() {
+        final var subject = new ModificationMap<String, String>();
+
+        assertThat(subject.isEmpty()).isTrue();
+        assertThat(subject.indexOf("A")).isEqualTo(-1);
+        assertThat(subject.keySet()).isEmpty();
+        subject.clear();
+        assertThat(subject.size()).isZero();
+    }
+
+    @Test
+    void keepsInsertionOrderAcrossUpdatesAndRemovals() {
+        final var subject = new ModificationMap<String, String>();
+        subject.put("C", "CHERRY");
+        subject.put("A", "APPLE");
+        subject.put("B", "BANANA");
+        subject.put("C", null);
+        subject.put("A", "APRICOT");
+
+        assertThat(subject.size()).isEqualTo(3);
+        assertThat(subject.keySet()).containsExactly("C", "A", "B");
+        assertThat(subject.valueAt(subject.indexOf("C"))).isNull();
+        assertThat(subject.valueAt(subject.indexOf("A"))).isEqualTo("APRICOT");
+        assertThat(subject.containsKey("C")).isTrue();
+        assertThat(subject.containsKey("D")).isFalse();
+    }
+
+    @Test
+    void keySetIsReadOnly() {
+        final var subject = new ModificationMap<String, String>();
+        subject.put("A", "APPLE");
+
+        assertThatThrownBy(() -> subject.keySet().add("B")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> subject.keySet().remove("A")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void handlesCollidingKeys() {
+        final var subject = new ModificationMap<CollidingKey, Integer>();
+        for (int i = 0; i < 100; i++) {
+            subject.put(new CollidingKey(i), i);
+        }
+        for (int i = 0; i < 100; i += 2) {
+            subject.put(new CollidingKey(i), null);
+        }
+
+        assertThat(subject.size()).isEqualTo(100);
+        for (int i = 0; i < 100; i++) {
+            final int index = subject.indexOf(new CollidingKey(i));
+            assertThat(index).isEqualTo(i);
+            assertThat(subject.valueAt(index)).isEqualTo(i % 2 == 0 ? null : i);
+        }
+    }
+
+    @Test
+    void matchesLinkedHashMapAcrossClears() {
+        final var random = new Random(12345);
+        final var subject = new ModificationMap<Integer, Integer>();
+        final Map<Integer, Integer> expected = new LinkedHashMap<>();
+        for (int round = 0; round < 20; round++) {
+            final int numPuts = random.nextInt(round % 5 == 0 ? 5_000 : 50);
+            for (int i = 0; i < numPuts; i++) {
+                final int key = random.nextInt(1_000);
+                final Integer value = random.nextInt(4) == 0 ? null : random.nextInt();
+                subject.put(key, value);
+                expected.put(key, value);
+            }
+
+            final List<Integer> keys = new ArrayList<>();
+            for (int i = 0; i < subject.size(); i++) {
+                keys.add(subject.keyAt(i));
+                assertThat(subject.valueAt(i)).isEqualTo(expected.get(subject.keyAt(i)));
+            }
+            assertThat(keys).containsExactlyElementsOf(expected.keySet());
+            assertThat(subject.indexOf(-1)).isEqualTo(-1);
+
+            subject.clear();
+            expected.clear();
+            assertThat(subject.isEmpty()).isTrue();
+            assertThat(subject.indexOf(keys.isEmpty() ? 0 : keys.getFirst())).isEqualTo(-1);
+        }
+    }
+}
@@ -69,6 +69,14 @@ import java.time.Duration;
  * 		increase the amount of time required to make a fast copy by this amount of time.
  * @param maximumFlushThrottlePeriod
  * 		The maximum amount of time that any virtual map fast copy will be delayed due to a flush backlog.
+ * @param snapshotOutsidePipelinePause
+ *      If true, when a virtual map is serialized to disk, the virtual pipeline is only paused while an isolated copy
+ *      of the data source and a snapshot of the cache are taken. Writing the cache to the copy and writing the copy
+ *      to disk happen after the pipeline is resumed, so flushes of newer copies are not blocked by state saving.
+ * @param snapshotWriteBytesPerSecond
+ *      The maximum rate at which cache contents and data source indices are written when a snapshot is taken outside
+ *      the pipeline pause, in bytes per second. If zero, the rate is not limited. Ignored unless
+ *      {@link #snapshotOutsidePipelinePause} is true.
  */
 @ConfigData("virtualMap")
 public record VirtualMapConfig(
@@ -90,7 +98,9 @@ public record VirtualMapConfig(
         @ConfigProperty(defaultValue = "2000000000") long familyThrottleThreshold,
         @ConfigProperty(defaultValue = "10000") int preferredFlushQueueSize,
         @ConfigProperty(defaultValue = "200ms") Duration flushThrottleStepSize,
-        @ConfigProperty(defaultValue = "5s") Duration maximumFlushThrottlePeriod) {
+        @ConfigProperty(defaultValue = "5s") Duration maximumFlushThrottlePeriod,
+        @ConfigProperty(defaultValue = "false") boolean snapshotOutsidePipelinePause,
+        @Min(0) @ConfigProperty(defaultValue = "0") long snapshotWriteBytesPerSecond) {
 
     private static final double UNIT_FRACTION_PERCENT = 100.0;
 
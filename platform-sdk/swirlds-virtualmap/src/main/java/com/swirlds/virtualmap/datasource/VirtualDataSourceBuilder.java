@@ -3,6 +3,7 @@ package com.swirlds.virtualmap.datasource;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.nio.file.Path;
+import java.util.function.LongConsumer;
 import org.hiero.base.io.SelfSerializable;
 
 /**
@@ -72,6 +73,24 @@ public interface VirtualDataSourceBuilder extends SelfSerializable {
      */
     void snapshot(@NonNull Path destination, VirtualDataSource snapshotMe);
 
+    /**
+     * Same as {@link #snapshot(Path, VirtualDataSource)}, but reports the data written to the given throttle, which
+     * may block to limit the write rate. Builders that can't report their writes ignore the throttle.
+     *
+     * @param destination
+     * 		The base path into which to snapshot the database. Can be null
+     * @param snapshotMe
+     * 		The dataSource to invoke snapshot on. Cannot be null
+     * @param writeThrottle
+     * 		called with the number of bytes about to be written, possibly from multiple threads concurrently
+     */
+    default void snapshot(
+            @NonNull final Path destination,
+            final VirtualDataSource snapshotMe,
+            @NonNull final LongConsumer writeThrottle) {
+        snapshot(destination, snapshotMe);
+    }
+
     /**
      * Builds a new {@link VirtualDataSource} using the configuration of this builder and
      * the given label by copying all the database files from the given path into the new
@@ -0,0 +1,50 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.merkle;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Limits the rate at which data is written when a virtual map snapshot is taken outside the virtual pipeline pause.
+ * Writers report the number of bytes they are about to write, and are parked until the average rate since the
+ * throttle was created is back below the limit.
+ */
+final class SnapshotWriteThrottle {
+
+    /**
+     * Writers are not parked unless they are at least this far ahead of the allowed rate.
+     */
+    private static final long MIN_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final long bytesPerSecond;
+    private final long startNanos;
+    private final AtomicLong bytesWritten = new AtomicLong();
+
+    /**
+     * Constructor.
+     *
+     * @param bytesPerSecond the maximum average number of bytes written per second, must be positive
+     */
+    SnapshotWriteThrottle(final long bytesPerSecond) {
+        if (bytesPerSecond <= 0) {
+            throw new IllegalArgumentException("bytesPerSecond must be positive");
+        }
+        this.bytesPerSecond = bytesPerSecond;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Report that a number of bytes is about to be written, and wait until writing them does not exceed the limit.
+     *
+     * @param bytes the number of bytes
+     */
+    void write(final long bytes) {
+        final long total = bytesWritten.addAndGet(bytes);
+        final long allowedAtNanos = (long) (total * (1_000_000_000.0 / bytesPerSecond));
+        final long aheadNanos = allowedAtNanos - (System.nanoTime() - startNanos);
+        if (aheadNanos >= MIN_PARK_NANOS) {
+            LockSupport.parkNanos(aheadNanos);
+        }
+    }
+}
@@ -129,6 +129,11 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
 
     private static final String NO_NULL_KEYS_ALLOWED_MESSAGE = "Null keys are not allowed";
 
+    /**
+     * The approximate size of a hash record written to a data source, used to limit the snapshot write rate.
+     */
+    private static final int HASH_RECORD_SIZE = Long.BYTES + DigestType.SHA_384.digestLength();
+
     /**
      * Used for serialization.
      */
@@ -1153,17 +1158,28 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
     }
 
     private void flush(VirtualNodeCache<K, V> cacheToFlush, VirtualStateAccessor stateToUse, VirtualDataSource ds) {
+        flush(cacheToFlush, stateToUse, ds, null);
+    }
+
+    private void flush(
+            VirtualNodeCache<K, V> cacheToFlush,
+            VirtualStateAccessor stateToUse,
+            VirtualDataSource ds,
+            @Nullable SnapshotWriteThrottle throttle) {
         try {
             // Get the leaves that were changed and sort them by path so that lower paths come first
-            final Stream<VirtualLeafBytes> dirtyLeaves = cacheToFlush
+            Stream<VirtualLeafBytes> dirtyLeaves = cacheToFlush
                     .dirtyLeavesForFlush(stateToUse.getFirstLeafPath(), stateToUse.getLastLeafPath())
                     .map(r -> r.toBytes(keySerializer, valueSerializer));
             // Get the deleted leaves
             final Stream<VirtualLeafBytes> deletedLeaves =
                     cacheToFlush.deletedLeaves().map(r -> r.toBytes(keySerializer, valueSerializer));
             // Save the dirty hashes
-            final Stream<VirtualHashRecord> dirtyHashes =
-                    cacheToFlush.dirtyHashesForFlush(stateToUse.getLastLeafPath());
+            Stream<VirtualHashRecord> dirtyHashes = cacheToFlush.dirtyHashesForFlush(stateToUse.getLastLeafPath());
+            if (throttle != null) {
+                dirtyLeaves = dirtyLeaves.peek(leaf -> throttle.write(leaf.getSizeInBytes()));
+                dirtyHashes = dirtyHashes.peek(hash -> throttle.write(HASH_RECORD_SIZE));
+            }
             ds.saveRecords(
                     stateToUse.getFirstLeafPath(),
                     stateToUse.getLastLeafPath(),
@@ -1205,10 +1221,21 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
      */
     @Override
     public void serialize(final SerializableDataOutputStream out, final Path outputDirectory) throws IOException {
-        pipeline.pausePipelineAndRun("detach", () -> {
-            snapshot(outputDirectory);
-            return null;
-        });
+        if (virtualMapConfig.snapshotOutsidePipelinePause()) {
+            // Only capture the copy of the data source and the cache while the pipeline is paused. All writing
+            // happens afterward, so flushes of newer copies are not blocked while the state is saved.
+            final SnapshotSource<K, V> snapshotSource =
+                    pipeline.pausePipelineAndRun("detach", this::prepareSnapshot);
+            final long bytesPerSecond = virtualMapConfig.snapshotWriteBytesPerSecond();
+            final SnapshotWriteThrottle throttle =
+                    bytesPerSecond > 0 ? new SnapshotWriteThrottle(bytesPerSecond) : null;
+            writeSnapshot(snapshotSource, outputDirectory, throttle);
+        } else {
+            pipeline.pausePipelineAndRun("detach", () -> {
+                snapshot(outputDirectory);
+                return null;
+            });
+        }
         out.writeNormalisedString(state.getLabel());
         out.writeSerializable(dataSourceBuilder, true);
         out.writeSerializable(keySerializer, true);
@@ -1385,6 +1412,29 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
      */
     @Override
     public void snapshot(final Path destination) throws IOException {
+        // The pipeline is paused while this runs, so I can go ahead and call snapshot on the data
+        // source, and also snapshot the cache.
+        writeSnapshot(prepareSnapshot(), destination, null);
+    }
+
+    /**
+     * An isolated copy of the data source and a snapshot of the cache of this copy, from which a snapshot of this
+     * copy can be written without pausing the pipeline.
+     *
+     * @param dataSourceCopy a copy of the data source, not used by the pipeline
+     * @param cacheSnapshot  a snapshot of the cache
+     */
+    private record SnapshotSource<K extends VirtualKey, V extends VirtualValue>(
+            @NonNull VirtualDataSource dataSourceCopy, @NonNull VirtualNodeCache<K, V> cacheSnapshot) {}
+
+    /**
+     * Capture the data needed to write a snapshot of this copy. Must be called while the pipeline is paused. Copying
+     * the data source hard links its data files rather than copying them.
+     *
+     * @return the snapshot source
+     */
+    @NonNull
+    private SnapshotSource<K, V> prepareSnapshot() {
         if (isDestroyed()) {
             throw new IllegalStateException("snapshot is illegal on already destroyed copies");
         }
@@ -1397,14 +1447,32 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
 
         detached.set(true);
 
-        // The pipeline is paused while this runs, so I can go ahead and call snapshot on the data
-        // source, and also snapshot the cache. I will create a new "RecordAccessor" for the detached
-        // record state.
         final VirtualDataSource dataSourceCopy = dataSourceBuilder.copy(dataSource, false, true);
+        return new SnapshotSource<>(dataSourceCopy, cache.snapshot());
+    }
+
+    /**
+     * Write the cache snapshot to the data source copy, and write a snapshot of the data source copy to disk. Does not
+     * need the pipeline to be paused, since neither the copy nor the cache snapshot are used by the pipeline.
+     *
+     * @param snapshotSource the data captured by {@link #prepareSnapshot()}
+     * @param destination    the directory to write the snapshot to
+     * @param throttle       limits the rate at which the cache snapshot and the data source snapshot are written, or
+     *                       null if not limited
+     */
+    private void writeSnapshot(
+            @NonNull final SnapshotSource<K, V> snapshotSource,
+            @NonNull final Path destination,
+            @Nullable final SnapshotWriteThrottle throttle)
+            throws IOException {
+        final VirtualDataSource dataSourceCopy = snapshotSource.dataSourceCopy();
         try {
-            final VirtualNodeCache<K, V> cacheSnapshot = cache.snapshot();
-            flush(cacheSnapshot, state, dataSourceCopy);
-            dataSourceBuilder.snapshot(destination, dataSourceCopy);
+            flush(snapshotSource.cacheSnapshot(), state, dataSourceCopy, throttle);
+            if (throttle != null) {
+                dataSourceBuilder.snapshot(destination, dataSourceCopy, throttle::write);
+            } else {
+                dataSourceBuilder.snapshot(destination, dataSourceCopy);
+            }
         } finally {
             dataSourceCopy.close();
         }
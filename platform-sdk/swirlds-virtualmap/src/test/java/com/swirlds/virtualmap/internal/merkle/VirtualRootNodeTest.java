@@ -356,10 +356,24 @@ class VirtualRootNodeTest extends VirtualTestBase {
     @Test
     @DisplayName("Snapshot and restore")
     void snapshotAndRestore() throws IOException {
+        snapshotAndRestore(CONFIGURATION);
+    }
+
+    @Test
+    @DisplayName("Snapshot and restore, writing outside the pipeline pause")
+    void snapshotAndRestoreOutsidePipelinePause() throws IOException {
+        final Configuration configuration = new TestConfigBuilder()
+                .withValue(VirtualMapConfig_.SNAPSHOT_OUTSIDE_PIPELINE_PAUSE, "true")
+                .withValue(VirtualMapConfig_.SNAPSHOT_WRITE_BYTES_PER_SECOND, "1000000")
+                .getOrCreateConfig();
+        snapshotAndRestore(configuration);
+    }
+
+    private void snapshotAndRestore(final Configuration configuration) throws IOException {
         final VirtualDataSourceBuilder dsBuilder = new InMemoryBuilder();
         final List<VirtualMap<TestKey, TestValue>> copies = new LinkedList<>();
         final VirtualMap<TestKey, TestValue> copy0 =
-                new VirtualMap<>("test", new TestKeySerializer(), new TestValueSerializer(), dsBuilder, CONFIGURATION);
+                new VirtualMap<>("test", new TestKeySerializer(), new TestValueSerializer(), dsBuilder, configuration);
         copies.add(copy0);
         for (int i = 1; i <= 10; i++) {
             final VirtualMap<TestKey, TestValue> prevCopy = copies.get(i - 1);
@@ -375,13 +389,13 @@ class VirtualRootNodeTest extends VirtualTestBase {
         // Take a snapshot of copy 5
         final VirtualMap<TestKey, TestValue> copy5 = copies.get(5);
         final Path snapshotPath =
-                LegacyTemporaryFileBuilder.buildTemporaryDirectory("snapshotAndRestore", CONFIGURATION);
+                LegacyTemporaryFileBuilder.buildTemporaryDirectory("snapshotAndRestore", configuration);
         try (final ByteArrayOutputStream bout = new ByteArrayOutputStream();
                 final SerializableDataOutputStream out = new SerializableDataOutputStream(bout)) {
             copy5.serialize(out, snapshotPath);
             try (final ByteArrayInputStream bin = new ByteArrayInputStream(bout.toByteArray());
                     final SerializableDataInputStream in = new SerializableDataInputStream(bin)) {
-                final VirtualMap<TestKey, TestValue> restored = new VirtualMap<>(CONFIGURATION);
+                final VirtualMap<TestKey, TestValue> restored = new VirtualMap<>(configuration);
                 restored.deserialize(in, snapshotPath, copy0.getVersion());
                 // All keys 1 to 5 should be in the snapshot
                 for (int i = 1; i < 6; i++) {